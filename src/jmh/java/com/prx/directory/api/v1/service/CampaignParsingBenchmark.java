@@ -0,0 +1,72 @@
+package com.prx.directory.api.v1.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// The query parameter parsing of GET /api/v1/campaigns: CampaignSortParser.parse, the CampaignFilterParser calls
+// CampaignServiceImpl makes per request, and CampaignFilterParserUtils.parseToInstant for each accepted date form.
+// parseToInstant tries ISO instant, offset and local date-times in turn, so the later forms pay for the failed
+// attempts before them.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CampaignParsingBenchmark {
+
+    @Param({"2025-11-01T00:00:00Z", "2025-11-01T00:00:00+01:00", "2025-11-01T00:00:00"})
+    public String date;
+
+    private final CampaignFilterParser filterParser = new CampaignFilterParser();
+    private Map<String, String> filters;
+
+    @Setup
+    public void setUp() {
+        filters = Map.of(
+                "name", "pizza",
+                "category_fk", "6a1c3e2f-5b7d-4c8e-9f0a-1b2c3d4e5f60",
+                "active", "true",
+                "include_counts", "false",
+                "start_from", date,
+                "end_to", date);
+    }
+
+    @Benchmark
+    public Sort parseSort() {
+        return CampaignSortParser.parse("title,-start_date,created_date");
+    }
+
+    @Benchmark
+    public void parseFilters(Blackhole blackhole) {
+        blackhole.consume(filterParser.parseName(filters));
+        blackhole.consume(filterParser.parseCategoryId(filters));
+        blackhole.consume(filterParser.parseBusinessId(filters));
+        blackhole.consume(filterParser.parseActive(filters));
+        blackhole.consume(filterParser.parseIncludeCounts(filters));
+        blackhole.consume(filterParser.parseStartFrom(filters));
+        blackhole.consume(filterParser.parseStartTo(filters));
+        blackhole.consume(filterParser.parseEndFrom(filters));
+        blackhole.consume(filterParser.parseEndTo(filters));
+    }
+
+    @Benchmark
+    public Instant parseToInstant() {
+        return CampaignFilterParserUtils.parseToInstant(date);
+    }
+}
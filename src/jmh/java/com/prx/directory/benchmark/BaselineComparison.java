@@ -0,0 +1,134 @@
+package com.prx.directory.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+// Compares a JMH JSON result file with the recorded baseline and fails when a benchmark got slower, or allocates
+// more per operation, than the given percentage. Results are matched on benchmark name and parameters. A missing
+// or empty baseline skips the comparison with a warning, as there is nothing to compare with until a reference run
+// is recorded; benchmarks without a baseline entry and baseline entries for benchmarks that were not run (narrowed
+// with jmh.include) are only reported.
+//
+// Usage: BaselineComparison <baseline.json> <results.json> <threshold-percent>
+public final class BaselineComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private BaselineComparison() {
+        // Default constructor
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <results.json> <threshold-percent>");
+            System.exit(2);
+        }
+        Path baselinePath = Path.of(args[0]);
+        Path resultsPath = Path.of(args[1]);
+        double threshold = Double.parseDouble(args[2]);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Result> baseline = Files.exists(baselinePath) ? read(objectMapper, baselinePath) : Map.of();
+        if (baseline.isEmpty()) {
+            System.out.printf("WARNING: no baseline results in %s, comparison skipped. Record them by copying %s "
+                    + "there after a full run on the reference machine.%n", baselinePath, resultsPath);
+            return;
+        }
+        Map<String, Result> results = read(objectMapper, resultsPath);
+
+        List<String> unrecorded = unrecorded(baseline, results);
+        if (!unrecorded.isEmpty()) {
+            System.out.printf("WARNING: %d benchmark(s) without a baseline in %s, not compared; record them from %s "
+                    + "on the reference machine:%n", unrecorded.size(), baselinePath, resultsPath);
+            unrecorded.forEach(key -> System.out.println("  " + key));
+        }
+        List<String> regressions = compare(baseline, results, threshold);
+        if (!regressions.isEmpty()) {
+            System.err.printf("%d benchmark regression(s) beyond %.1f%%:%n", regressions.size(), threshold);
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+        System.out.printf("No benchmark regressed beyond %.1f%% of the baseline.%n", threshold);
+    }
+
+    static List<String> compare(Map<String, Result> baseline, Map<String, Result> results, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Result> entry : results.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (Objects.isNull(before)) {
+                continue;
+            }
+            // Throughput regresses when it drops, the time modes when they grow
+            double scoreChange = THROUGHPUT_MODE.equals(after.mode())
+                    ? -change(before.score(), after.score())
+                    : change(before.score(), after.score());
+            if (scoreChange > threshold) {
+                regressions.add(String.format("%s: %s %.3f -> %.3f %s (%+.1f%%)", entry.getKey(), after.mode(),
+                        before.score(), after.score(), after.unit(), scoreChange));
+            }
+            if (Objects.nonNull(before.allocation()) && Objects.nonNull(after.allocation())) {
+                double allocationChange = change(before.allocation(), after.allocation());
+                if (allocationChange > threshold) {
+                    regressions.add(String.format("%s: %s %.1f -> %.1f B/op (%+.1f%%)", entry.getKey(),
+                            ALLOCATION_METRIC, before.allocation(), after.allocation(), allocationChange));
+                }
+            }
+        }
+        baseline.keySet().stream()
+                .filter(key -> !results.containsKey(key))
+                .forEach(key -> System.out.println("Not run, kept in baseline: " + key));
+        return regressions;
+    }
+
+    static List<String> unrecorded(Map<String, Result> baseline, Map<String, Result> results) {
+        return results.keySet().stream().filter(key -> !baseline.containsKey(key)).toList();
+    }
+
+    // Change from the baseline value in percent
+    private static double change(double before, double after) {
+        if (before == 0) {
+            return after == 0 ? 0 : 100;
+        }
+        return (after - before) / Math.abs(before) * 100;
+    }
+
+    static Map<String, Result> read(ObjectMapper objectMapper, Path path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode node : objectMapper.readTree(path.toFile())) {
+            JsonNode primary = node.path("primaryMetric");
+            Double allocation = null;
+            var secondary = node.path("secondaryMetrics").fields();
+            while (secondary.hasNext()) {
+                var metric = secondary.next();
+                // Older JMH versions prefix the profiler metrics with a middle dot
+                if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                    allocation = metric.getValue().path("score").asDouble();
+                }
+            }
+            results.put(key(node), new Result(node.path("mode").asText(), primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(), allocation));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode node) {
+        Map<String, String> params = new TreeMap<>();
+        node.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        return params.isEmpty() ? node.path("benchmark").asText() : node.path("benchmark").asText() + params;
+    }
+
+    record Result(String mode, double score, String unit, Double allocation) {
+    }
+}
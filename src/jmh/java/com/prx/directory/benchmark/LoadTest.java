@@ -0,0 +1,151 @@
+package com.prx.directory.benchmark;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.prx.security.constant.ConstantApp.SESSION_TOKEN_KEY;
+
+// Closed-loop load generator for a running instance: each of <concurrency> virtual threads sends GET requests to
+// the URL back to back for the given duration, over HTTP/1.1 so every worker holds its own connection like a
+// separate client would. Prints the throughput, latency percentiles and the count per status; transport errors are
+// counted under their exception class. Compare runs with spring.threads.virtual.enabled on and off, and watch
+// prx.http.requests.in-flight and hikaricp.connections.pending on the prometheus endpoint while it runs.
+//
+// Usage: LoadTest <url> <concurrency> <duration> [session-token]
+// Set -Dload.insecure=true to accept the self-signed certificate of a local instance.
+public final class LoadTest {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private LoadTest() {
+        // Default constructor
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("Usage: LoadTest <url> <concurrency> <duration> [session-token]");
+            System.exit(2);
+        }
+        URI uri = URI.create(args[0]);
+        int concurrency = Integer.parseInt(args[1]);
+        Duration duration = Duration.parse(args[2]);
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri).GET().timeout(Duration.ofSeconds(30));
+        if (args.length == 4 && !args[3].isBlank()) {
+            requestBuilder.header(SESSION_TOKEN_KEY, args[3]);
+        }
+        HttpRequest request = requestBuilder.build();
+
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        List<long[]> latencies;
+        long start;
+        long elapsed;
+        try (HttpClient client = httpClient(Boolean.getBoolean("load.insecure"));
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            System.out.printf("%d workers sending GET %s for %s%n", concurrency, uri, duration);
+            start = System.nanoTime();
+            long deadline = start + duration.toNanos();
+            List<Future<long[]>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> run(client, request, deadline, outcomes)));
+            }
+            latencies = new ArrayList<>(concurrency);
+            for (Future<long[]> future : futures) {
+                latencies.add(future.get());
+            }
+            elapsed = System.nanoTime() - start;
+        }
+        report(latencies, outcomes, elapsed);
+    }
+
+    // Sends requests until the deadline and returns the latency of each one in nanoseconds
+    private static long[] run(HttpClient client, HttpRequest request, long deadline, Map<String, LongAdder> outcomes) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            long sent = System.nanoTime();
+            String outcome;
+            try {
+                outcome = String.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                outcome = e.getClass().getSimpleName();
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - sent;
+            outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static void report(List<long[]> perWorker, Map<String, LongAdder> outcomes, long elapsed) {
+        long[] latencies = perWorker.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        if (latencies.length == 0) {
+            System.out.println("No request completed.");
+            return;
+        }
+        double seconds = elapsed / 1e9;
+        System.out.printf("%d requests in %.1f s, %.1f req/s%n", latencies.length, seconds, latencies.length / seconds);
+        for (double percentile : PERCENTILES) {
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            System.out.printf("  p%-5s %8.1f ms%n", percentile, latencies[Math.max(0, index)] / 1e6);
+        }
+        System.out.printf("  max    %8.1f ms%n", latencies[latencies.length - 1] / 1e6);
+        new TreeMap<>(outcomes).forEach((outcome, count) -> System.out.printf("  %-24s %d%n", outcome, count.sum()));
+    }
+
+    private static HttpClient httpClient(boolean insecure) throws GeneralSecurityException {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10));
+        if (insecure) {
+            // Read once when the first client is built, so it has to be set before
+            System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, new TrustManager[]{new TrustAllManager()}, new SecureRandom());
+            builder.sslContext(sslContext);
+        }
+        return builder.build();
+    }
+
+    // Only for -Dload.insecure=true against a local instance
+    private static final class TrustAllManager implements X509TrustManager {
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+            // Trusts every client
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+            // Trusts every server
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.prx.directory.mapper;
+
+import com.prx.directory.api.v1.to.BusinessTO;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CategoryEntity;
+import com.prx.directory.jpa.entity.ContactTypeEntity;
+import com.prx.directory.jpa.entity.DigitalContactEntity;
+import com.prx.directory.jpa.entity.UserEntity;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// BusinessMapper.toBusinessTO on businesses with a growing number of digital contacts, as returned by the business
+// listing and the NDJSON export. Contacts cycle through the four mapped types and two types the mapper skips.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BusinessMapperBenchmark {
+
+    private static final String[] CONTACT_TYPES = {"EML", "WBH", "SCE", "MEC", "FAX", "PHN"};
+
+    @Param({"4", "32", "256"})
+    public int contacts;
+
+    private BusinessMapper mapper;
+    private BusinessEntity business;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(BusinessMapper.class);
+        business = new BusinessEntity();
+        business.setId(UUID.randomUUID());
+        business.setName("Panadería La Esquina");
+        business.setDescription("Neighbourhood bakery and coffee shop");
+        business.setCreatedDate(LocalDateTime.now());
+        business.setLastUpdate(LocalDateTime.now());
+        business.setVerified(true);
+        business.setTimezoneFk(UUID.randomUUID());
+        UserEntity user = new UserEntity();
+        user.setId(UUID.randomUUID());
+        business.setUserFk(user);
+        CategoryEntity category = new CategoryEntity();
+        category.setId(UUID.randomUUID());
+        business.setCategoryFk(category);
+
+        Set<DigitalContactEntity> digitalContacts = new LinkedHashSet<>();
+        for (int i = 0; i < contacts; i++) {
+            ContactTypeEntity contactType = new ContactTypeEntity();
+            contactType.setName(CONTACT_TYPES[i % CONTACT_TYPES.length]);
+            DigitalContactEntity contact = new DigitalContactEntity();
+            contact.setId(UUID.randomUUID());
+            contact.setContactType(contactType);
+            contact.setContent("contact-" + i + "@example.com");
+            digitalContacts.add(contact);
+        }
+        business.setDigitalContacts(digitalContacts);
+    }
+
+    @Benchmark
+    public BusinessTO toBusinessTO() {
+        return mapper.toBusinessTO(business);
+    }
+}
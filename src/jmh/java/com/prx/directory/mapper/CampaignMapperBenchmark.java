@@ -0,0 +1,73 @@
+package com.prx.directory.mapper;
+
+import com.prx.directory.api.v1.to.CampaignResumeTO;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.CategoryEntity;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// CampaignMapper.toResumeTO, the per-row mapping of the campaign listing, and the scaleTwo discount rounding it
+// applies. The discount is parameterized: already at scale 2, needing rounding, and a long fraction.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CampaignMapperBenchmark {
+
+    @Param({"15.00", "12.345", "33.333333333333333333"})
+    public String discount;
+
+    private CampaignMapper mapper;
+    private CampaignEntity campaign;
+    private BigDecimal value;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(CampaignMapper.class);
+        value = new BigDecimal(discount);
+        CategoryEntity category = new CategoryEntity();
+        category.setId(UUID.randomUUID());
+        category.setName("Restaurants");
+        BusinessEntity business = new BusinessEntity();
+        business.setId(UUID.randomUUID());
+        campaign = new CampaignEntity();
+        campaign.setId(UUID.randomUUID());
+        campaign.setTitle("Two for one on weekdays");
+        campaign.setDescription("Every second dish free from Monday to Thursday");
+        campaign.setStartDate(LocalDateTime.now().minusDays(3));
+        campaign.setEndDate(LocalDateTime.now().plusDays(27));
+        campaign.setActive(true);
+        campaign.setStatus("ACTIVE");
+        campaign.setDiscount(value);
+        campaign.setCategoryFk(category);
+        campaign.setBusinessFk(business);
+    }
+
+    @Benchmark
+    public CampaignResumeTO toResumeTO() {
+        return mapper.toResumeTO(campaign);
+    }
+
+    @Benchmark
+    public BigDecimal scaleTwo() {
+        return mapper.scaleTwo(value);
+    }
+}
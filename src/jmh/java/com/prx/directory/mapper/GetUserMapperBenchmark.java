@@ -0,0 +1,80 @@
+package com.prx.directory.mapper;
+
+import com.prx.commons.general.pojo.Application;
+import com.prx.commons.general.pojo.Contact;
+import com.prx.commons.general.pojo.ContactType;
+import com.prx.commons.general.pojo.Person;
+import com.prx.commons.general.pojo.Role;
+import com.prx.directory.api.v1.to.GetUserResponse;
+import com.prx.directory.client.backbone.to.BackboneUserGetResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// GetUserMapper.fromBackbone on a Backbone user as returned for GET /api/v1/users, with the phone contact last so
+// the contact scan of getPhone/getContactId covers the whole list.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class GetUserMapperBenchmark {
+
+    private GetUserMapper mapper;
+    private BackboneUserGetResponse user;
+    private Set<UUID> businessIds;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(GetUserMapper.class);
+        Person person = new Person();
+        person.setFirstName("John");
+        person.setMiddleName("Marcus");
+        person.setLastName("Connor");
+        person.setGender("M");
+        person.setBirthdate(LocalDate.parse("1984-05-12"));
+        person.setContacts(List.of(contact("Email", "john.connor@example.com"),
+                contact("Website", "https://example.com"), contact("Phone", "(+1) 4167389402")));
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName("Customer");
+        Application application = new Application();
+        application.setId(UUID.randomUUID());
+        user = new BackboneUserGetResponse(UUID.randomUUID(), "jconnor", null, "john.connor@example.com",
+                "John Connor", LocalDateTime.now().minusYears(1), LocalDateTime.now(), true, true, false, false,
+                person, List.of(role), List.of(application));
+        businessIds = Set.of(UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    @Benchmark
+    public GetUserResponse fromBackbone() {
+        return mapper.fromBackbone(user, "LTHB/3171803c-bb08-4eb0-8821-b6ebe5948f48.jpg", businessIds);
+    }
+
+    private static Contact contact(String type, String content) {
+        ContactType contactType = new ContactType();
+        contactType.setId(UUID.randomUUID());
+        contactType.setName(type);
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID());
+        contact.setContactType(contactType);
+        contact.setContent(content);
+        return contact;
+    }
+}
@@ -0,0 +1,85 @@
+package com.prx.directory.security;
+
+import com.prx.directory.util.JwtUtil;
+import com.prx.security.exception.CertificateSecurityException;
+import com.prx.security.jwt.JwtConfigProperties;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+// Session token handling: issuing and verifying a token with SessionJwtServiceImpl, and resolving the uid of an
+// incoming request either by decoding the payload without verification (JwtUtil) or through SessionClaimsCache,
+// which verifies once and serves the following lookups from memory.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SessionTokenBenchmark {
+
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private SessionJwtServiceImpl sessionJwtService;
+    private SessionClaimsCache claimsCache;
+    private Map<String, String> parameters;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        String secret = Base64.getEncoder().encodeToString("benchmark-secret-benchmark-secret-0123".getBytes());
+        // Answers by name so the benchmark does not depend on the property types of the external class
+        JwtConfigProperties properties = mock(JwtConfigProperties.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getSecret" -> secret;
+            case "getExpirationMs" -> expiration(invocation.getMethod().getReturnType());
+            default -> null;
+        });
+        sessionJwtService = new SessionJwtServiceImpl(properties);
+        claimsCache = new SessionClaimsCache(sessionJwtService, 10_000);
+        parameters = Map.of(SessionClaimsCache.UID_CLAIM, UUID.randomUUID().toString(), "alias", "jconnor");
+        token = sessionJwtService.generateSessionToken("jconnor", parameters);
+        claimsCache.getUid(token);
+    }
+
+    @Benchmark
+    public String issue() {
+        return sessionJwtService.generateSessionToken("jconnor", parameters);
+    }
+
+    @Benchmark
+    public Claims verify() throws CertificateSecurityException {
+        return sessionJwtService.getTokenClaims(token);
+    }
+
+    @Benchmark
+    public UUID uidFromPayload() {
+        return JwtUtil.getUidFromToken(token);
+    }
+
+    @Benchmark
+    public UUID uidFromCache() {
+        return claimsCache.getUid(token);
+    }
+
+    private static Object expiration(Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return (int) EXPIRATION_MS;
+        }
+        return EXPIRATION_MS;
+    }
+}
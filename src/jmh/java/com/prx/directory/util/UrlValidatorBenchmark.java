@@ -0,0 +1,54 @@
+package com.prx.directory.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// UrlValidator against the String.matches call it replaced in BusinessServiceImpl, which compiled the pattern on
+// every call. The backtracking input is kept short enough for the pattern to finish: each extra path character
+// doubles its time, while UrlValidator stays linear.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class UrlValidatorBenchmark {
+
+    private static final String LEGACY_PATTERN = "^(https?://)?([\\da-z.-]+)\\.([a-z.]{2,6})([/\\w .-]*)*/?$";
+    private static final Map<String, String> INPUTS = Map.of(
+            "valid", "https://www.example-bakery.com/menu/weekly_specials",
+            "invalid", "https://www.example-bakery.com/menu?week=12",
+            "backtracking", "http://example.com/" + "a".repeat(18) + "!");
+
+    @Param({"valid", "invalid", "backtracking"})
+    public String input;
+
+    private String url;
+
+    @Setup
+    public void setUp() {
+        url = INPUTS.get(input);
+    }
+
+    @Benchmark
+    public boolean legacyMatches() {
+        return url.matches(LEGACY_PATTERN);
+    }
+
+    @Benchmark
+    public boolean urlValidator() {
+        return UrlValidator.isValid(url);
+    }
+}
@@ -0,0 +1,57 @@
+package com.prx.directory.api.v1.controller;
+
+import com.prx.directory.api.v1.service.BusinessImportService;
+import com.prx.directory.api.v1.to.BusinessImportResult;
+import com.prx.directory.constant.DirectoryAppConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@Tag(name = "businesses", description = "The Business API")
+public interface BusinessImportApi {
+
+    /**
+     * Provides a default instance of the BusinessImportService.
+     *
+     * @return an instance of BusinessImportService for handling bulk imports
+     */
+    default BusinessImportService getService() {
+        return new BusinessImportService() {
+        };
+    }
+
+    @Operation(summary = "Create businesses in bulk",
+            description = """
+                    Creates one business per row of an NDJSON (application/x-ndjson, one business create request per \
+                    line) or CSV (text/csv, header row naming the columns) upload. Rows are imported in chunks that \
+                    commit independently. The response streams one result per row, in input order, with status \
+                    CREATED, DUPLICATE, INVALID, USER_NOT_FOUND or FAILED.""")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload accepted; per-row results are streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BusinessImportResult.class))),
+            @ApiResponse(responseCode = "400", description = "CSV upload without a header row naming a name column", content = @Content),
+            @ApiResponse(responseCode = "415", description = "Upload is neither NDJSON nor CSV", content = @Content),
+            @ApiResponse(responseCode = DirectoryAppConstants.INTERNAL_SERVER_ERROR_CODE, description = DirectoryAppConstants.INTERNAL_SERVER_ERROR_MESSAGE, content = @Content)
+    })
+    @PostMapping(path = "/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, DirectoryAppConstants.TEXT_CSV_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    default ResponseEntity<StreamingResponseBody> bulkCreate(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        return getService().importBusinesses(contentType, body);
+    }
+}
@@ -0,0 +1,25 @@
+package com.prx.directory.api.v1.controller;
+
+import com.prx.directory.api.v1.service.BusinessImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/businesses")
+public class BusinessImportController implements BusinessImportApi {
+
+    private final BusinessImportService businessImportService;
+
+    public BusinessImportController(BusinessImportService businessImportService) {
+        this.businessImportService = businessImportService;
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> bulkCreate(String contentType, InputStream body) {
+        return businessImportService.importBusinesses(contentType, body);
+    }
+}
@@ -77,10 +77,15 @@ public interface CampaignApi {
     @Operation(summary = "Search campaigns",
             description = """
                     Returns a paginated list of campaigns matching optional filters. \
-                    Filters: title (partial, case-insensitive), category_fk (UUID), business_fk (UUID), active (boolean), \
+                    Filters: title (partial, case-insensitive; a trailing '*' matches title prefixes only), category_fk (UUID), business_fk (UUID), active (boolean), \
                     start_from/start_to (ISO datetime), end_from/end_to (ISO datetime). \
                     Pagination: page (1-based, default 1), per_page (default 20, max 100). \
-                    Sorting: sort by title,start_date,end_date,created_date; prefix with '-' for desc. Default -created_date.""")
+                    Sorting: sort by title,start_date,end_date,created_date; prefix with '-' for desc. Default -created_date. \
+                    sort=relevance ranks title matches (exact, then prefix, then earliest match); it requires a title \
+                    filter to take effect and is not available in cursor mode. \
+                    Counters: include_counts=false omits actives/inactives/expired and skips the aggregate query. \
+                    Cursor mode: pass cursor (empty for the first page, then the returned next_cursor) to page with \
+                    keyset seeks instead of OFFSET; page is ignored in this mode and the cursor is only valid for the same sort.""")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful response",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -92,9 +97,9 @@ public interface CampaignApi {
     default ResponseEntity<CampaignListResponse> listCampaigns(
             @Parameter(description = "Page number (1-based). Default 1") @RequestParam(name = "page", required = false) Integer page,
             @Parameter(description = "Items per page. Default 20, max 100") @RequestParam(name = "per_page", required = false) Integer perPage,
-            @Parameter(description = "Comma-separated sort fields. Prefix with '-' for descending. Allowed: title, start_date, end_date, created_date") @RequestParam(name = "sort", required = false) String sort,
+            @Parameter(description = "Comma-separated sort fields. Prefix with '-' for descending. Allowed: title, start_date, end_date, created_date, or relevance alone") @RequestParam(name = "sort", required = false) String sort,
             @Parameter(description = """
-                    Additional search filters (preferred): title (partial, case-insensitive), category_fk (UUID), business_fk (UUID), active (boolean), \
+                    Additional search filters (preferred): title (partial, case-insensitive; trailing '*' for prefix search), category_fk (UUID), business_fk (UUID), active (boolean), \
                     start_from/start_to (ISO datetime), end_from/end_to (ISO datetime). \
                     Legacy/deprecated filter parameters (supported for backward compatibility, avoid using in new integrations): q (use 'title'), category_id (use 'category_fk'), business_id (use 'business_fk'), \
                     start_date_from/start_date_to (use 'start_from'/'start_to'), end_date_from/end_date_to (use 'end_from'/'end_to').""") @RequestParam Map<String, String> filters
@@ -4,6 +4,7 @@ import com.prx.directory.api.v1.service.CategoryService;
 import com.prx.directory.api.v1.to.CategoryCreateRequest;
 import com.prx.directory.api.v1.to.CategoryCreateResponse;
 import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.api.v1.to.CategoryTreeResponse;
 import com.prx.directory.api.v1.to.PaginatedResponse;
 import com.prx.directory.constant.DirectoryAppConstants;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 //
@@ -83,6 +85,42 @@ public interface CategoryApi {
         return getService().findByParentId(parentId, page, size);
     }
 
+    // Finds a category together with all of its descendants.
+    //
+    // @param categoryId the ID of the root category
+    // @return a ResponseEntity containing the nested category tree
+    @Operation(summary = "Find category subtree", description = "Returns the category with all of its descendants nested under it.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Subtree found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CategoryTreeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Categories unchanged since the given ETag", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Category not found", content = @Content),
+            @ApiResponse(responseCode = DirectoryAppConstants.INTERNAL_SERVER_ERROR_CODE, description = DirectoryAppConstants.INTERNAL_SERVER_ERROR_MESSAGE, content = @Content)
+    })
+    @GetMapping(path = "/{categoryId}/subtree", produces = MediaType.APPLICATION_JSON_VALUE)
+    default ResponseEntity<CategoryTreeResponse> findSubtree(@NotNull @PathVariable UUID categoryId) {
+        return getService().findSubtree(categoryId);
+    }
+
+    // Finds the path from the top-level category down to the given category.
+    //
+    // @param categoryId the ID of the category
+    // @return a ResponseEntity containing the categories ordered from root to the requested one
+    @Operation(summary = "Find category ancestors", description = "Returns the categories from the top-level ancestor down to the requested category.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Path found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CategoryGetResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Categories unchanged since the given ETag", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Category not found", content = @Content),
+            @ApiResponse(responseCode = DirectoryAppConstants.INTERNAL_SERVER_ERROR_CODE, description = DirectoryAppConstants.INTERNAL_SERVER_ERROR_MESSAGE, content = @Content)
+    })
+    @GetMapping(path = "/{categoryId}/ancestors", produces = MediaType.APPLICATION_JSON_VALUE)
+    default ResponseEntity<List<CategoryGetResponse>> findAncestors(@NotNull @PathVariable UUID categoryId) {
+        return getService().findAncestors(categoryId);
+    }
+
     /**
      * Retrieves all categories.
      *
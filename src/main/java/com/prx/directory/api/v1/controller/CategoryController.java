@@ -4,6 +4,7 @@ import com.prx.directory.api.v1.service.CategoryService;
 import com.prx.directory.api.v1.to.CategoryGetResponse;
 import com.prx.directory.api.v1.to.CategoryCreateRequest;
 import com.prx.directory.api.v1.to.CategoryCreateResponse;
+import com.prx.directory.api.v1.to.CategoryTreeResponse;
 import com.prx.directory.api.v1.to.PaginatedResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -38,6 +40,16 @@ public class CategoryController implements CategoryApi {
         return categoryService.findAll();
     }
 
+    @Override
+    public ResponseEntity<CategoryTreeResponse> findSubtree(UUID categoryId) {
+        return categoryService.findSubtree(categoryId);
+    }
+
+    @Override
+    public ResponseEntity<List<CategoryGetResponse>> findAncestors(UUID categoryId) {
+        return categoryService.findAncestors(categoryId);
+    }
+
     @Override
     public ResponseEntity<CategoryCreateResponse> createCategory(@Valid CategoryCreateRequest request) {
         return categoryService.create(request);
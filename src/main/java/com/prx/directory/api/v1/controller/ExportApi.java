@@ -0,0 +1,55 @@
+package com.prx.directory.api.v1.controller;
+
+import com.prx.directory.api.v1.service.ExportService;
+import com.prx.directory.api.v1.to.ExportLineTO;
+import com.prx.directory.constant.DirectoryAppConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "export", description = "The directory export API")
+public interface ExportApi {
+
+    /**
+     * Provides a default instance of the ExportService.
+     *
+     * @return an instance of ExportService for handling export operations
+     */
+    default ExportService getService() {
+        return new ExportService() {
+        };
+    }
+
+    @Operation(summary = "Export the directory",
+            description = """
+                    Streams categories, businesses, products and campaigns as NDJSON, one {"type", "data"} object \
+                    per line, categories first. Inactive products and campaigns are included. For incremental pulls \
+                    pass the next-since response header of the previous export as since; entities updated at or \
+                    after that time are exported again, so consumers should upsert by id.""")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ExportLineTO.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown type or malformed since", content = @Content),
+            @ApiResponse(responseCode = DirectoryAppConstants.INTERNAL_SERVER_ERROR_CODE, description = DirectoryAppConstants.INTERNAL_SERVER_ERROR_MESSAGE, content = @Content)
+    })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    default ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Comma-separated entity types to export: category, business, product, campaign. Default all") @RequestParam(name = "types", required = false) String types,
+            @Parameter(description = "Only export entities updated at or after this time (ISO-8601, e.g. 2025-01-31T10:15:30)") @RequestParam(name = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since
+    ) {
+        return getService().export(types, since);
+    }
+}
@@ -0,0 +1,25 @@
+package com.prx.directory.api.v1.controller;
+
+import com.prx.directory.api.v1.service.ExportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/export")
+public class ExportController implements ExportApi {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(String types, LocalDateTime since) {
+        return exportService.export(types, since);
+    }
+}
@@ -0,0 +1,57 @@
+package com.prx.directory.api.v1.controller;
+
+import com.prx.directory.api.v1.service.SearchService;
+import com.prx.directory.api.v1.to.SearchResponse;
+import com.prx.directory.constant.DirectoryAppConstants;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.UUID;
+
+@Tag(name = "search", description = "The unified directory search API")
+public interface SearchApi {
+
+    /**
+     * Provides a default instance of the SearchService.
+     *
+     * @return an instance of SearchService for handling search operations
+     */
+    default SearchService getService() {
+        return new SearchService() {
+        };
+    }
+
+    @Operation(summary = "Search the directory",
+            description = """
+                    Searches businesses, active products and active campaigns by name/title and description. \
+                    Every query term must match; the last term also matches longer words it starts, and terms of \
+                    4+ characters tolerate one typo (two for 8+ characters). Results are ordered by relevance. \
+                    The response carries category and type facets for the matching hits. \
+                    Pagination: page (1-based, default 1), per_page (default 10, max 100).""")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful response",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = SearchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Missing or too long query, unknown type or invalid pagination", content = @Content),
+            @ApiResponse(responseCode = DirectoryAppConstants.INTERNAL_SERVER_ERROR_CODE, description = DirectoryAppConstants.INTERNAL_SERVER_ERROR_MESSAGE, content = @Content)
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    default ResponseEntity<SearchResponse> search(
+            @Parameter(description = "Search text, up to 200 characters") @RequestParam(name = "q") String query,
+            @Parameter(description = "Comma-separated entity types to include: business, product, campaign. Default all") @RequestParam(name = "type", required = false) String types,
+            @Parameter(description = "Only return hits in this category") @RequestParam(name = "category_id", required = false) UUID categoryId,
+            @Parameter(description = "Page number (1-based). Default 1") @RequestParam(name = "page", required = false) Integer page,
+            @Parameter(description = "Items per page. Default 10, max 100") @RequestParam(name = "per_page", required = false) Integer perPage
+    ) {
+        return getService().search(query, types, categoryId, page, perPage);
+    }
+}
@@ -0,0 +1,26 @@
+package com.prx.directory.api.v1.controller;
+
+import com.prx.directory.api.v1.service.SearchService;
+import com.prx.directory.api.v1.to.SearchResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/search")
+public class SearchController implements SearchApi {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Override
+    public ResponseEntity<SearchResponse> search(String query, String types, UUID categoryId, Integer page,
+                                                 Integer perPage) {
+        return searchService.search(query, types, categoryId, page, perPage);
+    }
+}
@@ -5,13 +5,17 @@ import com.prx.directory.api.v1.to.GetTimezoneCollectionResponse;
 import com.prx.directory.api.v1.to.TimezoneTO;
 import com.prx.directory.constant.DirectoryAppConstants;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 /**
@@ -27,11 +31,24 @@ public interface TimezoneApi {
 
     /**
      * Retrieves a list of all available timezones.
+     * <p>
+     * The body is rendered once per catalog change and served as is, gzip encoded when the client accepts it.
+     * Clients revalidate with the returned ETag and receive 304 Not Modified while the catalog is unchanged.
      *
-     * @return a ResponseEntity containing a list of TimezoneTO objects.
+     * @param acceptEncoding the Accept-Encoding header of the request
+     * @return a ResponseEntity containing the serialized {@link GetTimezoneCollectionResponse}.
      */
+    @Operation(summary = "Get all supported timezones", description = "Returns the full catalog of supported timezones.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Timezone catalog returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GetTimezoneCollectionResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Timezones unchanged since the given ETag", content = @Content),
+            @ApiResponse(responseCode = DirectoryAppConstants.INTERNAL_SERVER_ERROR_CODE, description = DirectoryAppConstants.INTERNAL_SERVER_ERROR_MESSAGE, content = @Content)
+    })
     @GetMapping(path = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
-    default ResponseEntity<GetTimezoneCollectionResponse> getAllTimezones() {
+    default ResponseEntity<byte[]> getAllTimezones(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
@@ -1,7 +1,6 @@
 package com.prx.directory.api.v1.controller;
 
 import com.prx.directory.api.v1.service.TimezoneService;
-import com.prx.directory.api.v1.to.GetTimezoneCollectionResponse;
 import com.prx.directory.api.v1.to.TimezoneTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -23,8 +22,8 @@ public class TimezoneController implements TimezoneApi {
     }
 
     @Override
-    public ResponseEntity<GetTimezoneCollectionResponse> getAllTimezones() {
-        return ResponseEntity.ok(timezoneService.findAll());
+    public ResponseEntity<byte[]> getAllTimezones(String acceptEncoding) {
+        return timezoneService.getCatalog(acceptEncoding);
     }
 
     @Override
@@ -0,0 +1,205 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.api.v1.to.BusinessCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+// Reads the rows of a bulk business import one at a time, so an upload is never held in memory as a whole.
+//
+// NDJSON input carries one BusinessCreateRequest object per line. CSV input starts with a header row naming the
+// columns after the BusinessCreateRequest properties, in any order and case, with or without underscores
+// (user_id, userId); unknown columns are ignored. CSV fields may be double-quoted, with "" for a literal quote, but
+// cannot span lines. Blank lines are skipped in both formats.
+final class BusinessImportReader implements Closeable {
+
+    static final String NAME = "name";
+    static final String DESCRIPTION = "description";
+    static final String CATEGORY_ID = "categoryid";
+    static final String USER_ID = "userid";
+    static final String EMAIL = "email";
+    static final String CUSTOMER_SERVICE_EMAIL = "customerserviceemail";
+    static final String ORDER_MANAGEMENT_EMAIL = "ordermanagementemail";
+    static final String WEBSITE = "website";
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    // Null for CSV input
+    private final ObjectMapper objectMapper;
+    // Column positions by normalized header name, null for NDJSON input
+    private final Map<String, Integer> columns;
+    private int lineNumber;
+
+    // A row of the input: either the request it holds or the reason it could not be read.
+    //
+    // @param line    1-based line number in the input
+    // @param request the parsed request, null when the row could not be read
+    // @param error   why the row could not be read, null when it was
+    record Row(int line, BusinessCreateRequest request, String error) {
+    }
+
+    private BusinessImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.columns = null;
+    }
+
+    private BusinessImportReader(BufferedReader reader, Map<String, Integer> columns, int lineNumber) {
+        this.reader = reader;
+        this.objectMapper = null;
+        this.columns = columns;
+        this.lineNumber = lineNumber;
+    }
+
+    static BusinessImportReader ndjson(InputStream input, ObjectMapper objectMapper) {
+        return new BusinessImportReader(open(input), objectMapper);
+    }
+
+    // Opens CSV input and reads its header row right away, so a bad header is reported before any row is imported.
+    //
+    // @throws IllegalArgumentException when the input has no header row or the header has no name column
+    static BusinessImportReader csv(InputStream input) throws IOException {
+        BufferedReader reader = open(input);
+        String line;
+        int lineNumber = 0;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (Objects.nonNull(line) && line.isBlank());
+        if (Objects.isNull(line)) {
+            throw new IllegalArgumentException("CSV input has no header row.");
+        }
+        if (line.charAt(0) == BYTE_ORDER_MARK) {
+            line = line.substring(1);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = split(line);
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(column(header.get(i)), i);
+        }
+        if (!columns.containsKey(NAME)) {
+            throw new IllegalArgumentException("CSV header has no name column.");
+        }
+        return new BusinessImportReader(reader, columns, lineNumber);
+    }
+
+    // @return the next row, or null at the end of the input
+    Row next() throws IOException {
+        String line;
+        while (Objects.nonNull(line = reader.readLine())) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                BusinessCreateRequest request = Objects.isNull(columns)
+                        ? objectMapper.readValue(line, BusinessCreateRequest.class)
+                        : csvRequest(split(line));
+                if (Objects.isNull(request)) {
+                    return new Row(lineNumber, null, "Row is not a JSON object.");
+                }
+                return new Row(lineNumber, request, null);
+            } catch (JsonProcessingException e) {
+                return new Row(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return new Row(lineNumber, null, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private BusinessCreateRequest csvRequest(List<String> fields) {
+        return new BusinessCreateRequest(
+                field(fields, NAME),
+                field(fields, DESCRIPTION),
+                uuid(field(fields, CATEGORY_ID), "categoryId"),
+                uuid(field(fields, USER_ID), "userId"),
+                field(fields, EMAIL),
+                field(fields, CUSTOMER_SERVICE_EMAIL),
+                field(fields, ORDER_MANAGEMENT_EMAIL),
+                field(fields, WEBSITE)
+        );
+    }
+
+    // Empty fields and columns missing from the header or from a short row read as null.
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (Objects.isNull(index) || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static UUID uuid(String value, String column) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + " is not a valid UUID.");
+        }
+    }
+
+    // Splits one CSV line into its fields, removing the quotes around quoted fields.
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == QUOTE && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Quoted field is not closed.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String column(String header) {
+        return header.strip().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static BufferedReader open(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package com.prx.directory.api.v1.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+/**
+ * Service boundary for creating businesses in bulk.
+ */
+public interface BusinessImportService {
+
+    /**
+     * Creates one business per row of an NDJSON or CSV upload. Rows are applied in chunks; each chunk is
+     * committed on its own, so a failing chunk does not undo the rows imported before it. The outcome of every
+     * row is streamed back as one {@code BusinessImportResult} NDJSON line, in input order.
+     * <p>Expected HTTP status codes:</p>
+     * <ul>
+     *   <li>200 OK once the input is accepted; per-row failures are reported in the body</li>
+     *   <li>400 BAD REQUEST for CSV input without a header row naming a name column</li>
+     *   <li>415 UNSUPPORTED MEDIA TYPE for anything but NDJSON or CSV</li>
+     * </ul>
+     *
+     * @param contentType the Content-Type header of the upload
+     * @param body        the upload
+     * @return ResponseEntity streaming the per-row results
+     */
+    default ResponseEntity<StreamingResponseBody> importBusinesses(String contentType, InputStream body) {
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+    }
+}
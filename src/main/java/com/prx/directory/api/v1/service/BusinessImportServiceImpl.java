@@ -0,0 +1,458 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.api.v1.to.BusinessCreateRequest;
+import com.prx.directory.api.v1.to.BusinessImportResult;
+import com.prx.directory.client.backbone.BackboneClient;
+import com.prx.directory.client.backbone.to.BackboneUserGetResponse;
+import com.prx.directory.constant.ContactTypeKey;
+import com.prx.directory.constant.DirectoryAppConstants;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.ContactTypeEntity;
+import com.prx.directory.jpa.entity.DigitalContactEntity;
+import com.prx.directory.jpa.repository.BusinessRepository;
+import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.jpa.repository.ContactTypeRepository;
+import com.prx.directory.jpa.repository.DigitalContactRepository;
+import com.prx.directory.mapper.BusinessMapper;
+import feign.FeignException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.prx.directory.constant.DirectoryAppConstants.MESSAGE_HEADER;
+
+// Creates businesses in bulk from NDJSON or CSV uploads.
+//
+// Rows are read and applied in chunks of prx.business.import.chunk-size. A chunk costs one IN query for the names
+// already taken, one for the categories that exist, one Backbone lookup per user not seen earlier in the upload (run concurrently, at most
+// prx.business.import.user-lookup-parallelism at a time) and one transaction, whose inserts Hibernate sends as JDBC
+// batches (hibernate.jdbc.batch_size with ordered inserts, see bootstrap.yml). The results of each chunk are flushed
+// as soon as it is done, so the client sees progress while a large upload is still being imported.
+@Service
+public class BusinessImportServiceImpl implements BusinessImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessImportServiceImpl.class);
+    static final String ROWS_METRIC = "prx.business.import.rows";
+    static final int MAX_NAME_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 1500;
+    static final int MAX_CONTACT_LENGTH = 50;
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(DirectoryAppConstants.TEXT_CSV_VALUE);
+    private static final byte NEW_LINE = '\n';
+
+    private final BusinessRepository businessRepository;
+    private final DigitalContactRepository digitalContactRepository;
+    private final ContactTypeRepository contactTypeRepository;
+    private final CategoryRepository categoryRepository;
+    private final BusinessMapper businessMapper;
+    private final BackboneClient backboneClient;
+    private final DirectorySearchIndex searchIndex;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Semaphore backbonePermits;
+    // Backbone calls block, so each one gets its own virtual thread; backbonePermits bounds how many run at once
+    private final ExecutorService backboneExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    @Value("${prx.directory.application-id}")
+    private UUID applicationId;
+
+    public BusinessImportServiceImpl(BusinessRepository businessRepository,
+                                     DigitalContactRepository digitalContactRepository,
+                                     ContactTypeRepository contactTypeRepository,
+                                     CategoryRepository categoryRepository, BusinessMapper businessMapper,
+                                     BackboneClient backboneClient, DirectorySearchIndex searchIndex,
+                                     ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${prx.business.import.chunk-size:500}") int chunkSize,
+                                     @Value("${prx.business.import.user-lookup-parallelism:8}") int userLookupParallelism) {
+        if (chunkSize < 1 || userLookupParallelism < 1) {
+            throw new IllegalArgumentException("Bulk import chunk size and user lookup parallelism must be positive");
+        }
+        this.businessRepository = businessRepository;
+        this.digitalContactRepository = digitalContactRepository;
+        this.contactTypeRepository = contactTypeRepository;
+        this.categoryRepository = categoryRepository;
+        this.businessMapper = businessMapper;
+        this.backboneClient = backboneClient;
+        this.searchIndex = searchIndex;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.backbonePermits = new Semaphore(userLookupParallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        backboneExecutor.shutdownNow();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> importBusinesses(String contentType, InputStream body) {
+        BusinessImportReader reader;
+        try {
+            reader = open(contentType, body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).header(MESSAGE_HEADER, e.getMessage()).build();
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).header(MESSAGE_HEADER, "Upload could not be read.")
+                    .build();
+        }
+        if (Objects.isNull(reader)) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        StreamingResponseBody results = out -> {
+            try (reader) {
+                new ImportRun(out).run(reader);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(results);
+    }
+
+    // @return the reader for the upload, or null when its media type is missing or not supported
+    private BusinessImportReader open(String contentTypeHeader, InputStream body) throws IOException {
+        if (Objects.isNull(contentTypeHeader) || contentTypeHeader.isBlank()) {
+            return null;
+        }
+        MediaType contentType;
+        try {
+            contentType = MediaType.parseMediaType(contentTypeHeader);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        if (contentType.isWildcardType() || contentType.isWildcardSubtype()) {
+            return null;
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return BusinessImportReader.ndjson(body, objectMapper);
+        }
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return BusinessImportReader.csv(body);
+        }
+        return null;
+    }
+
+    // State of one upload, kept across its chunks.
+    private final class ImportRun {
+
+        private final OutputStream out;
+        private final Map<ContactTypeKey, ContactTypeEntity> contactTypes = loadContactTypes();
+        // Names created, or claimed by a row of the current chunk, earlier in this upload
+        private final Set<String> claimedNames = new HashSet<>();
+        // Users already resolved in this upload; failed lookups are not kept, so a later chunk retries them
+        private final Map<UUID, BackboneUserGetResponse> users = new HashMap<>();
+        private final Set<UUID> missingUsers = new HashSet<>();
+        // Users already granted the business role in this upload
+        private final Set<UUID> promotedUsers = new HashSet<>();
+
+        private ImportRun(OutputStream out) {
+            this.out = out;
+        }
+
+        void run(BusinessImportReader reader) throws IOException {
+            List<BusinessImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            BusinessImportReader.Row row;
+            while (Objects.nonNull(row = reader.next())) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    write(importChunk(chunk));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(importChunk(chunk));
+            }
+        }
+
+        private BusinessImportResult[] importChunk(List<BusinessImportReader.Row> rows) {
+            BusinessImportResult[] results = new BusinessImportResult[rows.size()];
+            List<Integer> valid = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                BusinessImportReader.Row row = rows.get(i);
+                String error = Objects.nonNull(row.error()) ? row.error() : rowError(row.request());
+                if (Objects.nonNull(error)) {
+                    results[i] = reject(row, BusinessImportResult.Status.INVALID, error);
+                } else {
+                    valid.add(i);
+                }
+            }
+            if (valid.isEmpty()) {
+                return results;
+            }
+
+            Set<String> names = new HashSet<>();
+            Set<UUID> categoryIds = new HashSet<>();
+            Set<UUID> unresolvedUsers = new LinkedHashSet<>();
+            for (int i : valid) {
+                BusinessCreateRequest request = rows.get(i).request();
+                names.add(request.name());
+                categoryIds.add(request.categoryId());
+                if (!users.containsKey(request.userId()) && !missingUsers.contains(request.userId())) {
+                    unresolvedUsers.add(request.userId());
+                }
+            }
+            Set<String> takenNames = businessRepository.findExistingNames(names);
+            // An unknown category would only fail at the flush, rolling back the rows of the whole chunk
+            Set<UUID> knownCategories = categoryRepository.findExistingIds(categoryIds);
+            Set<UUID> failedUsers = resolveUsers(unresolvedUsers);
+
+            List<Integer> accepted = new ArrayList<>();
+            for (int i : valid) {
+                BusinessImportReader.Row row = rows.get(i);
+                BusinessCreateRequest request = row.request();
+                if (!knownCategories.contains(request.categoryId())) {
+                    results[i] = reject(row, BusinessImportResult.Status.INVALID, "Category not found.");
+                } else if (takenNames.contains(request.name())) {
+                    results[i] = reject(row, BusinessImportResult.Status.DUPLICATE, "Business exist");
+                } else if (failedUsers.contains(request.userId())) {
+                    results[i] = reject(row, BusinessImportResult.Status.FAILED, "User lookup failed.");
+                } else if (missingUsers.contains(request.userId())) {
+                    results[i] = reject(row, BusinessImportResult.Status.USER_NOT_FOUND,
+                            DirectoryAppConstants.USER_NOT_FOUND_MESSAGE);
+                } else if (!contactTypes.keySet().containsAll(contactValues(request).keySet())) {
+                    results[i] = reject(row, BusinessImportResult.Status.FAILED, "Contact type is not configured.");
+                } else if (!claimedNames.add(request.name())) {
+                    results[i] = reject(row, BusinessImportResult.Status.DUPLICATE,
+                            "Business name repeats an earlier row.");
+                } else {
+                    accepted.add(i);
+                }
+            }
+            if (!accepted.isEmpty()) {
+                insert(rows, accepted, results);
+            }
+            return results;
+        }
+
+        // Saves the accepted rows of a chunk in one transaction, then grants the business role to their owners.
+        private void insert(List<BusinessImportReader.Row> rows, List<Integer> accepted,
+                            BusinessImportResult[] results) {
+            List<BusinessEntity> businesses = new ArrayList<>(accepted.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<DigitalContactEntity> contacts = new ArrayList<>();
+                    for (int i : accepted) {
+                        BusinessCreateRequest request = rows.get(i).request();
+                        BusinessEntity business = businessMapper.toSource(request);
+                        businesses.add(business);
+                        contactValues(request).forEach((key, content) ->
+                                contacts.add(contact(business, contactTypes.get(key), content, now)));
+                    }
+                    businessRepository.saveAll(businesses);
+                    digitalContactRepository.saveAll(contacts);
+                    businesses.forEach(searchIndex::businessChanged);
+                });
+            } catch (RuntimeException e) {
+                logger.warn("Bulk import of lines {} to {} failed", rows.get(accepted.getFirst()).line(),
+                        rows.get(accepted.getLast()).line(), e);
+                for (int i : accepted) {
+                    claimedNames.remove(rows.get(i).request().name());
+                    results[i] = reject(rows.get(i), BusinessImportResult.Status.FAILED, "Business could not be saved.");
+                }
+                return;
+            }
+
+            Set<UUID> owners = new LinkedHashSet<>();
+            for (int k = 0; k < accepted.size(); k++) {
+                int i = accepted.get(k);
+                BusinessCreateRequest request = rows.get(i).request();
+                results[i] = count(BusinessImportResult.created(rows.get(i).line(), businesses.get(k).getId(),
+                        request.name()));
+                if (promotedUsers.add(request.userId())) {
+                    owners.add(request.userId());
+                }
+            }
+            callConcurrently(owners, userId -> promote(users.get(userId)));
+        }
+
+        // Looks up the users not resolved yet, recording the found and the missing ones.
+        //
+        // @return the users whose lookup failed
+        private Set<UUID> resolveUsers(Collection<UUID> userIds) {
+            Set<UUID> failed = new HashSet<>();
+            callConcurrently(userIds, BusinessImportServiceImpl.this::lookupUser).forEach((userId, lookup) -> {
+                if (lookup.failed()) {
+                    failed.add(userId);
+                } else if (Objects.isNull(lookup.user())) {
+                    missingUsers.add(userId);
+                } else {
+                    users.put(userId, lookup.user());
+                }
+            });
+            return failed;
+        }
+
+        private void write(BusinessImportResult[] results) throws IOException {
+            for (BusinessImportResult result : results) {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write(NEW_LINE);
+            }
+            out.flush();
+        }
+    }
+
+    private record UserLookup(BackboneUserGetResponse user, boolean failed) {
+    }
+
+    private UserLookup lookupUser(UUID userId) {
+        try {
+            return new UserLookup(withPermit(() -> backboneClient.findUserById(userId)), false);
+        } catch (FeignException.NotFound e) {
+            return new UserLookup(null, false);
+        } catch (RuntimeException e) {
+            logger.warn("Bulk import lookup of user {} failed", userId, e);
+            return new UserLookup(null, true);
+        }
+    }
+
+    // A failed promotion leaves the businesses in place, as the single create path would, and is only logged.
+    private boolean promote(BackboneUserGetResponse user) {
+        try {
+            var update = BusinessServiceImpl.businessRoleUpdate(applicationId, user);
+            if (Objects.isNull(update)) {
+                return false;
+            }
+            withPermit(() -> backboneClient.userPartialUpdate(user.id(), update));
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Bulk import could not grant the business role to user {}", user.id(), e);
+            return false;
+        }
+    }
+
+    // Runs one Backbone call per item on its own virtual thread and waits for all of them. The calls must handle
+    // their own failures.
+    private <T, R> Map<T, R> callConcurrently(Collection<T> items, Function<T, R> call) {
+        Map<T, CompletableFuture<R>> futures = new HashMap<>();
+        for (T item : items) {
+            futures.put(item, CompletableFuture.supplyAsync(() -> call.apply(item), backboneExecutor));
+        }
+        Map<T, R> results = new HashMap<>();
+        futures.forEach((item, future) -> results.put(item, future.join()));
+        return results;
+    }
+
+    private <R> R withPermit(Supplier<R> call) {
+        try {
+            backbonePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to call Backbone", e);
+        }
+        try {
+            return call.get();
+        } finally {
+            backbonePermits.release();
+        }
+    }
+
+    private Map<ContactTypeKey, ContactTypeEntity> loadContactTypes() {
+        Map<ContactTypeKey, ContactTypeEntity> types = new EnumMap<>(ContactTypeKey.class);
+        var names = Arrays.stream(ContactTypeKey.values()).map(ContactTypeKey::name).toList();
+        for (ContactTypeEntity type : contactTypeRepository.findByNameIn(names)) {
+            ContactTypeKey key = ContactTypeKey.fromName(type.getName());
+            if (Objects.nonNull(key)) {
+                types.put(key, type);
+            }
+        }
+        return types;
+    }
+
+    private BusinessImportResult reject(BusinessImportReader.Row row, BusinessImportResult.Status status,
+                                        String message) {
+        String name = Objects.isNull(row.request()) ? null : row.request().name();
+        return count(BusinessImportResult.rejected(row.line(), status, name, message));
+    }
+
+    private BusinessImportResult count(BusinessImportResult result) {
+        Counter.builder(ROWS_METRIC)
+                .description("Rows processed by the bulk business import")
+                .tag("status", result.status().name())
+                .register(meterRegistry)
+                .increment();
+        return result;
+    }
+
+    // Checks the bulk-only limits, which the single create path leaves to the database, then the shared rules.
+    static String rowError(BusinessCreateRequest request) {
+        if (Objects.isNull(request.name()) || request.name().isBlank()) {
+            return "Business name is required.";
+        }
+        if (request.name().length() > MAX_NAME_LENGTH) {
+            return "Business name is limited to " + MAX_NAME_LENGTH + " characters.";
+        }
+        if (Objects.nonNull(request.description()) && request.description().length() > MAX_DESCRIPTION_LENGTH) {
+            return "Description is limited to " + MAX_DESCRIPTION_LENGTH + " characters.";
+        }
+        if (contactValues(request).values().stream().anyMatch(value -> value.length() > MAX_CONTACT_LENGTH)) {
+            return "Contact values are limited to " + MAX_CONTACT_LENGTH + " characters.";
+        }
+        return BusinessServiceImpl.validationError(request);
+    }
+
+    // The contacts a request carries, keyed by type; blank values are left out.
+    static Map<ContactTypeKey, String> contactValues(BusinessCreateRequest request) {
+        Map<ContactTypeKey, String> values = new EnumMap<>(ContactTypeKey.class);
+        putIfPresent(values, ContactTypeKey.EML, request.email());
+        putIfPresent(values, ContactTypeKey.SCE, request.customerServiceEmail());
+        putIfPresent(values, ContactTypeKey.MEC, request.orderManagementEmail());
+        putIfPresent(values, ContactTypeKey.WBH, request.website());
+        return values;
+    }
+
+    private static void putIfPresent(Map<ContactTypeKey, String> values, ContactTypeKey key, String value) {
+        if (Objects.nonNull(value) && !value.isBlank()) {
+            values.put(key, value.strip());
+        }
+    }
+
+    private static DigitalContactEntity contact(BusinessEntity business, ContactTypeEntity type, String content,
+                                                LocalDateTime now) {
+        DigitalContactEntity contact = new DigitalContactEntity();
+        contact.setContent(content);
+        contact.setBusiness(business);
+        contact.setContactType(type);
+        contact.setCreatedDate(now);
+        contact.setLastUpdate(now);
+        return contact;
+    }
+}
@@ -2,17 +2,19 @@ package com.prx.directory.api.v1.service;
 
 import com.prx.directory.api.v1.to.*;
 import com.prx.directory.client.backbone.BackboneClient;
+import com.prx.directory.client.backbone.to.BackboneUserGetResponse;
 import com.prx.directory.client.backbone.to.BackboneUserUpdateRequest;
 import com.prx.directory.constant.ContactTypeKey;
 import com.prx.directory.jpa.entity.CategoryEntity;
-import com.prx.directory.jpa.entity.ContactTypeEntity;
 import com.prx.directory.jpa.entity.DigitalContactEntity;
 import com.prx.directory.jpa.entity.UserEntity;
 import com.prx.directory.jpa.repository.BusinessRepository;
 import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.jpa.repository.ContactTypeRepository;
 import com.prx.directory.jpa.repository.DigitalContactRepository;
 import com.prx.directory.mapper.BusinessMapper;
-import com.prx.directory.util.JwtUtil;
+import com.prx.directory.security.SessionClaimsCache;
+import com.prx.directory.util.UrlValidator;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,12 +33,18 @@ import static com.prx.directory.constant.RoleKey.LH_STANDARD;
 @Service
 public class BusinessServiceImpl implements BusinessService {
 
+    // Role granted in Backbone to a standard user once they own a business
+    static final UUID BUSINESS_ROLE_ID = UUID.fromString("9a232260-a2e3-4990-b062-b6966efb25f8");
+
     private final UserService userService;
     private final BusinessRepository businessRepository;
     private final CategoryRepository categoryRepository;
     private final DigitalContactRepository digitalContactRepository;
+    private final ContactTypeRepository contactTypeRepository;
     private final BusinessMapper businessMapper;
     private final BackboneClient backboneClient;
+    private final SessionClaimsCache sessionClaimsCache;
+    private final DirectorySearchIndex searchIndex;
     @Value("${prx.directory.application-id}")
     private UUID applicationId;
     @Value("${prx.directory.role-id}")
@@ -45,17 +53,25 @@ public class BusinessServiceImpl implements BusinessService {
     /// Constructs a new BusinessServiceImpl with the specified BusinessRepository and BusinessMapper.
     ///
     /// @param businessRepository the repository used to access business data
+    /// @param contactTypeRepository the contact types, resolved by name from the second-level cache
     /// @param businessMapper     the mapper used to convert between business-related objects
+    /// @param sessionClaimsCache the verified session token claims, used to resolve the caller
+    /// @param searchIndex        the directory search index, kept current on writes
     public BusinessServiceImpl(UserService userService, BusinessRepository businessRepository,
                                CategoryRepository categoryRepository,
                                DigitalContactRepository digitalContactRepository,
-                               BusinessMapper businessMapper, BackboneClient backboneClient) {
+                               ContactTypeRepository contactTypeRepository,
+                               BusinessMapper businessMapper, BackboneClient backboneClient,
+                               SessionClaimsCache sessionClaimsCache, DirectorySearchIndex searchIndex) {
         this.userService = userService;
         this.businessRepository = businessRepository;
         this.categoryRepository = categoryRepository;
         this.digitalContactRepository = digitalContactRepository;
+        this.contactTypeRepository = contactTypeRepository;
         this.businessMapper = businessMapper;
         this.backboneClient = backboneClient;
+        this.sessionClaimsCache = sessionClaimsCache;
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -79,13 +95,10 @@ public class BusinessServiceImpl implements BusinessService {
             if (Objects.nonNull(backboneUserGetResponse)) {
                 var business = businessMapper.toSource(businessCreateRequest);
                 var savedBusiness = businessRepository.save(business);
+                searchIndex.businessChanged(savedBusiness);
 
-                var standardRoleFounded = backboneUserGetResponse.roles().stream().filter(role -> role.getName().equals(LH_STANDARD.name())).findFirst();
-
-                if(standardRoleFounded.isPresent()){
-                    UUID roleId = UUID.fromString("9a232260-a2e3-4990-b062-b6966efb25f8");
-                    BackboneUserUpdateRequest backboneUserUpdateRequest = new BackboneUserUpdateRequest(applicationId,
-                            backboneUserGetResponse.notificationEmail(), backboneUserGetResponse.notificationSms(), backboneUserGetResponse.privacyDataOutActive(), List.of(roleId));
+                var backboneUserUpdateRequest = businessRoleUpdate(applicationId, backboneUserGetResponse);
+                if (Objects.nonNull(backboneUserUpdateRequest)) {
                     backboneClient.userPartialUpdate(backboneUserGetResponse.id(), backboneUserUpdateRequest);
                 }
 
@@ -103,34 +116,54 @@ public class BusinessServiceImpl implements BusinessService {
     }
 
     private ResponseEntity<BusinessCreateResponse> getBusinessCreateResponseResponseEntity(BusinessCreateRequest businessCreateRequest) {
-        // Validate UUIDs are not default/empty
-        if(Objects.isNull(businessCreateRequest)) {
+        var message = validationError(businessCreateRequest);
+        if (Objects.nonNull(message)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .header(MESSAGE_HEADER, "Business Create Request is null.")
+                    .header(MESSAGE_HEADER, message)
                     .build();
         }
+        return null;
+    }
+
+    /// Validates a create request, shared by the single and the bulk create paths.
+    ///
+    /// @param businessCreateRequest the request to validate
+    /// @return the validation message, or null when the request is valid
+    static String validationError(BusinessCreateRequest businessCreateRequest) {
+        // Validate UUIDs are not default/empty
+        if(Objects.isNull(businessCreateRequest)) {
+            return "Business Create Request is null.";
+        }
         if (Objects.isNull(businessCreateRequest.categoryId()) || businessCreateRequest.categoryId().toString().isEmpty() ||
                 businessCreateRequest.categoryId().toString().equals("00000000-0000-0000-0000-000000000000")) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .header(MESSAGE_HEADER, "Category ID is invalid.")
-                    .build();
+            return "Category ID is invalid.";
         }
         if (Objects.isNull(businessCreateRequest.userId()) || businessCreateRequest.userId().toString().isEmpty() ||
                 businessCreateRequest.userId().toString().equals("00000000-0000-0000-0000-000000000000")) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .header(MESSAGE_HEADER, "User ID is invalid.")
-                    .build();
+            return "User ID is invalid.";
         }
         // Validate website if present
         if(Objects.nonNull(businessCreateRequest.website()) && !businessCreateRequest.website().isEmpty()
-                && !isValidUrl(businessCreateRequest.website())) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .header(MESSAGE_HEADER, "Website URL format is invalid.")
-                        .build();
+                && !UrlValidator.isValid(businessCreateRequest.website())) {
+            return "Website URL format is invalid.";
         }
         return null;
     }
 
+    /// Builds the Backbone update that grants the business role to a user who still has the standard role.
+    ///
+    /// @param applicationId the application the role belongs to
+    /// @param user          the Backbone user owning the new business
+    /// @return the update request, or null when the user does not need it
+    static BackboneUserUpdateRequest businessRoleUpdate(UUID applicationId, BackboneUserGetResponse user) {
+        var standardRoleFounded = user.roles().stream().filter(role -> role.getName().equals(LH_STANDARD.name())).findFirst();
+        if (standardRoleFounded.isEmpty()) {
+            return null;
+        }
+        return new BackboneUserUpdateRequest(applicationId, user.notificationEmail(), user.notificationSms(),
+                user.privacyDataOutActive(), List.of(BUSINESS_ROLE_ID));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -252,7 +285,7 @@ public class BusinessServiceImpl implements BusinessService {
 
         // Validate website if provided
         if (Objects.nonNull(request.website())) {
-            if (!request.website().isEmpty() && !isValidUrl(request.website())) {
+            if (!request.website().isEmpty() && !UrlValidator.isValid(request.website())) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .header(MESSAGE_HEADER, "Website URL format is invalid.")
                         .build();
@@ -279,6 +312,7 @@ public class BusinessServiceImpl implements BusinessService {
         }
 
         var savedBusiness = businessRepository.save(existingBusiness);
+        searchIndex.businessChanged(savedBusiness);
         return ResponseEntity.ok(new BusinessUpdateResponse(savedBusiness.getLastUpdate()));
     }
 
@@ -325,10 +359,9 @@ public class BusinessServiceImpl implements BusinessService {
             newContact.setCreatedDate(LocalDateTime.now());
             newContact.setLastUpdate(LocalDateTime.now());
 
-            // Set contact type
-            ContactTypeEntity contactType = new ContactTypeEntity();
-            contactType.setName(contactTypeKey.toString());
-            newContact.setContactType(contactType);
+            // Served from the query and second-level caches, so this does not reach the database
+            newContact.setContactType(contactTypeRepository.findByKey(contactTypeKey)
+                    .orElseThrow(() -> new IllegalStateException("Unknown contact type " + contactTypeKey)));
 
             digitalContacts.add(newContact);
             digitalContactRepository.save(newContact);
@@ -343,7 +376,7 @@ public class BusinessServiceImpl implements BusinessService {
     @Transactional
     public ResponseEntity<Void> deleteBusiness(@NotNull UUID businessId, @NotNull String token) {
         try {
-            var userId = JwtUtil.getUidFromToken(token);
+            var userId = sessionClaimsCache.getUid(token);
             if(Objects.isNull(userId)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
@@ -356,6 +389,7 @@ public class BusinessServiceImpl implements BusinessService {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
             }
             businessRepository.deleteById(businessId);
+            searchIndex.removeAfterCommit(SearchDocumentType.BUSINESS, businessId);
             var countResult = businessRepository.countByUserId(userId);
             if(countResult <= 0 ) {
                 return updateUserRole(token, userId);
@@ -390,9 +424,4 @@ public class BusinessServiceImpl implements BusinessService {
         }
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
-
-    // Helper method to validate URL format
-    private boolean isValidUrl(String url) {
-        return url.matches("^(https?://)?([\\da-z.-]+)\\.([a-z.]{2,6})([/\\w .-]*)*/?$");
-    }
 }
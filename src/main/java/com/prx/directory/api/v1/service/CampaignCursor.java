@@ -0,0 +1,129 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.jpa.entity.CampaignEntity;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Opaque cursor used by the keyset mode of the campaign listing.
+ * <p>
+ * The token carries the sort it was issued for, the sort key values of the last row returned and its id
+ * (tie-breaker). It is only valid for the same sort; a different sort or a tampered token is rejected with
+ * {@link IllegalArgumentException}.
+ *
+ * @param values sort key values of the last row, keyed by entity property, in sort order
+ * @param id     id of the last row
+ */
+record CampaignCursor(Map<String, Object> values, UUID id) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = ":";
+    private static final String NULL_VALUE = "-";
+    private static final String VALUE_PREFIX = ".";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Builds the cursor pointing right after the given row.
+     *
+     * @param sort the sort of the listing (without the id tie-breaker)
+     * @param last the last row of the current page
+     * @return the encoded cursor
+     */
+    static String encode(Sort sort, CampaignEntity last) {
+        List<String> parts = new ArrayList<>();
+        parts.add(VERSION);
+        parts.add(component(signature(sort)));
+        for (Sort.Order order : sort) {
+            Object value = valueOf(last, order.getProperty());
+            parts.add(value == null ? NULL_VALUE : component(value.toString()));
+        }
+        parts.add(component(last.getId().toString()));
+        return ENCODER.encodeToString(String.join(SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode(Sort, CampaignEntity)}.
+     *
+     * @param token the cursor sent by the client
+     * @param sort  the sort of the current request (without the id tie-breaker)
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort
+     */
+    static CampaignCursor decode(String token, Sort sort) {
+        String[] parts;
+        try {
+            parts = new String(DECODER.decode(token), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("cursor is malformed", e);
+        }
+        int keys = (int) sort.stream().count();
+        if (parts.length != keys + 3 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("cursor is malformed");
+        }
+        if (!signature(sort).equals(text(parts[1]))) {
+            throw new IllegalArgumentException("cursor does not match the requested sort");
+        }
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        int i = 2;
+        for (Sort.Order order : sort) {
+            values.put(order.getProperty(), parse(order.getProperty(), text(parts[i++])));
+        }
+        String id = text(parts[i]);
+        if (id == null) {
+            throw new IllegalArgumentException("cursor is malformed");
+        }
+        return new CampaignCursor(values, UUID.fromString(id));
+    }
+
+    private static String signature(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        sort.forEach(order -> orders.add(order.getProperty() + ' ' + order.getDirection()));
+        return String.join(",", orders);
+    }
+
+    private static Object valueOf(CampaignEntity entity, String property) {
+        return switch (property) {
+            case "title" -> entity.getTitle();
+            case "startDate" -> entity.getStartDate();
+            case "endDate" -> entity.getEndDate();
+            case "createdDate" -> entity.getCreatedDate();
+            default -> throw new IllegalArgumentException("unsupported cursor sort property: " + property);
+        };
+    }
+
+    private static Object parse(String property, String value) {
+        if (value == null || "title".equals(property)) {
+            return value;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("cursor is malformed", e);
+        }
+    }
+
+    private static String component(String value) {
+        return VALUE_PREFIX + ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String text(String component) {
+        if (NULL_VALUE.equals(component)) {
+            return null;
+        }
+        if (!component.startsWith(VALUE_PREFIX)) {
+            throw new IllegalArgumentException("cursor is malformed");
+        }
+        return new String(DECODER.decode(component.substring(VALUE_PREFIX.length())), StandardCharsets.UTF_8);
+    }
+}
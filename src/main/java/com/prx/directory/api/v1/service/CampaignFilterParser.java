@@ -40,6 +40,28 @@ public class CampaignFilterParser {
         return CampaignFilterParserUtils.parseBoolean(filters == null ? null : filters.get("active"));
     }
 
+    /**
+     * Whether the listing should compute the actives/inactives/expired counters.
+     * Defaults to {@code true}; {@code include_counts=false} skips the aggregate query.
+     */
+    public boolean parseIncludeCounts(Map<String, String> filters) {
+        Boolean includeCounts = CampaignFilterParserUtils.parseBoolean(filters == null ? null : filters.get("include_counts"));
+        return includeCounts == null || includeCounts;
+    }
+
+    /**
+     * Whether the listing is requested in keyset (cursor) mode, i.e. a {@code cursor} parameter is present.
+     * An empty {@code cursor} requests the first page.
+     */
+    public boolean isCursorMode(Map<String, String> filters) {
+        return filters != null && filters.containsKey("cursor");
+    }
+
+    public String parseCursor(Map<String, String> filters) {
+        String cursor = filters == null ? null : filters.get("cursor");
+        return (cursor == null || cursor.isBlank()) ? null : cursor.trim();
+    }
+
     // Date filter parsers now return Instant
     public Instant parseStartFrom(Map<String, String> filters) {
         return CampaignFilterParserUtils.parseToInstant(CampaignFilterParserUtils.valueOr(filters, "start_from", "start_date_from"));
@@ -61,7 +61,8 @@ public interface CampaignService {
      * </ul>
      * @param page 1-based page number (default 1)
      * @param perPage page size (default 20, max 100)
-     * @param sort comma-separated sort fields, prefix with '-' for DESC. Allowed: title, start_date, end_date, created_date
+     * @param sort comma-separated sort fields, prefix with '-' for DESC. Allowed: title, start_date, end_date, created_date,
+     *             or {@code relevance} alone to rank title search matches
      * @param filters optional filters map (e.g., q, active, business_id, category_id, *_from, *_to)
      * @return ResponseEntity with CampaignListResponse
      */
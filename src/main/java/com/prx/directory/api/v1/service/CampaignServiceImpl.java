@@ -7,9 +7,11 @@ import com.prx.directory.jpa.entity.CampaignEntity;
 import com.prx.directory.jpa.entity.CategoryEntity;
 import com.prx.directory.jpa.repository.BusinessRepository;
 import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.CampaignStatusCounts;
 import com.prx.directory.jpa.repository.CategoryRepository;
 import com.prx.directory.jpa.spec.CampaignCriteria;
 import com.prx.directory.jpa.spec.CampaignSpecifications;
+import com.prx.directory.jpa.spec.CampaignTitleSearch;
 import com.prx.directory.mapper.CampaignMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -41,16 +43,19 @@ public class CampaignServiceImpl implements CampaignService {
     private final BusinessRepository businessRepository;
     private final CampaignMapper campaignMapper;
     private final CampaignFilterParser filterParser;
+    private final DirectorySearchIndex searchIndex;
 
     public CampaignServiceImpl(CampaignRepository campaignRepository,
                                CategoryRepository categoryRepository,
                                BusinessRepository businessRepository,
-                               CampaignMapper campaignMapper) {
+                               CampaignMapper campaignMapper,
+                               DirectorySearchIndex searchIndex) {
         this.campaignRepository = campaignRepository;
         this.categoryRepository = categoryRepository;
         this.businessRepository = businessRepository;
         this.campaignMapper = campaignMapper;
         this.filterParser = new CampaignFilterParser();
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -83,6 +88,7 @@ public class CampaignServiceImpl implements CampaignService {
         }
 
         CampaignEntity saved = campaignRepository.save(entity);
+        searchIndex.campaignChanged(saved);
         CampaignTO result = campaignMapper.toTO(saved);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
@@ -105,7 +111,9 @@ public class CampaignServiceImpl implements CampaignService {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
 
-        Sort sortObj = CampaignSortParser.parse(sort);
+        boolean byRelevance = Objects.nonNull(sort)
+                && DirectoryAppConstants.CAMPAIGN_SORT_FIELD_RELEVANCE.equals(sort.trim());
+        Sort sortObj = CampaignSortParser.parse(byRelevance ? null : sort);
         if (Objects.isNull(sortObj)) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
@@ -131,38 +139,28 @@ public class CampaignServiceImpl implements CampaignService {
             // Validate date ranges
             filterParser.validateDateRanges(startFrom, startTo, endFrom, endTo);
 
-            Pageable pageable = PageRequest.of(p - 1, pp, sortObj);
             var criteria = CampaignCriteria.of(active, startFrom, startTo, endFrom, endTo);
             Specification<CampaignEntity> spec = CampaignSpecifications
                     .byFilters(name, categoryId, businessId, criteria);
-            Page<CampaignEntity> result = campaignRepository.findAll(spec, pageable);
-
-            List<CampaignResumeTO> items = result.getContent().stream().map(campaignMapper::toResumeTO)
-                    .toList();
-
-            // Compute counts for root-level distribution fields
-            LocalDateTime now = LocalDateTime.now();
-            // Use the same specification with additional predicates so counts respect filters
-            // CampaignSpecifications.byFilters always returns a non-null Specification, so build
-            // derived specifications by directly calling spec.and(...).
-            Specification<CampaignEntity> activesSpec = spec.and((root, query, cb) -> cb.equal(root.get("status"), "ACTIVE"));
-            Specification<CampaignEntity> inactivesSpec = spec.and((root, query, cb) -> cb.equal(root.get("status"), "INACTIVE"));
-            Specification<CampaignEntity> expiredSpec = spec.and((root, query, cb) -> cb.lessThan(root.get("endDate"), now));
-
-            long actives = campaignRepository.count(activesSpec);
-            long inactives = campaignRepository.count(inactivesSpec);
-            long expired = campaignRepository.count(expiredSpec);
-
-            CampaignListResponse response = new CampaignListResponse(
-                    result.getTotalElements(),
-                    p,
-                    pp,
-                    result.getTotalPages(),
-                    actives,
-                    inactives,
-                    expired,
-                    items
-            );
+
+            boolean includeCounts = filterParser.parseIncludeCounts(filters);
+            CampaignListResponse response;
+            if (filterParser.isCursorMode(filters)) {
+                if (byRelevance) {
+                    throw new IllegalArgumentException("relevance sort is not supported in cursor mode");
+                }
+                response = listByCursor(spec, sortObj, filterParser.parseCursor(filters), p, pp, includeCounts);
+            } else {
+                CampaignTitleSearch search = CampaignTitleSearch.of(name);
+                Specification<CampaignEntity> pageSpec = spec;
+                Pageable pageable = PageRequest.of(p - 1, pp, sortObj);
+                if (byRelevance && Objects.nonNull(search)) {
+                    // Unsorted page: the ranking specification supplies the ORDER BY
+                    pageSpec = spec.and(CampaignSpecifications.rankByTitle(search));
+                    pageable = PageRequest.of(p - 1, pp);
+                }
+                response = includeCounts ? listWithCounts(pageSpec, pageable) : listWithoutCounts(pageSpec, pageable);
+            }
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException ex) {
             // Return a BAD_REQUEST without a body to keep the generic type consistent
@@ -170,6 +168,79 @@ public class CampaignServiceImpl implements CampaignService {
         }
     }
 
+    /**
+     * Page content plus one aggregate query that returns the total and the status counters,
+     * instead of a count query per counter.
+     */
+    private CampaignListResponse listWithCounts(Specification<CampaignEntity> spec, Pageable pageable) {
+        CampaignStatusCounts counts = campaignRepository.countStatuses(spec, LocalDateTime.now());
+        List<CampaignEntity> content = counts.total() > pageable.getOffset()
+                ? campaignRepository.findPageContent(spec, pageable)
+                : List.of();
+        int totalPages = (int) ((counts.total() + pageable.getPageSize() - 1) / pageable.getPageSize());
+        return new CampaignListResponse(
+                counts.total(),
+                pageable.getPageNumber() + 1,
+                pageable.getPageSize(),
+                totalPages,
+                counts.actives(),
+                counts.inactives(),
+                counts.expired(),
+                toResumes(content)
+        );
+    }
+
+    private CampaignListResponse listWithoutCounts(Specification<CampaignEntity> spec, Pageable pageable) {
+        Page<CampaignEntity> result = campaignRepository.findAll(spec, pageable);
+        return new CampaignListResponse(
+                result.getTotalElements(),
+                pageable.getPageNumber() + 1,
+                pageable.getPageSize(),
+                result.getTotalPages(),
+                null,
+                null,
+                null,
+                toResumes(result.getContent())
+        );
+    }
+
+    /**
+     * Keyset mode: seeks past the position encoded in the cursor instead of skipping rows with OFFSET,
+     * and reads one extra row to know whether a next cursor must be issued.
+     */
+    private CampaignListResponse listByCursor(Specification<CampaignEntity> spec, Sort sort, String cursor,
+                                              int page, int pageSize, boolean includeCounts) {
+        Specification<CampaignEntity> pageSpec = spec;
+        if (Objects.nonNull(cursor)) {
+            CampaignCursor position = CampaignCursor.decode(cursor, sort);
+            pageSpec = spec.and(CampaignSpecifications.seekAfter(sort, position.values(), position.id()));
+        }
+        Sort.Direction idDirection = sort.toList().getLast().getDirection();
+        Pageable window = PageRequest.of(0, pageSize + 1, sort.and(Sort.by(idDirection, "id")));
+
+        List<CampaignEntity> rows = campaignRepository.findPageContent(pageSpec, window);
+        boolean hasMore = rows.size() > pageSize;
+        List<CampaignEntity> content = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? CampaignCursor.encode(sort, content.getLast()) : null;
+
+        CampaignStatusCounts counts = includeCounts ? campaignRepository.countStatuses(spec, LocalDateTime.now()) : null;
+        return new CampaignListResponse(
+                Objects.isNull(counts) ? null : counts.total(),
+                page,
+                pageSize,
+                Objects.isNull(counts) ? null : (int) ((counts.total() + pageSize - 1) / pageSize),
+                Objects.isNull(counts) ? null : counts.actives(),
+                Objects.isNull(counts) ? null : counts.inactives(),
+                Objects.isNull(counts) ? null : counts.expired(),
+                toResumes(content),
+                nextCursor
+        );
+    }
+
+    private List<CampaignResumeTO> toResumes(List<CampaignEntity> content) {
+        return content.stream().map(campaignMapper::toResumeTO).toList();
+    }
+
     @Override
     @Transactional
     public ResponseEntity<CampaignUpdateResponse> update(UUID id, CampaignUpdateRequest request) {
@@ -209,6 +280,8 @@ public class CampaignServiceImpl implements CampaignService {
             saved.setBusinessFk(existingCampaign.getBusinessFk());
         }
 
+        searchIndex.campaignChanged(saved);
+
         // Build minimal response and return 202 Accepted
         CampaignUpdateResponse resp = new CampaignUpdateResponse(saved.getId(), saved.getLastUpdate());
         return ResponseEntity.status(HttpStatus.ACCEPTED).body(resp);
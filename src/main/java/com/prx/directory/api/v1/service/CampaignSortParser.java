@@ -13,8 +13,7 @@ import java.util.Map;
 public final class CampaignSortParser {
 
     private static final Map<String, String> SORT_FIELD_MAPPING = Map.of(
-            DirectoryAppConstants.CAMPAIGN_SORT_FIELD_TITLE, "title1",
-            "title2", "title3",
+            DirectoryAppConstants.CAMPAIGN_SORT_FIELD_TITLE, DirectoryAppConstants.CAMPAIGN_SORT_PROPERTY_TITLE,
             DirectoryAppConstants.CAMPAIGN_SORT_FIELD_START_DATE, DirectoryAppConstants.CAMPAIGN_SORT_PROPERTY_START_DATE,
             DirectoryAppConstants.CAMPAIGN_SORT_FIELD_END_DATE, DirectoryAppConstants.CAMPAIGN_SORT_PROPERTY_END_DATE,
             DirectoryAppConstants.CAMPAIGN_SORT_FIELD_CREATED_DATE, DirectoryAppConstants.CAMPAIGN_SORT_DEFAULT_FIELD
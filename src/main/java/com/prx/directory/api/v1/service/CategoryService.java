@@ -3,11 +3,13 @@ package com.prx.directory.api.v1.service;
 import com.prx.directory.api.v1.to.CategoryCreateRequest;
 import com.prx.directory.api.v1.to.CategoryCreateResponse;
 import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.api.v1.to.CategoryTreeResponse;
 import com.prx.directory.api.v1.to.PaginatedResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 // Service interface for category-related operations.
@@ -41,6 +43,24 @@ public interface CategoryService {
         return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
     }
 
+    // Retrieves a category together with all of its descendants.
+    //
+    // @param categoryId the ID of the root category
+    // @return a ResponseEntity containing the nested tree and HTTP status
+    // @see CategoryTreeResponse
+    default ResponseEntity<CategoryTreeResponse> findSubtree(UUID categoryId) {
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+    }
+
+    // Retrieves the path from the top-level category down to the specified category.
+    //
+    // @param categoryId the ID of the category
+    // @return a ResponseEntity containing the categories ordered from root to the requested one
+    // @see CategoryGetResponse
+    default ResponseEntity<List<CategoryGetResponse>> findAncestors(UUID categoryId) {
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+    }
+
     /**
      * Creates a new category.
      * @param request the create request
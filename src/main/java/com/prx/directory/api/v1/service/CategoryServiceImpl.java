@@ -3,6 +3,7 @@ package com.prx.directory.api.v1.service;
 import com.prx.directory.api.v1.to.CategoryCreateRequest;
 import com.prx.directory.api.v1.to.CategoryCreateResponse;
 import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.api.v1.to.CategoryTreeResponse;
 import com.prx.directory.api.v1.to.PaginatedResponse;
 import com.prx.directory.jpa.entity.CategoryEntity;
 import com.prx.directory.jpa.repository.CategoryRepository;
@@ -11,19 +12,20 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 // Service implementation for category-related operations.
 //
+// Reads are served from the CategoryTreeCache snapshot and carry its ETag, so unchanged catalogs revalidate
+// with 304 Not Modified; writes go to the repository and schedule a snapshot rebuild.
+//
 // @see CategoryService
 @Service
 public class CategoryServiceImpl implements CategoryService {
@@ -34,23 +36,28 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryTreeCache categoryTreeCache;
 
-    // Constructs a new CategoryServiceImpl with the specified repository and mapper.
+    // Constructs a new CategoryServiceImpl with the specified repository, mapper and tree cache.
     //
     // @param categoryRepository the repository to use for category operations
     // @param categoryMapper     the mapper to use for category operations
+    // @param categoryTreeCache  the in-memory snapshot serving category reads
     // @see CategoryRepository
     // @see CategoryMapper
-    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+    // @see CategoryTreeCache
+    public CategoryServiceImpl(CategoryRepository categoryRepository, CategoryMapper categoryMapper,
+                               CategoryTreeCache categoryTreeCache) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.categoryTreeCache = categoryTreeCache;
     }
 
     @Override
     public ResponseEntity<CategoryGetResponse> find(@NotNull UUID categoryId) {
-        var categoryEntity = categoryRepository.findFirstById(categoryId);
-        return categoryEntity.map(entity ->
-                        ResponseEntity.ok(categoryMapper.toCategoryGetResponse(entity)))
+        CategoryTree tree = categoryTreeCache.get();
+        return tree.find(categoryId)
+                .map(category -> ResponseEntity.ok().eTag(tree.etag()).body(category))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -70,35 +77,34 @@ public class CategoryServiceImpl implements CategoryService {
                 return ResponseEntity.badRequest().build();
             }
 
+            CategoryTree tree = categoryTreeCache.get();
+
             // Check if parent category exists
-            if (!categoryRepository.existsById(parentId)) {
+            if (tree.find(parentId).isEmpty()) {
                 logger.warn("Parent category not found with ID: {}", parentId);
                 return ResponseEntity.notFound().build();
             }
 
-            // Create parent entity reference for query
-            CategoryEntity categoryEntity = new CategoryEntity();
-            categoryEntity.setId(parentId);
-
-            // Query categories by parent with pagination at database level
-            Pageable pageable = PageRequest.of(page, size);
-            Page<CategoryEntity> categoryPage = categoryRepository.findByCategoryParentFk(categoryEntity, pageable);
-
-            // Map entities to responses
-            Collection<CategoryGetResponse> items = categoryMapper.toCategoryGetResponse(categoryPage.getContent());
+            // Children are already grouped by parent in the snapshot, so the page is a slice of that list
+            List<CategoryGetResponse> children = tree.children(parentId);
+            int totalPages = (children.size() + size - 1) / size;
+            long offset = (long) page * size;
+            List<CategoryGetResponse> items = offset >= children.size()
+                    ? List.of()
+                    : children.subList((int) offset, (int) Math.min(children.size(), offset + size));
 
             logger.info("Successfully retrieved {} categories for parent ID: {} (page: {}, size: {}, total: {})",
-                       categoryPage.getNumberOfElements(), parentId, page, size, categoryPage.getTotalElements());
+                       items.size(), parentId, page, size, children.size());
 
             PaginatedResponse<CategoryGetResponse> response = new PaginatedResponse<>(
-                    categoryPage.getTotalElements(),
-                    categoryPage.getNumber(),
-                    categoryPage.getSize(),
-                    categoryPage.getTotalPages(),
+                    children.size(),
+                    page,
+                    size,
+                    totalPages,
                     items
             );
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(tree.etag()).body(response);
 
         } catch (Exception e) {
             logger.error("Error finding categories by parent ID: {}", parentId, e);
@@ -108,7 +114,24 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public ResponseEntity<Collection<CategoryGetResponse>> findAll() {
-        return ResponseEntity.ok(categoryMapper.toCategoryGetResponse(categoryRepository.findAll()));
+        CategoryTree tree = categoryTreeCache.get();
+        return ResponseEntity.ok().eTag(tree.etag()).body(tree.all());
+    }
+
+    @Override
+    public ResponseEntity<CategoryTreeResponse> findSubtree(@NotNull UUID categoryId) {
+        CategoryTree tree = categoryTreeCache.get();
+        return tree.subtree(categoryId)
+                .map(subtree -> ResponseEntity.ok().eTag(tree.etag()).body(subtree))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Override
+    public ResponseEntity<List<CategoryGetResponse>> findAncestors(@NotNull UUID categoryId) {
+        CategoryTree tree = categoryTreeCache.get();
+        return tree.ancestors(categoryId)
+                .map(path -> ResponseEntity.ok().eTag(tree.etag()).body(path))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @Override
@@ -123,6 +146,8 @@ public class CategoryServiceImpl implements CategoryService {
         CategoryEntity entityToSave = categoryMapper.toCategoryEntity(request);
         CategoryEntity saved = categoryRepository.save(entityToSave);
         CategoryCreateResponse response = categoryMapper.toCategoryCreateResponse(saved);
+        // Readers keep the current snapshot until the new category is committed
+        categoryTreeCache.refreshAfterCommit();
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 }
@@ -0,0 +1,132 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.api.v1.to.CategoryTreeResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// Immutable snapshot of the category table, indexed by id and by parent.
+//
+// Instances are built once by CategoryTreeCache and never modified, so they can be shared between request threads
+// without locking. The ETag is derived from the content, so two snapshots of the same rows carry the same tag.
+public final class CategoryTree {
+
+    private static final int ETAG_BYTES = 16;
+
+    private final List<CategoryGetResponse> all;
+    private final Map<UUID, CategoryGetResponse> byId;
+    private final Map<UUID, List<CategoryGetResponse>> childrenByParent;
+    private final String etag;
+
+    private CategoryTree(List<CategoryGetResponse> all, Map<UUID, CategoryGetResponse> byId,
+                         Map<UUID, List<CategoryGetResponse>> childrenByParent, String etag) {
+        this.all = all;
+        this.byId = byId;
+        this.childrenByParent = childrenByParent;
+        this.etag = etag;
+    }
+
+    // Builds a snapshot from the given categories.
+    //
+    // @param categories every category row
+    // @return the snapshot
+    static CategoryTree of(Collection<CategoryGetResponse> categories) {
+        List<CategoryGetResponse> sorted = categories.stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(CategoryGetResponse::id))
+                .toList();
+
+        Map<UUID, CategoryGetResponse> byId = new HashMap<>();
+        Map<UUID, List<CategoryGetResponse>> children = new HashMap<>();
+        for (CategoryGetResponse category : sorted) {
+            byId.put(category.id(), category);
+            if (Objects.nonNull(category.categoryParentId())) {
+                children.computeIfAbsent(category.categoryParentId(), key -> new ArrayList<>()).add(category);
+            }
+        }
+        children.replaceAll((parent, list) -> List.copyOf(list));
+
+        return new CategoryTree(sorted, Collections.unmodifiableMap(byId), Collections.unmodifiableMap(children),
+                etagOf(sorted));
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public List<CategoryGetResponse> all() {
+        return all;
+    }
+
+    public Optional<CategoryGetResponse> find(UUID categoryId) {
+        return Optional.ofNullable(categoryId).map(byId::get);
+    }
+
+    // Direct sub-categories of the given category, ordered by id.
+    public List<CategoryGetResponse> children(UUID parentId) {
+        return childrenByParent.getOrDefault(parentId, List.of());
+    }
+
+    // The given category with all of its descendants.
+    public Optional<CategoryTreeResponse> subtree(UUID categoryId) {
+        return find(categoryId).map(root -> subtree(root, new HashSet<>()));
+    }
+
+    // The path from the top-level category down to the given category (both included).
+    public Optional<List<CategoryGetResponse>> ancestors(UUID categoryId) {
+        Optional<CategoryGetResponse> start = find(categoryId);
+        if (start.isEmpty()) {
+            return Optional.empty();
+        }
+        List<CategoryGetResponse> path = new ArrayList<>();
+        Set<UUID> visited = new HashSet<>();
+        CategoryGetResponse current = start.get();
+        // The visited set stops the walk on corrupted data where a category is its own ancestor
+        while (Objects.nonNull(current) && visited.add(current.id())) {
+            path.add(current);
+            current = Objects.isNull(current.categoryParentId()) ? null : byId.get(current.categoryParentId());
+        }
+        Collections.reverse(path);
+        return Optional.of(List.copyOf(path));
+    }
+
+    private CategoryTreeResponse subtree(CategoryGetResponse node, Set<UUID> visited) {
+        visited.add(node.id());
+        List<CategoryTreeResponse> children = children(node.id()).stream()
+                .filter(child -> !visited.contains(child.id()))
+                .map(child -> subtree(child, visited))
+                .toList();
+        return new CategoryTreeResponse(node.id(), node.name(), node.description(), node.active(), children);
+    }
+
+    private static String etagOf(List<CategoryGetResponse> categories) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        for (CategoryGetResponse category : categories) {
+            String row = category.id() + "|" + category.categoryParentId() + "|" + category.name() + "|"
+                    + category.description() + "|" + category.active() + "|" + category.lastUpdate() + "\n";
+            digest.update(row.getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] hash = digest.digest();
+        return '"' + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + '"';
+    }
+}
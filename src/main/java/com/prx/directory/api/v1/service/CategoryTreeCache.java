@@ -0,0 +1,86 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.mapper.CategoryMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Holds the current CategoryTree snapshot.
+//
+// The snapshot is loaded on first use, rebuilt after a category is created (once the transaction commits) and
+// periodically, so rows changed outside this service are picked up as well. Readers never block on a rebuild:
+// they keep using the previous snapshot until the new one is swapped in.
+@Component
+public class CategoryTreeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoryTreeCache.class);
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile CategoryTree tree;
+
+    public CategoryTreeCache(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+        this.categoryRepository = categoryRepository;
+        this.categoryMapper = categoryMapper;
+    }
+
+    // Returns the current snapshot, loading it if this is the first access.
+    //
+    // @return the category tree
+    public CategoryTree get() {
+        CategoryTree current = tree;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = tree;
+            return Objects.nonNull(current) ? current : rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Rebuilds the snapshot from the database. Failures are logged and the previous snapshot is kept.
+    @Scheduled(fixedDelayString = "${prx.category.cache.refresh-interval:PT10M}",
+            initialDelayString = "${prx.category.cache.refresh-interval:PT10M}")
+    public void refresh() {
+        rebuildLock.lock();
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Category tree refresh failed, keeping the previous snapshot", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Rebuilds the snapshot once the current transaction commits, or immediately when there is none.
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    private CategoryTree rebuild() {
+        CategoryTree rebuilt = CategoryTree.of(categoryMapper.toCategoryGetResponse(categoryRepository.findAll()));
+        tree = rebuilt;
+        logger.debug("Category tree rebuilt with {} categories, etag {}", rebuilt.all().size(), rebuilt.etag());
+        return rebuilt;
+    }
+}
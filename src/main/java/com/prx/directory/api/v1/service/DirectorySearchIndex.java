@@ -0,0 +1,212 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.ProductEntity;
+import com.prx.directory.jpa.repository.BusinessRepository;
+import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// Holds the in-memory search index over businesses, active products and active campaigns, so directory searches
+// never reach the database.
+//
+// The index is loaded on first use and rebuilt periodically to pick up rows changed outside this service. The
+// service write paths keep it current in between: each change is applied once its transaction commits. Changes
+// committed while a rebuild is loading are replayed on the new index before it is swapped in.
+@Component
+public class DirectorySearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectorySearchIndex.class);
+    static final String SIZE_METRIC = "prx.search.index.documents";
+
+    private final BusinessRepository businessRepository;
+    private final ProductRepository productRepository;
+    private final CampaignRepository campaignRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Guarded by lock
+    private SearchIndex index;
+    // Changes committed while a rebuild is loading, guarded by lock; null when no rebuild is running
+    private List<Consumer<SearchIndex>> pendingChanges;
+
+    public DirectorySearchIndex(BusinessRepository businessRepository, ProductRepository productRepository,
+                                CampaignRepository campaignRepository, MeterRegistry meterRegistry) {
+        this.businessRepository = businessRepository;
+        this.productRepository = productRepository;
+        this.campaignRepository = campaignRepository;
+        Gauge.builder(SIZE_METRIC, this, DirectorySearchIndex::size)
+                .description("Documents in the directory search index")
+                .register(meterRegistry);
+    }
+
+    // Runs a query, loading the index if this is the first access.
+    //
+    // @param queryTerms the query terms, see SearchIndex.terms(String)
+    // @return the matching documents, unordered
+    public List<SearchIndex.Match> search(List<String> queryTerms) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return index.search(queryTerms);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Rebuilds the index from the database. Failures are logged and the previous index is kept.
+    @Scheduled(fixedDelayString = "${prx.search.index.refresh-interval:PT30M}",
+            initialDelayString = "${prx.search.index.refresh-interval:PT30M}")
+    public void refresh() {
+        rebuildLock.lock();
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Search index refresh failed, keeping the previous index", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public void businessChanged(BusinessEntity business) {
+        upsertAfterCommit(SearchDocument.of(business));
+    }
+
+    // Inactive products are not searchable, so deactivating one removes it from the index.
+    public void productChanged(ProductEntity product) {
+        if (Boolean.TRUE.equals(product.getActive())) {
+            upsertAfterCommit(SearchDocument.of(product));
+        } else {
+            removeAfterCommit(SearchDocumentType.PRODUCT, product.getId());
+        }
+    }
+
+    // Inactive campaigns are not searchable, so deactivating one removes it from the index.
+    public void campaignChanged(CampaignEntity campaign) {
+        if (Boolean.TRUE.equals(campaign.getActive())) {
+            upsertAfterCommit(SearchDocument.of(campaign));
+        } else {
+            removeAfterCommit(SearchDocumentType.CAMPAIGN, campaign.getId());
+        }
+    }
+
+    public void removeAfterCommit(SearchDocumentType type, UUID id) {
+        afterCommit(target -> target.remove(type, id));
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return Objects.isNull(index) ? 0 : index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsertAfterCommit(SearchDocument document) {
+        afterCommit(target -> target.put(document));
+    }
+
+    // The document is captured now, while the entity is still attached; only the index update waits for the commit.
+    private void afterCommit(Consumer<SearchIndex> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    // Before the first load there is nothing to update: the load reads the committed change.
+    private void apply(Consumer<SearchIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (Objects.nonNull(index)) {
+                change.accept(index);
+            }
+            if (Objects.nonNull(pendingChanges)) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!isUnloaded()) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            // Another thread may have loaded the index while this one was waiting for the lock.
+            if (isUnloaded()) {
+                rebuild();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isUnloaded() {
+        lock.readLock().lock();
+        try {
+            return Objects.isNull(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds rebuildLock
+    private void rebuild() {
+        setPendingChanges(new ArrayList<>());
+        try {
+            SearchIndex rebuilt = new SearchIndex();
+            businessRepository.findSearchRows()
+                    .forEach(row -> rebuilt.put(SearchDocument.of(SearchDocumentType.BUSINESS, row)));
+            productRepository.findActiveSearchRows()
+                    .forEach(row -> rebuilt.put(SearchDocument.of(SearchDocumentType.PRODUCT, row)));
+            campaignRepository.findActiveSearchRows()
+                    .forEach(row -> rebuilt.put(SearchDocument.of(SearchDocumentType.CAMPAIGN, row)));
+
+            lock.writeLock().lock();
+            try {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                pendingChanges = null;
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.debug("Search index rebuilt with {} documents", rebuilt.size());
+        } finally {
+            setPendingChanges(null);
+        }
+    }
+
+    private void setPendingChanges(List<Consumer<SearchIndex>> changes) {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.prx.directory.api.v1.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service boundary for the NDJSON export of the directory.
+ */
+public interface ExportService {
+
+    /**
+     * Streams categories, businesses, products and campaigns as NDJSON, one {@code ExportLineTO} per entity.
+     * Inactive products and campaigns are included so that consumers see deactivations.
+     * <p>Expected HTTP status codes:</p>
+     * <ul>
+     *   <li>200 OK, with a {@code next-since} header holding the value to pass as {@code since} on the next
+     *   incremental pull</li>
+     *   <li>400 BAD REQUEST for an unknown type</li>
+     * </ul>
+     *
+     * @param types optional comma-separated entity types to export: category, business, product, campaign.
+     *              Default all
+     * @param since optional lower bound on the last update of the exported entities, inclusive. Default
+     *              everything
+     * @return ResponseEntity streaming the export
+     */
+    default ResponseEntity<StreamingResponseBody> export(String types, LocalDateTime since) {
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+    }
+}
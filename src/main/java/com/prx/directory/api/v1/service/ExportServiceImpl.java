@@ -0,0 +1,232 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.api.v1.to.BusinessTO;
+import com.prx.directory.api.v1.to.ExportLineTO;
+import com.prx.directory.constant.ContactTypeKey;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.CategoryEntity;
+import com.prx.directory.jpa.entity.ProductEntity;
+import com.prx.directory.jpa.repository.BusinessRepository;
+import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.jpa.repository.ContactRow;
+import com.prx.directory.jpa.repository.DigitalContactRepository;
+import com.prx.directory.jpa.repository.ProductRepository;
+import com.prx.directory.mapper.BusinessMapper;
+import com.prx.directory.mapper.CampaignMapper;
+import com.prx.directory.mapper.CategoryMapper;
+import com.prx.directory.mapper.ProductMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.prx.directory.constant.DirectoryAppConstants.EXPORT_FETCH_SIZE;
+
+// Streams the directory as NDJSON for partners mirroring it.
+//
+// Each entity type is read through a forward-only cursor (a Spring Data Stream over a Hibernate scroll) with a fixed
+// fetch size, and the persistence context is cleared after every EXPORT_FETCH_SIZE lines, so memory use does not
+// grow with the tables. Businesses are mapped one fetch at a time: the contacts of the buffered businesses are read
+// with one query rather than by initializing the contact collection of each business. The export runs in a single
+// read-only REPEATABLE READ transaction, so every type is read from the same snapshot.
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    static final String NEXT_SINCE_HEADER = "next-since";
+    // Lower bound used when no since is given; older than any row the directory holds
+    static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final byte NEW_LINE = '\n';
+
+    private final BusinessRepository businessRepository;
+    private final ProductRepository productRepository;
+    private final CampaignRepository campaignRepository;
+    private final CategoryRepository categoryRepository;
+    private final DigitalContactRepository digitalContactRepository;
+    private final BusinessMapper businessMapper;
+    private final ProductMapper productMapper;
+    private final CampaignMapper campaignMapper;
+    private final CategoryMapper categoryMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration sinceOverlap;
+
+    public ExportServiceImpl(BusinessRepository businessRepository, ProductRepository productRepository,
+                             CampaignRepository campaignRepository, CategoryRepository categoryRepository,
+                             DigitalContactRepository digitalContactRepository, BusinessMapper businessMapper,
+                             ProductMapper productMapper, CampaignMapper campaignMapper,
+                             CategoryMapper categoryMapper, ObjectMapper objectMapper, EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${prx.export.since-overlap:PT1M}") Duration sinceOverlap) {
+        this.businessRepository = businessRepository;
+        this.productRepository = productRepository;
+        this.campaignRepository = campaignRepository;
+        this.categoryRepository = categoryRepository;
+        this.digitalContactRepository = digitalContactRepository;
+        this.businessMapper = businessMapper;
+        this.productMapper = productMapper;
+        this.campaignMapper = campaignMapper;
+        this.categoryMapper = categoryMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.sinceOverlap = sinceOverlap;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(String types, LocalDateTime since) {
+        Set<ExportType> selected;
+        try {
+            selected = parseTypes(types);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        // Rows are stamped by the application when their transaction starts, not when it commits, so a row
+        // committed during this export may carry an earlier time. The overlap makes the next pull see it again.
+        LocalDateTime nextSince = LocalDateTime.now().minus(sinceOverlap);
+        LocalDateTime from = Objects.isNull(since) ? BEGINNING : since;
+        StreamingResponseBody body = out -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> writeAll(selected, from, new LineWriter(out)));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(NEXT_SINCE_HEADER, nextSince.toString())
+                .body(body);
+    }
+
+    private static Set<ExportType> parseTypes(String types) {
+        if (Objects.isNull(types) || types.isBlank()) {
+            return EnumSet.allOf(ExportType.class);
+        }
+        Set<ExportType> selected = EnumSet.noneOf(ExportType.class);
+        for (String type : types.split(",")) {
+            selected.add(ExportType.fromParam(type));
+        }
+        return selected;
+    }
+
+    // EnumSet iterates in declaration order, so referenced categories are written first.
+    private void writeAll(Set<ExportType> types, LocalDateTime since, LineWriter writer) {
+        for (ExportType type : types) {
+            switch (type) {
+                case CATEGORY -> writeEach(type, categoryRepository.streamUpdatedSince(since),
+                        categoryMapper::toCategoryGetResponse, writer);
+                case BUSINESS -> writeBusinesses(since, writer);
+                case PRODUCT -> writeEach(type, productRepository.streamUpdatedSince(since),
+                        productMapper::toProductListItemTO, writer);
+                case CAMPAIGN -> writeEach(type, campaignRepository.streamUpdatedSince(since),
+                        campaignMapper::toTO, writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private <E> void writeEach(ExportType type, Stream<E> rows, Function<E, ?> mapper, LineWriter writer) {
+        try (rows) {
+            rows.forEach(row -> writer.write(type, mapper.apply(row)));
+        }
+    }
+
+    private void writeBusinesses(LocalDateTime since, LineWriter writer) {
+        List<BusinessEntity> buffer = new ArrayList<>(EXPORT_FETCH_SIZE);
+        try (Stream<BusinessEntity> rows = businessRepository.streamUpdatedSince(since)) {
+            rows.forEach(business -> {
+                buffer.add(business);
+                if (buffer.size() == EXPORT_FETCH_SIZE) {
+                    writeBusinessBatch(buffer, writer);
+                    buffer.clear();
+                }
+            });
+        }
+        if (!buffer.isEmpty()) {
+            writeBusinessBatch(buffer, writer);
+        }
+    }
+
+    // All businesses are mapped before any line is written, because writing may clear the persistence context.
+    private void writeBusinessBatch(List<BusinessEntity> businesses, LineWriter writer) {
+        List<UUID> ids = businesses.stream().map(BusinessEntity::getId).toList();
+        Map<UUID, Map<ContactTypeKey, String>> contacts = new HashMap<>();
+        for (ContactRow row : digitalContactRepository.findContactRowsByBusinessIds(ids)) {
+            ContactTypeKey key = ContactTypeKey.fromName(row.getContactType());
+            if (Objects.nonNull(key)) {
+                contacts.computeIfAbsent(row.getBusinessId(), id -> new EnumMap<>(ContactTypeKey.class))
+                        .putIfAbsent(key, row.getContent());
+            }
+        }
+        List<BusinessTO> mapped = businesses.stream()
+                .map(business -> businessMapper.toBusinessTO(business,
+                        contacts.getOrDefault(business.getId(), Map.of())))
+                .toList();
+        mapped.forEach(to -> writer.write(ExportType.BUSINESS, to));
+    }
+
+    // Writes export lines, flushing the response and clearing the persistence context every EXPORT_FETCH_SIZE
+    // lines so neither the response buffer nor the loaded entities grow with the export.
+    private final class LineWriter {
+
+        private final OutputStream out;
+        private int pending;
+
+        private LineWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        void write(ExportType type, Object data) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(new ExportLineTO(type.param(), data)));
+                out.write(NEW_LINE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (++pending == EXPORT_FETCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            entityManager.clear();
+            pending = 0;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.prx.directory.api.v1.service;
+
+import java.util.Locale;
+
+// Kind of entity in the directory export, in the order the export writes them: categories come before the
+// businesses, products and campaigns that reference them. The lower-case name is used in the export API.
+public enum ExportType {
+    CATEGORY,
+    BUSINESS,
+    PRODUCT,
+    CAMPAIGN;
+
+    // @return the name used in requests and export lines, e.g. "business"
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    // Resolves a request value such as "product".
+    //
+    // @param value the request value
+    // @return the matching type
+    // @throws IllegalArgumentException if the value names no type
+    public static ExportType fromParam(String value) {
+        return valueOf(value.strip().toUpperCase(Locale.ROOT));
+    }
+}
@@ -7,13 +7,14 @@ import com.prx.directory.jpa.entity.UserEntity;
 import com.prx.directory.jpa.entity.UserFavoriteEntity;
 import com.prx.directory.jpa.repository.BusinessRepository;
 import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.FavoriteCounts;
 import com.prx.directory.jpa.repository.ProductRepository;
 import com.prx.directory.jpa.repository.UserFavoriteRepository;
 import com.prx.directory.mapper.BusinessMapper;
 import com.prx.directory.mapper.CampaignMapper;
 import com.prx.directory.mapper.FavoriteMapper;
 import com.prx.directory.mapper.ProductMapper;
-import com.prx.directory.util.JwtUtil;
+import com.prx.directory.security.SessionClaimsCache;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ public class FavoriteServiceImpl implements FavoriteService {
     private final BusinessMapper businessMapper;
     private final ProductMapper productMapper;
     private final CampaignMapper campaignMapper;
+    private final SessionClaimsCache sessionClaimsCache;
 
     public FavoriteServiceImpl(UserFavoriteRepository userFavoriteRepository,
                                BusinessRepository businessRepository,
@@ -43,7 +45,8 @@ public class FavoriteServiceImpl implements FavoriteService {
                                FavoriteMapper favoriteMapper,
                                BusinessMapper businessMapper,
                                ProductMapper productMapper,
-                               CampaignMapper campaignMapper) {
+                               CampaignMapper campaignMapper,
+                               SessionClaimsCache sessionClaimsCache) {
         this.userFavoriteRepository = userFavoriteRepository;
         this.businessRepository = businessRepository;
         this.productRepository = productRepository;
@@ -52,6 +55,7 @@ public class FavoriteServiceImpl implements FavoriteService {
         this.businessMapper = businessMapper;
         this.productMapper = productMapper;
         this.campaignMapper = campaignMapper;
+        this.sessionClaimsCache = sessionClaimsCache;
     }
 
     @Override
@@ -65,7 +69,7 @@ public class FavoriteServiceImpl implements FavoriteService {
         UUID itemId = request.itemId();
         FavoriteType type = request.type();
 
-        UUID userId = JwtUtil.getUidFromToken(sessionToken);
+        UUID userId = sessionClaimsCache.getUid(sessionToken);
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -91,91 +95,81 @@ public class FavoriteServiceImpl implements FavoriteService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ResponseEntity<FavoritesResponse> getFavorites(String sessionToken, String type, int page, int size, String sort) {
         // Return 501 Not Implemented if sort parameter is provided
         if (sort != null && !sort.isBlank()) {
             return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
         }
 
-        UUID userId = JwtUtil.getUidFromToken(sessionToken);
+        UUID userId = sessionClaimsCache.getUid(sessionToken);
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        List<UserFavoriteEntity> favsList = userFavoriteRepository.findByUserId(userId);
+        long offset = Math.max(0L, (long) page * size);
 
-        // filter by type if provided and map to DTO lists
-        List<BusinessTO> stores = favsList.stream()
-                .map(UserFavoriteEntity::getBusiness)
-                .filter(Objects::nonNull)
-                .map(businessMapper::toBusinessTO)
-                .toList();
-
-        List<ProductCreateResponse> products = favsList.stream()
-                .map(UserFavoriteEntity::getProduct)
-                .filter(Objects::nonNull)
-                .map(productMapper::toProductCreateResponse)
-                .toList();
-
-        List<OfferTO> offers = favsList.stream()
-                .map(UserFavoriteEntity::getCampaign)
-                .filter(Objects::nonNull)
-                .map(campaignMapper::toOfferTO)
-                .toList();
-
-        // Apply type filter with pagination
+        // Type filter: a single paged query for the requested type
         if (Objects.nonNull(type) && !type.isBlank()) {
             String t = type.trim().toLowerCase(Locale.ROOT);
             return switch (t) {
-                case DirectoryAppConstants.FAVORITE_TYPE_STORES -> {
-                    List<BusinessTO> paginatedStores = paginateList(stores, page, size);
-                    yield ResponseEntity.ok(new FavoritesResponse(paginatedStores, List.of(), List.of()));
-                }
-                case DirectoryAppConstants.FAVORITE_TYPE_PRODUCTS -> {
-                    List<ProductCreateResponse> paginatedProducts = paginateList(products, page, size);
-                    yield ResponseEntity.ok(new FavoritesResponse(List.of(), paginatedProducts, List.of()));
-                }
-                case DirectoryAppConstants.FAVORITE_TYPE_OFFERS -> {
-                    List<OfferTO> paginatedOffers = paginateList(offers, page, size);
-                    yield ResponseEntity.ok(new FavoritesResponse(List.of(), List.of(), paginatedOffers));
-                }
+                case DirectoryAppConstants.FAVORITE_TYPE_STORES ->
+                        ResponseEntity.ok(new FavoritesResponse(stores(userId, offset, size), List.of(), List.of()));
+                case DirectoryAppConstants.FAVORITE_TYPE_PRODUCTS ->
+                        ResponseEntity.ok(new FavoritesResponse(List.of(), products(userId, offset, size), List.of()));
+                case DirectoryAppConstants.FAVORITE_TYPE_OFFERS ->
+                        ResponseEntity.ok(new FavoritesResponse(List.of(), List.of(), offers(userId, offset, size)));
                 default -> ResponseEntity.badRequest().build();
             };
         }
 
         // Pagination: When no type filter is specified, paginate across the combined list
-        // to ensure the total number of items returned respects the size parameter.
-        // Create a combined list with ordering: stores, then products, then offers
-        record FavoriteItem(Object item, String itemType) {}
-
-        List<FavoriteItem> combined = new ArrayList<>();
-        stores.forEach(s -> combined.add(new FavoriteItem(s, DirectoryAppConstants.FAVORITE_TYPE_STORES)));
-        products.forEach(p -> combined.add(new FavoriteItem(p, DirectoryAppConstants.FAVORITE_TYPE_PRODUCTS)));
-        offers.forEach(o -> combined.add(new FavoriteItem(o, DirectoryAppConstants.FAVORITE_TYPE_OFFERS)));
-
-        // Apply pagination to the combined list
-        int from = Math.max(0, page * size);
-        int to = Math.min(combined.size(), from + size);
-        List<FavoriteItem> paginatedItems = from < to ? combined.subList(from, to) : List.of();
-
-        // Separate back into type-specific lists
-        List<BusinessTO> storesPage = new ArrayList<>();
-        List<ProductCreateResponse> productsPage = new ArrayList<>();
-        List<OfferTO> offersPage = new ArrayList<>();
-
-        for (FavoriteItem item : paginatedItems) {
-            switch (item.itemType()) {
-                case DirectoryAppConstants.FAVORITE_TYPE_STORES  -> storesPage.add((BusinessTO) item.item());
-                case DirectoryAppConstants.FAVORITE_TYPE_PRODUCTS -> productsPage.add((ProductCreateResponse) item.item());
-                case DirectoryAppConstants.FAVORITE_TYPE_OFFERS -> offersPage.add((OfferTO) item.item());
-                default -> ResponseEntity.notFound().build();
-            }
-        }
+        // (stores, then products, then offers) so the total number of items returned respects the size parameter.
+        // The per-type counts tell which types the requested window spans; only those are queried.
+        FavoriteCounts counts = userFavoriteRepository.countByTypeForUser(userId);
+        int remaining = Math.max(0, size);
+
+        List<BusinessTO> storesPage = offset < counts.stores() ? stores(userId, offset, remaining) : List.of();
+        remaining -= storesPage.size();
+        offset = Math.max(0L, offset - counts.stores());
+
+        List<ProductCreateResponse> productsPage = offset < counts.products() ? products(userId, offset, remaining) : List.of();
+        remaining -= productsPage.size();
+        offset = Math.max(0L, offset - counts.products());
+
+        List<OfferTO> offersPage = offset < counts.offers() ? offers(userId, offset, remaining) : List.of();
 
         FavoritesResponse response = new FavoritesResponse(storesPage, productsPage, offersPage);
         return ResponseEntity.ok(response);
     }
 
+    private List<BusinessTO> stores(UUID userId, long offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return userFavoriteRepository.findFavoriteBusinesses(userId, offset, limit).stream()
+                .map(businessMapper::toBusinessTO)
+                .toList();
+    }
+
+    private List<ProductCreateResponse> products(UUID userId, long offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return userFavoriteRepository.findFavoriteProducts(userId, offset, limit).stream()
+                .map(productMapper::toProductCreateResponse)
+                .toList();
+    }
+
+    private List<OfferTO> offers(UUID userId, long offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return userFavoriteRepository.findFavoriteCampaigns(userId, offset, limit).stream()
+                .map(campaignMapper::toOfferTO)
+                .toList();
+    }
+
     @Override
     @Transactional
     public ResponseEntity<FavoriteResponse> updateFavorite(String sessionToken, FavoriteUpdateRequest request) {
@@ -183,7 +177,7 @@ public class FavoriteServiceImpl implements FavoriteService {
             return ResponseEntity.badRequest().build();
         }
 
-        UUID userId = JwtUtil.getUidFromToken(sessionToken);
+        UUID userId = sessionClaimsCache.getUid(sessionToken);
         if (userId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -209,12 +203,6 @@ public class FavoriteServiceImpl implements FavoriteService {
         return ResponseEntity.ok(favoriteMapper.toResponse(saved));
     }
 
-    private <T> List<T> paginateList(List<T> list, int page, int size) {
-        int from = Math.max(0, page * size);
-        int to = Math.min(list.size(), from + size);
-        return from < to ? list.subList(from, to) : List.of();
-    }
-
     private <T> ResponseEntity<FavoriteResponse> processFavorite(UserEntity user,
                                                                  Supplier<Optional<T>> entityFinder,
                                                                  BiConsumer<UserFavoriteEntity, T> setter,
@@ -46,17 +46,20 @@ public class ProductServiceImpl implements ProductService {
     private final BusinessRepository businessRepository;
     private final ProductMapper productMapper;
     private final BusinessProductMapper businessProductMapper;
+    private final DirectorySearchIndex searchIndex;
 
     public ProductServiceImpl(ProductRepository productRepository,
                               BusinessProductRepository businessProductRepository,
                               BusinessRepository businessRepository,
                               ProductMapper productMapper,
-                              BusinessProductMapper businessProductMapper) {
+                              BusinessProductMapper businessProductMapper,
+                              DirectorySearchIndex searchIndex) {
         this.productRepository = productRepository;
         this.businessProductRepository = businessProductRepository;
         this.businessRepository = businessRepository;
         this.productMapper = productMapper;
         this.businessProductMapper = businessProductMapper;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -64,10 +67,9 @@ public class ProductServiceImpl implements ProductService {
         if(Objects.isNull(productCreateRequest)) {
             return ResponseEntity.badRequest().build();
         }
-        return new ResponseEntity<>(
-                productMapper.toProductCreateResponse(productRepository
-                        .save(productMapper.toProductEntity(productCreateRequest))),
-                HttpStatus.CREATED);
+        var savedProduct = productRepository.save(productMapper.toProductEntity(productCreateRequest));
+        searchIndex.productChanged(savedProduct);
+        return new ResponseEntity<>(productMapper.toProductCreateResponse(savedProduct), HttpStatus.CREATED);
     }
 
     @Override
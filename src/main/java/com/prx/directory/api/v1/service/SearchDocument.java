@@ -0,0 +1,44 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.CategoryEntity;
+import com.prx.directory.jpa.entity.ProductEntity;
+import com.prx.directory.jpa.repository.SearchRow;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// The searchable view of a business, product or campaign held by the directory search index.
+//
+// @param type        the kind of entity
+// @param id          the entity id
+// @param title       the business or product name, or the campaign title
+// @param description the entity description, may be null
+// @param categoryId  the category of the entity, used for facets
+public record SearchDocument(SearchDocumentType type, UUID id, String title, String description, UUID categoryId) {
+
+    public static SearchDocument of(SearchDocumentType type, SearchRow row) {
+        return new SearchDocument(type, row.getId(), row.getTitle(), row.getDescription(), row.getCategoryId());
+    }
+
+    public static SearchDocument of(BusinessEntity business) {
+        return new SearchDocument(SearchDocumentType.BUSINESS, business.getId(), business.getName(),
+                business.getDescription(), categoryId(business.getCategoryFk()));
+    }
+
+    public static SearchDocument of(ProductEntity product) {
+        return new SearchDocument(SearchDocumentType.PRODUCT, product.getId(), product.getName(),
+                product.getDescription(), categoryId(product.getCategoryFk()));
+    }
+
+    public static SearchDocument of(CampaignEntity campaign) {
+        return new SearchDocument(SearchDocumentType.CAMPAIGN, campaign.getId(), campaign.getTitle(),
+                campaign.getDescription(), categoryId(campaign.getCategoryFk()));
+    }
+
+    // Reading the id of a lazy association does not initialize it
+    private static UUID categoryId(CategoryEntity category) {
+        return Objects.isNull(category) ? null : category.getId();
+    }
+}
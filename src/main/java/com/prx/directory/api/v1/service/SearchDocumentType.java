@@ -0,0 +1,24 @@
+package com.prx.directory.api.v1.service;
+
+import java.util.Locale;
+
+// Kind of entity a search document was built from. The lower-case name is used in the search API.
+public enum SearchDocumentType {
+    BUSINESS,
+    PRODUCT,
+    CAMPAIGN;
+
+    // @return the name used in requests and responses, e.g. "business"
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    // Resolves a request value such as "product".
+    //
+    // @param value the request value
+    // @return the matching type
+    // @throws IllegalArgumentException if the value names no type
+    public static SearchDocumentType fromParam(String value) {
+        return valueOf(value.strip().toUpperCase(Locale.ROOT));
+    }
+}
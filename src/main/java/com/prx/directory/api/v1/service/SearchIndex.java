@@ -0,0 +1,239 @@
+package com.prx.directory.api.v1.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+// In-memory inverted index over SearchDocuments.
+//
+// Titles and descriptions are split into accent-folded, lower-case terms; each term maps to the documents that
+// contain it with a field weight (title matches count twice). A query matches the documents that contain every
+// query term, where a term is satisfied by the exact term, by a longer term it prefixes (last query term only, for
+// search-as-you-type) or by a term within a small edit distance (typo tolerance). Fuzzy candidates are found
+// through a trigram index over the term dictionary, so a lookup never scans the whole dictionary.
+//
+// Not thread-safe: DirectorySearchIndex guards every access.
+final class SearchIndex {
+
+    static final float TITLE_WEIGHT = 2f;
+    static final float DESCRIPTION_WEIGHT = 1f;
+    static final float EXACT_MATCH = 1f;
+    static final float PREFIX_MATCH = 0.8f;
+    static final float FUZZY_MATCH = 0.6f;
+    static final int MIN_PREFIX_LENGTH = 2;
+    static final int MIN_FUZZY_LENGTH = 4;
+    private static final int LONG_TERM_LENGTH = 8;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<DocKey, SearchDocument> documents = new HashMap<>();
+    private final NavigableMap<String, Map<DocKey, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> termsByGram = new HashMap<>();
+
+    record DocKey(SearchDocumentType type, UUID id) {
+    }
+
+    // A document matching a query, with its relevance score.
+    record Match(SearchDocument document, float score) {
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    // Adds the document, replacing the previous version of the same entity.
+    void put(SearchDocument document) {
+        DocKey key = new DocKey(document.type(), document.id());
+        remove(key);
+        documents.put(key, document);
+        for (String term : terms(document.description())) {
+            post(term, key, DESCRIPTION_WEIGHT);
+        }
+        for (String term : terms(document.title())) {
+            post(term, key, TITLE_WEIGHT);
+        }
+    }
+
+    void remove(SearchDocumentType type, UUID id) {
+        remove(new DocKey(type, id));
+    }
+
+    // Runs a query given as the terms produced by terms(String).
+    //
+    // @param queryTerms the query terms, in query order
+    // @return the matching documents, unordered
+    List<Match> search(List<String> queryTerms) {
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        Map<DocKey, Float> scores = null;
+        for (int i = 0; i < queryTerms.size(); i++) {
+            Map<DocKey, Float> termScores = termScores(queryTerms.get(i), i == queryTerms.size() - 1);
+            scores = Objects.isNull(scores) ? termScores : intersect(scores, termScores);
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        List<Match> matches = new ArrayList<>(scores.size());
+        scores.forEach((key, score) -> matches.add(new Match(documents.get(key), score)));
+        return matches;
+    }
+
+    // Splits text into distinct accent-folded, lower-case terms, in order of appearance.
+    static List<String> terms(String text) {
+        if (Objects.isNull(text) || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : SEPARATORS.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    private Map<DocKey, Float> termScores(String term, boolean last) {
+        Map<DocKey, Float> scores = new HashMap<>();
+        collect(scores, postings.get(term), EXACT_MATCH);
+        if (last && term.length() >= MIN_PREFIX_LENGTH) {
+            for (Map<DocKey, Float> completion : postings.subMap(term, false, term + Character.MAX_VALUE, false).values()) {
+                collect(scores, completion, PREFIX_MATCH);
+            }
+        }
+        if (term.length() >= MIN_FUZZY_LENGTH) {
+            for (String candidate : fuzzyCandidates(term)) {
+                collect(scores, postings.get(candidate), FUZZY_MATCH);
+            }
+        }
+        return scores;
+    }
+
+    private static void collect(Map<DocKey, Float> scores, Map<DocKey, Float> posting, float matchWeight) {
+        if (Objects.isNull(posting)) {
+            return;
+        }
+        posting.forEach((key, fieldWeight) -> scores.merge(key, matchWeight * fieldWeight, Math::max));
+    }
+
+    private static Map<DocKey, Float> intersect(Map<DocKey, Float> scores, Map<DocKey, Float> termScores) {
+        Map<DocKey, Float> both = new HashMap<>();
+        scores.forEach((key, score) -> {
+            Float termScore = termScores.get(key);
+            if (Objects.nonNull(termScore)) {
+                both.put(key, score + termScore);
+            }
+        });
+        return both;
+    }
+
+    // Dictionary terms within one edit of the query term (two for long terms), excluding the term itself.
+    // An edit changes at most three of the padded trigrams, which bounds how many a candidate must share.
+    private Set<String> fuzzyCandidates(String term) {
+        int maxEdits = term.length() >= LONG_TERM_LENGTH ? 2 : 1;
+        List<String> grams = grams(term);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            for (String candidate : termsByGram.getOrDefault(gram, Set.of())) {
+                shared.merge(candidate, 1, Integer::sum);
+            }
+        }
+        int minShared = grams.size() - 3 * maxEdits;
+        Set<String> candidates = new HashSet<>();
+        shared.forEach((candidate, count) -> {
+            if (count >= minShared && !candidate.equals(term)
+                    && Math.abs(candidate.length() - term.length()) <= maxEdits
+                    && withinDistance(term, candidate, maxEdits)) {
+                candidates.add(candidate);
+            }
+        });
+        return candidates;
+    }
+
+    // Levenshtein distance check that gives up as soon as a row exceeds the bound.
+    static boolean withinDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    private static List<String> grams(String term) {
+        String padded = '$' + term + '$';
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private void post(String term, DocKey key, float fieldWeight) {
+        Map<DocKey, Float> posting = postings.get(term);
+        if (Objects.isNull(posting)) {
+            posting = new HashMap<>();
+            postings.put(term, posting);
+            for (String gram : grams(term)) {
+                termsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+            }
+        }
+        posting.merge(key, fieldWeight, Math::max);
+    }
+
+    private void remove(DocKey key) {
+        SearchDocument previous = documents.remove(key);
+        if (Objects.isNull(previous)) {
+            return;
+        }
+        Set<String> terms = new HashSet<>(terms(previous.title()));
+        terms.addAll(terms(previous.description()));
+        for (String term : terms) {
+            Map<DocKey, Float> posting = postings.get(term);
+            if (Objects.isNull(posting)) {
+                continue;
+            }
+            posting.remove(key);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                for (String gram : grams(term)) {
+                    Set<String> gramTerms = termsByGram.get(gram);
+                    if (Objects.nonNull(gramTerms)) {
+                        gramTerms.remove(term);
+                        if (gramTerms.isEmpty()) {
+                            termsByGram.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.api.v1.to.SearchResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+/**
+ * Service boundary for the unified search over businesses, products and campaigns.
+ */
+public interface SearchService {
+
+    /**
+     * Searches businesses, active products and active campaigns by name, title and description.
+     * <p>Expected HTTP status codes:</p>
+     * <ul>
+     *   <li>200 OK on success, with an empty item list when nothing matches</li>
+     *   <li>400 BAD REQUEST for a missing or too long query, an unknown type or invalid pagination</li>
+     * </ul>
+     *
+     * @param query      the search text; terms are matched with prefix and typo tolerance
+     * @param types      optional comma-separated entity types to include: business, product, campaign
+     * @param categoryId optional category the hits must belong to
+     * @param page       1-based page number (default 1)
+     * @param perPage    page size (default 10, max 100)
+     * @return ResponseEntity with the SearchResponse
+     */
+    default ResponseEntity<SearchResponse> search(String query, String types, UUID categoryId, Integer page,
+                                                  Integer perPage) {
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.api.v1.to.SearchFacetTO;
+import com.prx.directory.api.v1.to.SearchHitTO;
+import com.prx.directory.api.v1.to.SearchResponse;
+import com.prx.directory.constant.DirectoryAppConstants;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    static final int MAX_QUERY_LENGTH = 200;
+    static final int MAX_QUERY_TERMS = 8;
+    static final int MAX_CATEGORY_FACETS = 20;
+
+    private static final Comparator<SearchIndex.Match> RELEVANCE = Comparator
+            .comparingDouble(SearchIndex.Match::score).reversed()
+            .thenComparing(match -> Objects.toString(match.document().title(), ""), String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(match -> match.document().id());
+
+    private final DirectorySearchIndex searchIndex;
+    private final CategoryTreeCache categoryTreeCache;
+
+    public SearchServiceImpl(DirectorySearchIndex searchIndex, CategoryTreeCache categoryTreeCache) {
+        this.searchIndex = searchIndex;
+        this.categoryTreeCache = categoryTreeCache;
+    }
+
+    @Override
+    public ResponseEntity<SearchResponse> search(String query, String types, UUID categoryId, Integer page,
+                                                 Integer perPage) {
+        int p = (Objects.isNull(page) || page < 1) ? DirectoryAppConstants.DEFAULT_PAGE : page;
+        int pp = (Objects.isNull(perPage) || perPage < 1) ? DirectoryAppConstants.DEFAULT_PER_PAGE : perPage;
+        if (pp > DirectoryAppConstants.MAX_PER_PAGE || Objects.isNull(query) || query.isBlank()
+                || query.length() > MAX_QUERY_LENGTH) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        Set<SearchDocumentType> selectedTypes;
+        try {
+            selectedTypes = parseTypes(types);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        List<String> terms = SearchIndex.terms(query);
+        List<SearchIndex.Match> matches = terms.isEmpty()
+                ? List.of()
+                : searchIndex.search(terms.subList(0, Math.min(terms.size(), MAX_QUERY_TERMS)));
+
+        List<SearchIndex.Match> ofTypes = matches.stream()
+                .filter(match -> selectedTypes.contains(match.document().type()))
+                .toList();
+        List<SearchIndex.Match> inCategory = matches.stream()
+                .filter(match -> Objects.isNull(categoryId) || categoryId.equals(match.document().categoryId()))
+                .toList();
+        List<SearchIndex.Match> hits = ofTypes.stream()
+                .filter(match -> Objects.isNull(categoryId) || categoryId.equals(match.document().categoryId()))
+                .sorted(RELEVANCE)
+                .toList();
+
+        int from = (int) Math.min((long) (p - 1) * pp, hits.size());
+        List<SearchHitTO> items = hits.subList(from, Math.min(from + pp, hits.size())).stream()
+                .map(SearchServiceImpl::toHit)
+                .toList();
+        return ResponseEntity.ok(new SearchResponse(
+                hits.size(),
+                p,
+                pp,
+                (hits.size() + pp - 1) / pp,
+                items,
+                categoryFacets(ofTypes),
+                typeFacets(inCategory)
+        ));
+    }
+
+    private static Set<SearchDocumentType> parseTypes(String types) {
+        if (Objects.isNull(types) || types.isBlank()) {
+            return EnumSet.allOf(SearchDocumentType.class);
+        }
+        Set<SearchDocumentType> selected = EnumSet.noneOf(SearchDocumentType.class);
+        for (String type : types.split(",")) {
+            selected.add(SearchDocumentType.fromParam(type));
+        }
+        return selected;
+    }
+
+    private List<SearchFacetTO> categoryFacets(List<SearchIndex.Match> matches) {
+        Map<UUID, Long> counts = count(matches, match -> match.document().categoryId());
+        if (counts.isEmpty()) {
+            return List.of();
+        }
+        CategoryTree tree = categoryTreeCache.get();
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Long>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().toString()))
+                .limit(MAX_CATEGORY_FACETS)
+                .map(entry -> new SearchFacetTO(entry.getKey().toString(),
+                        tree.find(entry.getKey()).map(CategoryGetResponse::name).orElse(null),
+                        entry.getValue()))
+                .toList();
+    }
+
+    private static List<SearchFacetTO> typeFacets(List<SearchIndex.Match> matches) {
+        Map<SearchDocumentType, Long> counts = count(matches, match -> match.document().type());
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new SearchFacetTO(entry.getKey().param(), null, entry.getValue()))
+                .toList();
+    }
+
+    private static <K> Map<K, Long> count(List<SearchIndex.Match> matches, Function<SearchIndex.Match, K> key) {
+        Map<K, Long> counts = new HashMap<>();
+        for (SearchIndex.Match match : matches) {
+            K value = key.apply(match);
+            if (Objects.nonNull(value)) {
+                counts.merge(value, 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static SearchHitTO toHit(SearchIndex.Match match) {
+        SearchDocument document = match.document();
+        return new SearchHitTO(document.type().param(), document.id(), document.title(), document.description(),
+                document.categoryId(), match.score());
+    }
+}
@@ -0,0 +1,147 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.api.v1.to.GetTimezoneCollectionResponse;
+import com.prx.directory.api.v1.to.TimezoneResumeTO;
+import com.prx.directory.api.v1.to.TimezoneTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Immutable snapshot of the timezone table, rendered once into the response bodies of the catalog endpoint.
+//
+// The JSON body and its gzip encoding are produced when the snapshot is built, so serving the catalog only copies
+// bytes. Each encoding carries its own strong ETag derived from the JSON, so two snapshots of the same rows carry
+// the same tags and a client never revalidates one encoding against the other.
+public final class TimezoneCatalog {
+
+    private static final int ETAG_BYTES = 16;
+
+    private final List<TimezoneTO> timezones;
+    private final GetTimezoneCollectionResponse collection;
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    private TimezoneCatalog(List<TimezoneTO> timezones, GetTimezoneCollectionResponse collection, byte[] json,
+                            byte[] gzip, String etag) {
+        this.timezones = timezones;
+        this.collection = collection;
+        this.json = json;
+        this.gzip = gzip;
+        this.etag = etag;
+        this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    // Builds a snapshot and renders its bodies.
+    //
+    // @param timezones    every timezone, in the order the pages are sliced from
+    // @param resumes      the same timezones in the shape of the full catalog
+    // @param objectMapper the mapper the rest of the API serializes with
+    // @return the snapshot
+    static TimezoneCatalog of(List<TimezoneTO> timezones, List<TimezoneResumeTO> resumes, ObjectMapper objectMapper) {
+        GetTimezoneCollectionResponse collection = new GetTimezoneCollectionResponse(List.copyOf(resumes),
+                resumes.size());
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(collection);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Timezone catalog cannot be serialized", e);
+        }
+        return new TimezoneCatalog(List.copyOf(timezones), collection, json, gzip(json), etagOf(json));
+    }
+
+    public List<TimezoneTO> timezones() {
+        return timezones;
+    }
+
+    public GetTimezoneCollectionResponse collection() {
+        return collection;
+    }
+
+    // The catalog as JSON. Shared between requests, so callers must not modify it.
+    public byte[] json() {
+        return json;
+    }
+
+    // The JSON body gzip encoded. Shared between requests, so callers must not modify it.
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public String gzipEtag() {
+        return gzipEtag;
+    }
+
+    // Whether an Accept-Encoding header value allows a gzip encoded response.
+    //
+    // @param acceptEncoding the header value, possibly null
+    // @return true when gzip (or any encoding) is listed without q=0
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if ((coding.equals("gzip") || coding.equals("x-gzip") || coding.equals("*")) && !rejected(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean rejected(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        // The body is compressed once per snapshot, so the slowest level costs nothing per request
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etagOf(byte[] json) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        byte[] hash = digest.digest(json);
+        return '"' + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + '"';
+    }
+}
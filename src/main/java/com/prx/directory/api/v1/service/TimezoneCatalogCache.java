@@ -0,0 +1,90 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.jpa.entity.TimezoneEntity;
+import com.prx.directory.jpa.repository.TimezoneRepository;
+import com.prx.directory.mapper.TimezoneMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Holds the current TimezoneCatalog snapshot.
+//
+// The snapshot is rendered right after startup and then periodically, so rows changed outside this service are
+// picked up; a request arriving before the first render loads it. Readers never block on a rebuild: they keep using
+// the previous snapshot until the new one is swapped in.
+@Component
+public class TimezoneCatalogCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimezoneCatalogCache.class);
+    private static final Comparator<TimezoneEntity> CATALOG_ORDER = Comparator
+            .comparing(TimezoneEntity::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TimezoneEntity::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final TimezoneRepository timezoneRepository;
+    private final TimezoneMapper timezoneMapper;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile TimezoneCatalog catalog;
+
+    public TimezoneCatalogCache(TimezoneRepository timezoneRepository, TimezoneMapper timezoneMapper,
+                                ObjectMapper objectMapper) {
+        this.timezoneRepository = timezoneRepository;
+        this.timezoneMapper = timezoneMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    // Returns the current snapshot, loading it if this is the first access.
+    //
+    // @return the timezone catalog
+    public TimezoneCatalog get() {
+        TimezoneCatalog current = catalog;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = catalog;
+            return Objects.nonNull(current) ? current : rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Rebuilds the snapshot from the database. Failures are logged and the previous snapshot is kept.
+    @Scheduled(fixedDelayString = "${prx.timezone.cache.refresh-interval:PT1H}")
+    public void refresh() {
+        rebuildLock.lock();
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            logger.warn("Timezone catalog refresh failed, keeping the previous snapshot", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private TimezoneCatalog rebuild() {
+        List<TimezoneEntity> entities = timezoneRepository.findAll().stream()
+                .filter(Objects::nonNull)
+                .sorted(CATALOG_ORDER)
+                .toList();
+        TimezoneCatalog rebuilt = TimezoneCatalog.of(entities.stream().map(timezoneMapper::toTimezoneTO).toList(),
+                entities.stream().map(timezoneMapper::toTimezoneResume).toList(), objectMapper);
+        TimezoneCatalog previous = catalog;
+        if (Objects.nonNull(previous) && previous.etag().equals(rebuilt.etag())) {
+            // Keep the instance already served, its bodies are identical
+            return previous;
+        }
+        catalog = rebuilt;
+        logger.debug("Timezone catalog rendered with {} timezones, {} bytes ({} gzip), etag {}",
+                rebuilt.timezones().size(), rebuilt.json().length, rebuilt.gzip().length, rebuilt.etag());
+        return rebuilt;
+    }
+}
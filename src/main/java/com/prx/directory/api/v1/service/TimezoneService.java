@@ -4,6 +4,7 @@ import com.prx.directory.api.v1.to.GetTimezoneCollectionResponse;
 import com.prx.directory.api.v1.to.TimezoneTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 
@@ -39,4 +40,14 @@ public interface TimezoneService {
     default GetTimezoneCollectionResponse findAll() {
         throw new UnsupportedOperationException("Not implemented");
     }
+
+    /**
+     * Retrieves the catalog of all available timezones as a pre-rendered JSON body.
+     *
+     * @param acceptEncoding the Accept-Encoding header of the request, possibly null
+     * @return the catalog body, gzip encoded when the client accepts it, with its ETag and caching headers
+     */
+    default ResponseEntity<byte[]> getCatalog(String acceptEncoding) {
+        throw new UnsupportedOperationException("Not implemented");
+    }
 }
@@ -6,23 +6,55 @@ import com.prx.directory.jpa.entity.TimezoneEntity;
 import com.prx.directory.jpa.repository.TimezoneRepository;
 import com.prx.directory.mapper.TimezoneMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Implementation of TimezoneService to provide supported timezones.
+ * <p>
+ * Reads are served from the {@link TimezoneCatalogCache} snapshot: the full catalog as its pre-rendered body and
+ * pages as slices of the cached list. Only pages sorted by a property the snapshot does not know hit the database.
  */
 @Service
 public class TimezoneServiceImpl implements TimezoneService {
 
+    private static final String GZIP = "gzip";
+    // Sortable properties, by the entity property names the repository accepts
+    private static final Map<String, Function<TimezoneTO, Comparable>> SORT_PROPERTIES = Map.of(
+            "id", TimezoneTO::id,
+            "name", TimezoneTO::name,
+            "utcOffset", TimezoneTO::utcOffset,
+            "abbreviation", TimezoneTO::abbreviation,
+            "createdAt", TimezoneTO::createdAt,
+            "lastUpdated", TimezoneTO::lastUpdate);
+
     private final TimezoneRepository timezoneRepository;
     private final TimezoneMapper timezoneMapper;
+    private final TimezoneCatalogCache timezoneCatalogCache;
+    private final CacheControl cacheControl;
 
     @Autowired
-    public TimezoneServiceImpl(TimezoneRepository timezoneRepository, TimezoneMapper timezoneMapper) {
+    public TimezoneServiceImpl(TimezoneRepository timezoneRepository, TimezoneMapper timezoneMapper,
+                               TimezoneCatalogCache timezoneCatalogCache,
+                               @Value("${prx.timezone.cache.max-age:PT1H}") Duration maxAge) {
         this.timezoneRepository = timezoneRepository;
         this.timezoneMapper = timezoneMapper;
+        this.timezoneCatalogCache = timezoneCatalogCache;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
     }
 
     /**
@@ -30,8 +62,21 @@ public class TimezoneServiceImpl implements TimezoneService {
      */
     @Override
     public Page<TimezoneTO> getTimezonesPageable(Pageable pageable) {
-        Page<TimezoneEntity> timezoneEntities = timezoneRepository.findAll(pageable);
-        return timezoneEntities.map(timezoneMapper::toTimezoneTO);
+        Comparator<TimezoneTO> order = comparatorOf(pageable.getSort());
+        if (order == null) {
+            Page<TimezoneEntity> timezoneEntities = timezoneRepository.findAll(pageable);
+            return timezoneEntities.map(timezoneMapper::toTimezoneTO);
+        }
+        List<TimezoneTO> timezones = timezoneCatalogCache.get().timezones();
+        if (pageable.getSort().isSorted()) {
+            timezones = timezones.stream().sorted(order).toList();
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(timezones);
+        }
+        int from = (int) Math.min(pageable.getOffset(), timezones.size());
+        int to = Math.min(from + pageable.getPageSize(), timezones.size());
+        return new PageImpl<>(timezones.subList(from, to), pageable, timezones.size());
     }
 
     /**
@@ -39,7 +84,43 @@ public class TimezoneServiceImpl implements TimezoneService {
      */
     @Override
     public GetTimezoneCollectionResponse findAll() {
-        var timezoneList = timezoneRepository.findAll().stream().map(timezoneMapper::toTimezoneResume).toList();
-        return  new GetTimezoneCollectionResponse(timezoneList, timezoneList.size());
+        return timezoneCatalogCache.get().collection();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<byte[]> getCatalog(String acceptEncoding) {
+        TimezoneCatalog catalog = timezoneCatalogCache.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (TimezoneCatalog.acceptsGzip(acceptEncoding)) {
+            return response.eTag(catalog.gzipEtag()).header(HttpHeaders.CONTENT_ENCODING, GZIP).body(catalog.gzip());
+        }
+        return response.eTag(catalog.etag()).body(catalog.json());
+    }
+
+    // Builds the comparator for the given sort, or returns null when it names a property the snapshot lacks.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<TimezoneTO> comparatorOf(Sort sort) {
+        Comparator<TimezoneTO> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Function<TimezoneTO, Comparable> property = SORT_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                return null;
+            }
+            Comparator<Comparable> values = order.isIgnoreCase()
+                    ? (left, right) -> String.CASE_INSENSITIVE_ORDER.compare(left.toString(), right.toString())
+                    : (left, right) -> left.compareTo(right);
+            if (order.isDescending()) {
+                values = values.reversed();
+            }
+            comparator = comparator.thenComparing(property, order.getNullHandling() == Sort.NullHandling.NULLS_FIRST
+                    ? Comparator.nullsFirst(values) : Comparator.nullsLast(values));
+        }
+        return comparator;
     }
 }
@@ -6,9 +6,12 @@ import com.prx.directory.api.v1.to.GetUserResponse;
 import com.prx.directory.api.v1.to.PutUserRequest;
 import com.prx.directory.api.v1.to.UserCreateRequest;
 import com.prx.directory.api.v1.to.UserCreateResponse;
+import com.prx.directory.client.backbone.AsyncBackboneClient;
 import com.prx.directory.client.backbone.BackboneClient;
+import com.prx.directory.client.backbone.to.BackboneProfileImageRefResponse;
 import com.prx.directory.client.backbone.to.BackboneUserUpdateRequest;
 import com.prx.directory.jpa.repository.BusinessRepository;
+import com.prx.directory.jpa.statistics.QueryCounter;
 import com.prx.directory.kafka.producer.EmailMessageProducerService;
 import com.prx.directory.kafka.to.EmailMessageTO;
 import com.prx.directory.kafka.to.Recipient;
@@ -16,6 +19,7 @@ import com.prx.directory.mapper.GetUserMapper;
 import com.prx.directory.mapper.PutUserMapper;
 import com.prx.directory.mapper.UserCreateMapper;
 import feign.FeignException;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,7 +29,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static com.prx.directory.constant.DirectoryAppConstants.*;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
@@ -48,24 +59,35 @@ public class UserServiceImpl implements UserService {
     private String applicationIdString;
     @Value("${prx.directory.role-id}")
     private String initialRoleId;
+    @Value("${prx.directory.user.lookup-timeout:5s}")
+    private Duration lookupTimeout = Duration.ofSeconds(5);
+
+    // Lookups that block (the cached Backbone user and the database) get their own virtual thread
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // Counts the statements of the lookups against the budget of the request that started them
+    private final Executor lookupTasks = QueryCounter.propagating(lookupExecutor);
 
     private final EmailMessageProducerService emailMessageProducerService;
     private final UserCreateMapper userCreateMapper;
     private final PutUserMapper putUserMapper;
     private final BackboneClient backboneClient;
+    private final AsyncBackboneClient asyncBackboneClient;
     private final GetUserMapper getUserMapper;
     private final BusinessRepository businessRepository;
 
     /// Constructs a new UserServiceImpl with the specified BackboneClient and UserCreateMapper.
     ///
-    /// @param backboneClient   the client used to communicate with the backend
-    /// @param userCreateMapper the mapper used to convert between request/response objects and backend objects
-    public UserServiceImpl(BackboneClient backboneClient, EmailMessageProducerService emailMessageProducerService,
+    /// @param backboneClient      the client used to communicate with the backend
+    /// @param asyncBackboneClient the non-blocking client used for the uncached lookups
+    /// @param userCreateMapper    the mapper used to convert between request/response objects and backend objects
+    public UserServiceImpl(BackboneClient backboneClient, AsyncBackboneClient asyncBackboneClient,
+                           EmailMessageProducerService emailMessageProducerService,
                            UserCreateMapper userCreateMapper, PutUserMapper putUserMapper,
                            GetUserMapper getUserMapper, BusinessRepository businessRepository) {
         this.emailMessageProducerService = emailMessageProducerService;
         this.userCreateMapper = userCreateMapper;
         this.backboneClient = backboneClient;
+        this.asyncBackboneClient = asyncBackboneClient;
         this.putUserMapper = putUserMapper;
         this.getUserMapper = getUserMapper;
         this.businessRepository = businessRepository;
@@ -98,20 +120,65 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public ResponseEntity<GetUserResponse> findUser(String token, UUID id) {
+        UUID applicationID = UUID.fromString(applicationIdString);
+        // The three lookups are independent, so they run concurrently and the response waits for the slowest one.
+        // The profile image reference is not cached, so it goes through the non-blocking client without a thread
+        var userFuture = CompletableFuture.supplyAsync(() -> backboneClient.findUserById(id), lookupTasks)
+                .orTimeout(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        var profileRefFuture = findProfileImageRef(token, applicationID)
+                .orTimeout(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    // The profile image is optional, the user is still returned without it
+                    logger.warn("Error finding profile image for user {}: {}", id, e.getMessage());
+                    return "";
+                });
+        var businessIdsFuture = CompletableFuture.supplyAsync(() -> businessRepository.findIdCollectionByUserId(id), lookupTasks)
+                .orTimeout(lookupTimeout.toMillis(), TimeUnit.MILLISECONDS);
         try {
-            UUID applicationID = UUID.fromString(applicationIdString);
-            var result = backboneClient.findUserById(id);
-            var profileImageRef = backboneClient.getProfileImageRef(token, applicationID);
-            var profileRef = Objects.nonNull(profileImageRef.getBody()) && Objects.nonNull(profileImageRef.getBody().ref()) ?
-                    profileImageRef.getBody().ref() : "";
-            var businessIds = businessRepository.findIdCollectionByUserId(id);
-            return ResponseEntity.ok(getUserMapper.fromBackbone(result, profileRef, businessIds));
+            var result = join(userFuture);
+            var businessIds = join(businessIdsFuture);
+            return ResponseEntity.ok(getUserMapper.fromBackbone(result, profileRefFuture.join(), businessIds));
         } catch (FeignException e) {
             logger.warn("Error finding user: {}", e.getMessage());
             if (e.status() == HttpStatus.NOT_FOUND.value()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).header("message-error", USER_NOT_FOUND_MESSAGE).build();
             }
             return ResponseEntity.status(e.status()).build();
+        } catch (CompletionException e) {
+            // Only timeouts reach this point, other failures are rethrown unwrapped by join
+            logger.warn("Timed out finding user {} after {}", id, lookupTimeout);
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.shutdownNow();
+    }
+
+    private CompletableFuture<String> findProfileImageRef(String token, UUID applicationId) {
+        try {
+            return asyncBackboneClient.getProfileImageRef(token, applicationId).thenApply(UserServiceImpl::profileImageRef);
+        } catch (RuntimeException e) {
+            // Failures before the request is sent (e.g. encoding) are thrown by the call instead of failing the future
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static String profileImageRef(ResponseEntity<BackboneProfileImageRefResponse> profileImageRef) {
+        return Objects.nonNull(profileImageRef) && Objects.nonNull(profileImageRef.getBody())
+                && Objects.nonNull(profileImageRef.getBody().ref()) ? profileImageRef.getBody().ref() : "";
+    }
+
+    // Waits for the future and rethrows runtime failures (e.g. FeignException) as they were thrown by the call.
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
@@ -0,0 +1,40 @@
+package com.prx.directory.api.v1.to;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one row of a bulk business import, streamed back as one NDJSON line.
+ *
+ * @param line    1-based line of the row in the uploaded file
+ * @param status  what happened to the row
+ * @param id      id of the created business, for CREATED rows
+ * @param name    business name of the row, when it could be read
+ * @param message reason the row was not imported
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BusinessImportResult(
+        int line,
+        Status status,
+        UUID id,
+        String name,
+        String message
+) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        USER_NOT_FOUND,
+        FAILED
+    }
+
+    public static BusinessImportResult created(int line, UUID id, String name) {
+        return new BusinessImportResult(line, Status.CREATED, id, name, null);
+    }
+
+    public static BusinessImportResult rejected(int line, Status status, String name, String message) {
+        return new BusinessImportResult(line, status, null, name, message);
+    }
+}
@@ -1,17 +1,30 @@
 package com.prx.directory.api.v1.to;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
 /**
  * Response wrapper for campaign listings with pagination metadata.
+ * The status counters and totals are {@code null} (and omitted from the JSON body) when the caller
+ * requested the listing with {@code include_counts=false}; totals are always present in offset mode.
+ * {@code next_cursor} is only set in cursor mode when more rows are available.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record CampaignListResponse(
-        long total_count,
+        Long total_count,
         int page,
         int per_page,
-        int total_pages,
-        long actives,
-        long inactives,
-        long expired,
-        List<CampaignResumeTO> items
-) {}
+        Integer total_pages,
+        Long actives,
+        Long inactives,
+        Long expired,
+        List<CampaignResumeTO> items,
+        String next_cursor
+) {
+
+    public CampaignListResponse(Long total_count, int page, int per_page, Integer total_pages,
+                                Long actives, Long inactives, Long expired, List<CampaignResumeTO> items) {
+        this(total_count, page, per_page, total_pages, actives, inactives, expired, items, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.prx.directory.api.v1.to;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A category together with all of its descendants.
+ *
+ * @param id          category id
+ * @param name        category name
+ * @param description category description
+ * @param active      whether the category is active
+ * @param children    direct sub-categories, each with its own descendants
+ */
+public record CategoryTreeResponse(
+        UUID id,
+        String name,
+        String description,
+        boolean active,
+        List<CategoryTreeResponse> children
+) {}
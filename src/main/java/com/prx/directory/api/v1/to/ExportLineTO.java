@@ -0,0 +1,14 @@
+package com.prx.directory.api.v1.to;
+
+/**
+ * One line of the directory export.
+ *
+ * @param type the kind of entity: category, business, product or campaign
+ * @param data the entity, in the shape the regular API returns it: CategoryGetResponse, BusinessTO,
+ *             ProductListItemTO or CampaignTO
+ */
+public record ExportLineTO(
+        String type,
+        Object data
+) {
+}
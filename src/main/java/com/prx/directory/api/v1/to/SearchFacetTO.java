@@ -0,0 +1,18 @@
+package com.prx.directory.api.v1.to;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Number of search hits sharing one facet value.
+ *
+ * @param value the facet value: a category id or an entity type
+ * @param name  display name of the value, when it has one (category name)
+ * @param count number of hits with this value
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SearchFacetTO(
+        String value,
+        String name,
+        long count
+) {
+}
@@ -0,0 +1,23 @@
+package com.prx.directory.api.v1.to;
+
+import java.util.UUID;
+
+/**
+ * A single directory search result.
+ *
+ * @param type        the kind of entity: business, product or campaign
+ * @param id          the entity id
+ * @param title       the business or product name, or the campaign title
+ * @param description the entity description
+ * @param categoryId  the category of the entity
+ * @param score       relevance of the hit; higher is better and only comparable within one response
+ */
+public record SearchHitTO(
+        String type,
+        UUID id,
+        String title,
+        String description,
+        UUID categoryId,
+        float score
+) {
+}
@@ -0,0 +1,20 @@
+package com.prx.directory.api.v1.to;
+
+import java.util.List;
+
+/**
+ * Response of the unified directory search.
+ * Each facet list is computed over the hits matching every other filter, so the counts show what selecting
+ * a different value would return: {@code categories} ignores the {@code category_id} filter and {@code types}
+ * ignores the {@code type} filter.
+ */
+public record SearchResponse(
+        long total_count,
+        int page,
+        int per_page,
+        int total_pages,
+        List<SearchHitTO> items,
+        List<SearchFacetTO> categories,
+        List<SearchFacetTO> types
+) {
+}
@@ -0,0 +1,36 @@
+package com.prx.directory.client.backbone;
+
+import com.prx.directory.client.backbone.to.BackboneProfileImageRefResponse;
+import com.prx.directory.client.backbone.to.BackboneUserGetResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.prx.security.constant.ConstantApp.SESSION_TOKEN_KEY;
+
+// Non-blocking variant of the read operations of BackboneClient, built by AsyncFeignConfig with the configuration
+// of the backboneClient Feign client. The futures complete on the HTTP client threads; failed calls complete them
+// exceptionally with the FeignException the blocking client throws. Unlike the injected BackboneClient, user
+// lookups are not cached.
+public interface AsyncBackboneClient {
+
+    @GetMapping("/api/v1/session/validate")
+    CompletableFuture<Boolean> validate(@RequestHeader(SESSION_TOKEN_KEY) String sessionToken);
+
+    @GetMapping("/api/v1/users/check/alias/{alias}/application/{applicationId}")
+    CompletableFuture<ResponseEntity<Void>> checkAlias(@PathVariable String alias, @PathVariable UUID applicationId);
+
+    @GetMapping("/api/v1/users/check/email/{email}/application/{applicationId}")
+    CompletableFuture<ResponseEntity<Void>> checkEmail(@PathVariable String email, @PathVariable UUID applicationId);
+
+    @GetMapping("/api/v1/users/user/{userId}")
+    CompletableFuture<BackboneUserGetResponse> findUserById(@PathVariable UUID userId);
+
+    @GetMapping("/api/v1/profile/image/application/{applicationId}/reference")
+    CompletableFuture<ResponseEntity<BackboneProfileImageRefResponse>> getProfileImageRef(
+            @RequestHeader(SESSION_TOKEN_KEY) String sessionToken, @PathVariable("applicationId") UUID applicationId);
+}
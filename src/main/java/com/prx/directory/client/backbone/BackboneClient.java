@@ -14,7 +14,9 @@ import java.util.UUID;
 
 import static com.prx.security.constant.ConstantApp.SESSION_TOKEN_KEY;
 
-@FeignClient(name = "backboneClient", url = "https://prx-qa.backbone.tst/backbone", configuration = BackboneFeignConfigurer.class)
+// Not primary: services receive CachingBackboneClient, which wraps this Feign client
+@FeignClient(name = "backboneClient", url = "${prx.backbone.url}", configuration = BackboneFeignConfigurer.class,
+        primary = false, qualifiers = CachingBackboneClient.FEIGN_QUALIFIER)
 public interface BackboneClient {
 
     @GetMapping("/api/v1/session/validate")
@@ -0,0 +1,209 @@
+package com.prx.directory.client.backbone;
+
+import com.prx.commons.general.pojo.Role;
+import com.prx.directory.api.v1.to.PostProfileImageResponse;
+import com.prx.directory.api.v1.to.PrxTokenString;
+import com.prx.directory.client.backbone.to.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link BackboneClient} that keeps the result of {@link #findUserById(UUID)} for a short time.
+ * <p>
+ * One user action often looks up the same Backbone user several times (business create/update, user
+ * find/update, code confirmation). Users are cached for {@code prx.backbone.user-cache.ttl}, concurrent
+ * misses for the same id share a single remote call, and the entry is dropped as soon as this pod updates
+ * or deletes the user. Changes made through other services become visible when the entry expires.
+ * Every other operation goes straight to the Feign client.
+ */
+@Primary
+@Component
+public class CachingBackboneClient implements BackboneClient {
+
+    public static final String FEIGN_QUALIFIER = "backboneFeignClient";
+    static final String CACHE_METRIC = "prx.backbone.user.cache";
+
+    private final Map<UUID, CachedUser> users = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<BackboneUserGetResponse>> inFlight = new ConcurrentHashMap<>();
+    private final BackboneClient delegate;
+    private final Duration ttl;
+    private final int maxSize;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public CachingBackboneClient(@Qualifier(FEIGN_QUALIFIER) BackboneClient delegate, MeterRegistry meterRegistry,
+                                 @Value("${prx.backbone.user-cache.ttl:30s}") Duration ttl,
+                                 @Value("${prx.backbone.user-cache.max-size:1000}") int maxSize) {
+        this(delegate, meterRegistry, ttl, maxSize, Clock.systemUTC());
+    }
+
+    CachingBackboneClient(BackboneClient delegate, MeterRegistry meterRegistry, Duration ttl, int maxSize,
+                          Clock clock) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+    }
+
+    @Override
+    public BackboneUserGetResponse findUserById(UUID userId) {
+        if (Objects.isNull(userId) || ttl.isZero() || ttl.isNegative()) {
+            return delegate.findUserById(userId);
+        }
+        CachedUser cached = users.get(userId);
+        if (Objects.nonNull(cached) && clock.instant().isBefore(cached.expiresAt())) {
+            hits.increment();
+            return cached.user();
+        }
+
+        CompletableFuture<BackboneUserGetResponse> load = new CompletableFuture<>();
+        CompletableFuture<BackboneUserGetResponse> running = inFlight.putIfAbsent(userId, load);
+        if (Objects.nonNull(running)) {
+            // Another thread is already fetching this user
+            hits.increment();
+            return await(running);
+        }
+
+        misses.increment();
+        try {
+            BackboneUserGetResponse user = delegate.findUserById(userId);
+            // If the user was invalidated while the call was running, the in-flight entry is gone and the
+            // possibly stale result is returned to the callers without being cached
+            if (inFlight.remove(userId, load) && Objects.nonNull(user)) {
+                store(userId, user);
+            }
+            load.complete(user);
+            return user;
+        } catch (RuntimeException e) {
+            inFlight.remove(userId, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public ResponseEntity<Void> userPartialUpdate(UUID userId, BackboneUserUpdateRequest request) {
+        try {
+            return delegate.userPartialUpdate(userId, request);
+        } finally {
+            invalidate(userId);
+        }
+    }
+
+    @Override
+    public ResponseEntity<Void> deleteUserByUserIdAndApplicationId(UUID applicationId, UUID userId) {
+        try {
+            return delegate.deleteUserByUserIdAndApplicationId(applicationId, userId);
+        } finally {
+            invalidate(userId);
+        }
+    }
+
+    /**
+     * Drops the cached copy of the given user.
+     *
+     * @param userId the user id
+     */
+    public void invalidate(UUID userId) {
+        if (Objects.nonNull(userId)) {
+            inFlight.remove(userId);
+            users.remove(userId);
+        }
+    }
+
+    @Override
+    public boolean validate(String sessionToken) {
+        return delegate.validate(sessionToken);
+    }
+
+    @Override
+    public ResponseEntity<Void> checkAlias(String alias, UUID applicationId) {
+        return delegate.checkAlias(alias, applicationId);
+    }
+
+    @Override
+    public ResponseEntity<Void> checkEmail(String email, UUID applicationId) {
+        return delegate.checkEmail(email, applicationId);
+    }
+
+    @Override
+    public PrxTokenString token(BackboneTokenRequest backboneTokenRequest) {
+        return delegate.token(backboneTokenRequest);
+    }
+
+    @Override
+    public BackboneUserCreateResponse post(BackboneUserCreateRequest backboneUserCreateRequest) {
+        return delegate.post(backboneUserCreateRequest);
+    }
+
+    @Override
+    public ResponseEntity<Role> findRoleById(UUID roleId) {
+        return delegate.findRoleById(roleId);
+    }
+
+    @Override
+    public ResponseEntity<PostProfileImageResponse> saveProfilePhoto(String sessionToken, UUID applicationId, byte[] image) {
+        return delegate.saveProfilePhoto(sessionToken, applicationId, image);
+    }
+
+    @Override
+    public ResponseEntity<BackboneProfileImageRefResponse> getProfileImageRef(String sessionToken, UUID applicationId) {
+        return delegate.getProfileImageRef(sessionToken, applicationId);
+    }
+
+    int size() {
+        return users.size();
+    }
+
+    private void store(UUID userId, BackboneUserGetResponse user) {
+        Instant now = clock.instant();
+        if (users.size() >= maxSize) {
+            users.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+            if (users.size() >= maxSize) {
+                users.clear();
+            }
+        }
+        users.put(userId, new CachedUser(user, now.plus(ttl)));
+    }
+
+    private static BackboneUserGetResponse await(CompletableFuture<BackboneUserGetResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(CACHE_METRIC)
+                .description("Backbone user lookups served from the local cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedUser(BackboneUserGetResponse user, Instant expiresAt) {
+    }
+}
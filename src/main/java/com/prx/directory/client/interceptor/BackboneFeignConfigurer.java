@@ -2,14 +2,15 @@ package com.prx.directory.client.interceptor;
 
 import com.prx.security.properties.AuthProperties;
 import feign.RequestInterceptor;
+import feign.codec.ErrorDecoder;
 import org.springframework.context.annotation.Bean;
 
 public class BackboneFeignConfigurer extends BackendFeignConfigurer {
 
-    public BackboneFeignConfigurer(AuthProperties authProperties) {
+    public BackboneFeignConfigurer(AuthProperties authProperties, ClientTokenManager clientTokenManager) {
         super(authProperties.getClients().stream()
                 .filter(authProperties1 -> authProperties1.getId()
-                        .equalsIgnoreCase(BACKBONE_ID)).findFirst().orElse(null));
+                        .equalsIgnoreCase(BACKBONE_ID)).findFirst().orElse(null), clientTokenManager);
     }
 
     @Bean("backboneFeignClientInterceptor")
@@ -17,4 +18,10 @@ public class BackboneFeignConfigurer extends BackendFeignConfigurer {
     RequestInterceptor requestInterceptor() {
         return createInterceptor();
     }
+
+    @Bean("backboneFeignErrorDecoder")
+    @Override
+    ErrorDecoder errorDecoder() {
+        return createErrorDecoder();
+    }
 }
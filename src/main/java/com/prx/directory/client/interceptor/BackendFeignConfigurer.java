@@ -1,26 +1,18 @@
 package com.prx.directory.client.interceptor;
 
-import com.prx.commons.general.pojo.UserSession;
-import com.prx.commons.general.to.TokenResponse;
 import com.prx.security.properties.ClientProperties;
 import feign.RequestInterceptor;
+import feign.codec.ErrorDecoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.Objects;
-import java.util.UUID;
 
 import static org.springframework.cloud.openfeign.security.OAuth2AccessTokenInterceptor.BEARER;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 public abstract class BackendFeignConfigurer {
 
@@ -32,13 +24,17 @@ public abstract class BackendFeignConfigurer {
     private boolean isTraceEnabled;
 
     private final ClientProperties clientProperties;
+    private final ClientTokenManager clientTokenManager;
 
-    protected BackendFeignConfigurer(ClientProperties clientProperties) {
+    protected BackendFeignConfigurer(ClientProperties clientProperties, ClientTokenManager clientTokenManager) {
         this.clientProperties = clientProperties;
+        this.clientTokenManager = clientTokenManager;
     }
 
     abstract RequestInterceptor requestInterceptor();
 
+    abstract ErrorDecoder errorDecoder();
+
     protected RequestInterceptor createInterceptor() {
         return template -> {
             try {
@@ -54,24 +50,21 @@ public abstract class BackendFeignConfigurer {
         };
     }
 
-    protected String getToken(ClientProperties clientProperties) throws Exception {
-        RestTemplate client = new RestTemplate();
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
-        parameters.add("grant_type", clientProperties.getAuthorizationGrantType());
-        parameters.add("client_id", clientProperties.getClientId());
-        parameters.add("username", clientProperties.getUsername());
-        parameters.add("password", clientProperties.getPassword());
-        parameters.add("client_secret", clientProperties.getClientSecret());
+    // Decodes errors as Feign does by default, dropping the cached client token first when the service answers 401,
+    // so a token revoked before its expires_in is replaced on the next call instead of failing until it expires
+    protected ErrorDecoder createErrorDecoder() {
+        ErrorDecoder delegate = new ErrorDecoder.Default();
+        return (methodKey, response) -> {
+            if (response.status() == UNAUTHORIZED.value()) {
+                LOGGER.warn("Client token of {} rejected by {}, evicting it", clientProperties.getId(), methodKey);
+                clientTokenManager.evict(clientProperties.getId());
+            }
+            return delegate.decode(methodKey, response);
+        };
+    }
 
-        var response = client.postForObject(clientProperties.getRedirectUri(), new HttpEntity<>(parameters, headers), TokenResponse.class);
-        if (Objects.isNull(response)) {
-            LOGGER.error("Error occurred while connecting with the Manager authenticator");
-            throw new Exception("Error occurred while connecting with the Manager authenticator");
-        }
-        return create(response, UUID.randomUUID()).token();
+    protected String getToken(ClientProperties clientProperties) throws Exception {
+        return clientTokenManager.getToken(clientProperties);
     }
 
     private void logHeaders(Map<String, Collection<String>> headers) {
@@ -79,10 +72,6 @@ public abstract class BackendFeignConfigurer {
         headers.forEach((key, value) -> LOGGER.info("KEY: {}, VALUE: {} :::::", key, value));
     }
 
-    protected static UserSession create(TokenResponse tokenResponse, UUID id) {
-        return new UserSession(id, null, tokenResponse.accessToken());
-    }
-
     public final String getClientId() {
         return clientProperties.getClientId();
     }
@@ -0,0 +1,225 @@
+package com.prx.directory.client.interceptor;
+
+import com.prx.security.properties.ClientProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Caches the OAuth access tokens used by the backend Feign clients (Backbone, Mercury).
+ * <p>
+ * A token is requested once per client, kept until shortly before its {@code expires_in} and renewed in the
+ * background ahead of expiry, so request threads normally read the cached value. Concurrent misses for the
+ * same client are coalesced into a single call to the authorization server, and all calls share one pooled
+ * HTTP client.
+ */
+@Component
+public class ClientTokenManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClientTokenManager.class);
+    static final String CACHE_METRIC = "prx.client.token.cache";
+    static final String REFRESH_METRIC = "prx.client.token.refresh";
+    static final Duration DEFAULT_LIFETIME = Duration.ofMinutes(1);
+    static final Duration EXPIRY_MARGIN = Duration.ofSeconds(5);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> refreshTasks = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Function<ClientProperties, ClientTokenResponse> tokenFetcher;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final Duration refreshSkew;
+    private final Clock clock;
+
+    @Autowired
+    public ClientTokenManager(MeterRegistry meterRegistry,
+                              @Value("${prx.client.token.refresh-skew:30s}") Duration refreshSkew) {
+        this(restTemplateFetcher(createRestTemplate()), meterRegistry, refreshSkew, Clock.systemUTC(),
+                Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                        .name("client-token-refresh").daemon().factory()));
+    }
+
+    ClientTokenManager(Function<ClientProperties, ClientTokenResponse> tokenFetcher, MeterRegistry meterRegistry,
+                       Duration refreshSkew, Clock clock, ScheduledExecutorService scheduler) {
+        this.tokenFetcher = tokenFetcher;
+        this.meterRegistry = meterRegistry;
+        this.refreshSkew = refreshSkew;
+        this.clock = clock;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns a valid access token for the given client, requesting a new one only when the cached token
+     * is missing or about to expire.
+     *
+     * @param clientProperties the client registration
+     * @return the access token
+     */
+    public String getToken(ClientProperties clientProperties) {
+        String clientId = clientProperties.getId();
+        CachedToken cached = tokens.get(clientId);
+        if (isUsable(cached)) {
+            counter(clientId, "hit").increment();
+            return cached.value();
+        }
+
+        ReentrantLock lock = locks.computeIfAbsent(clientId, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            // Another thread may have refreshed the token while this one was waiting for the lock.
+            cached = tokens.get(clientId);
+            if (isUsable(cached)) {
+                counter(clientId, "hit").increment();
+                return cached.value();
+            }
+            counter(clientId, "miss").increment();
+            return refresh(clientProperties).value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the cached token of the given client, e.g. after the downstream service rejected it.
+     *
+     * @param clientId the client id
+     */
+    public void evict(String clientId) {
+        tokens.remove(clientId);
+        ScheduledFuture<?> task = refreshTasks.remove(clientId);
+        if (Objects.nonNull(task)) {
+            task.cancel(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private boolean isUsable(CachedToken cached) {
+        return Objects.nonNull(cached) && clock.instant().isBefore(cached.expiresAt());
+    }
+
+    private CachedToken refresh(ClientProperties clientProperties) {
+        String clientId = clientProperties.getId();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            ClientTokenResponse response = tokenFetcher.apply(clientProperties);
+            if (Objects.isNull(response) || Objects.isNull(response.accessToken())) {
+                LOGGER.error("Error occurred while connecting with the Manager authenticator");
+                throw new IllegalStateException("Error occurred while connecting with the Manager authenticator");
+            }
+            Duration lifetime = lifetimeOf(response);
+            CachedToken token = new CachedToken(response.accessToken(),
+                    clock.instant().plus(lifetime).minus(EXPIRY_MARGIN));
+            tokens.put(clientId, token);
+            scheduleRefresh(clientProperties, lifetime);
+            return token;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(REFRESH_METRIC)
+                    .description("Latency of OAuth client token requests")
+                    .tag("client", clientId)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void scheduleRefresh(ClientProperties clientProperties, Duration lifetime) {
+        long delay = Math.max(lifetime.minus(refreshSkew).toMillis(), lifetime.toMillis() / 2);
+        ScheduledFuture<?> task = scheduler.schedule(() -> backgroundRefresh(clientProperties), delay,
+                TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = refreshTasks.put(clientProperties.getId(), task);
+        if (Objects.nonNull(previous)) {
+            previous.cancel(false);
+        }
+    }
+
+    private void backgroundRefresh(ClientProperties clientProperties) {
+        ReentrantLock lock = locks.computeIfAbsent(clientProperties.getId(), key -> new ReentrantLock());
+        lock.lock();
+        try {
+            refresh(clientProperties);
+        } catch (RuntimeException e) {
+            // The cached token stays in place until it expires; the next request will retry synchronously.
+            LOGGER.warn("Background token refresh failed for client {}: {}", clientProperties.getId(), e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Counter counter(String clientId, String result) {
+        return counters.computeIfAbsent(clientId + ':' + result, key -> Counter.builder(CACHE_METRIC)
+                .description("OAuth client token cache lookups")
+                .tag("client", clientId)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private static Duration lifetimeOf(ClientTokenResponse response) {
+        if (Objects.isNull(response.expiresIn()) || response.expiresIn() <= EXPIRY_MARGIN.toSeconds()) {
+            return DEFAULT_LIFETIME;
+        }
+        return Duration.ofSeconds(response.expiresIn());
+    }
+
+    private static RestTemplate createRestTemplate() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        return new RestTemplate(new JdkClientHttpRequestFactory(httpClient));
+    }
+
+    static Function<ClientProperties, ClientTokenResponse> restTemplateFetcher(RestTemplate client) {
+        return clientProperties -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+            MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+            parameters.add("grant_type", clientProperties.getAuthorizationGrantType());
+            parameters.add("client_id", clientProperties.getClientId());
+            parameters.add("username", clientProperties.getUsername());
+            parameters.add("password", clientProperties.getPassword());
+            parameters.add("client_secret", clientProperties.getClientSecret());
+
+            return client.postForObject(clientProperties.getRedirectUri(), new HttpEntity<>(parameters, headers),
+                    ClientTokenResponse.class);
+        };
+    }
+
+    private record CachedToken(String value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.prx.directory.client.interceptor;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Minimal view of the OAuth token endpoint response used by the backend Feign clients.
+ *
+ * @param accessToken the bearer token to send to the downstream service
+ * @param expiresIn   lifetime of the token in seconds, as reported by the authorization server
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ClientTokenResponse(
+        @JsonProperty("access_token")
+        String accessToken,
+        @JsonProperty("expires_in")
+        Long expiresIn
+) {
+}
@@ -0,0 +1,89 @@
+package com.prx.directory.client.interceptor;
+
+import feign.AsyncClient;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every call of the Feign clients, per client method and response status.
+ * <p>
+ * Registered once as a bean, it is picked up by every {@code @FeignClient} and by the asynchronous clients of
+ * {@code AsyncFeignConfig}. AsyncFeign applies it on top of {@link PerHostLimitAsyncClient}, so the timings of the
+ * asynchronous calls include the wait for a per-host slot; that wait is recorded on its own in
+ * {@value PerHostLimitAsyncClient#QUEUE_WAIT_METRIC}, per host. Calls that fail before a response is
+ * received are recorded with the status {@value #IO_ERROR_STATUS}. The timer carries no buckets of its own; the
+ * SLO boundaries are configured under {@code management.metrics.distribution.slo}.
+ */
+public class FeignMetricsCapability implements Capability {
+
+    public static final String METRIC = "prx.feign.requests";
+    static final String IO_ERROR_STATUS = "IO_ERROR";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    public FeignMetricsCapability(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            long start = System.nanoTime();
+            String status = IO_ERROR_STATUS;
+            try {
+                Response response = client.execute(request, options);
+                status = String.valueOf(response.status());
+                return response;
+            } finally {
+                timer(request, status).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    @Override
+    public <C> AsyncClient<C> enrich(AsyncClient<C> client) {
+        return (request, options, requestContext) -> {
+            long start = System.nanoTime();
+            CompletableFuture<Response> response;
+            try {
+                response = client.execute(request, options, requestContext);
+            } catch (RuntimeException e) {
+                timer(request, IO_ERROR_STATUS).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+            return response.whenComplete((result, error) -> timer(request,
+                    Objects.isNull(result) ? IO_ERROR_STATUS : String.valueOf(result.status()))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        };
+    }
+
+    private Timer timer(Request request, String status) {
+        RequestTemplate template = request.requestTemplate();
+        String clientName = UNKNOWN;
+        String method = UNKNOWN;
+        if (Objects.nonNull(template)) {
+            if (Objects.nonNull(template.feignTarget())) {
+                clientName = template.feignTarget().name();
+            }
+            if (Objects.nonNull(template.methodMetadata())) {
+                method = template.methodMetadata().configKey();
+            }
+        }
+        return Timer.builder(METRIC)
+                .description("Calls to the Feign clients")
+                .tag("client", clientName)
+                .tag("method", method)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+}
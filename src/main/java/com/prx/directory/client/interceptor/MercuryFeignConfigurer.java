@@ -2,14 +2,15 @@ package com.prx.directory.client.interceptor;
 
 import com.prx.security.properties.AuthProperties;
 import feign.RequestInterceptor;
+import feign.codec.ErrorDecoder;
 import org.springframework.context.annotation.Bean;
 
 public class MercuryFeignConfigurer extends BackendFeignConfigurer {
 
-    public MercuryFeignConfigurer(AuthProperties authProperties) {
+    public MercuryFeignConfigurer(AuthProperties authProperties, ClientTokenManager clientTokenManager) {
         super(authProperties.getClients().stream()
                 .filter(authProperties1 -> authProperties1.getId()
-                        .equalsIgnoreCase(MERCURY_ID)).toList().getFirst());
+                        .equalsIgnoreCase(MERCURY_ID)).toList().getFirst(), clientTokenManager);
     }
 
     @Bean("mercuryFeignClientInterceptor")
@@ -17,4 +18,10 @@ public class MercuryFeignConfigurer extends BackendFeignConfigurer {
     RequestInterceptor requestInterceptor() {
         return createInterceptor();
     }
+
+    @Bean("mercuryFeignErrorDecoder")
+    @Override
+    ErrorDecoder errorDecoder() {
+        return createErrorDecoder();
+    }
 }
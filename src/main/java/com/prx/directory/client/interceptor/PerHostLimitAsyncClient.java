@@ -0,0 +1,159 @@
+package com.prx.directory.client.interceptor;
+
+import feign.AsyncClient;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link AsyncClient} that caps the calls in flight per host.
+ * <p>
+ * Calls over the limit are queued without holding a thread and sent in arrival order as soon as an earlier call
+ * to the same host completes, so a slow backend cannot take every connection of the shared HTTP client. Calls
+ * whose future was cancelled while queued are dropped; cancelling the future of a call in flight cancels the
+ * delegate's future and frees the slot, although the delegate may not abort the exchange itself. The time each call
+ * waited for a slot is recorded in {@value #QUEUE_WAIT_METRIC}, per host.
+ *
+ * @param <C> the request context type
+ */
+public class PerHostLimitAsyncClient<C> implements AsyncClient<C> {
+
+    public static final String QUEUE_WAIT_METRIC = "prx.feign.queue.wait";
+
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+    private final AsyncClient<C> delegate;
+    private final int maxPerHost;
+    private final MeterRegistry meterRegistry;
+
+    public PerHostLimitAsyncClient(AsyncClient<C> delegate, int maxPerHost, MeterRegistry meterRegistry) {
+        if (maxPerHost < 1) {
+            throw new IllegalArgumentException("maxPerHost must be at least 1");
+        }
+        this.delegate = delegate;
+        this.maxPerHost = maxPerHost;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CompletableFuture<Response> execute(Request request, Request.Options options, Optional<C> requestContext) {
+        HostQueue queue = hosts.computeIfAbsent(hostOf(request.url()), this::hostQueue);
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        queue.submit(() -> send(queue, request, options, requestContext, result, queuedAt));
+        return result;
+    }
+
+    /**
+     * Returns the number of calls waiting for a free slot on the host of the given URL.
+     *
+     * @param url any URL of the host
+     * @return the queued calls
+     */
+    public int queued(String url) {
+        HostQueue queue = hosts.get(hostOf(url));
+        return Objects.isNull(queue) ? 0 : queue.waiting.size();
+    }
+
+    private void send(HostQueue queue, Request request, Request.Options options, Optional<C> requestContext,
+                      CompletableFuture<Response> result, long queuedAt) {
+        if (result.isDone()) {
+            queue.release();
+            return;
+        }
+        queue.waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        CompletableFuture<Response> call;
+        try {
+            call = delegate.execute(request, options, requestContext);
+        } catch (RuntimeException e) {
+            queue.release();
+            result.completeExceptionally(e);
+            return;
+        }
+        call.whenComplete((response, error) -> {
+            // Free the slot first, so the next queued call is sent before the callers of this one run (or right
+            // after them, when the call completed inside a drain)
+            queue.release();
+            if (Objects.isNull(error)) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(error);
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+    }
+
+    private HostQueue hostQueue(String host) {
+        return new HostQueue(maxPerHost, Timer.builder(QUEUE_WAIT_METRIC)
+                .description("Time async Feign calls waited for a free slot on their host")
+                .tag("host", host)
+                .register(meterRegistry));
+    }
+
+    // scheme://host:port, so the same host over http and https or on another port is limited separately
+    static String hostOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    private static final class HostQueue {
+
+        private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+        // Drains requested while one is running; the running drain loops again instead of recursing
+        private final AtomicInteger drains = new AtomicInteger();
+        private final Semaphore permits;
+        private final Timer waitTimer;
+
+        private HostQueue(int permits, Timer waitTimer) {
+            this.permits = new Semaphore(permits);
+            this.waitTimer = waitTimer;
+        }
+
+        private void submit(Runnable call) {
+            waiting.add(call);
+            drain();
+        }
+
+        private void release() {
+            permits.release();
+            drain();
+        }
+
+        // Every submit and release drains, so a call queued while all permits are taken is sent by the release
+        // that frees one. Only one thread drains at a time: a call completing inside call.run() releases its permit
+        // and returns, and the loop picks up the next one, so the stack does not grow with the queue.
+        private void drain() {
+            if (drains.getAndIncrement() != 0) {
+                return;
+            }
+            int requested = 1;
+            do {
+                while (!waiting.isEmpty() && permits.tryAcquire()) {
+                    Runnable call = waiting.poll();
+                    if (Objects.isNull(call)) {
+                        permits.release();
+                    } else {
+                        call.run();
+                    }
+                }
+                requested = drains.addAndGet(-requested);
+            } while (requested != 0);
+        }
+    }
+}
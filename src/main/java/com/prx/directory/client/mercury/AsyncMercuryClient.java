@@ -0,0 +1,51 @@
+package com.prx.directory.client.mercury;
+
+import com.prx.directory.api.v1.to.PrxTokenString;
+import com.prx.directory.client.mercury.to.VerificationCodeRequest;
+import com.prx.security.to.AuthRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.prx.directory.client.mercury.MercuryClient.SESSION_TOKEN_BKD_KEY;
+import static com.prx.security.constant.ConstantApp.SESSION_TOKEN_KEY;
+
+/// Non-blocking variant of [MercuryClient]. Calls return at once and the futures complete on the HTTP client
+/// threads, so dependent calls can be composed without holding the request thread in between. Failed calls
+/// complete the future exceptionally with the same `FeignException` the blocking client throws.
+///
+/// Built by `AsyncFeignConfig` with the configuration of the `mercuryClient` Feign client.
+public interface AsyncMercuryClient {
+
+    /// Sends a verification code to the specified phoneNumber number.
+    ///
+    /// @param sessionToken the session token used to authenticate the request
+    /// @param verificationCodeRequest the request object containing the phoneNumber number
+    /// @return a future with the response of the verification code operation
+    @PostMapping("/api/v1/verification-code")
+    CompletableFuture<ResponseEntity<Void>> confirmCode(@RequestHeader(SESSION_TOKEN_KEY) String sessionToken,
+                                                       VerificationCodeRequest verificationCodeRequest);
+
+    /// Generates a session token based on the provided authentication request.
+    ///
+    /// @param sessionToken the session token used to authenticate the request
+    /// @param authRequest the authentication request containing user alias
+    /// @return a future with the Mercury session token
+    @PostMapping("/api/v1/auth/token")
+    CompletableFuture<PrxTokenString> token(@RequestHeader(SESSION_TOKEN_BKD_KEY) String sessionToken,
+                                            AuthRequest authRequest);
+
+    /// Checks the latest verification code status for a user.
+    ///
+    /// @param sessionToken the session token used to authenticate the request
+    /// @param userId the user id (UUID) to check status for
+    /// @return a future with true if the verification code is done, false if pending
+    @GetMapping("/api/v1/verification-code/latest-status")
+    CompletableFuture<Boolean> isVerificationCodeDone(@RequestHeader(SESSION_TOKEN_KEY) String sessionToken,
+                                                      @RequestParam("userId") UUID userId);
+}
@@ -0,0 +1,122 @@
+package com.prx.directory.config;
+
+import com.prx.directory.client.backbone.AsyncBackboneClient;
+import com.prx.directory.client.interceptor.PerHostLimitAsyncClient;
+import com.prx.directory.client.mercury.AsyncMercuryClient;
+import feign.AsyncClient;
+import feign.AsyncFeign;
+import feign.Capability;
+import feign.Contract;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.Target;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.codec.ErrorDecoder;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.FeignClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Non-blocking clients for Backbone and Mercury.
+ * <p>
+ * The clients are built with {@link AsyncFeign} from the configuration of the matching {@code @FeignClient}
+ * (contract, encoder, decoder, error decoder, authorization interceptors and capabilities), so they send the same
+ * requests as the blocking clients, to the same {@code prx.backbone.url} and {@code prx.mercury.url}. They share
+ * one JDK {@link HttpClient} that negotiates HTTP/2, multiplexing the calls to a host over a pooled connection and
+ * falling back to HTTP/1.1 keep-alive connections where HTTP/2 is not offered. {@link PerHostLimitAsyncClient} caps the calls in flight per host.
+ */
+@Configuration(proxyBeanMethods = false)
+public class AsyncFeignConfig {
+
+    static final String BACKBONE_CLIENT = "backboneClient";
+    static final String MERCURY_CLIENT = "mercuryClient";
+
+    /**
+     * The HTTP client shared by the asynchronous Feign clients; closed with the context.
+     *
+     * @param connectTimeout the connection timeout
+     * @return the HTTP client
+     */
+    @Bean
+    public HttpClient asyncFeignHttpClient(@Value("${prx.async-client.connect-timeout:5s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * The transport of the asynchronous Feign clients.
+     *
+     * @param asyncFeignHttpClient the shared HTTP client
+     * @param maxRequestsPerHost   the calls allowed in flight per host
+     * @param meterRegistry        the registry of the per-host queue wait timers
+     * @return the Feign async client
+     */
+    @Bean
+    public AsyncClient<Object> asyncFeignClient(HttpClient asyncFeignHttpClient,
+                                                @Value("${prx.async-client.max-requests-per-host:64}") int maxRequestsPerHost,
+                                                MeterRegistry meterRegistry) {
+        return new PerHostLimitAsyncClient<>(new Http2Client(asyncFeignHttpClient), maxRequestsPerHost, meterRegistry);
+    }
+
+    @Bean
+    public AsyncBackboneClient asyncBackboneClient(FeignClientFactory feignClientFactory, AsyncClient<Object> asyncFeignClient,
+                                                   @Value("${prx.backbone.url}") String url,
+                                                   @Value("${prx.async-client.connect-timeout:5s}") Duration connectTimeout,
+                                                   @Value("${prx.async-client.read-timeout:10s}") Duration readTimeout) {
+        return asyncClient(feignClientFactory, BACKBONE_CLIENT, AsyncBackboneClient.class, url, asyncFeignClient,
+                options(connectTimeout, readTimeout));
+    }
+
+    @Bean
+    public AsyncMercuryClient asyncMercuryClient(FeignClientFactory feignClientFactory, AsyncClient<Object> asyncFeignClient,
+                                                 @Value("${prx.mercury.url}") String url,
+                                                 @Value("${prx.async-client.connect-timeout:5s}") Duration connectTimeout,
+                                                 @Value("${prx.async-client.read-timeout:10s}") Duration readTimeout) {
+        return asyncClient(feignClientFactory, MERCURY_CLIENT, AsyncMercuryClient.class, url, asyncFeignClient,
+                options(connectTimeout, readTimeout));
+    }
+
+    // Builds an async client from the beans of the named Feign client context. The target keeps the Feign client
+    // name, so the async calls are tagged like the blocking ones in prx.feign.requests. Their timings also include
+    // the wait for a per-host slot, which prx.feign.queue.wait records on its own
+    static <T> T asyncClient(FeignClientFactory feignClientFactory, String name, Class<T> type, String url,
+                             AsyncClient<Object> client, Request.Options options) {
+        AsyncFeign.AsyncBuilder<Object> builder = AsyncFeign.<Object>builder()
+                .client(client)
+                .contract(feignClientFactory.getInstance(name, Contract.class))
+                .encoder(feignClientFactory.getInstance(name, Encoder.class))
+                .decoder(feignClientFactory.getInstance(name, Decoder.class))
+                .requestInterceptors(instances(feignClientFactory, name, RequestInterceptor.class).values())
+                .options(options);
+        ErrorDecoder errorDecoder = feignClientFactory.getInstance(name, ErrorDecoder.class);
+        if (Objects.nonNull(errorDecoder)) {
+            builder.errorDecoder(errorDecoder);
+        }
+        instances(feignClientFactory, name, Capability.class).values().forEach(builder::addCapability);
+        return builder.target(new Target.HardCodedTarget<>(type, name, url));
+    }
+
+    // getInstances returns null rather than an empty map when the context has no bean of the type
+    private static <T> Map<String, T> instances(FeignClientFactory feignClientFactory, String name, Class<T> type) {
+        return Objects.requireNonNullElse(feignClientFactory.getInstances(name, type), Map.of());
+    }
+
+    // Http2Client builds a new HttpClient, and with it a new connection pool, for every call whose options differ
+    // from the shared client: the connect timeout has to be the same, and followRedirects false matches the NORMAL
+    // redirect policy, which still follows redirects except from https to http
+    static Request.Options options(Duration connectTimeout, Duration readTimeout) {
+        return new Request.Options(connectTimeout, readTimeout, false);
+    }
+}
@@ -0,0 +1,138 @@
+package com.prx.directory.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds the number of requests processed at the same time when the server runs on virtual threads.
+ *
+ * <p>With {@code spring.threads.virtual.enabled=true} Tomcat no longer caps concurrency with its worker pool,
+ * so every accepted request gets a thread and immediately competes for the Hikari pool and the Backbone/Mercury
+ * clients. This filter restores a limit ({@code prx.concurrency.max-in-flight}): requests wait up to
+ * {@code prx.concurrency.acquire-timeout} for a permit and are rejected with 503 after that, instead of piling
+ * up behind {@code spring.datasource.hikari.connection-timeout}.</p>
+ *
+ * <p>Requests that go async (streamed and NDJSON responses) keep their permit until the async processing
+ * completes, errors or times out. The management endpoints ({@code management.endpoints.web.base-path}) are not
+ * limited, so health checks and scrapes still answer while the application is saturated.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+    static final String IN_FLIGHT_METRIC = "prx.http.requests.in-flight";
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final Duration acquireTimeout;
+    private final String managementBasePath;
+
+    public ConcurrencyLimitFilter(@Value("${prx.concurrency.max-in-flight:200}") int maxInFlight,
+                                  @Value("${prx.concurrency.acquire-timeout:2s}") Duration acquireTimeout,
+                                  @Value("${management.endpoints.web.base-path:/actuator}") String managementBasePath,
+                                  MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeout = acquireTimeout;
+        this.managementBasePath = managementBasePath;
+        this.permits = new Semaphore(maxInFlight, true);
+        Gauge.builder(IN_FLIGHT_METRIC, this, ConcurrencyLimitFilter::inFlight)
+                .description("Requests currently holding a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals(managementBasePath) || path.startsWith(managementBasePath + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            logger.warn("Rejecting {} {}: {} requests already in flight", request.getMethod(), request.getRequestURI(), maxInFlight);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, acquireTimeout.toSeconds())));
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    // Releases the permit of an async request once. The async dispatches back into the chain are not filtered
+    // (OncePerRequestFilter skips them), so only this listener gives the permit back
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        // A new async cycle started from a dispatch drops the listeners, so register again for it
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -48,6 +48,14 @@ import static com.prx.directory.constant.DirectoryAppConstants.REPOSITORY_PACKAG
  * </ul>
  * </p>
  *
+ * <p>Virtual threads: with {@code spring.threads.virtual.enabled=true} the
+ * number of request threads is no longer bounded by Tomcat, so do not grow
+ * {@code maximum-pool-size} to match it. Size the pool for the database
+ * (roughly cores * 2 on the server side) and let
+ * {@link ConcurrencyLimitFilter} bound how many requests wait for a
+ * connection.
+ * </p>
+ *
  * <p>Usage example (application-prod.yml):
  * <pre>
  * app:
@@ -175,6 +183,7 @@ public class DataSourceSslConfig {
         config.setUsername(username);
         config.setPassword(password);
 
+        config.setPoolName("directory-db");
         config.setMaximumPoolSize(maxPool);
         config.setMinimumIdle(minIdle);
         config.setConnectionTimeout(connTimeout);
@@ -0,0 +1,58 @@
+package com.prx.directory.config;
+
+import com.prx.directory.client.interceptor.FeignMetricsCapability;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Instrumentation that Spring Boot does not provide out of the box.
+ * <p>
+ * Endpoint latency ({@code http.server.requests}), repository invocation time
+ * ({@code spring.data.repository.invocations}), connection pool waits ({@code hikaricp.connections.acquire}) and
+ * Kafka sends ({@code spring.kafka.template}) are recorded by the actuator auto-configuration. This configuration
+ * adds per-method Feign timers and repository row counts. Histogram buckets for all of them are configured under
+ * {@code management.metrics.distribution.slo} and exported through the Prometheus endpoint.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    /**
+     * Times the calls of every Feign client.
+     *
+     * @param meterRegistry the registry to record into
+     * @return the Feign capability
+     */
+    @Bean
+    public FeignMetricsCapability feignMetricsCapability(MeterRegistry meterRegistry) {
+        return new FeignMetricsCapability(meterRegistry);
+    }
+
+    /**
+     * Adds the row count interceptor to every Spring Data repository.
+     * <p>
+     * Static, and resolving the registry lazily, so the repositories are still post-processed by the rest of the
+     * context.
+     *
+     * @param meterRegistry the registry to record into
+     * @return the post processor
+     */
+    @Bean
+    public static BeanPostProcessor repositoryRowsBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(new RepositoryRowsInterceptor(
+                                    meterRegistry, information.getRepositoryInterface(),
+                                    information.getDomainType()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.prx.directory.config;
+
+import com.prx.directory.jpa.statistics.QueryCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the SQL statements each request runs and reports the requests that exceed their query budget.
+ *
+ * <p>Every request gets a {@link QueryCounter} recording. Its statement count is published as
+ * {@code prx.request.queries} per endpoint. A request running more than {@code prx.query-budget.max-queries}
+ * statements, or the same statement at least {@code prx.query-budget.repeat-threshold} times (an N+1 pattern), is
+ * logged with the offending statements and counted in {@code prx.request.query-budget.exceeded}. Statements run
+ * on other threads are attributed to the request only when the work is submitted through
+ * {@link QueryCounter#propagating}, as the parallel lookups of {@code UserServiceImpl.findUser} are; statements run
+ * after the request thread returns, such as those of a streamed response body, are not attributed to it.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "prx.query-budget", name = "enabled", matchIfMissing = true)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+    static final String QUERIES_METRIC = "prx.request.queries";
+    static final String EXCEEDED_METRIC = "prx.request.query-budget.exceeded";
+    private static final String UNMAPPED = "UNMAPPED";
+    private static final int LOGGED_SQL_LENGTH = 300;
+
+    private final int maxQueries;
+    private final int repeatThreshold;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(@Value("${prx.query-budget.max-queries:20}") int maxQueries,
+                             @Value("${prx.query-budget.repeat-threshold:5}") int repeatThreshold,
+                             MeterRegistry meterRegistry) {
+        this.maxQueries = maxQueries;
+        this.repeatThreshold = repeatThreshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Recording recording = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recording.close();
+            report(request, recording);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter.Recording recording) {
+        String endpoint = endpoint(request);
+        DistributionSummary.builder(QUERIES_METRIC)
+                .description("SQL statements run per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", endpoint)
+                .register(meterRegistry)
+                .record(recording.count());
+
+        Map<String, Integer> repeated = recording.repeated(repeatThreshold);
+        if (recording.count() > maxQueries) {
+            exceeded(request, endpoint, "budget").increment();
+            logger.warn("{} {} ran {} SQL statements, over the budget of {}: {}", request.getMethod(), endpoint,
+                    recording.count(), maxQueries, describe(recording.statements()));
+        }
+        if (!repeated.isEmpty()) {
+            exceeded(request, endpoint, "repeated").increment();
+            logger.warn("{} {} repeated SQL statements, likely N+1: {}", request.getMethod(), endpoint,
+                    describe(repeated));
+        }
+    }
+
+    private Counter exceeded(HttpServletRequest request, String endpoint, String reason) {
+        return Counter.builder(EXCEEDED_METRIC)
+                .description("Requests over their SQL statement budget")
+                .tag("method", request.getMethod())
+                .tag("uri", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // The mapped pattern rather than the raw path, so path variables do not multiply the series
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.nonNull(pattern) ? pattern.toString() : UNMAPPED;
+    }
+
+    private static String describe(Map<String, Integer> statements) {
+        return statements.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> entry.getValue() + "x " + abbreviate(entry.getKey()))
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= LOGGED_SQL_LENGTH ? sql : sql.substring(0, LOGGED_SQL_LENGTH) + "...";
+    }
+}
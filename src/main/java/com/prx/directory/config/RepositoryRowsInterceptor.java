@@ -0,0 +1,74 @@
+package com.prx.directory.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Records how many rows each repository query method returns.
+//
+// Only results whose size is known without consuming them are counted: collections, pages and slices, optionals
+// and single entities (null counting as zero rows). Counts, existence checks, modifying queries and streams are
+// left out. The invocation time itself is recorded by Spring Boot as spring.data.repository.invocations.
+class RepositoryRowsInterceptor implements MethodInterceptor {
+
+    static final String METRIC = "prx.repository.rows";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Class<?> repositoryInterface;
+    private final Class<?> domainType;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    RepositoryRowsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryInterface,
+                              Class<?> domainType) {
+        this.meterRegistry = meterRegistry;
+        this.repositoryInterface = repositoryInterface;
+        this.domainType = domainType;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        Method method = invocation.getMethod();
+        long rows = rows(method.getReturnType(), result);
+        if (rows >= 0) {
+            summaries.computeIfAbsent(method, this::summary).record(rows);
+        }
+        return result;
+    }
+
+    // The number of rows in the result, or -1 when the method does not return rows.
+    long rows(Class<?> returnType, Object result) {
+        if (Collection.class.isAssignableFrom(returnType)) {
+            return Objects.isNull(result) ? 0 : ((Collection<?>) result).size();
+        }
+        if (Slice.class.isAssignableFrom(returnType)) {
+            return Objects.isNull(result) ? 0 : ((Slice<?>) result).getNumberOfElements();
+        }
+        if (Optional.class.equals(returnType)) {
+            return Objects.nonNull(result) && ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (Objects.nonNull(domainType) && domainType.isAssignableFrom(returnType)) {
+            return Objects.isNull(result) ? 0 : 1;
+        }
+        return -1;
+    }
+
+    private DistributionSummary summary(Method method) {
+        return DistributionSummary.builder(METRIC)
+                .description("Rows returned by repository query methods")
+                .baseUnit("rows")
+                .tag("repository", repositoryInterface.getSimpleName())
+                .tag("method", method.getName())
+                .register(meterRegistry.getObject());
+    }
+}
@@ -1,5 +1,10 @@
 package com.prx.directory.constant;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Enum representing the type of contact.
  *
@@ -21,6 +26,19 @@ public enum ContactTypeKey {
     WBH,
     EML;
 
+    private static final Map<String, ContactTypeKey> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(ContactTypeKey::name, Function.identity()));
+
+    /**
+     * Looks up a key by the contact type name stored in the database.
+     *
+     * @param name the contact type name, e.g. "EML"
+     * @return the matching key, or {@code null} if the name is unknown
+     */
+    public static ContactTypeKey fromName(String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
+
     @Override
     public String toString() {
         return this.name();
@@ -35,6 +35,8 @@ public final class DirectoryAppConstants {
     public static final String CAMPAIGN_SORT_FIELD_START_DATE = "start_date";
     public static final String CAMPAIGN_SORT_FIELD_END_DATE = "end_date";
     public static final String CAMPAIGN_SORT_FIELD_CREATED_DATE = "created_date";
+    public static final String CAMPAIGN_SORT_FIELD_RELEVANCE = "relevance";
+    public static final String CAMPAIGN_SORT_PROPERTY_TITLE = "title";
     public static final String CAMPAIGN_SORT_PROPERTY_START_DATE = "startDate";
     public static final String CAMPAIGN_SORT_PROPERTY_END_DATE = "endDate";
     public static final String CAMPAIGN_SORT_DELIMITER = ",";
@@ -45,6 +47,12 @@ public final class DirectoryAppConstants {
     public static final String FAVORITE_TYPE_PRODUCTS = "products";
     public static final String FAVORITE_TYPE_OFFERS = "offers";
 
+    // Bulk import media types
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    // Directory export: rows fetched per cursor round trip, also the number of rows mapped between flushes
+    public static final int EXPORT_FETCH_SIZE = 500;
+
     private DirectoryAppConstants() {
         throw new IllegalStateException("Utility class");
     }
@@ -3,6 +3,8 @@ package com.prx.directory.jpa.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serial;
@@ -14,8 +16,12 @@ import java.util.UUID;
  * Entity class representing a category.
  * This class is mapped to the "category" table in the "directory_site" schema.
  * It includes a UUID as the primary key and various fields representing category details.
+ * Categories are held in the second-level cache, so resolving the category of a business, product or campaign
+ * does not reach the database once the cache is warm.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "category", schema = "directory_site")
 public class CategoryEntity implements Serializable {
 
@@ -0,0 +1,179 @@
+package com.prx.directory.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a Kafka message waiting in the email outbox.
+ * <p>
+ * Messages are written to the outbox instead of being sent to the broker directly, and are deleted by the relay
+ * once the broker acknowledges them. A failed send keeps the row, counts the attempt and schedules the next one;
+ * after the last allowed attempt the row is parked with {@code failedAt} set and is no longer sent.
+ */
+@Entity
+@Table(name = "email_outbox", schema = "directory_site")
+public class EmailOutboxEntity implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2716448170929352513L;
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false)
+    private UUID id;
+
+    @Size(max = 255)
+    @NotNull
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Size(max = 255)
+    @Column(name = "message_key")
+    private String messageKey;
+
+    @Size(max = 100)
+    @NotNull
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @NotNull
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    @NotNull
+    @ColumnDefault("now()")
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @NotNull
+    @ColumnDefault("now()")
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @NotNull
+    @ColumnDefault("0")
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Size(max = 500)
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    public EmailOutboxEntity() {
+        // Default constructor
+    }
+
+    /**
+     * Creates a message that is due immediately.
+     *
+     * @param topic       the Kafka topic
+     * @param messageKey  the record key, may be null
+     * @param contentType the format of the payload, sent as the content-type header
+     * @param payload     the serialized message
+     */
+    public EmailOutboxEntity(String topic, String messageKey, String contentType, byte[] payload) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.contentType = contentType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public void setMessageKey(String messageKey) {
+        this.messageKey = messageKey;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getFailedAt() {
+        return failedAt;
+    }
+
+    public void setFailedAt(LocalDateTime failedAt) {
+        this.failedAt = failedAt;
+    }
+
+}
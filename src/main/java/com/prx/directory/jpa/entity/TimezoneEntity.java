@@ -1,5 +1,6 @@
 package com.prx.directory.jpa.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
@@ -7,6 +8,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serial;
@@ -15,7 +18,10 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Reference data maintained outside the application, hence read-only in the second-level cache
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "timezone", schema = "directory_site")
 public class TimezoneEntity implements Serializable {
     @Serial
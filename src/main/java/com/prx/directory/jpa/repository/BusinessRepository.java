@@ -1,14 +1,22 @@
 package com.prx.directory.jpa.repository;
 
+import com.prx.directory.constant.DirectoryAppConstants;
 import com.prx.directory.jpa.entity.BusinessEntity;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for BusinessEntity.
@@ -17,11 +25,21 @@ import java.util.UUID;
  */
 public interface BusinessRepository extends JpaRepository<BusinessEntity, UUID> {
 
-    @Query("SELECT bu FROM BusinessEntity bu WHERE bu.userEntityFk.id = :userId")
+    /**
+     * Loads the businesses of a user together with their digital contacts and contact types in one query,
+     * so mapping them does not lazily load the contacts of each business.
+     */
+    @Query("SELECT DISTINCT bu FROM BusinessEntity bu LEFT JOIN FETCH bu.digitalContacts dc LEFT JOIN FETCH dc.contactTypeEntity WHERE bu.userEntityFk.id = :userId")
     Set<BusinessEntity> findByUserEntityFk(@NotNull @Param("userId") UUID userId);
 
     Optional<BusinessEntity> findByName(@NotNull String name);
 
+    /**
+     * Returns which of the given names are already taken, checking a whole batch in one query.
+     */
+    @Query("SELECT b.name FROM BusinessEntity b WHERE b.name IN :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
     @Query("SELECT count(bu.id) FROM BusinessEntity bu WHERE bu.userEntityFk.id = :userId")
     int countByUserId(@Param("userId") UUID userId);
 
@@ -31,4 +49,19 @@ public interface BusinessRepository extends JpaRepository<BusinessEntity, UUID>
     @Query("SELECT b FROM BusinessEntity b LEFT JOIN FETCH b.digitalContacts dc LEFT JOIN FETCH dc.contactTypeEntity WHERE b.id = :businessId")
     Optional<BusinessEntity> findBusinessWithDigitalContactsById(@Param("businessId") UUID businessId);
 
+    @Query("SELECT b.id AS id, b.name AS title, b.description AS description, b.categoryFk.id AS categoryId FROM BusinessEntity b")
+    List<SearchRow> findSearchRows();
+
+    /**
+     * Streams the businesses changed since the given time for the directory export. Must be consumed inside a
+     * transaction; rows are read through a forward-only cursor with a fixed fetch size. The digital contacts are
+     * not fetched, see {@link DigitalContactRepository#findContactRowsByBusinessIds}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + DirectoryAppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM BusinessEntity b WHERE b.lastUpdate >= :since")
+    Stream<BusinessEntity> streamUpdatedSince(@Param("since") LocalDateTime since);
+
 }
@@ -1,21 +1,45 @@
 package com.prx.directory.jpa.repository;
 
+import com.prx.directory.constant.DirectoryAppConstants;
 import com.prx.directory.jpa.entity.CampaignEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing CampaignEntity data.
  * This interface extends JpaRepository to provide CRUD operations for CampaignEntity.
  */
-public interface CampaignRepository extends JpaRepository<CampaignEntity, UUID>, JpaSpecificationExecutor<CampaignEntity> {
+public interface CampaignRepository extends JpaRepository<CampaignEntity, UUID>, JpaSpecificationExecutor<CampaignEntity>,
+        CampaignRepositoryCustom {
 
     long countByActiveTrue();
 
     long countByActiveFalse();
 
     long countByEndDateBefore(LocalDateTime ts);
+
+    @Query("SELECT c.id AS id, c.title AS title, c.description AS description, c.categoryFk.id AS categoryId FROM CampaignEntity c WHERE c.active = true")
+    List<SearchRow> findActiveSearchRows();
+
+    /**
+     * Streams the campaigns, active or not, changed since the given time for the directory export, with their
+     * category. Must be consumed inside a transaction; rows are read through a forward-only cursor with a fixed
+     * fetch size.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + DirectoryAppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM CampaignEntity c JOIN FETCH c.categoryFk WHERE c.lastUpdate >= :since")
+    Stream<CampaignEntity> streamUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,33 @@
+package com.prx.directory.jpa.repository;
+
+import com.prx.directory.jpa.entity.CampaignEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Campaign queries that cannot be expressed with derived queries or {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor}.
+ */
+public interface CampaignRepositoryCustom {
+
+    /**
+     * Counts the campaigns matching the specification together with their status distribution,
+     * using one {@code COUNT}/{@code SUM(CASE ...)} query.
+     *
+     * @param spec the filters to apply
+     * @param now  reference time used to decide whether a campaign is expired
+     * @return the aggregated counters
+     */
+    CampaignStatusCounts countStatuses(Specification<CampaignEntity> spec, LocalDateTime now);
+
+    /**
+     * Loads one page of campaigns matching the specification without issuing a count query.
+     *
+     * @param spec     the filters to apply
+     * @param pageable page, size and sort to apply; an unsorted pageable keeps the ordering set by the specification
+     * @return the campaigns of the requested page
+     */
+    List<CampaignEntity> findPageContent(Specification<CampaignEntity> spec, Pageable pageable);
+}
@@ -0,0 +1,90 @@
+package com.prx.directory.jpa.repository;
+
+import com.prx.directory.jpa.entity.CampaignEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Criteria API implementation of {@link CampaignRepositoryCustom}.
+ */
+class CampaignRepositoryCustomImpl implements CampaignRepositoryCustom {
+
+    private static final String STATUS = "status";
+    private static final String STATUS_ACTIVE = "ACTIVE";
+    private static final String STATUS_INACTIVE = "INACTIVE";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public CampaignStatusCounts countStatuses(Specification<CampaignEntity> spec, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<CampaignEntity> root = query.from(CampaignEntity.class);
+        applySpecification(spec, root, query, cb);
+
+        query.multiselect(
+                cb.count(root),
+                sumWhen(cb, cb.equal(root.get(STATUS), STATUS_ACTIVE)),
+                sumWhen(cb, cb.equal(root.get(STATUS), STATUS_INACTIVE)),
+                sumWhen(cb, cb.lessThan(root.get("endDate"), now))
+        );
+
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        return new CampaignStatusCounts(asLong(row.get(0)), asLong(row.get(1)), asLong(row.get(2)), asLong(row.get(3)));
+    }
+
+    @Override
+    public List<CampaignEntity> findPageContent(Specification<CampaignEntity> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CampaignEntity> query = cb.createQuery(CampaignEntity.class);
+        Root<CampaignEntity> root = query.from(CampaignEntity.class);
+        applySpecification(spec, root, query, cb);
+        query.select(root);
+        // An unsorted page keeps the ordering the specification applied, e.g. title relevance
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<CampaignEntity> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultList();
+    }
+
+    private static void applySpecification(Specification<CampaignEntity> spec, Root<CampaignEntity> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (Objects.isNull(spec)) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+    }
+
+    private static Expression<Long> sumWhen(CriteriaBuilder cb, Predicate condition) {
+        return cb.sum(cb.<Long>selectCase().when(condition, 1L).otherwise(0L));
+    }
+
+    // SUM over an empty result set is NULL
+    private static long asLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
@@ -0,0 +1,12 @@
+package com.prx.directory.jpa.repository;
+
+/**
+ * Result of the single aggregate query that backs the campaign list counters.
+ *
+ * @param total     number of campaigns matching the filters
+ * @param actives   matching campaigns with status {@code ACTIVE}
+ * @param inactives matching campaigns with status {@code INACTIVE}
+ * @param expired   matching campaigns whose end date is in the past
+ */
+public record CampaignStatusCounts(long total, long actives, long inactives, long expired) {
+}
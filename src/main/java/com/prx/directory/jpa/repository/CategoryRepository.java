@@ -1,13 +1,22 @@
 package com.prx.directory.jpa.repository;
 
+import com.prx.directory.constant.DirectoryAppConstants;
 import com.prx.directory.jpa.entity.CategoryEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing CategoryEntity data.
@@ -20,4 +29,21 @@ public interface CategoryRepository extends JpaRepository<CategoryEntity, UUID>
     Optional<Collection<CategoryEntity>> findByCategoryParentFk(CategoryEntity categoryParentFk);
     
     Page<CategoryEntity> findByCategoryParentFk(CategoryEntity categoryParentFk, Pageable pageable);
+
+    /**
+     * Returns which of the given ids belong to a category, checking a whole batch in one query.
+     */
+    @Query("SELECT c.id FROM CategoryEntity c WHERE c.id IN :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Streams the categories changed since the given time for the directory export. Must be consumed inside a
+     * transaction; rows are read through a forward-only cursor with a fixed fetch size.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + DirectoryAppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM CategoryEntity c WHERE c.lastUpdate >= :since")
+    Stream<CategoryEntity> streamUpdatedSince(@Param("since") LocalDateTime since);
 }
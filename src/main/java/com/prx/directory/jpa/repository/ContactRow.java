@@ -0,0 +1,16 @@
+package com.prx.directory.jpa.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of a digital contact with the name of its contact type, used to attach contacts to businesses
+ * loaded in bulk.
+ */
+public interface ContactRow {
+
+    UUID getBusinessId();
+
+    String getContactType();
+
+    String getContent();
+}
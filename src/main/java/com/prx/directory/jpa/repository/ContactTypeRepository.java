@@ -0,0 +1,40 @@
+package com.prx.directory.jpa.repository;
+
+import com.prx.directory.constant.ContactTypeKey;
+import com.prx.directory.jpa.entity.ContactTypeEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for ContactTypeEntity.
+ * This interface extends JpaRepository to provide CRUD operations for ContactTypeEntity.
+ * The primary key type of ContactTypeEntity is UUID.
+ * <p>
+ * Contact types are held in the second-level cache and the lookups by name are cacheable queries, so once warm
+ * they are answered without reaching the database.
+ */
+public interface ContactTypeRepository extends JpaRepository<ContactTypeEntity, UUID> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ContactTypeEntity> findByNameIn(Collection<String> names);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<ContactTypeEntity> findByName(String name);
+
+    /**
+     * Finds the contact type stored for a key.
+     *
+     * @param key the contact type key
+     * @return the contact type, or empty if the database has no row for the key
+     */
+    default Optional<ContactTypeEntity> findByKey(ContactTypeKey key) {
+        return findByName(key.name());
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,4 +19,7 @@ public interface DigitalContactRepository extends JpaRepository<DigitalContactEn
 
     @Query("SELECT b FROM DigitalContactEntity AS b WHERE b.business.id = :businessId ")
     List<DigitalContactEntity> findByBusinessId(@Param("businessId") UUID businessId);
+
+    @Query("SELECT dc.business.id AS businessId, dc.contactTypeEntity.name AS contactType, dc.content AS content FROM DigitalContactEntity dc WHERE dc.business.id IN :businessIds")
+    List<ContactRow> findContactRowsByBusinessIds(@Param("businessIds") Collection<UUID> businessIds);
 }
@@ -0,0 +1,90 @@
+package com.prx.directory.jpa.repository;
+
+import com.prx.directory.jpa.entity.EmailOutboxEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for EmailOutboxEntity.
+ * This interface extends JpaRepository to provide CRUD operations for EmailOutboxEntity.
+ * The primary key type of EmailOutboxEntity is UUID.
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntity, UUID> {
+
+    /**
+     * Locks the next messages due for delivery, oldest first. Rows already locked by another instance are
+     * skipped (FOR UPDATE SKIP LOCKED), so several relays can drain the outbox without sending a message twice.
+     *
+     * @param now      the current time
+     * @param pageable the batch size
+     * @return the locked messages
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    // -2 is Hibernate's LockOptions.SKIP_LOCKED
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM EmailOutboxEntity o WHERE o.failedAt IS NULL AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<EmailOutboxEntity> lockDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claims locked messages until the given time, so no relay picks them up again while they are being sent.
+     *
+     * @param ids          the message ids
+     * @param claimedUntil the time the messages become due again if the claim is not resolved
+     * @return the number of messages claimed
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxEntity o SET o.nextAttemptAt = :claimedUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<UUID> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * Records a failed attempt to send a message: schedules the next attempt, or parks the message when
+     * {@code failedAt} is set.
+     *
+     * @param id            the message id
+     * @param attempts      the attempts made so far
+     * @param nextAttemptAt the time of the next attempt
+     * @param failedAt      the time the message was given up on, or null to retry it
+     * @param lastError     the error of the attempt
+     * @return the number of messages updated
+     */
+    @Modifying
+    @Query("UPDATE EmailOutboxEntity o SET o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, "
+            + "o.failedAt = :failedAt, o.lastError = :lastError WHERE o.id = :id")
+    int recordFailure(@Param("id") UUID id, @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("failedAt") LocalDateTime failedAt,
+                      @Param("lastError") String lastError);
+
+    /**
+     * Counts the messages still waiting to be sent.
+     *
+     * @return the number of pending messages
+     */
+    long countByFailedAtIsNull();
+
+    /**
+     * Counts the messages parked after running out of attempts.
+     *
+     * @return the number of failed messages
+     */
+    long countByFailedAtIsNotNull();
+
+    /**
+     * Finds the creation time of the oldest message still waiting in the outbox.
+     *
+     * @return the creation time, or null when no message is pending
+     */
+    @Query("SELECT MIN(o.createdAt) FROM EmailOutboxEntity o WHERE o.failedAt IS NULL")
+    LocalDateTime findOldestCreatedAt();
+}
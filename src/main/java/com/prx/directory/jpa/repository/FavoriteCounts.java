@@ -0,0 +1,21 @@
+package com.prx.directory.jpa.repository;
+
+import java.util.Objects;
+
+/**
+ * Number of favorites of a user per favorite type, computed with one aggregate query.
+ *
+ * @param stores   favorites pointing to a business
+ * @param products favorites pointing to a product
+ * @param offers   favorites pointing to a campaign
+ */
+public record FavoriteCounts(long stores, long products, long offers) {
+
+    /**
+     * JPQL constructor expression target; {@code SUM} yields {@code null} when the user has no favorites.
+     */
+    public FavoriteCounts(Long stores, Long products, Long offers) {
+        this(Objects.requireNonNullElse(stores, 0L), Objects.requireNonNullElse(products, 0L),
+                Objects.requireNonNullElse(offers, 0L));
+    }
+}
@@ -1,13 +1,37 @@
 package com.prx.directory.jpa.repository;
 
+import com.prx.directory.constant.DirectoryAppConstants;
 import com.prx.directory.jpa.entity.ProductEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing ProductEntity data.
  * This interface extends JpaRepository to provide CRUD operations for ProductEntity.
  */
 public interface ProductRepository extends JpaRepository<ProductEntity, UUID> {
+
+    @Query("SELECT p.id AS id, p.name AS title, p.description AS description, p.categoryFk.id AS categoryId FROM ProductEntity p WHERE p.active = true")
+    List<SearchRow> findActiveSearchRows();
+
+    /**
+     * Streams the products, active or not, changed since the given time for the directory export, with their
+     * category. Must be consumed inside a transaction; rows are read through a forward-only cursor with a fixed
+     * fetch size.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + DirectoryAppConstants.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM ProductEntity p JOIN FETCH p.categoryFk WHERE p.lastUpdate >= :since")
+    Stream<ProductEntity> streamUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,20 @@
+package com.prx.directory.jpa.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection of the columns the directory search index needs from a business, product or campaign row.
+ */
+public interface SearchRow {
+
+    UUID getId();
+
+    /**
+     * @return the business or product name, or the campaign title
+     */
+    String getTitle();
+
+    String getDescription();
+
+    UUID getCategoryId();
+}
@@ -1,9 +1,24 @@
 package com.prx.directory.jpa.repository;
 
 import com.prx.directory.jpa.entity.TimezoneEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.UUID;
 
+// Timezones are held in the second-level cache and both listings are cacheable queries.
 public interface TimezoneRepository extends JpaRepository<TimezoneEntity, UUID> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TimezoneEntity> findAll();
+
+    @Override
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"), forCounting = true)
+    Page<TimezoneEntity> findAll(Pageable pageable);
 }
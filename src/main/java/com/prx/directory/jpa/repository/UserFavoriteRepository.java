@@ -13,7 +13,7 @@ import java.util.UUID;
  * Repository interface for UserFavoriteEntity.
  * This interface extends JpaRepository to provide CRUD operations for UserFavoriteEntity.
  */
-public interface UserFavoriteRepository extends JpaRepository<UserFavoriteEntity, UUID> {
+public interface UserFavoriteRepository extends JpaRepository<UserFavoriteEntity, UUID>, UserFavoriteRepositoryCustom {
 
     String USER_ID = "userId";
     String BUSINESS_ID = "businessId";
@@ -30,6 +30,11 @@ public interface UserFavoriteRepository extends JpaRepository<UserFavoriteEntity
     String Q_COUNT_ACTIVE_BY_USER = "SELECT COUNT(uf) FROM UserFavoriteEntity uf WHERE uf.user.id = :" + USER_ID + " AND uf.active = true";
     String Q_FIND_BY_USER_AND_PRODUCT = Q_USER_PREFIX + USER_ID + " AND uf.product.id = :" + PRODUCT_ID;
     String Q_FIND_BY_USER_AND_CAMPAIGN = Q_USER_PREFIX + USER_ID + " AND uf.campaign.id = :" + CAMPAIGN_ID;
+    String Q_COUNT_BY_TYPE = "SELECT new com.prx.directory.jpa.repository.FavoriteCounts("
+            + "SUM(CASE WHEN uf.business IS NOT NULL THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN uf.product IS NOT NULL THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN uf.campaign IS NOT NULL THEN 1 ELSE 0 END)) "
+            + "FROM UserFavoriteEntity uf WHERE uf.user.id = :" + USER_ID;
 
     /**
      * Find favorites by user id.
@@ -40,6 +45,15 @@ public interface UserFavoriteRepository extends JpaRepository<UserFavoriteEntity
     @Query(Q_FIND_BY_USER)
     List<UserFavoriteEntity> findByUserId(@Param(USER_ID) UUID userId);
 
+    /**
+     * Count the favorites of a user per type in a single query.
+     *
+     * @param userId the user's UUID
+     * @return counts of store, product and offer favorites
+     */
+    @Query(Q_COUNT_BY_TYPE)
+    FavoriteCounts countByTypeForUser(@Param(USER_ID) UUID userId);
+
     /**
      * Find favorites by business id.
      *
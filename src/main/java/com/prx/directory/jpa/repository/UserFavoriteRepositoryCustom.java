@@ -0,0 +1,47 @@
+package com.prx.directory.jpa.repository;
+
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.ProductEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Paged favorite lookups by type. Offsets are arbitrary (not page aligned) so that a listing spanning
+ * several favorite types can continue in the next type where the previous one ended.
+ * All methods order by favorite creation time and id.
+ */
+public interface UserFavoriteRepositoryCustom {
+
+    /**
+     * Loads the businesses favorited by the user, with their digital contacts and contact types fetched
+     * in one additional query for the whole page.
+     *
+     * @param userId the user's UUID
+     * @param offset number of favorites to skip
+     * @param limit  maximum number of favorites to return
+     * @return the businesses of the requested window
+     */
+    List<BusinessEntity> findFavoriteBusinesses(UUID userId, long offset, int limit);
+
+    /**
+     * Loads the products favorited by the user.
+     *
+     * @param userId the user's UUID
+     * @param offset number of favorites to skip
+     * @param limit  maximum number of favorites to return
+     * @return the products of the requested window
+     */
+    List<ProductEntity> findFavoriteProducts(UUID userId, long offset, int limit);
+
+    /**
+     * Loads the campaigns favorited by the user.
+     *
+     * @param userId the user's UUID
+     * @param offset number of favorites to skip
+     * @param limit  maximum number of favorites to return
+     * @return the campaigns of the requested window
+     */
+    List<CampaignEntity> findFavoriteCampaigns(UUID userId, long offset, int limit);
+}
@@ -0,0 +1,58 @@
+package com.prx.directory.jpa.repository;
+
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPQL implementation of {@link UserFavoriteRepositoryCustom}.
+ */
+class UserFavoriteRepositoryCustomImpl implements UserFavoriteRepositoryCustom {
+
+    private static final String USER_ID = "userId";
+    private static final String Q_FAVORITE_PREFIX = "SELECT t FROM UserFavoriteEntity uf JOIN uf.";
+    private static final String Q_FAVORITE_SUFFIX = " t WHERE uf.user.id = :" + USER_ID + " ORDER BY uf.createdAt, uf.id";
+    private static final String Q_FETCH_CONTACTS = "SELECT DISTINCT b FROM BusinessEntity b "
+            + "LEFT JOIN FETCH b.digitalContacts dc LEFT JOIN FETCH dc.contactTypeEntity WHERE b IN :businesses";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BusinessEntity> findFavoriteBusinesses(UUID userId, long offset, int limit) {
+        List<BusinessEntity> businesses = findFavorites("business", BusinessEntity.class, userId, offset, limit);
+        if (!businesses.isEmpty()) {
+            // Initializes the contacts of the (already managed) page entities in one query instead of one per business
+            entityManager.createQuery(Q_FETCH_CONTACTS, BusinessEntity.class)
+                    .setParameter("businesses", businesses)
+                    .getResultList();
+        }
+        return businesses;
+    }
+
+    @Override
+    public List<ProductEntity> findFavoriteProducts(UUID userId, long offset, int limit) {
+        return findFavorites("product", ProductEntity.class, userId, offset, limit);
+    }
+
+    @Override
+    public List<CampaignEntity> findFavoriteCampaigns(UUID userId, long offset, int limit) {
+        return findFavorites("campaign", CampaignEntity.class, userId, offset, limit);
+    }
+
+    private <T> List<T> findFavorites(String association, Class<T> type, UUID userId, long offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return entityManager.createQuery(Q_FAVORITE_PREFIX + association + Q_FAVORITE_SUFFIX, type)
+                .setParameter(USER_ID, userId)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
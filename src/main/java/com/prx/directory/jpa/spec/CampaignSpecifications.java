@@ -1,18 +1,22 @@
 package com.prx.directory.jpa.spec;
 
 import com.prx.directory.jpa.entity.CampaignEntity;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 public final class CampaignSpecifications {
 
+    private static final String TITLE = "title";
+
     private CampaignSpecifications() {}
 
     public static Specification<CampaignEntity> byFilters(String name,
@@ -31,12 +35,92 @@ public final class CampaignSpecifications {
         };
     }
 
+    /**
+     * Keyset (seek) predicate selecting the rows that come after the given position in the given sort,
+     * using {@code id} as the final tie-breaker in the direction of the last sort key. For the default sort this
+     * is {@code (created_date, id) < (?, ?)}, expanded to {@code created_date < ? OR (created_date = ? AND id < ?)}.
+     * <p>
+     * Null sort values follow PostgreSQL's default ordering, where nulls sort after every non-null value.
+     *
+     * @param sort       the listing sort, without the id tie-breaker
+     * @param lastValues sort key values of the last row already returned, keyed by property
+     * @param lastId     id of the last row already returned
+     * @return the seek specification
+     */
+    public static Specification<CampaignEntity> seekAfter(Sort sort, Map<String, Object> lastValues, UUID lastId) {
+        List<Sort.Order> orders = sort.toList();
+        boolean idDescending = !orders.isEmpty() && orders.getLast().isDescending();
+        return (root, query, cb) -> {
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> equalities = new ArrayList<>();
+            for (Sort.Order order : orders) {
+                Expression<Comparable<Object>> path = root.get(order.getProperty());
+                Object value = lastValues.get(order.getProperty());
+                Predicate beyond = beyond(cb, path, value, order.isDescending());
+                if (beyond != null) {
+                    alternatives.add(cb.and(with(equalities, beyond)));
+                }
+                equalities.add(value == null ? cb.isNull(path) : cb.equal(path, value));
+            }
+            alternatives.add(cb.and(with(equalities, beyond(cb, root.get("id"), lastId, idDescending))));
+            return cb.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Orders the matches of a title search by relevance: exact title first, then titles starting with the term,
+     * then by how early the term appears and by title length, with {@code createdDate} and {@code id} as
+     * tie-breakers. Adds no restriction and leaves count and aggregate queries untouched, so it can be combined
+     * with {@link #byFilters} for entity queries that carry no other sort.
+     *
+     * @param search the title search
+     * @return the ordering specification
+     */
+    public static Specification<CampaignEntity> rankByTitle(CampaignTitleSearch search) {
+        return (root, query, cb) -> {
+            if (CampaignEntity.class.equals(query.getResultType())) {
+                Expression<String> title = cb.lower(root.get(TITLE));
+                Expression<Integer> tier = cb.<Integer>selectCase()
+                        .when(cb.equal(title, search.term()), 0)
+                        .when(cb.like(title, search.prefixPattern()), 1)
+                        .otherwise(2);
+                query.orderBy(
+                        cb.asc(tier),
+                        cb.asc(cb.locate(title, search.term())),
+                        cb.asc(cb.length(title)),
+                        cb.desc(root.get("createdDate")),
+                        cb.asc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate beyond(CriteriaBuilder cb, Expression<Comparable<Object>> path, Object value,
+                                    boolean descending) {
+        if (value == null) {
+            // Nulls sort last: nothing follows a null in ascending order, every non-null value does in descending order
+            return descending ? cb.isNotNull(path) : null;
+        }
+        Comparable<Object> comparable = (Comparable<Object>) value;
+        return descending
+                ? cb.lessThan(path, comparable)
+                : cb.or(cb.greaterThan(path, comparable), cb.isNull(path));
+    }
+
+    private static Predicate[] with(List<Predicate> predicates, Predicate last) {
+        List<Predicate> all = new ArrayList<>(predicates);
+        all.add(last);
+        return all.toArray(new Predicate[0]);
+    }
+
     private static void addNamePredicate(List<Predicate> predicates,
                                          Root<CampaignEntity> root,
                                          CriteriaBuilder cb,
                                          String name) {
-        if (name != null && !name.isBlank()) {
-            predicates.add(cb.like(cb.lower(root.get("title")), "%" + name.toLowerCase(Locale.ROOT) + "%"));
+        CampaignTitleSearch search = CampaignTitleSearch.of(name);
+        if (search != null) {
+            predicates.add(cb.like(cb.lower(root.get(TITLE)), search.pattern()));
         }
     }
 
@@ -0,0 +1,75 @@
+package com.prx.directory.jpa.spec;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Normalized campaign title search term, built from the {@code q}/{@code name}/{@code title} filters.
+ * <p>
+ * A term ending with {@code *} (for example {@code summ*}) is a prefix search and is matched with
+ * {@code lower(title) LIKE 'summ%'}, which PostgreSQL serves from the {@code text_pattern_ops} B-tree index.
+ * Any other term is a substring search, {@code lower(title) LIKE '%term%'}, served from the {@code pg_trgm}
+ * GIN index once the term has at least three characters. Both indexes are created by
+ * {@code db/scripts/campaign_title_search.sql}.
+ *
+ * @param term   the lower-cased term, with surrounding and repeated whitespace removed
+ * @param prefix whether the term only has to match the start of the title
+ */
+public record CampaignTitleSearch(String term, boolean prefix) {
+
+    static final char PREFIX_MARKER = '*';
+    private static final char LIKE_ESCAPE = '\\';
+
+    public CampaignTitleSearch {
+        Objects.requireNonNull(term, "term");
+    }
+
+    /**
+     * Parses a raw search value.
+     *
+     * @param raw the filter value, possibly null
+     * @return the search, or null when the value holds no searchable characters
+     */
+    public static CampaignTitleSearch of(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String normalized = raw.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        boolean prefix = false;
+        while (!normalized.isEmpty() && normalized.charAt(normalized.length() - 1) == PREFIX_MARKER) {
+            normalized = normalized.substring(0, normalized.length() - 1).stripTrailing();
+            prefix = true;
+        }
+        return normalized.isEmpty() ? null : new CampaignTitleSearch(normalized, prefix);
+    }
+
+    /**
+     * LIKE pattern for this search. User supplied {@code %}, {@code _} and {@code \} are escaped with the
+     * default escape character shared by PostgreSQL and H2, so they match literally.
+     *
+     * @return the pattern to compare {@code lower(title)} against
+     */
+    public String pattern() {
+        String escaped = escape(term);
+        return prefix ? escaped + '%' : '%' + escaped + '%';
+    }
+
+    /**
+     * @return pattern matching titles that start with the term, used for ranking
+     */
+    String prefixPattern() {
+        return escape(term) + '%';
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
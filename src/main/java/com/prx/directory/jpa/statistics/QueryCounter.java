@@ -0,0 +1,168 @@
+package com.prx.directory.jpa.statistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ * <p>
+ * Statements are reported by {@link QueryCountingStatementInspector} and are only recorded while a
+ * {@link Recording} is open on the thread, so the cost outside a recording is one thread-local lookup. Recordings
+ * nest: a statement counts towards every open recording of the thread, and closing the inner one resumes the outer.
+ * Work handed to other threads is only counted when it runs through {@link #propagating(Executor)}, which carries
+ * the recordings of the submitting thread into the task; statements of a task still running when its recording is
+ * closed are not counted.
+ * Each statement is also grouped by its normalized text, which is what makes N+1 patterns visible: the same
+ * SELECT run once per parent row shows up as one statement with a high repeat count.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+    private static final Pattern LITERALS = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private QueryCounter() {
+    }
+
+    /**
+     * Starts recording the statements of the current thread.
+     *
+     * @return the recording, to be closed on the same thread
+     */
+    public static Recording start() {
+        Recording recording = new Recording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    /**
+     * Records a statement against the open recordings of the current thread, if any.
+     *
+     * @param sql the statement as prepared
+     */
+    public static void record(String sql) {
+        for (Recording recording = CURRENT.get(); Objects.nonNull(recording); recording = recording.previous) {
+            recording.add(sql);
+        }
+    }
+
+    /**
+     * Wraps an executor so that each task records its statements against the recordings open on the thread that
+     * submitted it, e.g. the lookups a request runs in parallel.
+     *
+     * @param executor the executor running the tasks
+     * @return the propagating executor
+     */
+    public static Executor propagating(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    static Runnable wrap(Runnable task) {
+        Recording submitter = CURRENT.get();
+        if (Objects.isNull(submitter)) {
+            return task;
+        }
+        return () -> {
+            Recording previous = CURRENT.get();
+            CURRENT.set(submitter);
+            try {
+                task.run();
+            } finally {
+                if (Objects.nonNull(previous)) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    // Replaces literals with placeholders, collapses IN lists and whitespace, so that executions of the same
+    // statement with different arguments group together.
+    static String normalize(String sql) {
+        if (Objects.isNull(sql)) {
+            return "";
+        }
+        String normalized = LITERALS.matcher(sql).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * The statements recorded between {@link #start()} and {@link #close()}, on the thread that started it and on
+     * the tasks it submitted through {@link #propagating(Executor)}; safe to update from several threads.
+     */
+    public static final class Recording implements AutoCloseable {
+
+        private final Recording previous;
+        private final Map<String, Integer> statements = new LinkedHashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Recording(Recording previous) {
+            this.previous = previous;
+        }
+
+        private synchronized void add(String sql) {
+            if (!closed) {
+                count++;
+                statements.merge(normalize(sql), 1, Integer::sum);
+            }
+        }
+
+        /**
+         * @return the number of statements recorded
+         */
+        public synchronized int count() {
+            return count;
+        }
+
+        /**
+         * @return the number of executions of each normalized statement, in first execution order
+         */
+        public synchronized Map<String, Integer> statements() {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(statements));
+        }
+
+        /**
+         * The statements executed at least {@code threshold} times, the usual sign of an N+1 pattern.
+         *
+         * @param threshold the minimum number of executions
+         * @return the number of executions of each such normalized statement
+         */
+        public synchronized Map<String, Integer> repeated(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            statements.forEach((sql, executions) -> {
+                if (executions >= threshold) {
+                    repeated.put(sql, executions);
+                }
+            });
+            return repeated;
+        }
+
+        /**
+         * Stops recording and resumes the enclosing recording, if any.
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            if (CURRENT.get() == this) {
+                if (Objects.nonNull(previous)) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.prx.directory.jpa.statistics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Reports every statement Hibernate prepares to the {@link QueryCounter} of the current thread.
+ * <p>
+ * Registered through {@code hibernate.session_factory.statement_inspector}; the statement is returned unchanged.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
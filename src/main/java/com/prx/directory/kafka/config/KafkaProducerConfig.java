@@ -1,7 +1,9 @@
 package com.prx.directory.kafka.config;
 
 import io.jsonwebtoken.lang.Objects;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,8 +12,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,21 +30,81 @@ public class KafkaProducerConfig {
     @Value("${prx.bootstrap.server.port}")
     private String bootstrapServerPort;
 
+    @Value("${prx.kafka.producer.profile:BALANCED}")
+    private KafkaProducerProfile profile;
+
+    // Optional overrides of the profile settings
+    @Value("${prx.kafka.producer.linger-ms:#{null}}")
+    private Integer lingerMs;
+
+    @Value("${prx.kafka.producer.batch-size:#{null}}")
+    private Integer batchSize;
+
+    @Value("${prx.kafka.producer.compression-type:#{null}}")
+    private String compressionType;
+
+    @Value("${prx.kafka.producer.buffer-memory:#{null}}")
+    private Long bufferMemory;
+
+    @Value("${prx.kafka.producer.max-block:PT5S}")
+    private Duration maxBlock;
+
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
-        logger.info("Creating Producer Factory");
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG,
-                !Objects.isEmpty(bootstrapServerPort) ? bootstrapServers+":"+bootstrapServerPort : bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    public ProducerFactory<String, byte[]> producerFactory(MeterRegistry meterRegistry) {
+        logger.info("Creating Producer Factory with the {} profile", profile);
+        Map<String, Object> configProps = producerProperties(
+                !Objects.isEmpty(bootstrapServerPort) ? bootstrapServers+":"+bootstrapServerPort : bootstrapServers,
+                profile, maxBlock);
+        putIfPresent(configProps, ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        putIfPresent(configProps, ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        putIfPresent(configProps, ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        putIfPresent(configProps, ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(configProps);
+        // Publishes the producer client metrics (record-send-rate, batch-size-avg, compression-rate-avg, ...)
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
         logger.info("Producer Factory created");
-        return new DefaultKafkaProducerFactory<>(configProps);
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> producerFactory) {
         logger.info("Creating Kafka Template");
-        return new KafkaTemplate<>(producerFactory());
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * Builds the producer configuration of a profile. Shared with the producer benchmark, so it measures exactly
+     * what the application runs.
+     *
+     * @param bootstrapServers the bootstrap servers
+     * @param profile          the batching profile
+     * @param maxBlock         how long send may block on metadata or a full buffer before failing
+     * @return the producer configuration
+     */
+    public static Map<String, Object> producerProperties(String bootstrapServers, KafkaProducerProfile profile,
+                                                         Duration maxBlock) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // Values are encoded by the EmailMessageCodec of the topic before they reach the outbox
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        // The outbox relay hands a whole batch to the producer at once; a short linger lets it leave in one request
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, profile.lingerMs());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, profile.batchSize());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.compressionType());
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, profile.bufferMemory());
+        // Bounds how long send blocks the relay when the broker is unreachable (the client default is 60 s)
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlock.toMillis());
+        // Broker-side deduplication of producer retries; requires acks=all and at most 5 requests in flight
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        return configProps;
+    }
+
+    private static void putIfPresent(Map<String, Object> configProps, String key, Object value) {
+        if (value != null) {
+            configProps.put(key, value);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.prx.directory.kafka.config;
+
+/**
+ * Kafka producer batching presets, selected with {@code prx.kafka.producer.profile}.
+ * <p>
+ * A profile sets {@code linger.ms}, {@code batch.size}, {@code compression.type} and {@code buffer.memory}; each
+ * can still be overridden on its own. Idempotence and {@code acks=all} are not part of a profile: the email
+ * outbox relies on them whatever the profile.
+ */
+public enum KafkaProducerProfile {
+    /**
+     * Sends as soon as a record is ready; small batches with cheap compression.
+     */
+    LATENCY(0, 16_384, "lz4", 33_554_432L),
+    /**
+     * Waits briefly so a relay batch leaves in a few requests. The default.
+     */
+    BALANCED(20, 65_536, "lz4", 33_554_432L),
+    /**
+     * Large, densely compressed batches for bulk sends, at the cost of up to 100 ms of added latency.
+     */
+    THROUGHPUT(100, 262_144, "zstd", 67_108_864L);
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+    private final long bufferMemory;
+
+    KafkaProducerProfile(int lingerMs, int batchSize, String compressionType, long bufferMemory) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+        this.bufferMemory = bufferMemory;
+    }
+
+    public int lingerMs() {
+        return lingerMs;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public String compressionType() {
+        return compressionType;
+    }
+
+    public long bufferMemory() {
+        return bufferMemory;
+    }
+}
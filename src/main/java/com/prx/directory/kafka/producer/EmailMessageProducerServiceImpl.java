@@ -1,50 +1,56 @@
 package com.prx.directory.kafka.producer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prx.commons.constants.httpstatus.type.MessageType;
 import com.prx.commons.exception.StandardException;
+import com.prx.directory.jpa.entity.EmailOutboxEntity;
+import com.prx.directory.jpa.repository.EmailOutboxRepository;
+import com.prx.directory.kafka.serialization.EmailMessageCodec;
+import com.prx.directory.kafka.serialization.EmailMessageFormat;
 import com.prx.directory.kafka.to.EmailMessageTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
+import java.io.IOException;
+import java.util.Objects;
 
+// Queues email messages in the outbox; EmailOutboxRelay sends them to Kafka.
+//
+// The caller only waits for the outbox insert, never for the broker, and the insert joins the caller's transaction
+// when there is one, so the message is stored if and only if the caller's changes commit. Messages are encoded in
+// the format configured for the topic when they are queued, so the relay only moves bytes.
 @Service
 public class EmailMessageProducerServiceImpl implements EmailMessageProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
-
-    @Value("${prx.producer.mercury.topic}")
-    private String topic;
-
     private static final Logger logger = LoggerFactory.getLogger(EmailMessageProducerServiceImpl.class);
 
-    public EmailMessageProducerServiceImpl(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
-        this.kafkaTemplate = kafkaTemplate;
-        this.objectMapper = objectMapper;
-        logger.info("EmailMessageProducerServiceImpl created");
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailMessageCodec codec;
+    private final String topic;
+
+    public EmailMessageProducerServiceImpl(EmailOutboxRepository emailOutboxRepository, ObjectMapper objectMapper,
+                                           @Value("${prx.producer.mercury.topic}") String topic,
+                                           @Value("${prx.producer.mercury.format:json}") EmailMessageFormat format) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.codec = format.codec(objectMapper);
+        this.topic = topic;
+        logger.info("EmailMessageProducerServiceImpl created, writing {} to {}", format, topic);
     }
 
     @Override
     public void sendMessage(EmailMessageTO emailMessageTO) {
         try {
-            String message = objectMapper.writeValueAsString(emailMessageTO);
-            CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(topic, message);
-            logger.debug("Sending message: {}", message);
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    logger.info("Message sent: {} with offset: {}", message, result.getRecordMetadata().offset());
-                } else {
-                    logger.error("Error sending message: {} due to: {}", message, ex.getMessage(), ex);
-                }
-            });
-        } catch (JsonProcessingException e) {
+            byte[] message = codec.encode(emailMessageTO);
+            // Keyed by user, so the messages of one user keep their order on the topic
+            String key = Objects.isNull(emailMessageTO.userId()) ? null : emailMessageTO.userId().toString();
+            EmailOutboxEntity queued = emailOutboxRepository.save(
+                    new EmailOutboxEntity(topic, key, codec.format().contentType(), message));
+            // Only the ids: the params carry the verification code and the recipients personal data
+            logger.debug("Queued message {} for {} with template {}", queued.getId(), topic,
+                    emailMessageTO.templateDefinedId());
+        } catch (IOException e) {
             throw new StandardException("Error serializing EmailMessageTO: " + e.getMessage(), MessageType.DEFAULT_MESSAGE, e);
         }
     }
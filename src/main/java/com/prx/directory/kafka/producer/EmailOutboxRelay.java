@@ -0,0 +1,222 @@
+package com.prx.directory.kafka.producer;
+
+import com.prx.directory.jpa.entity.EmailOutboxEntity;
+import com.prx.directory.jpa.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sends the messages queued in the email outbox to Kafka.
+//
+// Each run claims up to batch-size due messages in a short transaction, hands all of them to the producer before
+// waiting for any, so they leave in as few produce requests as linger.ms and batch.size allow, and deletes the
+// acknowledged ones in a second transaction. No row lock or connection is held while waiting for the broker: the
+// claim moves the next attempt of the messages past the longest the batch can take (see claimLease), so other relays
+// skip them until then. Failed
+// messages stay in the outbox and are retried with exponential backoff, up to max-attempts; then they are parked
+// with failed_at set. Delivery is at least once: a crash before the second commit sends the batch again once the
+// claim expires, so every record carries its outbox id in the OUTBOX_ID_HEADER header for consumers to deduplicate
+// on, next to the content type of its value (see EmailMessageFormat).
+@Component
+public class EmailOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxRelay.class);
+    static final String OUTBOX_ID_HEADER = "prx-outbox-id";
+    static final String CONTENT_TYPE_HEADER = "content-type";
+    static final String MESSAGES_METRIC = "prx.outbox.relay.messages";
+    static final String DELIVERY_METRIC = "prx.outbox.delivery";
+    static final String PENDING_METRIC = "prx.outbox.pending";
+    static final String LAG_METRIC = "prx.outbox.lag";
+    static final String FAILED_METRIC = "prx.outbox.failed";
+    static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final int maxAttempts;
+    private final Duration claimLease;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public EmailOutboxRelay(EmailOutboxRepository emailOutboxRepository, KafkaTemplate<String, byte[]> kafkaTemplate,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                            @Value("${prx.outbox.relay.batch-size:100}") int batchSize,
+                            @Value("${prx.outbox.relay.send-timeout:PT30S}") Duration sendTimeout,
+                            @Value("${prx.outbox.relay.max-attempts:20}") int maxAttempts,
+                            @Value("${prx.kafka.producer.max-block:PT5S}") Duration maxBlock) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.maxAttempts = maxAttempts;
+        this.claimLease = claimLease(batchSize, sendTimeout, maxBlock);
+        this.sentCounter = Counter.builder(MESSAGES_METRIC).tag("outcome", "sent")
+                .description("Outbox messages handed to Kafka by the relay").register(meterRegistry);
+        this.failedCounter = Counter.builder(MESSAGES_METRIC).tag("outcome", "failed")
+                .description("Outbox messages handed to Kafka by the relay").register(meterRegistry);
+        this.deliveryTimer = Timer.builder(DELIVERY_METRIC)
+                .description("Time from queueing an outbox message to its acknowledgement by Kafka")
+                .register(meterRegistry);
+        Gauge.builder(PENDING_METRIC, pending, AtomicLong::get)
+                .description("Messages waiting in the email outbox, as of the last relay run")
+                .register(meterRegistry);
+        Gauge.builder(LAG_METRIC, lagSeconds, AtomicLong::get)
+                .description("Age of the oldest message waiting in the email outbox, as of the last relay run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(FAILED_METRIC, failed, AtomicLong::get)
+                .description("Messages parked in the email outbox after their last attempt, as of the last relay run")
+                .register(meterRegistry);
+    }
+
+    // Drains the due messages batch by batch, then refreshes the outbox gauges. Failures are logged and the messages
+    // are picked up again by the next run.
+    @Scheduled(fixedDelayString = "${prx.outbox.relay.interval:PT1S}")
+    public void relay() {
+        try {
+            int claimed;
+            do {
+                claimed = relayBatch();
+            } while (claimed == batchSize);
+            updateGauges();
+        } catch (RuntimeException e) {
+            logger.warn("Email outbox relay failed, retrying on the next run", e);
+        }
+    }
+
+    // Sends one batch and returns the number of messages it claimed.
+    int relayBatch() {
+        List<EmailOutboxEntity> batch = Objects.requireNonNullElse(transactionTemplate.execute(status -> claim()), List.of());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<SendResult<String, byte[]>>> results = batch.stream().map(this::send).toList();
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<UUID> delivered = new ArrayList<>(batch.size());
+        List<EmailOutboxEntity> undelivered = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            EmailOutboxEntity message = batch.get(i);
+            try {
+                results.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                delivered.add(message.getId());
+                sentCounter.increment();
+                deliveryTimer.record(Duration.between(message.getCreatedAt(), LocalDateTime.now()));
+            } catch (ExecutionException e) {
+                undelivered.add(failed(message, e.getCause()));
+            } catch (TimeoutException e) {
+                undelivered.add(failed(message, e));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                undelivered.add(failed(message, e));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                emailOutboxRepository.deleteAllByIdInBatch(delivered);
+            }
+            undelivered.forEach(message -> emailOutboxRepository.recordFailure(message.getId(),
+                    message.getAttempts(), message.getNextAttemptAt(), message.getFailedAt(), message.getLastError()));
+        });
+        return batch.size();
+    }
+
+    // Locks the due messages and claims them for the claim lease. The locks are released when this transaction
+    // commits.
+    private List<EmailOutboxEntity> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxEntity> batch = emailOutboxRepository.lockDue(now, PageRequest.of(0, batchSize));
+        if (!batch.isEmpty()) {
+            emailOutboxRepository.claim(batch.stream().map(EmailOutboxEntity::getId).toList(), now.plus(claimLease));
+        }
+        return batch;
+    }
+
+    // The longest a claimed batch can take before its outcome is recorded: handing a message to the producer blocks
+    // for up to max.block when the broker metadata or the buffer is not available, once per message; the wait for the
+    // acknowledgements then takes up to the send timeout, and one more send timeout covers the second transaction.
+    static Duration claimLease(int batchSize, Duration sendTimeout, Duration maxBlock) {
+        return maxBlock.multipliedBy(batchSize).plus(sendTimeout.multipliedBy(2));
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> send(EmailOutboxEntity message) {
+        List<Header> headers = List.of(
+                new RecordHeader(OUTBOX_ID_HEADER, message.getId().toString().getBytes(StandardCharsets.UTF_8)),
+                new RecordHeader(CONTENT_TYPE_HEADER, message.getContentType().getBytes(StandardCharsets.UTF_8)));
+        try {
+            return kafkaTemplate.send(new ProducerRecord<>(message.getTopic(), null, message.getMessageKey(),
+                    message.getPayload(), headers));
+        } catch (RuntimeException e) {
+            // The producer throws instead of failing the future when it cannot even enqueue the record
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Counts the attempt on the detached row and schedules the next one, or parks the message after the last
+    // attempt; relayBatch writes the changes back.
+    private EmailOutboxEntity failed(EmailOutboxEntity message, Throwable cause) {
+        int attempts = message.getAttempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        message.setAttempts(attempts);
+        message.setNextAttemptAt(now.plus(backoff(attempts)));
+        String error = String.valueOf(cause);
+        message.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        failedCounter.increment();
+        if (attempts >= maxAttempts) {
+            message.setFailedAt(now);
+            logger.error("Giving up on outbox message {} to {} after {} attempts: {}", message.getId(),
+                    message.getTopic(), attempts, error);
+        } else {
+            logger.warn("Error sending outbox message {} to {} (attempt {}): {}", message.getId(), message.getTopic(),
+                    attempts, error);
+        }
+        return message;
+    }
+
+    // 1s, 2s, 4s, ... capped at MAX_BACKOFF.
+    static Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void updateGauges() {
+        pending.set(emailOutboxRepository.countByFailedAtIsNull());
+        failed.set(emailOutboxRepository.countByFailedAtIsNotNull());
+        LocalDateTime oldest = emailOutboxRepository.findOldestCreatedAt();
+        lagSeconds.set(Objects.isNull(oldest) ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+}
@@ -0,0 +1,329 @@
+package com.prx.directory.kafka.serialization;
+
+import com.prx.directory.kafka.to.EmailMessageTO;
+import com.prx.directory.kafka.to.Recipient;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of {@code EmailMessageTO}.
+ * <p>
+ * A value starts with {@link #MAGIC} and the schema {@link #VERSION}, followed by the record components in
+ * declaration order. Version 1 encodes them as follows:
+ * <ul>
+ *   <li>UUID: a presence byte, then the most and least significant bits as two big-endian longs</li>
+ *   <li>String: the UTF-8 length plus one as an unsigned varint (0 for null), then the bytes</li>
+ *   <li>List of recipients: the size plus one as a varint (0 for null), then name, email and alias of each</li>
+ *   <li>LocalDateTime: a presence byte, then the epoch second (read as UTC) as a zigzag varint and the nanos</li>
+ *   <li>params: the size plus one as a varint (0 for null), then each key followed by a tagged value</li>
+ * </ul>
+ * Param values may be strings, booleans, integral numbers (decoded as {@code Long}) or floating point numbers
+ * (decoded as {@code Double}); anything else is rejected rather than silently converted. A new layout gets a new
+ * version, and {@link #decode(byte[])} keeps reading the older ones.
+ */
+public final class BinaryEmailMessageCodec implements EmailMessageCodec {
+
+    static final byte MAGIC = (byte) 0xE3;
+    static final byte VERSION = 1;
+
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING_VALUE = 1;
+    private static final byte TRUE_VALUE = 2;
+    private static final byte FALSE_VALUE = 3;
+    private static final byte LONG_VALUE = 4;
+    private static final byte DOUBLE_VALUE = 5;
+
+    @Override
+    public EmailMessageFormat format() {
+        return EmailMessageFormat.BINARY;
+    }
+
+    @Override
+    public byte[] encode(EmailMessageTO message) throws IOException {
+        Writer writer = new Writer();
+        writer.writeByte(MAGIC);
+        writer.writeByte(VERSION);
+        writer.writeUuid(message.templateDefinedId());
+        writer.writeUuid(message.userId());
+        writer.writeString(message.from());
+        writer.writeRecipients(message.to());
+        writer.writeRecipients(message.cc());
+        writer.writeString(message.subject());
+        writer.writeString(message.body());
+        writer.writeDateTime(message.sendDate());
+        writer.writeParams(message.params());
+        return writer.toByteArray();
+    }
+
+    @Override
+    public EmailMessageTO decode(byte[] value) throws IOException {
+        Reader reader = new Reader(value);
+        try {
+            if (reader.readByte() != MAGIC) {
+                throw new IOException("Not a binary EmailMessageTO value");
+            }
+            byte version = reader.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported EmailMessageTO schema version " + version);
+            }
+            return new EmailMessageTO(reader.readUuid(), reader.readUuid(), reader.readString(),
+                    reader.readRecipients(), reader.readRecipients(), reader.readString(), reader.readString(),
+                    reader.readDateTime(), reader.readParams());
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new EOFException("Truncated EmailMessageTO value");
+        } catch (DateTimeException e) {
+            throw new IOException("Invalid send date in EmailMessageTO value", e);
+        }
+    }
+
+    // Growable byte buffer with the primitive encodings of the format.
+    private static final class Writer {
+
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[size++] = value;
+        }
+
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeZigzag(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeLong(long value) {
+            ensureCapacity(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeUuid(UUID value) {
+            if (Objects.isNull(value)) {
+                writeByte(ABSENT);
+                return;
+            }
+            writeByte(PRESENT);
+            writeLong(value.getMostSignificantBits());
+            writeLong(value.getLeastSignificantBits());
+        }
+
+        void writeString(String value) {
+            if (Objects.isNull(value)) {
+                writeVarint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeRecipients(List<Recipient> recipients) {
+            if (Objects.isNull(recipients)) {
+                writeVarint(0);
+                return;
+            }
+            writeVarint(recipients.size() + 1L);
+            for (Recipient recipient : recipients) {
+                writeString(recipient.name());
+                writeString(recipient.email());
+                writeString(recipient.alias());
+            }
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            if (Objects.isNull(value)) {
+                writeByte(ABSENT);
+                return;
+            }
+            writeByte(PRESENT);
+            writeZigzag(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarint(value.getNano());
+        }
+
+        void writeParams(Map<String, Object> params) throws IOException {
+            if (Objects.isNull(params)) {
+                writeVarint(0);
+                return;
+            }
+            writeVarint(params.size() + 1L);
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                writeString(param.getKey());
+                writeParam(param.getKey(), param.getValue());
+            }
+        }
+
+        private void writeParam(String key, Object value) throws IOException {
+            switch (value) {
+                case null -> writeByte(NULL_VALUE);
+                case String text -> {
+                    writeByte(STRING_VALUE);
+                    writeString(text);
+                }
+                case Boolean flag -> writeByte(flag ? TRUE_VALUE : FALSE_VALUE);
+                case Long number -> writeLongParam(number);
+                case Integer number -> writeLongParam(number);
+                case Short number -> writeLongParam(number);
+                case Byte number -> writeLongParam(number);
+                case Double number -> writeDoubleParam(number);
+                case Float number -> writeDoubleParam(number);
+                default -> throw new IOException("Param " + key + " has unsupported type "
+                        + value.getClass().getName());
+            }
+        }
+
+        private void writeLongParam(long value) {
+            writeByte(LONG_VALUE);
+            writeZigzag(value);
+        }
+
+        private void writeDoubleParam(double value) {
+            writeByte(DOUBLE_VALUE);
+            writeLong(Double.doubleToLongBits(value));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    // Reads the primitive encodings of the format; running past the end throws BufferUnderflowException.
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(byte[] value) {
+            this.buffer = ByteBuffer.wrap(value);
+        }
+
+        byte readByte() {
+            return buffer.get();
+        }
+
+        long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte next = buffer.get();
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        long readZigzag() throws IOException {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readLength() throws IOException {
+            return readCount(1);
+        }
+
+        // Reads a length or size plus one, each element taking at least minBytes, and checks it against the bytes
+        // left, so a corrupt count fails before anything is allocated for it
+        int readCount(int minBytes) throws IOException {
+            long count = readVarint();
+            if (count < 0) {
+                throw new IOException("Negative length in EmailMessageTO value");
+            }
+            if (count - 1 > buffer.remaining() / minBytes) {
+                throw new EOFException("Truncated EmailMessageTO value");
+            }
+            return (int) count;
+        }
+
+        UUID readUuid() {
+            return buffer.get() == ABSENT ? null : new UUID(buffer.getLong(), buffer.getLong());
+        }
+
+        String readString() throws IOException {
+            int length = readLength();
+            if (length == 0) {
+                return null;
+            }
+            String value = new String(buffer.array(), buffer.position(), length - 1, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length - 1);
+            return value;
+        }
+
+        List<Recipient> readRecipients() throws IOException {
+            // Name, email and alias take a byte each at least
+            int size = readCount(3);
+            if (size == 0) {
+                return null;
+            }
+            List<Recipient> recipients = new ArrayList<>(size - 1);
+            for (int i = 1; i < size; i++) {
+                recipients.add(new Recipient(readString(), readString(), readString()));
+            }
+            return recipients;
+        }
+
+        LocalDateTime readDateTime() throws IOException {
+            if (buffer.get() == ABSENT) {
+                return null;
+            }
+            long epochSecond = readZigzag();
+            return LocalDateTime.ofEpochSecond(epochSecond, (int) readVarint(), ZoneOffset.UTC);
+        }
+
+        Map<String, Object> readParams() throws IOException {
+            // A key and a value tag take a byte each at least
+            int size = readCount(2);
+            if (size == 0) {
+                return null;
+            }
+            Map<String, Object> params = LinkedHashMap.newLinkedHashMap(size - 1);
+            for (int i = 1; i < size; i++) {
+                String key = readString();
+                byte tag = buffer.get();
+                Object value = switch (tag) {
+                    case NULL_VALUE -> null;
+                    case STRING_VALUE -> readString();
+                    case TRUE_VALUE -> Boolean.TRUE;
+                    case FALSE_VALUE -> Boolean.FALSE;
+                    case LONG_VALUE -> readZigzag();
+                    case DOUBLE_VALUE -> Double.longBitsToDouble(buffer.getLong());
+                    default -> throw new IOException("Unknown param tag " + tag);
+                };
+                params.put(key, value);
+            }
+            return params;
+        }
+    }
+}
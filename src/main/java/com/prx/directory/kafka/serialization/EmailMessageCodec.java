@@ -0,0 +1,34 @@
+package com.prx.directory.kafka.serialization;
+
+import com.prx.directory.kafka.to.EmailMessageTO;
+
+import java.io.IOException;
+
+/**
+ * Encodes {@code EmailMessageTO} records for Kafka and decodes them back.
+ */
+public interface EmailMessageCodec {
+
+    /**
+     * @return the format this codec writes
+     */
+    EmailMessageFormat format();
+
+    /**
+     * Encodes a message.
+     *
+     * @param message the message
+     * @return the record value
+     * @throws IOException if the message cannot be represented in this format
+     */
+    byte[] encode(EmailMessageTO message) throws IOException;
+
+    /**
+     * Decodes a record value written by {@link #encode(EmailMessageTO)}.
+     *
+     * @param value the record value
+     * @return the message
+     * @throws IOException if the value is not a message in this format
+     */
+    EmailMessageTO decode(byte[] value) throws IOException;
+}
@@ -0,0 +1,43 @@
+package com.prx.directory.kafka.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Wire formats of {@code EmailMessageTO} records, selected per topic (e.g. {@code prx.producer.mercury.format}).
+ * <p>
+ * The content type is sent in the {@code content-type} header of every record, so consumers can tell the formats
+ * apart while a topic is switched from one to the other.
+ */
+public enum EmailMessageFormat {
+    /**
+     * UTF-8 JSON, as written by Jackson. The default.
+     */
+    JSON("application/json"),
+    /**
+     * The compact binary encoding of {@link BinaryEmailMessageCodec}, schema version 1.
+     */
+    BINARY("application/vnd.prx.email-message.v" + BinaryEmailMessageCodec.VERSION + "+binary");
+
+    private final String contentType;
+
+    EmailMessageFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Creates the codec writing this format.
+     *
+     * @param objectMapper the mapper used by the JSON format
+     * @return the codec
+     */
+    public EmailMessageCodec codec(ObjectMapper objectMapper) {
+        return switch (this) {
+            case JSON -> new JsonEmailMessageCodec(objectMapper);
+            case BINARY -> new BinaryEmailMessageCodec();
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.prx.directory.kafka.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.kafka.to.EmailMessageTO;
+
+import java.io.IOException;
+
+// The JSON format consumers have always read, written with the application ObjectMapper.
+final class JsonEmailMessageCodec implements EmailMessageCodec {
+
+    private final ObjectMapper objectMapper;
+
+    JsonEmailMessageCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public EmailMessageFormat format() {
+        return EmailMessageFormat.JSON;
+    }
+
+    @Override
+    public byte[] encode(EmailMessageTO message) throws IOException {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Override
+    public EmailMessageTO decode(byte[] value) throws IOException {
+        return objectMapper.readValue(value, EmailMessageTO.class);
+    }
+}
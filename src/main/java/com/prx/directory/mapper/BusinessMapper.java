@@ -9,9 +9,12 @@ import com.prx.directory.jpa.entity.BusinessEntity;
 import com.prx.directory.jpa.entity.CategoryEntity;
 import com.prx.directory.jpa.entity.DigitalContactEntity;
 import com.prx.directory.jpa.entity.UserEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 
 /// Mapper for the entity {@link BusinessEntity} and its DTO {@link BusinessCreateRequest} and {@link BusinessCreateResponse}.
@@ -48,9 +51,23 @@ public interface BusinessMapper {
     BusinessCreateResponse toBusinessCreateResponse(BusinessEntity businessEntity);
 
     /// The method maps the fields of the BusinessEntity object to the fields of the BusinessTO object.
+    /// The digital contacts are indexed by type once, then read by every contact field.
     ///
     /// @param businessEntity The BusinessEntity object to convert.
     /// @return The converted BusinessTO object.
+    default BusinessTO toBusinessTO(BusinessEntity businessEntity) {
+        if (businessEntity == null) {
+            return null;
+        }
+        return toBusinessTO(businessEntity, contactsByType(businessEntity));
+    }
+
+    /// Maps a BusinessEntity to a BusinessTO, reading the contact fields from an index built by
+    /// {@link #contactsByType(BusinessEntity)}.
+    ///
+    /// @param businessEntity The BusinessEntity object to convert.
+    /// @param contacts       The business contacts keyed by contact type.
+    /// @return The converted BusinessTO object.
     @Mapping(target = "id", source = "id")
     @Mapping(target = "name", source = "name")
     @Mapping(target = "verified", source = "verified")
@@ -60,11 +77,11 @@ public interface BusinessMapper {
     @Mapping(target = "createdDate", source = "createdDate")
     @Mapping(target = "userId", source = "businessEntity.userFk.id")
     @Mapping(target = "categoryId", source = "businessEntity.categoryFk.id")
-    @Mapping(target = "email", expression = "java(getValueByName(com.prx.directory.constant.ContactTypeKey.EML, businessEntity))")
-    @Mapping(target = "website", expression = "java(getValueByName(com.prx.directory.constant.ContactTypeKey.WBH, businessEntity))")
-    @Mapping(target = "customerServiceEmail", expression = "java(getValueByName(com.prx.directory.constant.ContactTypeKey.SCE, businessEntity))")
-    @Mapping(target = "orderManagementEmail", expression = "java(getValueByName(com.prx.directory.constant.ContactTypeKey.MEC, businessEntity))")
-    BusinessTO toBusinessTO(BusinessEntity businessEntity);
+    @Mapping(target = "email", expression = "java(contacts.get(com.prx.directory.constant.ContactTypeKey.EML))")
+    @Mapping(target = "website", expression = "java(contacts.get(com.prx.directory.constant.ContactTypeKey.WBH))")
+    @Mapping(target = "customerServiceEmail", expression = "java(contacts.get(com.prx.directory.constant.ContactTypeKey.SCE))")
+    @Mapping(target = "orderManagementEmail", expression = "java(contacts.get(com.prx.directory.constant.ContactTypeKey.MEC))")
+    BusinessTO toBusinessTO(BusinessEntity businessEntity, @Context Map<ContactTypeKey, String> contacts);
 
     /// Converts a BusinessEntity object to a BusinessCreateResponse object.
     ///
@@ -86,10 +103,23 @@ public interface BusinessMapper {
         return categoryEntity;
     }
 
-    default String getValueByName(ContactTypeKey key, BusinessEntity businessEntity) {
-        return businessEntity.getDigitalContacts().stream().filter(digitalContactEntity ->
-                key.toString().equals(digitalContactEntity.getContactType().getName())
-        ).map(DigitalContactEntity::getContent).findFirst().orElse(null);
+    /// Indexes the digital contacts of a business by contact type in a single pass. When a business has several
+    /// contacts of the same type, the first one in iteration order wins; contacts of unknown types are skipped.
+    ///
+    /// @param businessEntity The business whose contacts are indexed.
+    /// @return The contact content keyed by contact type.
+    default Map<ContactTypeKey, String> contactsByType(BusinessEntity businessEntity) {
+        Map<ContactTypeKey, String> contacts = new EnumMap<>(ContactTypeKey.class);
+        if (businessEntity.getDigitalContacts() == null) {
+            return contacts;
+        }
+        for (DigitalContactEntity digitalContactEntity : businessEntity.getDigitalContacts()) {
+            ContactTypeKey key = ContactTypeKey.fromName(digitalContactEntity.getContactType().getName());
+            if (key != null) {
+                contacts.putIfAbsent(key, digitalContactEntity.getContent());
+            }
+        }
+        return contacts;
     }
 
 }
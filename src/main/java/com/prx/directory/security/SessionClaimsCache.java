@@ -0,0 +1,168 @@
+package com.prx.directory.security;
+
+import com.prx.security.exception.CertificateSecurityException;
+import com.prx.security.service.SessionJwtService;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the verified claims of session tokens issued by this service.
+ * <p>
+ * The first request carrying a token verifies its signature and expiration through {@link SessionJwtService}
+ * (which holds the signing key); later requests with the same token are answered from memory until the token
+ * expires. Entries are keyed by the SHA-256 of the token, so raw tokens are never retained, and only tokens that
+ * passed verification are stored. The cache is bounded: when it is full, expired entries are purged and, if that
+ * is not enough, the cache is cleared and refilled on demand.
+ */
+@Component
+public class SessionClaimsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionClaimsCache.class);
+    static final String UID_CLAIM = "uid";
+    // Verified claims are reused at most this long, so long-lived tokens are still re-verified periodically
+    static final Duration MAX_TTL = Duration.ofMinutes(5);
+
+    private final Map<String, CachedClaims> entries = new ConcurrentHashMap<>();
+    private final SessionJwtService sessionJwtService;
+    private final int maxSize;
+    private final Clock clock;
+
+    @Autowired
+    public SessionClaimsCache(SessionJwtService sessionJwtService,
+                              @Value("${prx.session.claims-cache.max-size:10000}") int maxSize) {
+        this(sessionJwtService, maxSize, Clock.systemUTC());
+    }
+
+    SessionClaimsCache(SessionJwtService sessionJwtService, int maxSize, Clock clock) {
+        this.sessionJwtService = sessionJwtService;
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the verified claims of the given session token.
+     *
+     * @param token the session token
+     * @return the claims, or null if the token is blank, has an invalid signature or is expired
+     */
+    public Claims getClaims(String token) {
+        CachedClaims cached = lookup(token);
+        return Objects.isNull(cached) ? null : cached.claims();
+    }
+
+    /**
+     * Extracts the user id ({@code uid} claim) from the given session token.
+     *
+     * @param token the session token
+     * @return the user id, or null if the token is not valid or has no usable uid
+     */
+    public UUID getUid(String token) {
+        CachedClaims cached = lookup(token);
+        return Objects.isNull(cached) ? null : cached.uid();
+    }
+
+    /**
+     * Drops the cached claims of the given token, e.g. after the session was revoked.
+     *
+     * @param token the session token
+     */
+    public void evict(String token) {
+        if (Objects.nonNull(token) && !token.isBlank()) {
+            entries.remove(keyOf(token));
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private CachedClaims lookup(String token) {
+        if (Objects.isNull(token) || token.isBlank()) {
+            return null;
+        }
+        String key = keyOf(token);
+        Instant now = clock.instant();
+        CachedClaims cached = entries.get(key);
+        if (Objects.nonNull(cached)) {
+            if (now.isBefore(cached.expiresAt())) {
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        Claims claims;
+        try {
+            claims = sessionJwtService.getTokenClaims(token);
+        } catch (CertificateSecurityException e) {
+            logger.debug("Session token rejected: {}", e.getMessage());
+            return null;
+        }
+        if (Objects.isNull(claims)) {
+            return null;
+        }
+        CachedClaims verified = new CachedClaims(claims, uidOf(claims), expiresAt(claims, now));
+        if (now.isBefore(verified.expiresAt())) {
+            store(key, verified, now);
+        }
+        return verified;
+    }
+
+    private void store(String key, CachedClaims claims, Instant now) {
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(key, claims);
+    }
+
+    private static Instant expiresAt(Claims claims, Instant now) {
+        Instant cap = now.plus(MAX_TTL);
+        if (Objects.isNull(claims.getExpiration())) {
+            return cap;
+        }
+        Instant expiration = claims.getExpiration().toInstant();
+        return expiration.isBefore(cap) ? expiration : cap;
+    }
+
+    private static UUID uidOf(Claims claims) {
+        Object uid = claims.get(UID_CLAIM);
+        if (Objects.isNull(uid)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(uid.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String keyOf(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedClaims(Claims claims, UUID uid, Instant expiresAt) {
+    }
+}
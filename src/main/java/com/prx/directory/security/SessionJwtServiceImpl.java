@@ -5,6 +5,8 @@ import com.prx.security.exception.CertificateSecurityException;
 import com.prx.security.jwt.JwtConfigProperties;
 import com.prx.security.service.SessionJwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -17,7 +19,6 @@ import java.util.Date;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static com.prx.security.constant.ConstantApp.SESSION_TOKEN_KEY;
 
@@ -30,6 +31,8 @@ public class SessionJwtServiceImpl implements SessionJwtService {
     private static final Logger logger = LoggerFactory.getLogger(SessionJwtServiceImpl.class);
     private final JwtConfigProperties jwtConfigProperties;
     private final SecretKey key;
+    // Immutable and thread-safe, so a single instance serves every verification
+    private final JwtParser parser;
 
     /**
      * Constructor to initialize SessionJwtService with JwtConfigProperties.
@@ -39,6 +42,7 @@ public class SessionJwtServiceImpl implements SessionJwtService {
     public SessionJwtServiceImpl(JwtConfigProperties jwtConfigProperties) {
         this.jwtConfigProperties = jwtConfigProperties;
         this.key = generateKey();
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     /**
@@ -49,17 +53,24 @@ public class SessionJwtServiceImpl implements SessionJwtService {
      * @return the generated session token
      */
     public String generateSessionToken(String username, Map<String, String> parameters) {
-        Map<String, Object> claims = new ConcurrentHashMap<>();
-        // Required
-        claims.put(AuthKey.JTI.value, UUID.randomUUID().toString());
-        claims.put(AuthKey.TYPE.value, SESSION_TOKEN_KEY);
-        claims.put(AuthKey.IAT.value, new Date());
+        long now = System.currentTimeMillis();
+        Date issuedAt = new Date(now);
+        // Claims go straight into the builder, which is single-use and not thread-safe
+        JwtBuilder builder = Jwts.builder()
+                // Required
+                .claim(AuthKey.JTI.value, UUID.randomUUID().toString())
+                .claim(AuthKey.TYPE.value, SESSION_TOKEN_KEY)
+                .claim(AuthKey.IAT.value, issuedAt);
         // Optional
         if (Objects.nonNull(parameters) && !parameters.isEmpty()) {
-            claims.putAll(parameters);
+            builder.claims(parameters);
         }
 
-        return Jwts.builder().claims(claims).subject(username).issuedAt(new Date()).expiration(new Date(System.currentTimeMillis() + jwtConfigProperties.getExpirationMs())).signWith(key).compact();
+        return builder.subject(username)
+                .issuedAt(issuedAt)
+                .expiration(new Date(now + jwtConfigProperties.getExpirationMs()))
+                .signWith(key)
+                .compact();
     }
 
     /**
@@ -72,7 +83,7 @@ public class SessionJwtServiceImpl implements SessionJwtService {
     public Claims getTokenClaims(String token) throws CertificateSecurityException {
         Claims claims;
         try {
-            claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             throw new CertificateSecurityException(e.getMessage(), e);
         }
@@ -86,7 +97,7 @@ public class SessionJwtServiceImpl implements SessionJwtService {
      * @return the username contained in the token
      */
     public String getUsernameFromToken(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        return parser.parseSignedClaims(token).getPayload().getSubject();
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.prx.directory.services;
 
 import com.prx.directory.client.backbone.BackboneClient;
-import com.prx.directory.client.mercury.MercuryClient;
+import com.prx.directory.client.mercury.AsyncMercuryClient;
 import com.prx.security.service.AuthService;
 import com.prx.security.service.SessionJwtService;
 import com.prx.security.to.AuthRequest;
@@ -15,6 +15,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.prx.directory.util.JwtUtil.getUidFromToken;
@@ -29,16 +31,16 @@ public class AuthServiceImpl implements AuthService {
     private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
     private final SessionJwtService sessionJwtService;
     private final BackboneClient backboneClient;
-    private final MercuryClient mercuryClient;
+    private final AsyncMercuryClient mercuryClient;
 
     /**
      * Constructor for AuthServiceImpl.
      *
      * @param sessionJwtService the service for generating JWT tokens
      * @param backboneClient    the client for interacting with the backbone service
-     * @param mercuryClient     the client for interacting with the backbone service
+     * @param mercuryClient     the non-blocking client for interacting with the mercury service
      */
-    public AuthServiceImpl(SessionJwtService sessionJwtService, BackboneClient backboneClient, MercuryClient mercuryClient) {
+    public AuthServiceImpl(SessionJwtService sessionJwtService, BackboneClient backboneClient, AsyncMercuryClient mercuryClient) {
         this.sessionJwtService = sessionJwtService;
         this.backboneClient = backboneClient;
         this.mercuryClient = mercuryClient;
@@ -72,18 +74,22 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public ResponseEntity<AuthResponse> token(AuthRequest authRequest, String sessionTokenBkd) {
         var parameters = new ConcurrentHashMap<String, String>();
-        Boolean verificationCodeCompleted;
         if (authRequest.alias().isBlank()) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
 
-        var mercuryToken = mercuryClient.token(sessionTokenBkd, authRequest);
         UUID userId = getUidFromToken(sessionTokenBkd);
-        try {
-            verificationCodeCompleted = mercuryClient.isVerificationCodeDone(mercuryToken.token(), userId);
+        // The status lookup needs the Mercury token, so the calls are chained on the client threads and the
+        // request thread waits once for both. A missing verification code completes with null
+        Boolean verificationCodeCompleted = join(mercuryClient.token(sessionTokenBkd, authRequest)
+                .thenCompose(mercuryToken -> mercuryClient.isVerificationCodeDone(mercuryToken.token(), userId)
+                        .exceptionallyCompose(e -> unwrap(e) instanceof FeignException.NotFound
+                                ? CompletableFuture.<Boolean>completedFuture(null)
+                                : CompletableFuture.<Boolean>failedFuture(e))));
+        if (Objects.nonNull(verificationCodeCompleted)) {
             parameters.put("vcCompleted", verificationCodeCompleted.toString());
             parameters.put("uid", userId.toString());
-        } catch (FeignException.NotFound e) {
+        } else {
             logger.info("Token verification code not found for user {}:{}", userId, authRequest.alias());
             parameters.put("vcCompleted", FALSE);
         }
@@ -104,4 +110,21 @@ public class AuthServiceImpl implements AuthService {
     public boolean validate(String sessionTokenBkd) {
         return backboneClient.validate(sessionTokenBkd);
     }
+
+    // Waits for the future and rethrows runtime failures (e.g. FeignException) as they were thrown by the call.
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && Objects.nonNull(throwable.getCause())
+                ? throwable.getCause() : throwable;
+    }
 }
@@ -15,6 +15,10 @@ public final class JwtUtil {
 
     /**
      * Extracts the uid from a JWT token.
+     * <p>
+     * The signature is not verified. Use it only for tokens signed by other services (such as the Backbone
+     * session token); session tokens issued by this service are resolved through
+     * {@link com.prx.directory.security.SessionClaimsCache}.
      *
      * @param token the JWT token
      * @return the uid if present, otherwise null
@@ -0,0 +1,82 @@
+package com.prx.directory.util;
+
+import java.util.Objects;
+
+/**
+ * Validates the website URLs accepted for a business.
+ * <p>
+ * Accepts the same inputs as the pattern {@code ^(https?://)?([\da-z.-]+)\.([a-z.]{2,6})([/\w .-]*)*\/?$} it
+ * replaces: an optional http or https scheme, a lower-case host containing a dot followed by at least two letters,
+ * and an optional path of word characters, spaces, dots, dashes and slashes. The input is scanned once, so the
+ * check takes linear time whatever the content, where the nested quantifier of the pattern backtracks
+ * exponentially on a long path that does not match.
+ */
+public final class UrlValidator {
+
+    private static final String HTTPS = "https://";
+    private static final String HTTP = "http://";
+    private static final int MIN_TLD_LENGTH = 2;
+
+    private UrlValidator() {
+        // Default constructor
+    }
+
+    /**
+     * Checks whether the given string is a valid website URL.
+     *
+     * @param url the URL to check
+     * @return true if the URL is valid, false if it is null or invalid
+     */
+    public static boolean isValid(String url) {
+        if (Objects.isNull(url)) {
+            return false;
+        }
+        int start = schemeLength(url);
+        int length = url.length();
+        // The host must hold "<label>.<tld>", i.e. a dot that is not the first character and is followed by two
+        // top-level domain characters before the first character that cannot belong to a host
+        boolean inHost = true;
+        boolean domain = false;
+        for (int i = start; i < length; i++) {
+            char c = url.charAt(i);
+            if (!isPathChar(c)) {
+                return false;
+            }
+            inHost &= isHostChar(c);
+            if (inHost && !domain && c == '.' && i > start && i + MIN_TLD_LENGTH < length
+                    && isTldChar(url.charAt(i + 1)) && isTldChar(url.charAt(i + 2))) {
+                domain = true;
+            }
+        }
+        return domain;
+    }
+
+    private static int schemeLength(String url) {
+        if (url.startsWith(HTTPS)) {
+            return HTTPS.length();
+        }
+        return url.startsWith(HTTP) ? HTTP.length() : 0;
+    }
+
+    private static boolean isHostChar(char c) {
+        return isLowerCaseLetter(c) || isDigit(c) || c == '.' || c == '-';
+    }
+
+    private static boolean isTldChar(char c) {
+        return isLowerCaseLetter(c) || c == '.';
+    }
+
+    // Word characters as in \w without UNICODE_CHARACTER_CLASS, plus space, dot, dash and slash
+    private static boolean isPathChar(char c) {
+        return isLowerCaseLetter(c) || (c >= 'A' && c <= 'Z') || isDigit(c)
+                || c == '_' || c == ' ' || c == '.' || c == '-' || c == '/';
+    }
+
+    private static boolean isLowerCaseLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
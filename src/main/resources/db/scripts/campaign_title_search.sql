@@ -0,0 +1,21 @@
+-- Campaign title search indexes (PostgreSQL).
+--
+-- Backs the title filter of GET /api/v1/campaigns (q, name, title):
+--   * substring search, lower(title) LIKE '%term%', uses the pg_trgm GIN index for terms of 3+ characters;
+--   * prefix search (term ending with '*'), lower(title) LIKE 'term%', uses the text_pattern_ops B-tree index.
+--
+-- The schema is not managed by the application (ddl-auto is only enabled for tests), so apply this script
+-- once per environment with a role allowed to create extensions. CONCURRENTLY avoids blocking writes on
+-- the campaign table; it cannot run inside a transaction block, so run it with psql autocommit, e.g.
+--   psql "$DATABASE_URL" -f campaign_title_search.sql
+-- The script is idempotent.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS campaign_title_trgm_idx
+    ON directory_site.campaign USING gin (lower(title) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS campaign_title_prefix_idx
+    ON directory_site.campaign (lower(title) text_pattern_ops);
+
+ANALYZE directory_site.campaign;
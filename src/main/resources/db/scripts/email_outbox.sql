@@ -0,0 +1,34 @@
+-- Email outbox table (PostgreSQL).
+--
+-- Holds the email messages queued by EmailMessageProducerServiceImpl until EmailOutboxRelay has sent them to
+-- Kafka; acknowledged rows are deleted, so the table only holds the backlog and the failed messages. The relay
+-- polls the index below for due rows with SELECT ... FOR UPDATE SKIP LOCKED. Rows that ran out of attempts keep
+-- failed_at set and are left for inspection; set it back to NULL to send such a message again.
+--
+-- The schema is not managed by the application (ddl-auto is only enabled for tests), so apply this script once
+-- per environment, before deploying the outbox, e.g.
+--   psql "$DATABASE_URL" -f email_outbox.sql
+-- The script is idempotent.
+
+CREATE TABLE IF NOT EXISTS directory_site.email_outbox
+(
+    id              uuid         NOT NULL DEFAULT gen_random_uuid() PRIMARY KEY,
+    topic           varchar(255) NOT NULL,
+    message_key     varchar(255),
+    content_type    varchar(100) NOT NULL,
+    payload         bytea        NOT NULL,
+    created_at      timestamp    NOT NULL DEFAULT now(),
+    next_attempt_at timestamp    NOT NULL DEFAULT now(),
+    attempts        integer      NOT NULL DEFAULT 0,
+    last_error      varchar(500),
+    failed_at       timestamp
+);
+
+ALTER TABLE directory_site.email_outbox
+    ADD COLUMN IF NOT EXISTS failed_at timestamp;
+
+DROP INDEX IF EXISTS directory_site.email_outbox_next_attempt_at_idx;
+
+CREATE INDEX IF NOT EXISTS email_outbox_due_idx
+    ON directory_site.email_outbox (next_attempt_at)
+    WHERE failed_at IS NULL;
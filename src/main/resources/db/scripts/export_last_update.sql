@@ -0,0 +1,22 @@
+-- Last update indexes for the directory export (PostgreSQL).
+--
+-- Back the incremental pulls of GET /api/v1/export?since=..., which read the rows with last_update >= since.
+-- Full exports (no since) scan the tables and do not need them.
+--
+-- The schema is not managed by the application (ddl-auto is only enabled for tests), so apply this script once
+-- per environment. CONCURRENTLY avoids blocking writes; it cannot run inside a transaction block, so run it with
+-- psql autocommit, e.g.
+--   psql "$DATABASE_URL" -f export_last_update.sql
+-- The script is idempotent.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS category_last_update_idx
+    ON directory_site.category (last_update);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS business_last_update_idx
+    ON directory_site.business (last_update);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS product_last_update_idx
+    ON directory_site.product (last_update);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS campaign_last_update_idx
+    ON directory_site.campaign (last_update);
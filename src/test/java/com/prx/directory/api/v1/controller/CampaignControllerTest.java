@@ -38,7 +38,7 @@ class CampaignControllerTest {
     @DisplayName("listCampaigns: returns 200 with response body")
     void listCampaignsReturnsOk() {
         CampaignResumeTO resume = new CampaignResumeTO(UUID.randomUUID(), "t", null, null, "Automotive", null, "ACTIVE");
-        CampaignListResponse response = new CampaignListResponse(0, 1, 20, 0, 0L, 0L, 0L, List.of(resume));
+        CampaignListResponse response = new CampaignListResponse(0L, 1, 20, 0, 0L, 0L, 0L, List.of(resume));
         when(campaignService.list(eq(1), eq(20), eq("-start_date"), any())).thenReturn(ResponseEntity.ok(response));
 
         ResponseEntity<CampaignListResponse> result = campaignController.listCampaigns(1, 20, "-start_date", Collections.emptyMap());
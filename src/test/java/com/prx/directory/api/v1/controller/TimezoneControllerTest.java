@@ -1,8 +1,6 @@
 package com.prx.directory.api.v1.controller;
 
 import com.prx.directory.api.v1.service.TimezoneService;
-import com.prx.directory.api.v1.to.GetTimezoneCollectionResponse;
-import com.prx.directory.api.v1.to.TimezoneResumeTO;
 import com.prx.directory.api.v1.to.TimezoneTO;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -14,13 +12,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -37,12 +38,13 @@ class TimezoneControllerTest {
     @Test
     @DisplayName("getAllTimezones returns OK")
     void all_ok() {
-        var resp = new GetTimezoneCollectionResponse(List.of(new TimezoneResumeTO(UUID.randomUUID(), "UTC", "UTC")), 1);
-        when(service.findAll()).thenReturn(resp);
-        var out = controller.getAllTimezones();
+        byte[] body = "{\"timezones\":[],\"total\":0}".getBytes(StandardCharsets.UTF_8);
+        when(service.getCatalog("gzip")).thenReturn(ResponseEntity.ok().eTag("\"abc\"").body(body));
+        var out = controller.getAllTimezones("gzip");
         assertEquals(HttpStatus.OK, out.getStatusCode());
         Assertions.assertNotNull(out.getBody());
-        assertEquals(1, out.getBody().timezones().size());
+        assertEquals("\"abc\"", out.getHeaders().getETag());
+        assertArrayEquals(body, out.getBody());
     }
 
     @Test
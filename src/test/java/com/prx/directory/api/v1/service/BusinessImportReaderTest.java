@@ -0,0 +1,92 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BusinessImportReader - NDJSON and CSV bulk import rows")
+class BusinessImportReaderTest {
+
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("split: quoted fields keep separators and escaped quotes")
+    void splitHandlesQuotes() {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""), BusinessImportReader.split("a,\"b, c\",\"say \"\"hi\"\"\","));
+    }
+
+    @Test
+    @DisplayName("ndjson: blank lines are skipped and malformed lines become error rows")
+    void ndjsonRows() throws IOException {
+        String input = """
+                {"name":"Bakery","description":"Bread","categoryId":"%s","userId":"%s","email":"a@b.com"}
+
+                {"name":
+                """.formatted(categoryId, userId);
+        try (BusinessImportReader reader = BusinessImportReader.ndjson(stream(input), new ObjectMapper())) {
+            BusinessImportReader.Row first = reader.next();
+            assertEquals(1, first.line());
+            assertEquals("Bakery", first.request().name());
+            assertEquals(userId, first.request().userId());
+
+            BusinessImportReader.Row second = reader.next();
+            assertEquals(3, second.line());
+            assertNull(second.request());
+            assertTrue(second.error().startsWith("Malformed JSON"));
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("csv: header columns are matched in any order, case and underscore style")
+    void csvRows() throws IOException {
+        String input = "\uFEFFUser_Id,NAME,category_id,website,ignored\n"
+                + userId + ",\"Smith, Jones & Co\"," + categoryId + ",,x\n"
+                + "not-a-uuid,Corner Shop," + categoryId + ",,\n";
+        try (BusinessImportReader reader = BusinessImportReader.csv(stream(input))) {
+            BusinessImportReader.Row first = reader.next();
+            assertEquals(2, first.line());
+            assertEquals("Smith, Jones & Co", first.request().name());
+            assertEquals(userId, first.request().userId());
+            assertEquals(categoryId, first.request().categoryId());
+            assertNull(first.request().website());
+            assertNull(first.request().email());
+
+            BusinessImportReader.Row second = reader.next();
+            assertEquals("userId is not a valid UUID.", second.error());
+
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("csv: an unterminated quote fails only its row")
+    void csvUnterminatedQuote() throws IOException {
+        try (BusinessImportReader reader = BusinessImportReader.csv(stream("name\n\"Bakery\nShop\n"))) {
+            assertEquals("Quoted field is not closed.", reader.next().error());
+            assertEquals("Shop", reader.next().request().name());
+        }
+    }
+
+    @Test
+    @DisplayName("csv: a header without a name column is rejected up front")
+    void csvRequiresNameColumn() {
+        assertThrows(IllegalArgumentException.class, () -> BusinessImportReader.csv(stream("title,userId\n")));
+        assertThrows(IllegalArgumentException.class, () -> BusinessImportReader.csv(stream("\n\n")));
+    }
+
+    private static InputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
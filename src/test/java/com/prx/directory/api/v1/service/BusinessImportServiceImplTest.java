@@ -0,0 +1,265 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.commons.general.pojo.Role;
+import com.prx.directory.api.v1.to.BusinessCreateRequest;
+import com.prx.directory.client.backbone.BackboneClient;
+import com.prx.directory.client.backbone.to.BackboneUserGetResponse;
+import com.prx.directory.constant.RoleKey;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.ContactTypeEntity;
+import com.prx.directory.jpa.entity.DigitalContactEntity;
+import com.prx.directory.jpa.repository.BusinessRepository;
+import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.jpa.repository.ContactTypeRepository;
+import com.prx.directory.jpa.repository.DigitalContactRepository;
+import com.prx.directory.mapper.BusinessMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BusinessImportServiceImpl - bulk business import")
+class BusinessImportServiceImplTest {
+
+    private static final String NDJSON = MediaType.APPLICATION_NDJSON_VALUE;
+    private static final String CSV = "text/csv; charset=UTF-8";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UUID categoryId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID missingUserId = UUID.randomUUID();
+    private BusinessRepository businessRepository;
+    private CategoryRepository categoryRepository;
+    private DigitalContactRepository digitalContactRepository;
+    private BusinessMapper businessMapper;
+    private BackboneClient backboneClient;
+    private DirectorySearchIndex searchIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private BusinessImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        businessRepository = mock(BusinessRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        digitalContactRepository = mock(DigitalContactRepository.class);
+        ContactTypeRepository contactTypeRepository = mock(ContactTypeRepository.class);
+        businessMapper = mock(BusinessMapper.class);
+        backboneClient = mock(BackboneClient.class);
+        searchIndex = mock(DirectorySearchIndex.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(contactTypeRepository.findByNameIn(any())).thenReturn(List.of(contactType("EML"), contactType("WBH")));
+        when(businessRepository.findExistingNames(any())).thenReturn(Set.of("Taken"));
+        when(categoryRepository.findExistingIds(any())).thenReturn(Set.of(categoryId));
+        when(businessMapper.toSource(any())).thenAnswer(invocation -> {
+            BusinessCreateRequest request = invocation.getArgument(0);
+            BusinessEntity business = new BusinessEntity();
+            business.setName(request.name());
+            return business;
+        });
+        when(businessRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<BusinessEntity> businesses = invocation.getArgument(0);
+            businesses.forEach(business -> business.setId(UUID.randomUUID()));
+            return businesses;
+        });
+        BackboneUserGetResponse owner = user(ownerId);
+        when(backboneClient.findUserById(ownerId)).thenReturn(owner);
+        when(backboneClient.findUserById(missingUserId)).thenReturn(null);
+
+        service = new BusinessImportServiceImpl(businessRepository, digitalContactRepository, contactTypeRepository,
+                categoryRepository, businessMapper, backboneClient, searchIndex, objectMapper, mock(PlatformTransactionManager.class),
+                meterRegistry, 2, 2);
+        ReflectionTestUtils.setField(service, "applicationId", UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("importBusinesses: every row gets a result line, in input order, across chunks")
+    void importReportsEveryRow() throws IOException {
+        String input = String.join("\n",
+                row("Bakery", ownerId, "bakery@example.com", "https://bakery.example.com"),
+                row("Taken", ownerId, "taken@example.com", null),
+                "{\"name\":",
+                row("Bakery", ownerId, "again@example.com", null),
+                row("Corner Shop", missingUserId, "shop@example.com", null));
+
+        List<JsonNode> results = run(NDJSON, input);
+
+        assertEquals(List.of("CREATED", "DUPLICATE", "INVALID", "DUPLICATE", "USER_NOT_FOUND"),
+                results.stream().map(result -> result.get("status").asText()).toList());
+        assertEquals(List.of(1, 2, 3, 4, 5), results.stream().map(result -> result.get("line").asInt()).toList());
+        assertTrue(results.getFirst().hasNonNull("id"));
+        assertFalse(results.get(1).has("id"));
+        assertEquals(5, meterRegistry.get(BusinessImportServiceImpl.ROWS_METRIC).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    @Test
+    @DisplayName("importBusinesses: each user is looked up and promoted once per upload")
+    void importResolvesUsersOnce() throws IOException {
+        String input = String.join("\n",
+                row("Bakery", ownerId, "bakery@example.com", null),
+                row("Butcher", ownerId, "butcher@example.com", null),
+                row("Florist", ownerId, "florist@example.com", null));
+
+        List<JsonNode> results = run(NDJSON, input);
+
+        assertTrue(results.stream().allMatch(result -> "CREATED".equals(result.get("status").asText())));
+        verify(backboneClient, times(1)).findUserById(ownerId);
+        verify(backboneClient, times(1)).userPartialUpdate(eq(ownerId), any());
+        verify(businessRepository, times(2)).saveAll(anyList());
+        verify(searchIndex, times(3)).businessChanged(any());
+    }
+
+    @Test
+    @DisplayName("importBusinesses: CSV rows are saved with their contacts")
+    void importCsvWithContacts() throws IOException {
+        String input = "name,description,categoryId,userId,email,website\n"
+                + "\"Smith, Jones & Co\",Tailors," + categoryId + "," + ownerId
+                + ",hello@smithjones.com,https://smithjones.com\n";
+
+        List<JsonNode> results = run(CSV, input);
+
+        assertEquals("CREATED", results.getFirst().get("status").asText());
+        assertEquals("Smith, Jones & Co", results.getFirst().get("name").asText());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DigitalContactEntity>> contacts = ArgumentCaptor.forClass(List.class);
+        verify(digitalContactRepository).saveAll(contacts.capture());
+        assertEquals(Set.of("EML:hello@smithjones.com", "WBH:https://smithjones.com"),
+                Set.copyOf(contacts.getValue().stream()
+                        .map(contact -> contact.getContactType().getName() + ":" + contact.getContent())
+                        .toList()));
+    }
+
+    @Test
+    @DisplayName("importBusinesses: a failed chunk is reported and later chunks still run")
+    void importReportsFailedChunk() throws IOException {
+        when(businessRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("constraint"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        String input = String.join("\n",
+                row("Bakery", ownerId, "bakery@example.com", null),
+                row("Butcher", ownerId, "butcher@example.com", null),
+                row("Bakery", ownerId, "bakery@example.com", null));
+
+        List<JsonNode> results = run(NDJSON, input);
+
+        assertEquals(List.of("FAILED", "FAILED", "CREATED"),
+                results.stream().map(result -> result.get("status").asText()).toList());
+        verify(backboneClient, times(1)).userPartialUpdate(eq(ownerId), any());
+    }
+
+    @Test
+    @DisplayName("importBusinesses: a row with an unknown category is rejected alone, the rest of its chunk is saved")
+    void importRejectsUnknownCategory() throws IOException {
+        UUID unknownCategoryId = UUID.randomUUID();
+        String input = String.join("\n",
+                row("Bakery", ownerId, "bakery@example.com", null),
+                objectMapper.writeValueAsString(new BusinessCreateRequest("Butcher", "Description", unknownCategoryId,
+                        ownerId, "butcher@example.com", null, null, null)));
+
+        List<JsonNode> results = run(NDJSON, input);
+
+        assertEquals(List.of("CREATED", "INVALID"),
+                results.stream().map(result -> result.get("status").asText()).toList());
+        assertEquals("Category not found.", results.get(1).get("message").asText());
+        verify(categoryRepository).findExistingIds(Set.of(categoryId, unknownCategoryId));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BusinessEntity>> saved = ArgumentCaptor.forClass(List.class);
+        verify(businessRepository).saveAll(saved.capture());
+        assertEquals(List.of("Bakery"), saved.getValue().stream().map(BusinessEntity::getName).toList());
+    }
+
+    @Test
+    @DisplayName("importBusinesses: invalid rows are rejected without touching the database")
+    void importRejectsInvalidRows() throws IOException {
+        String longEmail = "a".repeat(BusinessImportServiceImpl.MAX_CONTACT_LENGTH) + "@example.com";
+        String input = String.join("\n",
+                row(" ", ownerId, "blank@example.com", null),
+                row("Long contact", ownerId, longEmail, null),
+                row("Bad site", ownerId, "site@example.com", "not a url"));
+
+        List<JsonNode> results = run(NDJSON, input);
+
+        assertTrue(results.stream().allMatch(result -> "INVALID".equals(result.get("status").asText())));
+        assertEquals("Website URL format is invalid.", results.get(2).get("message").asText());
+        verify(businessRepository, never()).findExistingNames(any());
+        verifyNoInteractions(backboneClient);
+    }
+
+    @Test
+    @DisplayName("importBusinesses: unsupported media types and bad CSV headers are refused up front")
+    void importRefusesBadUploads() {
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                service.importBusinesses(MediaType.APPLICATION_JSON_VALUE, stream("{}")).getStatusCode());
+        assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, service.importBusinesses(null, stream("")).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, service.importBusinesses(CSV, stream("title\nBakery\n")).getStatusCode());
+    }
+
+    private List<JsonNode> run(String contentType, String input) throws IOException {
+        ResponseEntity<StreamingResponseBody> response = service.importBusinesses(contentType, stream(input));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private String row(String name, UUID userId, String email, String website) throws IOException {
+        return objectMapper.writeValueAsString(new BusinessCreateRequest(name, "Description", categoryId, userId,
+                email, null, null, website));
+    }
+
+    private static ByteArrayInputStream stream(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ContactTypeEntity contactType(String name) {
+        ContactTypeEntity type = new ContactTypeEntity();
+        type.setId(UUID.randomUUID());
+        type.setName(name);
+        return type;
+    }
+
+    private static BackboneUserGetResponse user(UUID id) {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setName(RoleKey.LH_STANDARD.name());
+        return new BackboneUserGetResponse(id, "alias", null, "owner@example.com", "Owner", LocalDateTime.now(),
+                LocalDateTime.now(), true, true, true, true, null, List.of(role), List.of());
+    }
+}
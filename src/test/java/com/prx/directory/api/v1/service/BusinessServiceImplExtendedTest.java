@@ -8,15 +8,15 @@ import com.prx.directory.jpa.entity.BusinessEntity;
 import com.prx.directory.jpa.entity.UserEntity;
 import com.prx.directory.jpa.repository.BusinessRepository;
 import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.jpa.repository.ContactTypeRepository;
 import com.prx.directory.jpa.repository.DigitalContactRepository;
 import com.prx.directory.mapper.BusinessMapper;
-import com.prx.directory.util.JwtUtil;
+import com.prx.directory.security.SessionClaimsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +45,12 @@ class BusinessServiceImplExtendedTest {
     CategoryRepository categoryRepository;
     @Mock
     DigitalContactRepository digitalContactRepository;
+    @Mock
+    ContactTypeRepository contactTypeRepository;
+    @Mock
+    SessionClaimsCache sessionClaimsCache;
+    @Mock
+    DirectorySearchIndex searchIndex;
 
     private BusinessServiceImpl service;
     private static final UUID APPLICATION_ID = UUID.randomUUID();
@@ -52,7 +58,7 @@ class BusinessServiceImplExtendedTest {
 
     @BeforeEach
     void setUp() {
-        service = new BusinessServiceImpl(userService, businessRepository,categoryRepository, digitalContactRepository, businessMapper, backboneClient);
+        service = new BusinessServiceImpl(userService, businessRepository,categoryRepository, digitalContactRepository, contactTypeRepository, businessMapper, backboneClient, sessionClaimsCache, searchIndex);
         ReflectionTestUtils.setField(service, "applicationId", APPLICATION_ID);
         ReflectionTestUtils.setField(service, "initialRoleId", INITIAL_ROLE_ID);
     }
@@ -361,16 +367,14 @@ class BusinessServiceImplExtendedTest {
         user.setId(userId);
         business.setUserFk(user);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(token)).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(business));
-            when(businessRepository.countByUserId(userId)).thenReturn(1);
+        when(sessionClaimsCache.getUid(token)).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(business));
+        when(businessRepository.countByUserId(userId)).thenReturn(1);
 
-            ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
+        ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
 
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            verify(businessRepository).deleteById(businessId);
-        }
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        verify(businessRepository).deleteById(businessId);
     }
 
     @Test
@@ -379,14 +383,12 @@ class BusinessServiceImplExtendedTest {
         UUID businessId = UUID.randomUUID();
         String token = "invalid-token";
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(token)).thenReturn(null);
+        when(sessionClaimsCache.getUid(token)).thenReturn(null);
 
-            ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
+        ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
 
-            assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
-            verifyNoInteractions(businessRepository);
-        }
+        assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
+        verifyNoInteractions(businessRepository);
     }
 
     @Test
@@ -396,14 +398,12 @@ class BusinessServiceImplExtendedTest {
         UUID userId = UUID.randomUUID();
         String token = "valid-token";
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(token)).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.empty());
+        when(sessionClaimsCache.getUid(token)).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.empty());
 
-            ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
+        ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
 
-            assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
-        }
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
     }
 
     @Test
@@ -418,15 +418,13 @@ class BusinessServiceImplExtendedTest {
         user.setId(otherUserId);
         business.setUserFk(user);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(token)).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(business));
+        when(sessionClaimsCache.getUid(token)).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(business));
 
-            ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
+        ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
 
-            assertEquals(HttpStatus.FORBIDDEN, result.getStatusCode());
-            verify(businessRepository, never()).deleteById(any());
-        }
+        assertEquals(HttpStatus.FORBIDDEN, result.getStatusCode());
+        verify(businessRepository, never()).deleteById(any());
     }
 
     @Test
@@ -445,19 +443,17 @@ class BusinessServiceImplExtendedTest {
         when(userResp.privacyDataOutActive()).thenReturn(true);
         when(userResp.status()).thenReturn(true);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(token)).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(business));
-            when(businessRepository.countByUserId(userId)).thenReturn(0);
-            when(userService.findUser(token, userId)).thenReturn(ResponseEntity.ok(userResp));
-            when(userService.update(eq(userId), any(PutUserRequest.class)))
-                    .thenReturn(ResponseEntity.ok().build());
+        when(sessionClaimsCache.getUid(token)).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(business));
+        when(businessRepository.countByUserId(userId)).thenReturn(0);
+        when(userService.findUser(token, userId)).thenReturn(ResponseEntity.ok(userResp));
+        when(userService.update(eq(userId), any(PutUserRequest.class)))
+                .thenReturn(ResponseEntity.ok().build());
 
-            ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
+        ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
 
-            assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
-            verify(userService).update(eq(userId), any(PutUserRequest.class));
-        }
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        verify(userService).update(eq(userId), any(PutUserRequest.class));
     }
 
     @Test
@@ -467,14 +463,12 @@ class BusinessServiceImplExtendedTest {
         UUID userId = UUID.randomUUID();
         String token = "valid-token";
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(token)).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenThrow(new RuntimeException("DB error"));
+        when(sessionClaimsCache.getUid(token)).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenThrow(new RuntimeException("DB error"));
 
-            ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
+        ResponseEntity<Void> result = service.deleteBusiness(businessId, token);
 
-            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
-        }
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
     }
 
     @Test
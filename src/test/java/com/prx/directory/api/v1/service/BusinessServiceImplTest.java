@@ -12,9 +12,10 @@ import com.prx.directory.jpa.entity.ContactTypeEntity;
 import com.prx.directory.jpa.entity.UserEntity;
 import com.prx.directory.jpa.repository.BusinessRepository;
 import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.jpa.repository.ContactTypeRepository;
 import com.prx.directory.jpa.repository.DigitalContactRepository;
 import com.prx.directory.mapper.BusinessMapper;
-import com.prx.directory.util.JwtUtil;
+import com.prx.directory.security.SessionClaimsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,9 +49,18 @@ class BusinessServiceImplTest {
     @Mock
     private DigitalContactRepository digitalContactRepository;
 
+    @Mock
+    private ContactTypeRepository contactTypeRepository;
+
     @Mock
     private BusinessMapper businessMapper;
 
+    @Mock
+    private SessionClaimsCache sessionClaimsCache;
+
+    @Mock
+    private DirectorySearchIndex searchIndex;
+
     @InjectMocks
     private BusinessServiceImpl businessService;
 
@@ -503,14 +513,45 @@ class BusinessServiceImplTest {
         BusinessEntity existingBusiness = new BusinessEntity();
         existingBusiness.setId(businessId);
         existingBusiness.setDigitalContacts(null);
+        ContactTypeEntity email = new ContactTypeEntity();
+        email.setId(UUID.randomUUID());
+        email.setName(ContactTypeKey.EML.toString());
 
         when(businessRepository.findBusinessWithDigitalContactsById(businessId)).thenReturn(Optional.of(existingBusiness));
         when(businessRepository.save(any(BusinessEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(contactTypeRepository.findByKey(ContactTypeKey.EML)).thenReturn(Optional.of(email));
 
         ResponseEntity<BusinessUpdateResponse> response = businessService.update(businessId, request);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        // verify that save on digital contact repository was called for create
-        verify(digitalContactRepository, times(1)).save(any());
+        // verify that save on digital contact repository was called for create, with the stored contact type
+        ArgumentCaptor<com.prx.directory.jpa.entity.DigitalContactEntity> saved =
+                ArgumentCaptor.forClass(com.prx.directory.jpa.entity.DigitalContactEntity.class);
+        verify(digitalContactRepository, times(1)).save(saved.capture());
+        assertSame(email, saved.getValue().getContactType());
+    }
+
+    @Test
+    @DisplayName("update - unknown contact type is not saved")
+    void update_createDigitalContact_unknownContactType() {
+        UUID businessId = UUID.randomUUID();
+        BusinessUpdateRequest request = new BusinessUpdateRequest(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                "https://example.com");
+
+        BusinessEntity existingBusiness = new BusinessEntity();
+        existingBusiness.setId(businessId);
+
+        when(businessRepository.findBusinessWithDigitalContactsById(businessId)).thenReturn(Optional.of(existingBusiness));
+        when(contactTypeRepository.findByKey(ContactTypeKey.WBH)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> businessService.update(businessId, request));
+        verify(digitalContactRepository, never()).save(any());
     }
 
     @Test
@@ -593,14 +634,12 @@ class BusinessServiceImplTest {
         user.setId(userId);
         entity.setUserFk(user);
 
-        try (MockedStatic<JwtUtil> jwtMock = Mockito.mockStatic(JwtUtil.class)) {
-            jwtMock.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
-            when(businessRepository.countByUserId(userId)).thenReturn(1);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
+        when(businessRepository.countByUserId(userId)).thenReturn(1);
 
-            ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
-            assertEquals(HttpStatus.OK, response.getStatusCode());
-        }
+        ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
     @Test
@@ -616,13 +655,11 @@ class BusinessServiceImplTest {
         user.setId(ownerId);
         entity.setUserFk(user);
 
-        try (MockedStatic<JwtUtil> jwtMock = Mockito.mockStatic(JwtUtil.class)) {
-            jwtMock.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(tokenUserId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(tokenUserId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
 
-            ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
-            assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
-        }
+        ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
     }
 
     @Test
@@ -630,13 +667,11 @@ class BusinessServiceImplTest {
     void deleteBusiness_notFound() {
         UUID businessId = UUID.randomUUID();
 
-        try (MockedStatic<JwtUtil> jwtMock = Mockito.mockStatic(JwtUtil.class)) {
-            jwtMock.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(UUID.randomUUID());
-            when(businessRepository.findById(businessId)).thenReturn(Optional.empty());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(UUID.randomUUID());
+        when(businessRepository.findById(businessId)).thenReturn(Optional.empty());
 
-            ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
-            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        }
+        ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
@@ -644,12 +679,10 @@ class BusinessServiceImplTest {
     void deleteBusiness_invalidToken_unauthorized() {
         UUID businessId = UUID.randomUUID();
 
-        try (MockedStatic<JwtUtil> jwtMock = Mockito.mockStatic(JwtUtil.class)) {
-            jwtMock.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(null);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(null);
 
-            ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
-            assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-        }
+        ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -664,20 +697,18 @@ class BusinessServiceImplTest {
         user.setId(userId);
         entity.setUserFk(user);
 
-        try (MockedStatic<JwtUtil> jwtMock = Mockito.mockStatic(JwtUtil.class)) {
-            jwtMock.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
-            when(businessRepository.countByUserId(userId)).thenReturn(0);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
+        when(businessRepository.countByUserId(userId)).thenReturn(0);
 
-            // Configure userService to provide a valid user and update to return OK
-            GetUserResponse userTO = new GetUserResponse(userId, "alias", "email", null, null, null, "display", null, null, null, null, null, null, null,
-                    true, true, true, true, UUID.randomUUID(), UUID.randomUUID());
-            when(userService.findUser(anyString(), eq(userId))).thenReturn(ResponseEntity.ok(userTO));
-            when(userService.update(eq(userId), any())).thenReturn(ResponseEntity.ok().build());
+        // Configure userService to provide a valid user and update to return OK
+        GetUserResponse userTO = new GetUserResponse(userId, "alias", "email", null, null, null, "display", null, null, null, null, null, null, null,
+                true, true, true, true, UUID.randomUUID(), UUID.randomUUID());
+        when(userService.findUser(anyString(), eq(userId))).thenReturn(ResponseEntity.ok(userTO));
+        when(userService.update(eq(userId), any())).thenReturn(ResponseEntity.ok().build());
 
-            ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
-            assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
-        }
+        ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
     }
 
     @Test
@@ -692,17 +723,15 @@ class BusinessServiceImplTest {
         user.setId(userId);
         entity.setUserFk(user);
 
-        try (MockedStatic<JwtUtil> jwtMock = Mockito.mockStatic(JwtUtil.class)) {
-            jwtMock.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
-            when(businessRepository.countByUserId(userId)).thenReturn(0);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(entity));
+        when(businessRepository.countByUserId(userId)).thenReturn(0);
 
-            // findUser returns 200 but body null
-            when(userService.findUser(anyString(), eq(userId))).thenReturn(ResponseEntity.ok(null));
+        // findUser returns 200 but body null
+        when(userService.findUser(anyString(), eq(userId))).thenReturn(ResponseEntity.ok(null));
 
-            ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
-            assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
-        }
+        ResponseEntity<Void> response = businessService.deleteBusiness(businessId, "token");
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
     }
 
     // --- findIdByUserId(...) tests ---
@@ -0,0 +1,66 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.jpa.entity.CampaignEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CampaignCursorTest {
+
+    @Test
+    @DisplayName("encode/decode: sort values and id survive the round trip")
+    void roundTrip() {
+        Sort sort = CampaignSortParser.parse("title,-created_date");
+        CampaignEntity last = new CampaignEntity();
+        last.setId(UUID.randomUUID());
+        last.setTitle("Summer: 50% off, all week");
+        last.setCreatedDate(LocalDateTime.parse("2025-06-01T10:15:30"));
+
+        CampaignCursor cursor = CampaignCursor.decode(CampaignCursor.encode(sort, last), sort);
+
+        assertEquals(last.getId(), cursor.id());
+        assertEquals("Summer: 50% off, all week", cursor.values().get("title"));
+        assertEquals(LocalDateTime.parse("2025-06-01T10:15:30"), cursor.values().get("createdDate"));
+    }
+
+    @Test
+    @DisplayName("encode/decode: null sort values are preserved")
+    void roundTripWithNull() {
+        Sort sort = CampaignSortParser.parse("end_date");
+        CampaignEntity last = new CampaignEntity();
+        last.setId(UUID.randomUUID());
+
+        CampaignCursor cursor = CampaignCursor.decode(CampaignCursor.encode(sort, last), sort);
+
+        assertNull(cursor.values().get("endDate"));
+        assertEquals(last.getId(), cursor.id());
+    }
+
+    @Test
+    @DisplayName("decode: cursor issued for another sort is rejected")
+    void decodeRejectsOtherSort() {
+        CampaignEntity last = new CampaignEntity();
+        last.setId(UUID.randomUUID());
+        last.setCreatedDate(LocalDateTime.now());
+        String token = CampaignCursor.encode(CampaignSortParser.parse(null), last);
+        Sort other = CampaignSortParser.parse("created_date");
+
+        assertThrows(IllegalArgumentException.class, () -> CampaignCursor.decode(token, other));
+    }
+
+    @Test
+    @DisplayName("decode: malformed cursor is rejected")
+    void decodeRejectsGarbage() {
+        Sort sort = CampaignSortParser.parse(null);
+
+        assertThrows(IllegalArgumentException.class, () -> CampaignCursor.decode("not a cursor!", sort));
+        assertThrows(IllegalArgumentException.class, () -> CampaignCursor.decode("djE6Lg", sort));
+    }
+}
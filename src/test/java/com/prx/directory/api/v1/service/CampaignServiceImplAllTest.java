@@ -4,6 +4,7 @@ import com.prx.directory.api.v1.to.*;
 import com.prx.directory.jpa.entity.CampaignEntity;
 import com.prx.directory.jpa.repository.BusinessRepository;
 import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.CampaignStatusCounts;
 import com.prx.directory.jpa.repository.CategoryRepository;
 import com.prx.directory.mapper.CampaignMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +23,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +33,7 @@ class CampaignServiceImplAllTest {
     private CategoryRepository categoryRepository;
     private BusinessRepository businessRepository;
     private CampaignMapper campaignMapper;
+    private DirectorySearchIndex searchIndex;
     private CampaignServiceImpl service;
 
     @BeforeEach
@@ -39,7 +42,8 @@ class CampaignServiceImplAllTest {
         categoryRepository = Mockito.mock(CategoryRepository.class);
         businessRepository = Mockito.mock(BusinessRepository.class);
         campaignMapper = Mockito.mock(CampaignMapper.class);
-        service = new CampaignServiceImpl(campaignRepository, categoryRepository, businessRepository, campaignMapper);
+        searchIndex = Mockito.mock(DirectorySearchIndex.class);
+        service = new CampaignServiceImpl(campaignRepository, categoryRepository, businessRepository, campaignMapper, searchIndex);
     }
 
     // -------- create(...) tests --------
@@ -106,6 +110,7 @@ class CampaignServiceImplAllTest {
         assertNotNull(passed.getCreatedDate());
         assertNotNull(passed.getLastUpdate());
         assertTrue(passed.getActive());
+        verify(searchIndex).campaignChanged(savedEntity);
     }
 
     @Test
@@ -181,7 +186,8 @@ class CampaignServiceImplAllTest {
         CampaignEntity e = new CampaignEntity();
         List<CampaignEntity> content = List.of(e);
         Page<CampaignEntity> page = new PageImpl<>(content);
-        when(campaignRepository.findAll((Specification<CampaignEntity>) any(), (Pageable) any())).thenReturn(page);
+        when(campaignRepository.countStatuses(any(), any())).thenReturn(new CampaignStatusCounts(1, 1, 0, 0));
+        when(campaignRepository.findPageContent(any(), any())).thenReturn(page.getContent());
         when(campaignMapper.toOfferTO(e)).thenReturn(new OfferTO(UUID.randomUUID(), "title",
                 "desc", UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now().plusSeconds(3600), null, true));
 
@@ -194,7 +200,8 @@ class CampaignServiceImplAllTest {
         CampaignEntity e = new CampaignEntity();
         List<CampaignEntity> content = List.of(e);
         Page<CampaignEntity> page = new PageImpl<>(content);
-        when(campaignRepository.findAll((Specification<CampaignEntity>) any(), (Pageable) any())).thenReturn(page);
+        when(campaignRepository.countStatuses(any(), any())).thenReturn(new CampaignStatusCounts(1, 1, 0, 0));
+        when(campaignRepository.findPageContent(any(), any())).thenReturn(page.getContent());
         when(campaignMapper.toOfferTO(e)).thenReturn(new OfferTO(UUID.randomUUID(), "title",
                 "desc", UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now().plusSeconds(3600), null, true));
 
@@ -207,7 +214,8 @@ class CampaignServiceImplAllTest {
         CampaignEntity e = new CampaignEntity();
         List<CampaignEntity> content = List.of(e);
         Page<CampaignEntity> page = new PageImpl<>(content);
-        when(campaignRepository.findAll((Specification<CampaignEntity>) any(), (Pageable) any())).thenReturn(page);
+        when(campaignRepository.countStatuses(any(), any())).thenReturn(new CampaignStatusCounts(1, 1, 0, 0));
+        when(campaignRepository.findPageContent(any(), any())).thenReturn(page.getContent());
         when(campaignMapper.toOfferTO(e)).thenReturn(new OfferTO(UUID.randomUUID(), "title",
                 "desc", UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now().plusSeconds(3600), null, true));
 
@@ -402,7 +410,7 @@ class CampaignServiceImplAllTest {
     @Test
     void list_emptyPage_returnsOkWithEmptyItems() {
         Page<CampaignEntity> emptyPage = new PageImpl<>(Collections.emptyList());
-        when(campaignRepository.findAll((Specification<CampaignEntity>) any(), (Pageable) any())).thenReturn(emptyPage);
+        when(campaignRepository.countStatuses(any(), any())).thenReturn(new CampaignStatusCounts(0, 0, 0, 0));
 
         ResponseEntity<CampaignListResponse> resp = service.list(1, 10, "title", Map.of());
         assertEquals(200, resp.getStatusCode().value());
@@ -410,11 +418,72 @@ class CampaignServiceImplAllTest {
         assertNotNull(body);
         assertEquals(0, body.items().size());
         assertEquals(0, body.total_count());
+        verify(campaignRepository, never()).findPageContent(any(), any());
+    }
+
+    @Test
+    void list_cursorMode_returnsNextCursorAndSeeksOnFollowUp() {
+        CampaignEntity first = new CampaignEntity();
+        first.setId(UUID.randomUUID());
+        first.setCreatedDate(LocalDateTime.parse("2025-11-02T00:00:00"));
+        CampaignEntity second = new CampaignEntity();
+        second.setId(UUID.randomUUID());
+        second.setCreatedDate(LocalDateTime.parse("2025-11-01T00:00:00"));
+        when(campaignRepository.findPageContent(any(), any())).thenReturn(List.of(first, second));
+
+        Map<String, String> filters = new HashMap<>();
+        filters.put("cursor", "");
+        filters.put("include_counts", "false");
+        ResponseEntity<CampaignListResponse> resp = service.list(1, 1, null, filters);
+
+        assertEquals(200, resp.getStatusCode().value());
+        CampaignListResponse body = resp.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.items().size());
+        assertNotNull(body.next_cursor());
+        assertNull(body.total_count());
+        ArgumentCaptor<Pageable> window = ArgumentCaptor.forClass(Pageable.class);
+        verify(campaignRepository).findPageContent(any(), window.capture());
+        assertEquals(0, window.getValue().getOffset());
+        assertEquals(2, window.getValue().getPageSize());
+        verify(campaignRepository, never()).countStatuses(any(), any());
+
+        filters.put("cursor", body.next_cursor());
+        ResponseEntity<CampaignListResponse> next = service.list(1, 1, null, filters);
+        assertEquals(200, next.getStatusCode().value());
+    }
+
+    @Test
+    void list_cursorForOtherSort_returnsBadRequest() {
+        CampaignEntity last = new CampaignEntity();
+        last.setId(UUID.randomUUID());
+        last.setCreatedDate(LocalDateTime.now());
+        String cursor = CampaignCursor.encode(CampaignSortParser.parse(null), last);
+
+        ResponseEntity<CampaignListResponse> resp = service.list(1, 10, "title", Map.of("cursor", cursor));
+        assertEquals(400, resp.getStatusCode().value());
+    }
+
+    @Test
+    void list_withoutCounts_usesPagedQueryOnly() {
+        CampaignEntity e = new CampaignEntity();
+        Page<CampaignEntity> page = new PageImpl<>(List.of(e));
+        when(campaignRepository.findAll((Specification<CampaignEntity>) any(), (Pageable) any())).thenReturn(page);
+
+        ResponseEntity<CampaignListResponse> resp = service.list(1, 10, "title", Map.of("include_counts", "false"));
+        assertEquals(200, resp.getStatusCode().value());
+        CampaignListResponse body = resp.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.total_count());
+        assertNull(body.actives());
+        assertNull(body.inactives());
+        assertNull(body.expired());
+        verify(campaignRepository, never()).countStatuses(any(), any());
     }
 
     @Test
     void list_repositoryThrowsException_returnsInternalServerError() {
-        when(campaignRepository.findAll((Specification<CampaignEntity>) any(), (Pageable) any()))
+        when(campaignRepository.countStatuses(any(), any()))
                 .thenThrow(new RuntimeException("Database connection failed"));
 
         assertThrows(RuntimeException.class, () -> service.list(1, 10, "title", Map.of()));
@@ -433,10 +502,46 @@ class CampaignServiceImplAllTest {
 
         CampaignEntity e = new CampaignEntity();
         Page<CampaignEntity> page = new PageImpl<>(List.of(e));
-        when(campaignRepository.findAll((Specification<CampaignEntity>) any(), (Pageable) any())).thenReturn(page);
+        when(campaignRepository.countStatuses(any(), any())).thenReturn(new CampaignStatusCounts(1, 1, 0, 0));
+        when(campaignRepository.findPageContent(any(), any())).thenReturn(page.getContent());
         when(campaignMapper.toOfferTO(e)).thenReturn(new OfferTO(UUID.randomUUID(), "title", "desc", UUID.randomUUID(), localDateTime, localDateTime.plusSeconds(3600), null, true));
 
         ResponseEntity<CampaignListResponse> resp = service.list(1, 10, "title", filters);
         assertEquals(200, resp.getStatusCode().value());
     }
+
+    @Test
+    void list_relevanceSortWithTitle_usesUnsortedPage() {
+        when(campaignRepository.countStatuses(any(), any())).thenReturn(new CampaignStatusCounts(1, 1, 0, 0));
+        when(campaignRepository.findPageContent(any(), any())).thenReturn(List.of(new CampaignEntity()));
+
+        ResponseEntity<CampaignListResponse> resp = service.list(2, 10, "relevance", Map.of("title", "summer"));
+
+        assertEquals(200, resp.getStatusCode().value());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(campaignRepository).findPageContent(any(), pageable.capture());
+        assertTrue(pageable.getValue().getSort().isUnsorted());
+        assertEquals(10, pageable.getValue().getOffset());
+    }
+
+    @Test
+    void list_relevanceSortWithoutTitle_fallsBackToDefaultSort() {
+        when(campaignRepository.countStatuses(any(), any())).thenReturn(new CampaignStatusCounts(1, 1, 0, 0));
+        when(campaignRepository.findPageContent(any(), any())).thenReturn(List.of(new CampaignEntity()));
+
+        ResponseEntity<CampaignListResponse> resp = service.list(1, 10, "relevance", Map.of());
+
+        assertEquals(200, resp.getStatusCode().value());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(campaignRepository).findPageContent(any(), pageable.capture());
+        assertEquals(CampaignSortParser.parse(null), pageable.getValue().getSort());
+    }
+
+    @Test
+    void list_relevanceSortInCursorMode_returnsBadRequest() {
+        ResponseEntity<CampaignListResponse> resp = service.list(1, 10, "relevance", Map.of("title", "summer", "cursor", ""));
+
+        assertEquals(400, resp.getStatusCode().value());
+        verify(campaignRepository, never()).findPageContent(any(), any());
+    }
 }
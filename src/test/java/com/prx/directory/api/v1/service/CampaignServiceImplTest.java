@@ -5,6 +5,7 @@ import com.prx.directory.api.v1.to.CampaignUpdateRequest;
 import com.prx.directory.jpa.entity.CampaignEntity;
 import com.prx.directory.jpa.repository.BusinessRepository;
 import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.CampaignStatusCounts;
 import com.prx.directory.jpa.repository.CategoryRepository;
 import com.prx.directory.mapper.CampaignMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,7 @@ class CampaignServiceImplTest {
     private CategoryRepository categoryRepository;
     private BusinessRepository businessRepository;
     private CampaignMapper campaignMapper;
+    private DirectorySearchIndex searchIndex;
     private CampaignServiceImpl service;
 
     @BeforeEach
@@ -37,7 +39,8 @@ class CampaignServiceImplTest {
         categoryRepository = Mockito.mock(CategoryRepository.class);
         businessRepository = Mockito.mock(BusinessRepository.class);
         campaignMapper = Mockito.mock(CampaignMapper.class);
-        service = new CampaignServiceImpl(campaignRepository, categoryRepository, businessRepository, campaignMapper);
+        searchIndex = Mockito.mock(DirectorySearchIndex.class);
+        service = new CampaignServiceImpl(campaignRepository, categoryRepository, businessRepository, campaignMapper, searchIndex);
     }
 
     @Test
@@ -89,22 +92,12 @@ class CampaignServiceImplTest {
         e1.setId(UUID.randomUUID());
         CampaignEntity e2 = new CampaignEntity();
         e2.setId(UUID.randomUUID());
-        var page = new org.springframework.data.domain.PageImpl<>(java.util.List.of(e1, e2));
 
-        // Mock repository findAll to return the page
-        when(campaignRepository.findAll(org.mockito.ArgumentMatchers.any(org.springframework.data.jpa.domain.Specification.class), org.mockito.ArgumentMatchers.any(org.springframework.data.domain.Pageable.class)))
-                .thenReturn(page);
-
-        // Mock counts via generic count(Specification)
-        when(campaignRepository.count(org.mockito.ArgumentMatchers.any(Specification.class))).thenAnswer(inv -> {
-            Specification spec = inv.getArgument(0);
-            // crude heuristic: called three times; return 6,5,5 in order
-            // use an internal counter stored in a lambda captured array
-            return (long) TestCounter.next();
-        });
-
-        // Reset TestCounter so first three calls map to 6,5,5
-        TestCounter.reset(new long[]{6L,5L,5L});
+        // One aggregate query returns the total and the status distribution
+        when(campaignRepository.countStatuses(org.mockito.ArgumentMatchers.any(Specification.class), org.mockito.ArgumentMatchers.any(LocalDateTime.class)))
+                .thenReturn(new CampaignStatusCounts(16L, 6L, 5L, 5L));
+        when(campaignRepository.findPageContent(org.mockito.ArgumentMatchers.any(Specification.class), org.mockito.ArgumentMatchers.any(org.springframework.data.domain.Pageable.class)))
+                .thenReturn(java.util.List.of(e1, e2));
 
         // Mock mapper mapping
         when(campaignMapper.toTO(e1)).thenReturn(new com.prx.directory.api.v1.to.CampaignTO(e1.getId(), "t1", null, null, null, null, null, null, null, null, true));
@@ -117,13 +110,8 @@ class CampaignServiceImplTest {
         assertEquals(5L, body.inactives());
         assertEquals(5L, body.expired());
         assertEquals(2, body.items().size());
+        assertEquals(16L, body.total_count());
+        assertEquals(2, body.total_pages());
+        verify(campaignRepository, Mockito.never()).count(org.mockito.ArgumentMatchers.any(Specification.class));
     }
 }
-
-// Simple test helper to simulate ordered returns from repository.count when invoked multiple times
-class TestCounter {
-    private static long[] values = new long[]{6L,5L,5L};
-    private static int idx = 0;
-    static void reset(long[] v) { values = v; idx = 0; }
-    static long next() { if (idx >= values.length) return values[values.length-1]; return values[idx++]; }
-}
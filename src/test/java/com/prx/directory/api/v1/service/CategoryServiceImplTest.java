@@ -3,40 +3,39 @@ package com.prx.directory.api.v1.service;
 import com.prx.directory.api.v1.to.CategoryCreateRequest;
 import com.prx.directory.api.v1.to.CategoryCreateResponse;
 import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.api.v1.to.CategoryTreeResponse;
 import com.prx.directory.api.v1.to.PaginatedResponse;
 import com.prx.directory.jpa.entity.CategoryEntity;
 import com.prx.directory.jpa.repository.CategoryRepository;
 import com.prx.directory.mapper.CategoryMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("CategoryServiceImpl - unit tests for category operations")
 @ExtendWith(SpringExtension.class)
 class CategoryServiceImplTest {
 
-    @InjectMocks
     CategoryServiceImpl categoryServiceImpl;
 
     @Mock
@@ -45,81 +44,66 @@ class CategoryServiceImplTest {
     @Mock
     CategoryMapper categoryMapper;
 
+    @BeforeEach
+    void setUp() {
+        categoryServiceImpl = new CategoryServiceImpl(categoryRepository, categoryMapper,
+                new CategoryTreeCache(categoryRepository, categoryMapper));
+    }
+
     @Test
     @DisplayName("Find category by ID - Success")
     void findCategoryByIdSuccess() {
         UUID categoryId = UUID.randomUUID();
-        CategoryGetResponse categoryGetResponse = new CategoryGetResponse(
-                categoryId,
-                "Test Category",
-                "Test Description",
-                null,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                true
-        );
-        CategoryEntity categoryEntity = new CategoryEntity();
-        categoryEntity.setId(categoryId);
-        categoryEntity.setName("Test Category");
-        categoryEntity.setDescription("Test Description");
-        categoryEntity.setCreatedDate(LocalDateTime.now());
-        categoryEntity.setLastUpdate(LocalDateTime.now());
-        categoryEntity.setActive(true);
-
-        when(categoryRepository.findFirstById(categoryId)).thenReturn(java.util.Optional.of(categoryEntity));
-        when(categoryMapper.toCategoryGetResponse(any(CategoryEntity.class))).thenReturn(categoryGetResponse);
+        CategoryGetResponse categoryGetResponse = category(categoryId, null, "Test Category");
+        stubCategories(categoryGetResponse);
 
         ResponseEntity<CategoryGetResponse> response = categoryServiceImpl.find(categoryId);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(categoryGetResponse, response.getBody());
+        assertNotNull(response.getHeaders().getETag());
     }
 
     @Test
     @DisplayName("Find category by ID - Null ID")
     void findCategoryByIdNullId() {
+        stubCategories(category(UUID.randomUUID(), null, "Root"));
+
         ResponseEntity<CategoryGetResponse> response = categoryServiceImpl.find(null);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    @DisplayName("Find category by ID - Served from the snapshot")
+    void findCategoryByIdUsesSnapshot() {
+        UUID categoryId = UUID.randomUUID();
+        stubCategories(category(categoryId, null, "Root"));
+
+        categoryServiceImpl.find(categoryId);
+        categoryServiceImpl.find(categoryId);
+        categoryServiceImpl.findAll();
+
+        verify(categoryRepository, times(1)).findAll();
+    }
+
     @Test
     @DisplayName("Find categories by parent ID - Success")
     void findCategoriesByParentIdSuccess() {
         UUID parentId = UUID.randomUUID();
-        UUID categoryId = UUID.randomUUID();
-        CategoryGetResponse categoryGetResponse = new CategoryGetResponse(
-                categoryId,
-                "Test Category",
-                "Test Description",
-                null,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                true
-        );
-        CategoryEntity categoryEntity = new CategoryEntity();
-        categoryEntity.setId(categoryId);
-        categoryEntity.setName("Test Category");
-        categoryEntity.setDescription("Test Description");
-        categoryEntity.setCreatedDate(LocalDateTime.now());
-        categoryEntity.setLastUpdate(LocalDateTime.now());
-        categoryEntity.setActive(true);
-
-        Collection<CategoryGetResponse> categoryGetResponses = List.of(categoryGetResponse);
-        Page<CategoryEntity> page = new PageImpl<>(List.of(categoryEntity));
-        
-        when(categoryRepository.existsById(parentId)).thenReturn(true);
-        when(categoryRepository.findByCategoryParentFk(any(CategoryEntity.class), any(Pageable.class))).thenReturn(page);
-        when(categoryMapper.toCategoryGetResponse(ArgumentMatchers.anyCollection())).thenReturn(categoryGetResponses);
+        CategoryGetResponse child = category(UUID.randomUUID(), parentId, "Test Category");
+        stubCategories(category(parentId, null, "Parent"), child);
 
         ResponseEntity<PaginatedResponse<CategoryGetResponse>> response = categoryServiceImpl.findByParentId(parentId, 0, 20);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(categoryGetResponses, response.getBody().items());
+        assertEquals(List.of(child), response.getBody().items());
+        assertEquals(1, response.getBody().totalCount());
+        assertEquals(1, response.getBody().totalPages());
     }
 
     @Test
     @DisplayName("Find categories by parent ID - Parent not found")
     void findCategoriesByParentIdNotFound() {
         UUID parentId = UUID.randomUUID();
-        when(categoryRepository.existsById(parentId)).thenReturn(false);
+        stubCategories(category(UUID.randomUUID(), null, "Other"));
         
         ResponseEntity<PaginatedResponse<CategoryGetResponse>> response = categoryServiceImpl.findByParentId(parentId, 0, 20);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -150,81 +134,102 @@ class CategoryServiceImplTest {
     @DisplayName("Find categories by parent ID - Empty result")
     void findCategoriesByParentIdEmpty() {
         UUID parentId = UUID.randomUUID();
-        Page<CategoryEntity> emptyPage = new PageImpl<>(List.of());
-        
-        when(categoryRepository.existsById(parentId)).thenReturn(true);
-        when(categoryRepository.findByCategoryParentFk(any(CategoryEntity.class), any(Pageable.class))).thenReturn(emptyPage);
-        when(categoryMapper.toCategoryGetResponse(ArgumentMatchers.anyCollection())).thenReturn(List.of());
+        stubCategories(category(parentId, null, "Leaf"));
 
         ResponseEntity<PaginatedResponse<CategoryGetResponse>> response = categoryServiceImpl.findByParentId(parentId, 0, 20);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(0, response.getBody().items().size());
+        assertEquals(0, response.getBody().totalPages());
     }
 
     @Test
     @DisplayName("Find categories by parent ID - Pagination")
     void findCategoriesByParentIdPagination() {
         UUID parentId = UUID.randomUUID();
-        List<CategoryEntity> entitiesPage1 = new ArrayList<>();
-        List<CategoryEntity> entitiesPage2 = new ArrayList<>();
-        List<CategoryGetResponse> responsesPage1 = new ArrayList<>();
-        List<CategoryGetResponse> responsesPage2 = new ArrayList<>();
+        List<CategoryGetResponse> categories = new ArrayList<>();
+        categories.add(category(parentId, null, "Parent"));
         
-        // Create 25 entities total
+        // Create 25 children total
         for (int i = 0; i < 25; i++) {
-            UUID categoryId = UUID.randomUUID();
-            CategoryEntity entity = new CategoryEntity();
-            entity.setId(categoryId);
-            entity.setName("Category " + i);
-            entity.setDescription("Description " + i);
-            entity.setCreatedDate(LocalDateTime.now());
-            entity.setLastUpdate(LocalDateTime.now());
-            entity.setActive(true);
-            
-            CategoryGetResponse response = new CategoryGetResponse(categoryId, "Category " + i, "Description " + i, 
-                                                   null, LocalDateTime.now(), LocalDateTime.now(), true);
-            
-            if (i < 20) {
-                entitiesPage1.add(entity);
-                responsesPage1.add(response);
-            } else {
-                entitiesPage2.add(entity);
-                responsesPage2.add(response);
-            }
+            categories.add(category(UUID.randomUUID(), parentId, "Category " + i));
         }
-
-        // Mock first page
-        Page<CategoryEntity> page1 = new PageImpl<>(entitiesPage1, PageRequest.of(0, 20), 25);
-        when(categoryRepository.existsById(parentId)).thenReturn(true);
-        when(categoryRepository.findByCategoryParentFk(any(CategoryEntity.class), ArgumentMatchers.eq(PageRequest.of(0, 20))))
-            .thenReturn(page1);
-        when(categoryMapper.toCategoryGetResponse(entitiesPage1)).thenReturn(responsesPage1);
+        stubCategories(categories.toArray(CategoryGetResponse[]::new));
 
         // Test first page
         ResponseEntity<PaginatedResponse<CategoryGetResponse>> response = categoryServiceImpl.findByParentId(parentId, 0, 20);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(20, response.getBody().items().size());
+        assertEquals(25, response.getBody().totalCount());
+        assertEquals(2, response.getBody().totalPages());
 
-        // Mock second page
-        Page<CategoryEntity> page2 = new PageImpl<>(entitiesPage2, PageRequest.of(1, 20), 25);
-        when(categoryRepository.findByCategoryParentFk(any(CategoryEntity.class), ArgumentMatchers.eq(PageRequest.of(1, 20))))
-            .thenReturn(page2);
-        when(categoryMapper.toCategoryGetResponse(entitiesPage2)).thenReturn(responsesPage2);
-        
         // Test second page
         response = categoryServiceImpl.findByParentId(parentId, 1, 20);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(5, response.getBody().items().size());
+
+        // Past the last page
+        response = categoryServiceImpl.findByParentId(parentId, 2, 20);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(0, response.getBody().items().size());
     }
 
     @Test
-    @DisplayName("Find categories by parent ID - Null ID")
+    @DisplayName("Find categories by parent ID - Repository failure")
     void findCategoriesByParentIdNullId() {
-        when(categoryRepository.existsById(any(UUID.class))).thenThrow(NullPointerException.class);
+        when(categoryRepository.findAll()).thenThrow(NullPointerException.class);
         ResponseEntity<PaginatedResponse<CategoryGetResponse>> response = categoryServiceImpl.findByParentId(UUID.randomUUID(), 0, 20);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
     }
 
+    @Test
+    @DisplayName("Find subtree - Nested descendants")
+    void findSubtreeSuccess() {
+        UUID rootId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UUID grandChildId = UUID.randomUUID();
+        stubCategories(category(rootId, null, "Root"), category(childId, rootId, "Child"),
+                category(grandChildId, childId, "Grandchild"));
+
+        ResponseEntity<CategoryTreeResponse> response = categoryServiceImpl.findSubtree(rootId);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CategoryTreeResponse root = response.getBody();
+        assertEquals(rootId, root.id());
+        assertEquals(childId, root.children().get(0).id());
+        assertEquals(grandChildId, root.children().get(0).children().get(0).id());
+        assertTrue(root.children().get(0).children().get(0).children().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find subtree - Category not found")
+    void findSubtreeNotFound() {
+        stubCategories(category(UUID.randomUUID(), null, "Root"));
+
+        assertEquals(HttpStatus.NOT_FOUND, categoryServiceImpl.findSubtree(UUID.randomUUID()).getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Find ancestors - Path from root")
+    void findAncestorsSuccess() {
+        UUID rootId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        UUID grandChildId = UUID.randomUUID();
+        stubCategories(category(grandChildId, childId, "Grandchild"), category(rootId, null, "Root"),
+                category(childId, rootId, "Child"));
+
+        ResponseEntity<List<CategoryGetResponse>> response = categoryServiceImpl.findAncestors(grandChildId);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(rootId, childId, grandChildId),
+                response.getBody().stream().map(CategoryGetResponse::id).toList());
+    }
+
+    @Test
+    @DisplayName("Find ancestors - Category not found")
+    void findAncestorsNotFound() {
+        stubCategories(category(UUID.randomUUID(), null, "Root"));
+
+        assertEquals(HttpStatus.NOT_FOUND, categoryServiceImpl.findAncestors(UUID.randomUUID()).getStatusCode());
+    }
+
     @Test
     @DisplayName("Create category - Success")
     void createCategorySuccess() {
@@ -245,6 +250,8 @@ class CategoryServiceImplTest {
         var response = categoryServiceImpl.create(request);
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals(categoryId, response.getBody().id());
+        // No transaction is active in the unit test, so the snapshot is rebuilt right away
+        verify(categoryRepository).findAll();
     }
 
     @Test
@@ -299,4 +306,14 @@ class CategoryServiceImplTest {
             assertEquals("Database error", e.getMessage());
         }
     }
+
+    private static CategoryGetResponse category(UUID id, UUID parentId, String name) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return new CategoryGetResponse(id, name, name + " description", parentId, now, now, true);
+    }
+
+    private void stubCategories(CategoryGetResponse... categories) {
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        when(categoryMapper.toCategoryGetResponse(ArgumentMatchers.anyCollection())).thenReturn(List.of(categories));
+    }
 }
@@ -0,0 +1,105 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.mapper.CategoryMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CategoryTreeCache - in-memory category snapshot")
+class CategoryTreeCacheTest {
+
+    private CategoryRepository categoryRepository;
+    private CategoryMapper categoryMapper;
+    private CategoryTreeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        categoryMapper = mock(CategoryMapper.class);
+        when(categoryRepository.findAll()).thenReturn(List.of());
+        cache = new CategoryTreeCache(categoryRepository, categoryMapper);
+    }
+
+    @Test
+    @DisplayName("ETag depends on content, not on row order")
+    void etagIsStableForSameContent() {
+        CategoryGetResponse a = category(UUID.randomUUID(), null, "A");
+        CategoryGetResponse b = category(UUID.randomUUID(), a.id(), "B");
+
+        CategoryTree first = CategoryTree.of(List.of(a, b));
+        CategoryTree second = CategoryTree.of(List.of(b, a));
+        CategoryTree renamed = CategoryTree.of(List.of(a, category(b.id(), a.id(), "B2")));
+
+        assertEquals(first.etag(), second.etag());
+        assertNotEquals(first.etag(), renamed.etag());
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("Cyclic parent links do not loop forever")
+    void cyclesAreCut() {
+        UUID aId = UUID.randomUUID();
+        UUID bId = UUID.randomUUID();
+        CategoryTree tree = CategoryTree.of(List.of(category(aId, bId, "A"), category(bId, aId, "B")));
+
+        assertEquals(2, tree.ancestors(aId).orElseThrow().size());
+        assertEquals(bId, tree.subtree(aId).orElseThrow().children().get(0).id());
+        assertTrue(tree.subtree(aId).orElseThrow().children().get(0).children().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Refresh failure keeps the previous snapshot")
+    void refreshFailureKeepsSnapshot() {
+        when(categoryMapper.toCategoryGetResponse(ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(category(UUID.randomUUID(), null, "Root")));
+        CategoryTree before = cache.get();
+
+        when(categoryRepository.findAll()).thenThrow(new IllegalStateException("db down"));
+        cache.refresh();
+
+        assertSame(before, cache.get());
+    }
+
+    @Test
+    @DisplayName("Initial load failure is propagated")
+    void initialLoadFailurePropagates() {
+        when(categoryRepository.findAll()).thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () -> cache.get());
+    }
+
+    @Test
+    @DisplayName("Refresh picks up new categories")
+    void refreshReplacesSnapshot() {
+        CategoryGetResponse root = category(UUID.randomUUID(), null, "Root");
+        CategoryGetResponse child = category(UUID.randomUUID(), root.id(), "Child");
+        when(categoryMapper.toCategoryGetResponse(ArgumentMatchers.anyCollection()))
+                .thenReturn(List.of(root))
+                .thenReturn(List.of(root, child));
+
+        assertTrue(cache.get().children(root.id()).isEmpty());
+        cache.refreshAfterCommit();
+
+        assertEquals(List.of(child), cache.get().children(root.id()));
+    }
+
+    private static CategoryGetResponse category(UUID id, UUID parentId, String name) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return new CategoryGetResponse(id, name, "", parentId, now, now, true);
+    }
+}
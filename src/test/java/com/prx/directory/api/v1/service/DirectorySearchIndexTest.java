@@ -0,0 +1,132 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.ProductEntity;
+import com.prx.directory.jpa.repository.BusinessRepository;
+import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.ProductRepository;
+import com.prx.directory.jpa.repository.SearchRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DirectorySearchIndex - loading and incremental updates")
+class DirectorySearchIndexTest {
+
+    private final UUID businessId = UUID.randomUUID();
+    private BusinessRepository businessRepository;
+    private ProductRepository productRepository;
+    private CampaignRepository campaignRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private DirectorySearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        businessRepository = mock(BusinessRepository.class);
+        productRepository = mock(ProductRepository.class);
+        campaignRepository = mock(CampaignRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // Rows are built before stubbing the repository: stubbing a mock inside thenReturn is not allowed
+        SearchRow bakery = row(businessId, "Corner Bakery");
+        when(businessRepository.findSearchRows()).thenReturn(List.of(bakery));
+        when(productRepository.findActiveSearchRows()).thenReturn(List.of());
+        when(campaignRepository.findActiveSearchRows()).thenReturn(List.of());
+        searchIndex = new DirectorySearchIndex(businessRepository, productRepository, campaignRepository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("search: the index is loaded once, on first use")
+    void searchLoadsIndexOnce() {
+        assertEquals(0.0, meterRegistry.get(DirectorySearchIndex.SIZE_METRIC).gauge().value());
+
+        assertEquals(businessId, searchIndex.search(List.of("bakery")).getFirst().document().id());
+        searchIndex.search(List.of("corner"));
+
+        verify(businessRepository, times(1)).findSearchRows();
+        assertEquals(1.0, meterRegistry.get(DirectorySearchIndex.SIZE_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("businessChanged: outside a transaction the change is applied immediately")
+    void businessChangedAppliesImmediately() {
+        searchIndex.search(List.of("bakery"));
+        BusinessEntity business = new BusinessEntity();
+        business.setId(businessId);
+        business.setName("Corner Patisserie");
+
+        searchIndex.businessChanged(business);
+
+        assertTrue(searchIndex.search(List.of("bakery")).isEmpty());
+        assertEquals(1, searchIndex.search(List.of("patisserie")).size());
+    }
+
+    @Test
+    @DisplayName("campaignChanged: inside a transaction the change waits for the commit")
+    void campaignChangedWaitsForCommit() {
+        searchIndex.search(List.of("bakery"));
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setId(UUID.randomUUID());
+        campaign.setTitle("Summer sale");
+        campaign.setActive(true);
+
+        TransactionSynchronizationManager.initSynchronization();
+        searchIndex.campaignChanged(campaign);
+        assertTrue(searchIndex.search(List.of("summer")).isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, searchIndex.search(List.of("summer")).size());
+    }
+
+    @Test
+    @DisplayName("productChanged: an inactive product is removed from the index")
+    void inactiveProductIsRemoved() {
+        UUID productId = UUID.randomUUID();
+        SearchRow rye = row(productId, "Rye loaf");
+        when(productRepository.findActiveSearchRows()).thenReturn(List.of(rye));
+        ProductEntity product = new ProductEntity();
+        product.setId(productId);
+        product.setName("Rye loaf");
+        product.setActive(false);
+
+        assertEquals(1, searchIndex.search(List.of("rye")).size());
+        searchIndex.productChanged(product);
+
+        assertTrue(searchIndex.search(List.of("rye")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("refresh: a failed rebuild keeps the previous index")
+    void failedRefreshKeepsIndex() {
+        searchIndex.search(List.of("bakery"));
+        when(businessRepository.findSearchRows()).thenThrow(new IllegalStateException("db down"));
+
+        searchIndex.refresh();
+
+        assertEquals(1, searchIndex.search(List.of("bakery")).size());
+    }
+
+    private static SearchRow row(UUID id, String title) {
+        SearchRow row = mock(SearchRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getTitle()).thenReturn(title);
+        return row;
+    }
+}
@@ -0,0 +1,191 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.api.v1.to.BusinessTO;
+import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.constant.ContactTypeKey;
+import com.prx.directory.constant.DirectoryAppConstants;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CategoryEntity;
+import com.prx.directory.jpa.repository.BusinessRepository;
+import com.prx.directory.jpa.repository.CampaignRepository;
+import com.prx.directory.jpa.repository.CategoryRepository;
+import com.prx.directory.jpa.repository.ContactRow;
+import com.prx.directory.jpa.repository.DigitalContactRepository;
+import com.prx.directory.jpa.repository.ProductRepository;
+import com.prx.directory.mapper.BusinessMapper;
+import com.prx.directory.mapper.CampaignMapper;
+import com.prx.directory.mapper.CategoryMapper;
+import com.prx.directory.mapper.ProductMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ExportServiceImpl - NDJSON directory export")
+class ExportServiceImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private BusinessRepository businessRepository;
+    private ProductRepository productRepository;
+    private CampaignRepository campaignRepository;
+    private CategoryRepository categoryRepository;
+    private DigitalContactRepository digitalContactRepository;
+    private BusinessMapper businessMapper;
+    private CategoryMapper categoryMapper;
+    private EntityManager entityManager;
+    private ExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        businessRepository = mock(BusinessRepository.class);
+        productRepository = mock(ProductRepository.class);
+        campaignRepository = mock(CampaignRepository.class);
+        categoryRepository = mock(CategoryRepository.class);
+        digitalContactRepository = mock(DigitalContactRepository.class);
+        businessMapper = mock(BusinessMapper.class);
+        categoryMapper = mock(CategoryMapper.class);
+        entityManager = mock(EntityManager.class);
+
+        when(businessRepository.streamUpdatedSince(any())).thenReturn(Stream.empty());
+        when(productRepository.streamUpdatedSince(any())).thenReturn(Stream.empty());
+        when(campaignRepository.streamUpdatedSince(any())).thenReturn(Stream.empty());
+        when(categoryRepository.streamUpdatedSince(any())).thenReturn(Stream.empty());
+        when(businessMapper.toBusinessTO(any(BusinessEntity.class), any())).thenAnswer(invocation -> {
+            BusinessEntity business = invocation.getArgument(0);
+            Map<ContactTypeKey, String> contacts = invocation.getArgument(1);
+            return new BusinessTO(business.getId(), business.getName(), null, null, null,
+                    contacts.get(ContactTypeKey.EML), null, null, contacts.get(ContactTypeKey.WBH), null, null,
+                    false, null);
+        });
+
+        service = new ExportServiceImpl(businessRepository, productRepository, campaignRepository,
+                categoryRepository, digitalContactRepository, businessMapper, mock(ProductMapper.class),
+                mock(CampaignMapper.class), categoryMapper, objectMapper, entityManager,
+                mock(PlatformTransactionManager.class), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("export: categories are written before businesses, businesses carry their contacts")
+    void exportWritesTypesInOrder() throws IOException {
+        BusinessEntity bakery = business("Bakery");
+        BusinessEntity butcher = business("Butcher");
+        ContactRow email = contactRow(bakery.getId(), "EML", "hello@bakery.com");
+        ContactRow website = contactRow(bakery.getId(), "WBH", "https://bakery.com");
+        ContactRow unknown = contactRow(butcher.getId(), "FAX", "555-0100");
+        CategoryEntity category = new CategoryEntity();
+        CategoryGetResponse categoryResponse = new CategoryGetResponse(UUID.randomUUID(), "Food", null, null,
+                LocalDateTime.now(), LocalDateTime.now(), true);
+        when(businessRepository.streamUpdatedSince(any())).thenReturn(Stream.of(bakery, butcher));
+        when(categoryRepository.streamUpdatedSince(any())).thenReturn(Stream.of(category));
+        when(categoryMapper.toCategoryGetResponse(category)).thenReturn(categoryResponse);
+        when(digitalContactRepository.findContactRowsByBusinessIds(anyCollection()))
+                .thenReturn(List.of(email, website, unknown));
+
+        List<JsonNode> lines = run(service.export(null, null));
+
+        assertEquals(List.of("category", "business", "business"),
+                lines.stream().map(line -> line.get("type").asText()).toList());
+        assertEquals("Food", lines.getFirst().get("data").get("name").asText());
+        assertEquals("hello@bakery.com", lines.get(1).get("data").get("email").asText());
+        assertEquals("https://bakery.com", lines.get(1).get("data").get("website").asText());
+        assertTrue(lines.get(2).get("data").get("email").isNull());
+        verify(digitalContactRepository, times(1)).findContactRowsByBusinessIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("export: since defaults to the beginning and only the requested types are read")
+    void exportFiltersTypes() throws IOException {
+        LocalDateTime since = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+        run(service.export("business", since));
+        run(service.export("category", null));
+
+        verify(businessRepository).streamUpdatedSince(since);
+        verify(categoryRepository).streamUpdatedSince(ExportServiceImpl.BEGINNING);
+        verifyNoInteractions(productRepository, campaignRepository);
+    }
+
+    @Test
+    @DisplayName("export: business contacts are loaded once per fetch and the session is cleared as it goes")
+    void exportBatchesBusinesses() throws IOException {
+        int count = DirectoryAppConstants.EXPORT_FETCH_SIZE + 1;
+        AtomicBoolean closed = new AtomicBoolean();
+        List<BusinessEntity> businesses = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> businesses.add(business("Business " + i)));
+        when(businessRepository.streamUpdatedSince(any()))
+                .thenReturn(businesses.stream().onClose(() -> closed.set(true)));
+        when(digitalContactRepository.findContactRowsByBusinessIds(anyCollection())).thenReturn(List.of());
+
+        List<JsonNode> lines = run(service.export("business", null));
+
+        assertEquals(count, lines.size());
+        verify(digitalContactRepository, times(2)).findContactRowsByBusinessIds(anyCollection());
+        verify(entityManager, times(2)).clear();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("export: unknown types are rejected and the watermark header is set")
+    void exportValidatesTypes() {
+        assertEquals(HttpStatus.BAD_REQUEST, service.export("business,stores", null).getStatusCode());
+
+        ResponseEntity<StreamingResponseBody> response = service.export("category", null);
+        LocalDateTime nextSince = LocalDateTime.parse(
+                response.getHeaders().getFirst(ExportServiceImpl.NEXT_SINCE_HEADER));
+        assertTrue(nextSince.isBefore(LocalDateTime.now()));
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+    }
+
+    private List<JsonNode> run(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private static BusinessEntity business(String name) {
+        BusinessEntity business = new BusinessEntity();
+        business.setId(UUID.randomUUID());
+        business.setName(name);
+        return business;
+    }
+
+    private static ContactRow contactRow(UUID businessId, String type, String content) {
+        ContactRow row = mock(ContactRow.class);
+        when(row.getBusinessId()).thenReturn(businessId);
+        when(row.getContactType()).thenReturn(type);
+        when(row.getContent()).thenReturn(content);
+        return row;
+    }
+}
@@ -5,14 +5,13 @@ import com.prx.directory.constant.FavoriteType;
 import com.prx.directory.jpa.entity.*;
 import com.prx.directory.jpa.repository.*;
 import com.prx.directory.mapper.*;
-import com.prx.directory.util.JwtUtil;
+import com.prx.directory.security.SessionClaimsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +20,8 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -43,6 +44,8 @@ class FavoriteServiceImplExtendedTest {
     private ProductMapper productMapper;
     @Mock
     private CampaignMapper campaignMapper;
+    @Mock
+    private SessionClaimsCache sessionClaimsCache;
 
     private FavoriteServiceImpl service;
 
@@ -50,7 +53,7 @@ class FavoriteServiceImplExtendedTest {
     void setUp() {
         service = new FavoriteServiceImpl(userFavoriteRepository, businessRepository,
                 productRepository, campaignRepository, favoriteMapper, businessMapper,
-                productMapper, campaignMapper);
+                productMapper, campaignMapper, sessionClaimsCache);
     }
 
     @Test
@@ -67,13 +70,11 @@ class FavoriteServiceImplExtendedTest {
     void createFavorite_nullUserId() {
         FavoriteCreateRequest request = new FavoriteCreateRequest(FavoriteType.STORE, UUID.randomUUID());
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(null);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(null);
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
-        }
+        assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
     }
 
     @Test
@@ -86,19 +87,17 @@ class FavoriteServiceImplExtendedTest {
         UserFavoriteEntity savedFavorite = new UserFavoriteEntity(new UserEntity());
         FavoriteResponse expected = mock(FavoriteResponse.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(itemId)).thenReturn(Optional.of(business));
-            when(userFavoriteRepository.findByUserIdAndBusinessId(userId, itemId)).thenReturn(Optional.empty());
-            when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(savedFavorite);
-            when(favoriteMapper.toResponse(savedFavorite)).thenReturn(expected);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(itemId)).thenReturn(Optional.of(business));
+        when(userFavoriteRepository.findByUserIdAndBusinessId(userId, itemId)).thenReturn(Optional.empty());
+        when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(savedFavorite);
+        when(favoriteMapper.toResponse(savedFavorite)).thenReturn(expected);
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.CREATED, result.getStatusCode());
-            assertEquals(expected, result.getBody());
-            verify(userFavoriteRepository).save(any(UserFavoriteEntity.class));
-        }
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(expected, result.getBody());
+        verify(userFavoriteRepository).save(any(UserFavoriteEntity.class));
     }
 
     @Test
@@ -108,15 +107,13 @@ class FavoriteServiceImplExtendedTest {
         UUID userId = UUID.randomUUID();
         FavoriteCreateRequest request = new FavoriteCreateRequest(FavoriteType.STORE, itemId);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(itemId)).thenReturn(Optional.empty());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(itemId)).thenReturn(Optional.empty());
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
-            verify(userFavoriteRepository, never()).save(any());
-        }
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        verify(userFavoriteRepository, never()).save(any());
     }
 
     @Test
@@ -128,16 +125,14 @@ class FavoriteServiceImplExtendedTest {
         BusinessEntity business = new BusinessEntity();
         UserFavoriteEntity existing = new UserFavoriteEntity(new UserEntity());
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(itemId)).thenReturn(Optional.of(business));
-            when(userFavoriteRepository.findByUserIdAndBusinessId(userId, itemId)).thenReturn(Optional.of(existing));
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(itemId)).thenReturn(Optional.of(business));
+        when(userFavoriteRepository.findByUserIdAndBusinessId(userId, itemId)).thenReturn(Optional.of(existing));
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.CONFLICT, result.getStatusCode());
-            verify(userFavoriteRepository, never()).save(any());
-        }
+        assertEquals(HttpStatus.CONFLICT, result.getStatusCode());
+        verify(userFavoriteRepository, never()).save(any());
     }
 
     @Test
@@ -150,18 +145,16 @@ class FavoriteServiceImplExtendedTest {
         UserFavoriteEntity savedFavorite = new UserFavoriteEntity(new UserEntity());
         FavoriteResponse expected = mock(FavoriteResponse.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(productRepository.findById(itemId)).thenReturn(Optional.of(product));
-            when(userFavoriteRepository.findByUserIdAndProductId(userId, itemId)).thenReturn(Optional.empty());
-            when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(savedFavorite);
-            when(favoriteMapper.toResponse(savedFavorite)).thenReturn(expected);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(productRepository.findById(itemId)).thenReturn(Optional.of(product));
+        when(userFavoriteRepository.findByUserIdAndProductId(userId, itemId)).thenReturn(Optional.empty());
+        when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(savedFavorite);
+        when(favoriteMapper.toResponse(savedFavorite)).thenReturn(expected);
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.CREATED, result.getStatusCode());
-            assertEquals(expected, result.getBody());
-        }
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(expected, result.getBody());
     }
 
     @Test
@@ -171,14 +164,12 @@ class FavoriteServiceImplExtendedTest {
         UUID userId = UUID.randomUUID();
         FavoriteCreateRequest request = new FavoriteCreateRequest(FavoriteType.PRODUCT, itemId);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(productRepository.findById(itemId)).thenReturn(Optional.empty());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(productRepository.findById(itemId)).thenReturn(Optional.empty());
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
-        }
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
     }
 
     @Test
@@ -191,18 +182,16 @@ class FavoriteServiceImplExtendedTest {
         UserFavoriteEntity savedFavorite = new UserFavoriteEntity(new UserEntity());
         FavoriteResponse expected = mock(FavoriteResponse.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(campaignRepository.findById(itemId)).thenReturn(Optional.of(campaign));
-            when(userFavoriteRepository.findByUserIdAndCampaignId(userId, itemId)).thenReturn(Optional.empty());
-            when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(savedFavorite);
-            when(favoriteMapper.toResponse(savedFavorite)).thenReturn(expected);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(campaignRepository.findById(itemId)).thenReturn(Optional.of(campaign));
+        when(userFavoriteRepository.findByUserIdAndCampaignId(userId, itemId)).thenReturn(Optional.empty());
+        when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(savedFavorite);
+        when(favoriteMapper.toResponse(savedFavorite)).thenReturn(expected);
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.CREATED, result.getStatusCode());
-            assertEquals(expected, result.getBody());
-        }
+        assertEquals(HttpStatus.CREATED, result.getStatusCode());
+        assertEquals(expected, result.getBody());
     }
 
     @Test
@@ -212,41 +201,31 @@ class FavoriteServiceImplExtendedTest {
         UUID userId = UUID.randomUUID();
         FavoriteCreateRequest request = new FavoriteCreateRequest(FavoriteType.OFFER, itemId);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(campaignRepository.findById(itemId)).thenReturn(Optional.empty());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(campaignRepository.findById(itemId)).thenReturn(Optional.empty());
 
-            ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
+        ResponseEntity<FavoriteResponse> result = service.createFavorite("token", request);
 
-            assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
-        }
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
     }
 
     @Test
     @DisplayName("getFavorites - sort parameter returns NOT_IMPLEMENTED")
     void getFavorites_sortNotImplemented() {
-        UUID userId = UUID.randomUUID();
-
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, "name");
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, "name");
 
-            assertEquals(HttpStatus.NOT_IMPLEMENTED, result.getStatusCode());
-            verifyNoInteractions(userFavoriteRepository);
-        }
+        assertEquals(HttpStatus.NOT_IMPLEMENTED, result.getStatusCode());
+        verifyNoInteractions(userFavoriteRepository, sessionClaimsCache);
     }
 
     @Test
     @DisplayName("getFavorites - null userId from token returns UNAUTHORIZED")
     void getFavorites_nullUserId() {
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(null);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(null);
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, null);
 
-            assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
-        }
+        assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
     }
 
     @Test
@@ -257,32 +236,26 @@ class FavoriteServiceImplExtendedTest {
         ProductEntity product = new ProductEntity();
         CampaignEntity campaign = new CampaignEntity();
 
-        UserFavoriteEntity fav1 = new UserFavoriteEntity(new UserEntity());
-        fav1.setBusiness(business);
-        UserFavoriteEntity fav2 = new UserFavoriteEntity(new UserEntity());
-        fav2.setProduct(product);
-        UserFavoriteEntity fav3 = new UserFavoriteEntity(new UserEntity());
-        fav3.setCampaign(campaign);
-
         BusinessTO businessTO = mock(BusinessTO.class);
         ProductCreateResponse productTO = mock(ProductCreateResponse.class);
         OfferTO offerTO = mock(OfferTO.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of(fav1, fav2, fav3));
-            when(businessMapper.toBusinessTO(business)).thenReturn(businessTO);
-            when(productMapper.toProductCreateResponse(product)).thenReturn(productTO);
-            when(campaignMapper.toOfferTO(campaign)).thenReturn(offerTO);
-
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, null);
-
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertNotNull(result.getBody());
-            assertEquals(1, result.getBody().stores().size());
-            assertEquals(1, result.getBody().products().size());
-            assertEquals(1, result.getBody().offers().size());
-        }
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.countByTypeForUser(userId)).thenReturn(new FavoriteCounts(1L, 1L, 1L));
+        when(userFavoriteRepository.findFavoriteBusinesses(userId, 0L, 10)).thenReturn(List.of(business));
+        when(userFavoriteRepository.findFavoriteProducts(userId, 0L, 9)).thenReturn(List.of(product));
+        when(userFavoriteRepository.findFavoriteCampaigns(userId, 0L, 8)).thenReturn(List.of(campaign));
+        when(businessMapper.toBusinessTO(business)).thenReturn(businessTO);
+        when(productMapper.toProductCreateResponse(product)).thenReturn(productTO);
+        when(campaignMapper.toOfferTO(campaign)).thenReturn(offerTO);
+
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertNotNull(result.getBody());
+        assertEquals(1, result.getBody().stores().size());
+        assertEquals(1, result.getBody().products().size());
+        assertEquals(1, result.getBody().offers().size());
     }
 
     @Test
@@ -292,27 +265,20 @@ class FavoriteServiceImplExtendedTest {
         BusinessEntity business1 = new BusinessEntity();
         BusinessEntity business2 = new BusinessEntity();
 
-        UserFavoriteEntity fav1 = new UserFavoriteEntity(new UserEntity());
-        fav1.setBusiness(business1);
-        UserFavoriteEntity fav2 = new UserFavoriteEntity(new UserEntity());
-        fav2.setBusiness(business2);
-
         BusinessTO businessTO1 = mock(BusinessTO.class);
         BusinessTO businessTO2 = mock(BusinessTO.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of(fav1, fav2));
-            when(businessMapper.toBusinessTO(business1)).thenReturn(businessTO1);
-            when(businessMapper.toBusinessTO(business2)).thenReturn(businessTO2);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findFavoriteBusinesses(userId, 0L, 10)).thenReturn(List.of(business1, business2));
+        when(businessMapper.toBusinessTO(business1)).thenReturn(businessTO1);
+        when(businessMapper.toBusinessTO(business2)).thenReturn(businessTO2);
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "stores", 0, 10, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "stores", 0, 10, null);
 
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertEquals(2, result.getBody().stores().size());
-            assertTrue(result.getBody().products().isEmpty());
-            assertTrue(result.getBody().offers().isEmpty());
-        }
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(2, result.getBody().stores().size());
+        assertTrue(result.getBody().products().isEmpty());
+        assertTrue(result.getBody().offers().isEmpty());
     }
 
     @Test
@@ -321,23 +287,18 @@ class FavoriteServiceImplExtendedTest {
         UUID userId = UUID.randomUUID();
         ProductEntity product = new ProductEntity();
 
-        UserFavoriteEntity fav = new UserFavoriteEntity(new UserEntity());
-        fav.setProduct(product);
-
         ProductCreateResponse productTO = mock(ProductCreateResponse.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of(fav));
-            when(productMapper.toProductCreateResponse(product)).thenReturn(productTO);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findFavoriteProducts(userId, 0L, 10)).thenReturn(List.of(product));
+        when(productMapper.toProductCreateResponse(product)).thenReturn(productTO);
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "products", 0, 10, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "products", 0, 10, null);
 
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertTrue(result.getBody().stores().isEmpty());
-            assertEquals(1, result.getBody().products().size());
-            assertTrue(result.getBody().offers().isEmpty());
-        }
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(result.getBody().stores().isEmpty());
+        assertEquals(1, result.getBody().products().size());
+        assertTrue(result.getBody().offers().isEmpty());
     }
 
     @Test
@@ -346,23 +307,18 @@ class FavoriteServiceImplExtendedTest {
         UUID userId = UUID.randomUUID();
         CampaignEntity campaign = new CampaignEntity();
 
-        UserFavoriteEntity fav = new UserFavoriteEntity(new UserEntity());
-        fav.setCampaign(campaign);
-
         OfferTO offerTO = mock(OfferTO.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of(fav));
-            when(campaignMapper.toOfferTO(campaign)).thenReturn(offerTO);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findFavoriteCampaigns(userId, 0L, 10)).thenReturn(List.of(campaign));
+        when(campaignMapper.toOfferTO(campaign)).thenReturn(offerTO);
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "offers", 0, 10, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "offers", 0, 10, null);
 
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertTrue(result.getBody().stores().isEmpty());
-            assertTrue(result.getBody().products().isEmpty());
-            assertEquals(1, result.getBody().offers().size());
-        }
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(result.getBody().stores().isEmpty());
+        assertTrue(result.getBody().products().isEmpty());
+        assertEquals(1, result.getBody().offers().size());
     }
 
     @Test
@@ -370,14 +326,12 @@ class FavoriteServiceImplExtendedTest {
     void getFavorites_invalidTypeFilter() {
         UUID userId = UUID.randomUUID();
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "invalid", 0, 10, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "invalid", 0, 10, null);
 
-            assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
-        }
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        verifyNoInteractions(userFavoriteRepository);
     }
 
     @Test
@@ -388,29 +342,19 @@ class FavoriteServiceImplExtendedTest {
         BusinessEntity b2 = new BusinessEntity();
         BusinessEntity b3 = new BusinessEntity();
 
-        UserFavoriteEntity fav1 = new UserFavoriteEntity(new UserEntity());
-        fav1.setBusiness(b1);
-        UserFavoriteEntity fav2 = new UserFavoriteEntity(new UserEntity());
-        fav2.setBusiness(b2);
-        UserFavoriteEntity fav3 = new UserFavoriteEntity(new UserEntity());
-        fav3.setBusiness(b3);
-
         BusinessTO bt1 = mock(BusinessTO.class);
         BusinessTO bt2 = mock(BusinessTO.class);
         BusinessTO bt3 = mock(BusinessTO.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of(fav1, fav2, fav3));
-            when(businessMapper.toBusinessTO(b1)).thenReturn(bt1);
-            when(businessMapper.toBusinessTO(b2)).thenReturn(bt2);
-            when(businessMapper.toBusinessTO(b3)).thenReturn(bt3);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findFavoriteBusinesses(userId, 0L, 2)).thenReturn(List.of(b1, b2));
+        when(businessMapper.toBusinessTO(b1)).thenReturn(bt1);
+        when(businessMapper.toBusinessTO(b2)).thenReturn(bt2);
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "stores", 0, 2, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "stores", 0, 2, null);
 
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertEquals(2, result.getBody().stores().size());
-        }
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(2, result.getBody().stores().size());
     }
 
     @Test
@@ -421,29 +365,18 @@ class FavoriteServiceImplExtendedTest {
         BusinessEntity b2 = new BusinessEntity();
         BusinessEntity b3 = new BusinessEntity();
 
-        UserFavoriteEntity fav1 = new UserFavoriteEntity(new UserEntity());
-        fav1.setBusiness(b1);
-        UserFavoriteEntity fav2 = new UserFavoriteEntity(new UserEntity());
-        fav2.setBusiness(b2);
-        UserFavoriteEntity fav3 = new UserFavoriteEntity(new UserEntity());
-        fav3.setBusiness(b3);
-
         BusinessTO bt1 = mock(BusinessTO.class);
         BusinessTO bt2 = mock(BusinessTO.class);
         BusinessTO bt3 = mock(BusinessTO.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of(fav1, fav2, fav3));
-            when(businessMapper.toBusinessTO(b1)).thenReturn(bt1);
-            when(businessMapper.toBusinessTO(b2)).thenReturn(bt2);
-            when(businessMapper.toBusinessTO(b3)).thenReturn(bt3);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findFavoriteBusinesses(userId, 2L, 2)).thenReturn(List.of(b3));
+        when(businessMapper.toBusinessTO(b3)).thenReturn(bt3);
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "stores", 1, 2, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", "stores", 1, 2, null);
 
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertEquals(1, result.getBody().stores().size());
-        }
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(1, result.getBody().stores().size());
     }
 
     @Test
@@ -451,17 +384,15 @@ class FavoriteServiceImplExtendedTest {
     void getFavorites_empty() {
         UUID userId = UUID.randomUUID();
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.countByTypeForUser(userId)).thenReturn(new FavoriteCounts(0L, 0L, 0L));
 
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, null);
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 10, null);
 
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            assertTrue(result.getBody().stores().isEmpty());
-            assertTrue(result.getBody().products().isEmpty());
-            assertTrue(result.getBody().offers().isEmpty());
-        }
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(result.getBody().stores().isEmpty());
+        assertTrue(result.getBody().products().isEmpty());
+        assertTrue(result.getBody().offers().isEmpty());
     }
 
     @Test
@@ -472,34 +403,27 @@ class FavoriteServiceImplExtendedTest {
         ProductEntity p1 = new ProductEntity();
         CampaignEntity c1 = new CampaignEntity();
 
-        UserFavoriteEntity fav1 = new UserFavoriteEntity(new UserEntity());
-        fav1.setBusiness(b1);
-        UserFavoriteEntity fav2 = new UserFavoriteEntity(new UserEntity());
-        fav2.setProduct(p1);
-        UserFavoriteEntity fav3 = new UserFavoriteEntity(new UserEntity());
-        fav3.setCampaign(c1);
-
         BusinessTO bt1 = mock(BusinessTO.class);
         ProductCreateResponse pt1 = mock(ProductCreateResponse.class);
         OfferTO ot1 = mock(OfferTO.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserId(userId)).thenReturn(List.of(fav1, fav2, fav3));
-            when(businessMapper.toBusinessTO(b1)).thenReturn(bt1);
-            when(productMapper.toProductCreateResponse(p1)).thenReturn(pt1);
-            when(campaignMapper.toOfferTO(c1)).thenReturn(ot1);
-
-            // Get only first 2 items
-            ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 2, null);
-
-            assertEquals(HttpStatus.OK, result.getStatusCode());
-            // Should return first 2 items (store and product)
-            int totalItems = result.getBody().stores().size() +
-                            result.getBody().products().size() +
-                            result.getBody().offers().size();
-            assertEquals(2, totalItems);
-        }
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.countByTypeForUser(userId)).thenReturn(new FavoriteCounts(1L, 1L, 1L));
+        when(userFavoriteRepository.findFavoriteBusinesses(userId, 0L, 2)).thenReturn(List.of(b1));
+        when(userFavoriteRepository.findFavoriteProducts(userId, 0L, 1)).thenReturn(List.of(p1));
+        when(businessMapper.toBusinessTO(b1)).thenReturn(bt1);
+        when(productMapper.toProductCreateResponse(p1)).thenReturn(pt1);
+
+        // Get only first 2 items
+        ResponseEntity<FavoritesResponse> result = service.getFavorites("token", null, 0, 2, null);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        // Should return first 2 items (store and product)
+        int totalItems = result.getBody().stores().size() +
+                        result.getBody().products().size() +
+                        result.getBody().offers().size();
+        assertEquals(2, totalItems);
+        verify(userFavoriteRepository, never()).findFavoriteCampaigns(any(), anyLong(), anyInt());
     }
 
     @Test
@@ -512,21 +436,19 @@ class FavoriteServiceImplExtendedTest {
 
         ArgumentCaptor<UserFavoriteEntity> captor = ArgumentCaptor.forClass(UserFavoriteEntity.class);
 
-        try (MockedStatic<JwtUtil> mockedStatic = mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(itemId)).thenReturn(Optional.of(business));
-            when(userFavoriteRepository.findByUserIdAndBusinessId(userId, itemId)).thenReturn(Optional.empty());
-            when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(new UserFavoriteEntity(new UserEntity()));
-            when(favoriteMapper.toResponse(any())).thenReturn(mock(FavoriteResponse.class));
-
-            service.createFavorite("token", request);
-
-            verify(userFavoriteRepository).save(captor.capture());
-            UserFavoriteEntity saved = captor.getValue();
-            assertNotNull(saved.getCreatedAt());
-            assertNotNull(saved.getUpdatedAt());
-            assertTrue(saved.getActive());
-        }
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(itemId)).thenReturn(Optional.of(business));
+        when(userFavoriteRepository.findByUserIdAndBusinessId(userId, itemId)).thenReturn(Optional.empty());
+        when(userFavoriteRepository.save(any(UserFavoriteEntity.class))).thenReturn(new UserFavoriteEntity(new UserEntity()));
+        when(favoriteMapper.toResponse(any())).thenReturn(mock(FavoriteResponse.class));
+
+        service.createFavorite("token", request);
+
+        verify(userFavoriteRepository).save(captor.capture());
+        UserFavoriteEntity saved = captor.getValue();
+        assertNotNull(saved.getCreatedAt());
+        assertNotNull(saved.getUpdatedAt());
+        assertTrue(saved.getActive());
     }
 }
 
@@ -12,7 +12,7 @@ import com.prx.directory.jpa.repository.CampaignRepository;
 import com.prx.directory.jpa.repository.ProductRepository;
 import com.prx.directory.jpa.repository.UserFavoriteRepository;
 import com.prx.directory.mapper.FavoriteMapper;
-import com.prx.directory.util.JwtUtil;
+import com.prx.directory.security.SessionClaimsCache;
 import com.prx.security.service.SessionJwtService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,8 +21,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -51,6 +49,8 @@ class FavoriteServiceImplTest {
     SessionJwtService sessionJwtService;
     @Mock
     FavoriteMapper favoriteMapper;
+    @Mock
+    SessionClaimsCache sessionClaimsCache;
 
     @InjectMocks
     FavoriteServiceImpl favoriteService;
@@ -67,14 +67,12 @@ class FavoriteServiceImplTest {
     @DisplayName("createFavorite should return NOT_FOUND when referenced business missing")
     void createFavoriteShouldReturnNotFoundWhenBusinessMissing() {
         UUID businessId = UUID.randomUUID();
-        try (MockedStatic<JwtUtil> mockedStatic = Mockito.mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.empty());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.empty());
 
-            ResponseEntity<FavoriteResponse> resp = favoriteService.createFavorite("token", new FavoriteCreateRequest(FavoriteType.STORE, businessId));
+        ResponseEntity<FavoriteResponse> resp = favoriteService.createFavorite("token", new FavoriteCreateRequest(FavoriteType.STORE, businessId));
 
-            assertEquals(HttpStatus.NOT_FOUND, resp.getStatusCode());
-        }
+        assertEquals(HttpStatus.NOT_FOUND, resp.getStatusCode());
     }
 
     @Test
@@ -85,29 +83,27 @@ class FavoriteServiceImplTest {
         UserFavoriteEntity saved = new UserFavoriteEntity();
         FavoriteResponse favoriteResponse = new FavoriteResponse(userFavoriteId, FavoriteType.STORE.name(), UUID.randomUUID(), userId, LocalDateTime.now(), LocalDateTime.now(), true);
 
-        try (MockedStatic<JwtUtil> mockedStatic = Mockito.mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(businessRepository.findById(businessId)).thenReturn(Optional.of(new BusinessEntity()));
-            when(userFavoriteRepository.findByUserIdAndBusinessId(any(), any())).thenReturn(Optional.empty());
-
-            saved.setId(userFavoriteId);
-            saved.setCreatedAt(LocalDateTime.now());
-            saved.setUpdatedAt(LocalDateTime.now());
-            // set user so toResponse() can read user id
-            var userEntity = new UserEntity();
-            userEntity.setId(userId);
-            saved.setUser(userEntity);
-
-            when(userFavoriteRepository.save(any())).thenReturn(saved);
-            when(favoriteMapper.toResponse(any(UserFavoriteEntity.class))).thenReturn(favoriteResponse);
-
-            ResponseEntity<FavoriteResponse> resp = favoriteService.createFavorite("token", new FavoriteCreateRequest(FavoriteType.STORE, businessId));
-
-            assertEquals(HttpStatus.CREATED, resp.getStatusCode());
-            // body not null
-            Assertions.assertNotNull(resp.getBody());
-            assertEquals(saved.getId(), resp.getBody().id());
-        }
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(businessRepository.findById(businessId)).thenReturn(Optional.of(new BusinessEntity()));
+        when(userFavoriteRepository.findByUserIdAndBusinessId(any(), any())).thenReturn(Optional.empty());
+
+        saved.setId(userFavoriteId);
+        saved.setCreatedAt(LocalDateTime.now());
+        saved.setUpdatedAt(LocalDateTime.now());
+        // set user so toResponse() can read user id
+        var userEntity = new UserEntity();
+        userEntity.setId(userId);
+        saved.setUser(userEntity);
+
+        when(userFavoriteRepository.save(any())).thenReturn(saved);
+        when(favoriteMapper.toResponse(any(UserFavoriteEntity.class))).thenReturn(favoriteResponse);
+
+        ResponseEntity<FavoriteResponse> resp = favoriteService.createFavorite("token", new FavoriteCreateRequest(FavoriteType.STORE, businessId));
+
+        assertEquals(HttpStatus.CREATED, resp.getStatusCode());
+        // body not null
+        Assertions.assertNotNull(resp.getBody());
+        assertEquals(saved.getId(), resp.getBody().id());
     }
 
     @Test
@@ -125,15 +121,13 @@ class FavoriteServiceImplTest {
         userEntity.setId(userId);
         existing.setUser(userEntity);
 
-        try (MockedStatic<JwtUtil> mockedStatic = Mockito.mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findByUserIdAndBusinessId(any(), any())).thenReturn(Optional.of(existing));
-            when(favoriteMapper.toResponse(any(UserFavoriteEntity.class))).thenReturn(favoriteResponse);
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findByUserIdAndBusinessId(any(), any())).thenReturn(Optional.of(existing));
+        when(favoriteMapper.toResponse(any(UserFavoriteEntity.class))).thenReturn(favoriteResponse);
 
-            ResponseEntity<FavoriteResponse> resp = favoriteService.createFavorite("token", new FavoriteCreateRequest(FavoriteType.STORE, businessId));
+        ResponseEntity<FavoriteResponse> resp = favoriteService.createFavorite("token", new FavoriteCreateRequest(FavoriteType.STORE, businessId));
 
-            assertEquals(HttpStatus.CONFLICT, resp.getStatusCode());
-        }
+        assertEquals(HttpStatus.CONFLICT, resp.getStatusCode());
     }
 
     // New tests for updateFavorite
@@ -143,13 +137,11 @@ class FavoriteServiceImplTest {
     void updateFavoriteShouldReturnNotFoundWhenMissing() {
         UUID favId = UUID.randomUUID();
         FavoriteUpdateRequest req = new FavoriteUpdateRequest(favId, null);
-        try (MockedStatic<JwtUtil> mockedStatic = Mockito.mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findById(favId)).thenReturn(Optional.empty());
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findById(favId)).thenReturn(Optional.empty());
 
-            ResponseEntity<FavoriteResponse> resp = favoriteService.updateFavorite("token", req);
-            assertEquals(HttpStatus.NOT_FOUND, resp.getStatusCode());
-        }
+        ResponseEntity<FavoriteResponse> resp = favoriteService.updateFavorite("token", req);
+        assertEquals(HttpStatus.NOT_FOUND, resp.getStatusCode());
     }
 
     @Test
@@ -162,13 +154,11 @@ class FavoriteServiceImplTest {
         owner.setId(UUID.randomUUID());
         existing.setUser(owner);
 
-        try (MockedStatic<JwtUtil> mockedStatic = Mockito.mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findById(favId)).thenReturn(Optional.of(existing));
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findById(favId)).thenReturn(Optional.of(existing));
 
-            ResponseEntity<FavoriteResponse> resp = favoriteService.updateFavorite("token", req);
-            assertEquals(HttpStatus.FORBIDDEN, resp.getStatusCode());
-        }
+        ResponseEntity<FavoriteResponse> resp = favoriteService.updateFavorite("token", req);
+        assertEquals(HttpStatus.FORBIDDEN, resp.getStatusCode());
     }
 
     @Test
@@ -184,16 +174,14 @@ class FavoriteServiceImplTest {
 
         FavoriteResponse favoriteResponse = new FavoriteResponse(favId, "STORE", UUID.randomUUID(), userId, LocalDateTime.now(), LocalDateTime.now(), false);
 
-        try (MockedStatic<JwtUtil> mockedStatic = Mockito.mockStatic(JwtUtil.class)) {
-            mockedStatic.when(() -> JwtUtil.getUidFromToken(anyString())).thenReturn(userId);
-            when(userFavoriteRepository.findById(favId)).thenReturn(Optional.of(existing));
-            when(userFavoriteRepository.save(any())).thenAnswer(i -> i.getArgument(0));
-            when(favoriteMapper.toResponse(any(UserFavoriteEntity.class))).thenReturn(favoriteResponse);
-
-            ResponseEntity<FavoriteResponse> resp = favoriteService.updateFavorite("token", req);
-            assertEquals(HttpStatus.OK, resp.getStatusCode());
-            Assertions.assertNotNull(resp.getBody());
-            assertEquals(favId, resp.getBody().id());
-        }
+        when(sessionClaimsCache.getUid(anyString())).thenReturn(userId);
+        when(userFavoriteRepository.findById(favId)).thenReturn(Optional.of(existing));
+        when(userFavoriteRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(favoriteMapper.toResponse(any(UserFavoriteEntity.class))).thenReturn(favoriteResponse);
+
+        ResponseEntity<FavoriteResponse> resp = favoriteService.updateFavorite("token", req);
+        assertEquals(HttpStatus.OK, resp.getStatusCode());
+        Assertions.assertNotNull(resp.getBody());
+        assertEquals(favId, resp.getBody().id());
     }
 }
@@ -49,6 +49,8 @@ class ProductServiceImplTest {
     BusinessProductMapper businessProductMapper;
     @Mock
     BusinessRepository businessRepository;
+    @Mock
+    DirectorySearchIndex searchIndex;
     @InjectMocks
     ProductServiceImpl productService;
 
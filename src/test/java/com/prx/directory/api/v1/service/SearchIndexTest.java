@@ -0,0 +1,95 @@
+package com.prx.directory.api.v1.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SearchIndex - in-memory inverted index")
+class SearchIndexTest {
+
+    private final UUID bakeryId = UUID.randomUUID();
+    private final UUID breadId = UUID.randomUUID();
+    private final UUID saleId = UUID.randomUUID();
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.put(new SearchDocument(SearchDocumentType.BUSINESS, bakeryId, "Panadería Central", "Fresh bread every morning", null));
+        index.put(new SearchDocument(SearchDocumentType.PRODUCT, breadId, "Sourdough bread", "Baked daily", null));
+        index.put(new SearchDocument(SearchDocumentType.CAMPAIGN, saleId, "Summer sale", "Discounts on pastries", null));
+    }
+
+    @Test
+    @DisplayName("terms: text is split, lower-cased and accent-folded without duplicates")
+    void termsAreNormalized() {
+        assertEquals(List.of("panaderia", "central", "pan"), SearchIndex.terms("Panadería  CENTRAL-pan, central"));
+        assertEquals(List.of(), SearchIndex.terms(" ,; "));
+    }
+
+    @Test
+    @DisplayName("search: every term must match; title hits outrank description hits")
+    void searchRequiresAllTermsAndWeighsTitle() {
+        List<SearchIndex.Match> matches = index.search(List.of("bread"));
+
+        assertEquals(2, matches.size());
+        SearchIndex.Match product = find(matches, breadId);
+        SearchIndex.Match business = find(matches, bakeryId);
+        assertTrue(product.score() > business.score());
+        assertTrue(index.search(List.of("bread", "summer")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("search: accents in the query are ignored")
+    void searchFoldsAccents() {
+        assertEquals(bakeryId, index.search(SearchIndex.terms("panaderia")).getFirst().document().id());
+    }
+
+    @Test
+    @DisplayName("search: the last term matches as a prefix, earlier terms do not")
+    void searchMatchesLastTermAsPrefix() {
+        assertEquals(saleId, index.search(List.of("summer", "sa")).getFirst().document().id());
+        assertTrue(index.search(List.of("sa", "summer")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("search: one typo is tolerated, with a lower score than an exact match")
+    void searchToleratesTypos() {
+        List<SearchIndex.Match> fuzzy = index.search(List.of("sourdugh"));
+        List<SearchIndex.Match> exact = index.search(List.of("sourdough"));
+
+        assertEquals(breadId, fuzzy.getFirst().document().id());
+        assertTrue(fuzzy.getFirst().score() < exact.getFirst().score());
+        assertTrue(index.search(List.of("sxxrdugh")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("put/remove: replacing or removing a document updates its postings")
+    void putAndRemoveUpdatePostings() {
+        index.put(new SearchDocument(SearchDocumentType.CAMPAIGN, saleId, "Winter sale", null, null));
+
+        assertTrue(index.search(List.of("summer")).isEmpty());
+        assertEquals(1, index.search(List.of("winter")).size());
+
+        index.remove(SearchDocumentType.CAMPAIGN, saleId);
+        assertTrue(index.search(List.of("winter")).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("withinDistance: bounded Levenshtein distance")
+    void withinDistanceIsBounded() {
+        assertTrue(SearchIndex.withinDistance("bread", "braed", 2));
+        assertTrue(SearchIndex.withinDistance("bread", "bred", 1));
+        assertFalse(SearchIndex.withinDistance("bread", "brat", 1));
+    }
+
+    private static SearchIndex.Match find(List<SearchIndex.Match> matches, UUID id) {
+        return matches.stream().filter(match -> match.document().id().equals(id)).findFirst().orElseThrow();
+    }
+}
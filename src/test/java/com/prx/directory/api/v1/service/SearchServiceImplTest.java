@@ -0,0 +1,97 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.api.v1.to.CategoryGetResponse;
+import com.prx.directory.api.v1.to.SearchFacetTO;
+import com.prx.directory.api.v1.to.SearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SearchServiceImpl - unified directory search")
+class SearchServiceImplTest {
+
+    private final UUID bakeries = UUID.randomUUID();
+    private final UUID groceries = UUID.randomUUID();
+    private DirectorySearchIndex searchIndex;
+    private SearchServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = mock(DirectorySearchIndex.class);
+        CategoryTreeCache categoryTreeCache = mock(CategoryTreeCache.class);
+        LocalDateTime now = LocalDateTime.now();
+        when(categoryTreeCache.get()).thenReturn(CategoryTree.of(List.of(
+                new CategoryGetResponse(bakeries, "Bakeries", null, null, now, now, true),
+                new CategoryGetResponse(groceries, "Groceries", null, null, now, now, true))));
+        service = new SearchServiceImpl(searchIndex, categoryTreeCache);
+    }
+
+    @Test
+    @DisplayName("search: hits are ordered by score and paged")
+    void searchOrdersAndPages() {
+        when(searchIndex.search(List.of("bread"))).thenReturn(List.of(
+                match(SearchDocumentType.BUSINESS, "Bakery", bakeries, 1f),
+                match(SearchDocumentType.PRODUCT, "Bread", bakeries, 2f),
+                match(SearchDocumentType.PRODUCT, "Bread mix", groceries, 1.6f)));
+
+        SearchResponse body = service.search("Bread", null, null, 1, 2).getBody();
+
+        assertNotNull(body);
+        assertEquals(3, body.total_count());
+        assertEquals(2, body.total_pages());
+        assertEquals(List.of("Bread", "Bread mix"), body.items().stream().map(hit -> hit.title()).toList());
+        assertEquals("product", body.items().getFirst().type());
+    }
+
+    @Test
+    @DisplayName("search: each facet ignores its own filter")
+    void searchComputesFacets() {
+        when(searchIndex.search(any())).thenReturn(List.of(
+                match(SearchDocumentType.BUSINESS, "Bakery", bakeries, 1f),
+                match(SearchDocumentType.PRODUCT, "Bread", bakeries, 2f),
+                match(SearchDocumentType.PRODUCT, "Bread mix", groceries, 1.6f),
+                match(SearchDocumentType.PRODUCT, "Bread flour", groceries, 1.2f)));
+
+        SearchResponse body = service.search("bread", "product", bakeries, null, null).getBody();
+
+        assertNotNull(body);
+        assertEquals(1, body.total_count());
+        assertEquals(List.of(new SearchFacetTO(groceries.toString(), "Groceries", 2),
+                new SearchFacetTO(bakeries.toString(), "Bakeries", 1)), body.categories());
+        assertEquals(List.of(new SearchFacetTO("business", null, 1), new SearchFacetTO("product", null, 1)),
+                body.types());
+    }
+
+    @Test
+    @DisplayName("search: query without searchable terms returns no hits without touching the index")
+    void searchWithoutTermsReturnsEmpty() {
+        SearchResponse body = service.search(" %%% ", null, null, null, null).getBody();
+
+        assertNotNull(body);
+        assertEquals(0, body.total_count());
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("search: invalid input returns 400")
+    void searchRejectsInvalidInput() {
+        assertEquals(400, service.search(null, null, null, null, null).getStatusCode().value());
+        assertEquals(400, service.search(" ", null, null, null, null).getStatusCode().value());
+        assertEquals(400, service.search("a".repeat(SearchServiceImpl.MAX_QUERY_LENGTH + 1), null, null, null, null)
+                .getStatusCode().value());
+        assertEquals(400, service.search("bread", "store", null, null, null).getStatusCode().value());
+        assertEquals(400, service.search("bread", null, null, 1, 101).getStatusCode().value());
+    }
+
+    private static SearchIndex.Match match(SearchDocumentType type, String title, UUID categoryId, float score) {
+        return new SearchIndex.Match(new SearchDocument(type, UUID.randomUUID(), title, null, categoryId), score);
+    }
+}
@@ -0,0 +1,256 @@
+package com.prx.directory.api.v1.service;
+
+import com.prx.directory.api.v1.to.BusinessTO;
+import com.prx.directory.api.v1.to.FavoritesResponse;
+import com.prx.directory.client.backbone.BackboneClient;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.CampaignEntity;
+import com.prx.directory.jpa.entity.CategoryEntity;
+import com.prx.directory.jpa.entity.ContactTypeEntity;
+import com.prx.directory.jpa.entity.DigitalContactEntity;
+import com.prx.directory.jpa.entity.ProductEntity;
+import com.prx.directory.jpa.entity.UserEntity;
+import com.prx.directory.jpa.entity.UserFavoriteEntity;
+import com.prx.directory.mapper.BusinessMapper;
+import com.prx.directory.mapper.CampaignMapper;
+import com.prx.directory.mapper.FavoriteMapper;
+import com.prx.directory.mapper.ProductMapper;
+import com.prx.directory.security.SessionClaimsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.prx.directory.constant.DirectoryAppConstants.ENTITY_PACKAGE;
+import static com.prx.directory.constant.DirectoryAppConstants.REPOSITORY_PACKAGE;
+import static com.prx.directory.jpa.statistics.QueryCountAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+// Pins the statements of the read paths whose N+1 patterns were removed: favorites are paged per type with the
+// business contacts fetched in one query, and a user's businesses are loaded with their contacts in one query.
+// Runs the services against H2 with QueryCountingStatementInspector registered, on an entity manager cleared
+// after the seeding, so every association the mappers read has to come from the queries under test.
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=USER",
+        "spring.sql.init.schema-locations=classpath:db/h2/schemas.sql",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.prx.directory.jpa.statistics.QueryCountingStatementInspector",
+        "prx.directory.application-id=00000000-0000-0000-0000-00000000000a",
+        "prx.directory.role-id=00000000-0000-0000-0000-00000000000b"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Favorite and business read paths - SQL statements per call")
+class ServiceQueryCountTest {
+
+    private static final String TOKEN = "session-token";
+    private static final int BUSINESSES = 5;
+    private static final int PRODUCTS = 3;
+    private static final int CAMPAIGNS = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private FavoriteServiceImpl favoriteService;
+    @Autowired
+    private BusinessServiceImpl businessService;
+    @MockitoBean
+    private SessionClaimsCache sessionClaimsCache;
+    @MockitoBean
+    private UserService userService;
+    @MockitoBean
+    private BackboneClient backboneClient;
+    @MockitoBean
+    private DirectorySearchIndex searchIndex;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity user = entityManager.persist(new UserEntity());
+        userId = user.getId();
+        CategoryEntity category = entityManager.persist(category());
+        ContactTypeEntity email = entityManager.persist(contactType("EML"));
+        ContactTypeEntity website = entityManager.persist(contactType("WBH"));
+
+        LocalDateTime favoritedAt = LocalDateTime.now().minusDays(1);
+        List<BusinessEntity> businesses = new ArrayList<>();
+        for (int i = 0; i < BUSINESSES; i++) {
+            BusinessEntity business = entityManager.persist(business(user, category, i));
+            entityManager.persist(contact(business, email, "store" + i + "@mail.test"));
+            entityManager.persist(contact(business, website, "https://store" + i + ".test"));
+            businesses.add(business);
+            favoritedAt = favoritedAt.plusMinutes(1);
+            UserFavoriteEntity favorite = favorite(user, favoritedAt);
+            favorite.setBusiness(business);
+            entityManager.persist(favorite);
+        }
+        for (int i = 0; i < PRODUCTS; i++) {
+            ProductEntity product = entityManager.persist(product(category, i));
+            favoritedAt = favoritedAt.plusMinutes(1);
+            UserFavoriteEntity favorite = favorite(user, favoritedAt);
+            favorite.setProduct(product);
+            entityManager.persist(favorite);
+        }
+        for (int i = 0; i < CAMPAIGNS; i++) {
+            CampaignEntity campaign = entityManager.persist(campaign(businesses.getFirst(), category, i));
+            favoritedAt = favoritedAt.plusMinutes(1);
+            UserFavoriteEntity favorite = favorite(user, favoritedAt);
+            favorite.setCampaign(campaign);
+            entityManager.persist(favorite);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        when(sessionClaimsCache.getUid(TOKEN)).thenReturn(userId);
+    }
+
+    @Test
+    @DisplayName("getFavorites: a page across every type runs one statement per type, plus the counts and contacts")
+    void favoritesAcrossTypes() throws Throwable {
+        FavoritesResponse favorites = assertMaxQueries(5,
+                () -> favoriteService.getFavorites(TOKEN, null, 0, 20, null).getBody());
+
+        assertEquals(BUSINESSES, favorites.stores().size());
+        assertEquals(PRODUCTS, favorites.products().size());
+        assertEquals(CAMPAIGNS, favorites.offers().size());
+        assertEquals("store0@mail.test", favorites.stores().getFirst().email());
+        assertEquals("https://store0.test", favorites.stores().getFirst().website());
+    }
+
+    @Test
+    @DisplayName("getFavorites: a page of stores runs the window and the contact fetch only")
+    void favoriteStores() throws Throwable {
+        FavoritesResponse favorites = assertMaxQueries(2,
+                () -> favoriteService.getFavorites(TOKEN, "stores", 0, 20, null).getBody());
+
+        assertEquals(BUSINESSES, favorites.stores().size());
+        assertTrue(favorites.stores().stream().allMatch(store -> store.email() != null && store.website() != null));
+    }
+
+    @Test
+    @DisplayName("findByUserId: the businesses of a user and their contacts come from one statement")
+    void businessesOfUser() throws Throwable {
+        Set<BusinessTO> businesses = assertMaxQueries(1, () -> businessService.findByUserId(userId).getBody());
+
+        assertEquals(BUSINESSES, businesses.size());
+        assertTrue(businesses.stream().allMatch(business -> business.email() != null && business.website() != null));
+    }
+
+    private static CategoryEntity category() {
+        CategoryEntity category = new CategoryEntity();
+        category.setName("Food");
+        category.setDescription("Food and drinks");
+        category.setActive(true);
+        category.setCreatedDate(LocalDateTime.now());
+        category.setLastUpdate(LocalDateTime.now());
+        return category;
+    }
+
+    private static ContactTypeEntity contactType(String name) {
+        ContactTypeEntity contactType = new ContactTypeEntity();
+        contactType.setId(UUID.randomUUID());
+        contactType.setName(name);
+        contactType.setActive(true);
+        return contactType;
+    }
+
+    private static BusinessEntity business(UserEntity user, CategoryEntity category, int index) {
+        BusinessEntity business = new BusinessEntity();
+        business.setName("Store " + index);
+        business.setDescription("Store number " + index);
+        business.setUserFk(user);
+        business.setCategoryFk(category);
+        business.setCreatedDate(LocalDateTime.now());
+        business.setLastUpdate(LocalDateTime.now());
+        return business;
+    }
+
+    private static DigitalContactEntity contact(BusinessEntity business, ContactTypeEntity type, String content) {
+        DigitalContactEntity contact = new DigitalContactEntity();
+        contact.setBusiness(business);
+        contact.setContactType(type);
+        contact.setContent(content);
+        contact.setCreatedDate(LocalDateTime.now());
+        contact.setLastUpdate(LocalDateTime.now());
+        return contact;
+    }
+
+    private static ProductEntity product(CategoryEntity category, int index) {
+        ProductEntity product = new ProductEntity();
+        product.setName("Product " + index);
+        product.setDescription("Product number " + index);
+        product.setActive(true);
+        product.setCategoryFk(category);
+        product.setCreatedDate(LocalDateTime.now());
+        product.setLastUpdate(LocalDateTime.now());
+        return product;
+    }
+
+    private static CampaignEntity campaign(BusinessEntity business, CategoryEntity category, int index) {
+        CampaignEntity campaign = new CampaignEntity();
+        campaign.setTitle("Campaign " + index);
+        campaign.setBusinessFk(business);
+        campaign.setCategoryFk(category);
+        campaign.setActive(true);
+        campaign.setDiscount(BigDecimal.TEN);
+        campaign.setStartDate(LocalDateTime.now().minusDays(1));
+        campaign.setEndDate(LocalDateTime.now().plusDays(30));
+        campaign.setCreatedDate(LocalDateTime.now());
+        campaign.setLastUpdate(LocalDateTime.now());
+        return campaign;
+    }
+
+    private static UserFavoriteEntity favorite(UserEntity user, LocalDateTime createdAt) {
+        UserFavoriteEntity favorite = new UserFavoriteEntity(user);
+        favorite.setActive(true);
+        favorite.setCreatedAt(createdAt);
+        favorite.setUpdatedAt(createdAt);
+        return favorite;
+    }
+
+    @Configuration
+    @EntityScan(basePackages = ENTITY_PACKAGE)
+    @EnableJpaRepositories(basePackages = REPOSITORY_PACKAGE)
+    @Import({FavoriteServiceImpl.class, BusinessServiceImpl.class})
+    static class QueryCountConfig {
+
+        @Bean
+        BusinessMapper businessMapper() {
+            return Mappers.getMapper(BusinessMapper.class);
+        }
+
+        @Bean
+        ProductMapper productMapper() {
+            return Mappers.getMapper(ProductMapper.class);
+        }
+
+        @Bean
+        CampaignMapper campaignMapper() {
+            return Mappers.getMapper(CampaignMapper.class);
+        }
+
+        @Bean
+        FavoriteMapper favoriteMapper() {
+            return Mappers.getMapper(FavoriteMapper.class);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.prx.directory.api.v1.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.jpa.entity.TimezoneEntity;
+import com.prx.directory.jpa.repository.TimezoneRepository;
+import com.prx.directory.mapper.TimezoneMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TimezoneCatalogCache - pre-rendered timezone catalog")
+class TimezoneCatalogCacheTest {
+
+    private TimezoneRepository timezoneRepository;
+    private TimezoneCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        timezoneRepository = mock(TimezoneRepository.class);
+        cache = new TimezoneCatalogCache(timezoneRepository, Mappers.getMapper(TimezoneMapper.class),
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("The catalog is rendered once and shared between reads")
+    void renderedOnce() {
+        when(timezoneRepository.findAll()).thenReturn(List.of(timezone("UTC")));
+
+        TimezoneCatalog first = cache.get();
+
+        assertSame(first, cache.get());
+        assertSame(first.json(), cache.get().json());
+        verify(timezoneRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("ETags depend on content, not on row order, and differ per encoding")
+    void etagIsStableForSameContent() {
+        TimezoneEntity utc = timezone("UTC");
+        TimezoneEntity madrid = timezone("Europe/Madrid");
+        when(timezoneRepository.findAll()).thenReturn(List.of(utc, madrid));
+        TimezoneCatalog first = cache.get();
+
+        when(timezoneRepository.findAll()).thenReturn(List.of(madrid, utc));
+        cache.refresh();
+        assertSame(first, cache.get());
+
+        madrid.setAbbreviation("CEST");
+        cache.refresh();
+        TimezoneCatalog changed = cache.get();
+        assertNotEquals(first.etag(), changed.etag());
+        assertNotEquals(changed.etag(), changed.gzipEtag());
+        assertTrue(changed.etag().startsWith("\"") && changed.etag().endsWith("\""));
+        assertTrue(changed.gzipEtag().startsWith("\"") && changed.gzipEtag().endsWith("\""));
+    }
+
+    @Test
+    @DisplayName("A failed refresh keeps the previous catalog")
+    void failedRefreshKeepsSnapshot() {
+        when(timezoneRepository.findAll()).thenReturn(List.of(timezone("UTC")));
+        TimezoneCatalog first = cache.get();
+
+        when(timezoneRepository.findAll()).thenThrow(new IllegalStateException("connection refused"));
+
+        assertDoesNotThrow(() -> cache.refresh());
+        assertSame(first, cache.get());
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding parsing honours q=0 and wildcards")
+    void acceptsGzip() {
+        assertTrue(TimezoneCatalog.acceptsGzip("gzip, deflate, br"));
+        assertTrue(TimezoneCatalog.acceptsGzip("identity;q=1, *;q=0.5"));
+        assertTrue(TimezoneCatalog.acceptsGzip("GZIP"));
+        assertFalse(TimezoneCatalog.acceptsGzip("gzip;q=0"));
+        assertFalse(TimezoneCatalog.acceptsGzip("br, identity"));
+        assertFalse(TimezoneCatalog.acceptsGzip(""));
+        assertFalse(TimezoneCatalog.acceptsGzip(null));
+    }
+
+    private static TimezoneEntity timezone(String name) {
+        TimezoneEntity entity = new TimezoneEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setName(name);
+        entity.setAbbreviation("TZ");
+        entity.setUtcOffset(Duration.ZERO);
+        entity.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+        entity.setLastUpdated(LocalDateTime.of(2025, 1, 1, 0, 0));
+        return entity;
+    }
+}
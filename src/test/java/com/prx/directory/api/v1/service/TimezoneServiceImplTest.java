@@ -1,5 +1,6 @@
 package com.prx.directory.api.v1.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prx.directory.api.v1.to.GetTimezoneCollectionResponse;
 import com.prx.directory.api.v1.to.TimezoneTO;
 import com.prx.directory.jpa.entity.TimezoneEntity;
@@ -13,11 +14,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,21 +36,28 @@ class TimezoneServiceImplTest {
 
     TimezoneRepository repository;
     TimezoneMapper mapper;
+    ObjectMapper objectMapper;
     TimezoneServiceImpl service;
 
     @BeforeEach
     void setup() {
         repository = mock(TimezoneRepository.class);
         mapper = Mappers.getMapper(TimezoneMapper.class);
-        service = new TimezoneServiceImpl(repository, mapper);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        service = new TimezoneServiceImpl(repository, mapper, new TimezoneCatalogCache(repository, mapper, objectMapper),
+                Duration.ofHours(1));
     }
 
     private static TimezoneEntity sampleEntity() {
+        return entity("UTC", "UTC", Duration.ZERO);
+    }
+
+    private static TimezoneEntity entity(String name, String abbreviation, Duration utcOffset) {
         TimezoneEntity entity = new TimezoneEntity();
         entity.setId(UUID.randomUUID());
-        entity.setName("UTC");
-        entity.setAbbreviation("UTC");
-        entity.setUtcOffset(Duration.ZERO);
+        entity.setName(name);
+        entity.setAbbreviation(abbreviation);
+        entity.setUtcOffset(utcOffset);
         entity.setCreatedAt(LocalDateTime.now());
         entity.setLastUpdated(LocalDateTime.now());
         return entity;
@@ -50,13 +66,46 @@ class TimezoneServiceImplTest {
     @Test
     @DisplayName("TimezoneServiceImpl: pageable mapping returns expected total elements")
     void getTimezonesPageable_mapsEntities() {
-        Page<TimezoneEntity> page = new PageImpl<>(List.of(sampleEntity()));
-        when(repository.findAll(any(Pageable.class))).thenReturn(page);
+        when(repository.findAll()).thenReturn(List.of(sampleEntity()));
 
         Page<TimezoneTO> result = service.getTimezonesPageable(PageRequest.of(0, 10));
         assertEquals(1, result.getTotalElements());
     }
 
+    @Test
+    @DisplayName("TimezoneServiceImpl: pages are sliced from the cached catalog in name order")
+    void getTimezonesPageable_slicesCatalog() {
+        when(repository.findAll()).thenReturn(List.of(entity("Europe/Madrid", "CET", Duration.ofHours(1)),
+                entity("America/Caracas", "VET", Duration.ofHours(-4)), sampleEntity()));
+
+        Page<TimezoneTO> first = service.getTimezonesPageable(PageRequest.of(0, 2));
+        Page<TimezoneTO> second = service.getTimezonesPageable(PageRequest.of(1, 2));
+        Page<TimezoneTO> beyond = service.getTimezonesPageable(PageRequest.of(5, 2));
+
+        assertEquals(List.of("America/Caracas", "Europe/Madrid"), first.map(TimezoneTO::name).getContent());
+        assertEquals(List.of("UTC"), second.map(TimezoneTO::name).getContent());
+        assertTrue(beyond.isEmpty());
+        assertEquals(3, beyond.getTotalElements());
+        verify(repository, times(1)).findAll();
+        verify(repository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("TimezoneServiceImpl: sorted pages are sliced from the catalog, unknown properties hit the database")
+    void getTimezonesPageable_sorts() {
+        when(repository.findAll()).thenReturn(List.of(entity("Europe/Madrid", "CET", Duration.ofHours(1)),
+                entity("America/Caracas", "VET", Duration.ofHours(-4)), sampleEntity()));
+        when(repository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sampleEntity())));
+
+        Page<TimezoneTO> byOffset = service.getTimezonesPageable(
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "utcOffset")));
+        Page<TimezoneTO> unknown = service.getTimezonesPageable(PageRequest.of(0, 3, Sort.by("region")));
+
+        assertEquals(List.of("Europe/Madrid", "UTC", "America/Caracas"), byOffset.map(TimezoneTO::name).getContent());
+        assertEquals(1, unknown.getTotalElements());
+        verify(repository).findAll(any(Pageable.class));
+    }
+
     @Test
     @DisplayName("TimezoneServiceImpl: findAll returns collection response")
     void findAll_returnsCollectionResponse() {
@@ -66,4 +115,31 @@ class TimezoneServiceImplTest {
         assertEquals(1, resp.total());
         assertEquals(1, resp.timezones().size());
     }
+
+    @Test
+    @DisplayName("TimezoneServiceImpl: the catalog is served gzip encoded to clients that accept it")
+    void getCatalog_gzip() throws IOException {
+        when(repository.findAll()).thenReturn(List.of(sampleEntity()));
+
+        ResponseEntity<byte[]> gzip = service.getCatalog("br, gzip;q=0.8, deflate");
+        ResponseEntity<byte[]> identity = service.getCatalog(null);
+
+        assertEquals(HttpStatus.OK, gzip.getStatusCode());
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(identity.getBody(), gunzip(gzip.getBody()));
+        assertNotEquals(identity.getHeaders().getETag(), gzip.getHeaders().getETag());
+        assertEquals("max-age=3600, public", identity.getHeaders().getCacheControl());
+        assertTrue(gzip.getHeaders().getVary().contains(HttpHeaders.ACCEPT_ENCODING));
+        GetTimezoneCollectionResponse body = objectMapper.readValue(identity.getBody(),
+                GetTimezoneCollectionResponse.class);
+        assertEquals(1, body.total());
+        assertEquals("UTC", body.timezones().getFirst().name());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
 }
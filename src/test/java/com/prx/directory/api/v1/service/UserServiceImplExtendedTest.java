@@ -5,6 +5,7 @@ import com.prx.directory.api.v1.to.GetUserResponse;
 import com.prx.directory.api.v1.to.PutUserRequest;
 import com.prx.directory.api.v1.to.UserCreateRequest;
 import com.prx.directory.api.v1.to.UserCreateResponse;
+import com.prx.directory.client.backbone.AsyncBackboneClient;
 import com.prx.directory.client.backbone.BackboneClient;
 import com.prx.directory.client.backbone.to.BackboneUserCreateRequest;
 import com.prx.directory.client.backbone.to.BackboneUserCreateResponse;
@@ -29,9 +30,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +47,8 @@ class UserServiceImplExtendedTest {
     @Mock
     private BackboneClient backboneClient;
     @Mock
+    private AsyncBackboneClient asyncBackboneClient;
+    @Mock
     private EmailMessageProducerService emailMessageProducerService;
     @Mock
     private UserCreateMapper userCreateMapper;
@@ -58,7 +63,7 @@ class UserServiceImplExtendedTest {
 
     @BeforeEach
     void setUp() {
-        service = new UserServiceImpl(backboneClient, emailMessageProducerService,
+        service = new UserServiceImpl(backboneClient, asyncBackboneClient, emailMessageProducerService,
                 userCreateMapper, putUserMapper, getUserMapper, businessRepository);
         ReflectionTestUtils.setField(service, "verificationCodeTemplateId", UUID.randomUUID());
         ReflectionTestUtils.setField(service, "applicationIdString", UUID.randomUUID().toString());
@@ -148,8 +153,8 @@ class UserServiceImplExtendedTest {
         Set<UUID> businessIds = Set.of(UUID.randomUUID());
 
         when(backboneClient.findUserById(userId)).thenReturn(backboneUser);
-        when(backboneClient.getProfileImageRef(anyString(), any(UUID.class)))
-                .thenReturn(ResponseEntity.ok(profileImage));
+        when(asyncBackboneClient.getProfileImageRef(anyString(), any(UUID.class)))
+                .thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok(profileImage)));
         when(businessRepository.findIdCollectionByUserId(userId)).thenReturn(businessIds);
         when(getUserMapper.fromBackbone(backboneUser, "image-ref", businessIds)).thenReturn(expected);
 
@@ -183,8 +188,8 @@ class UserServiceImplExtendedTest {
         GetUserResponse expected = mock(GetUserResponse.class);
 
         when(backboneClient.findUserById(userId)).thenReturn(backboneUser);
-        when(backboneClient.getProfileImageRef(anyString(), any(UUID.class)))
-                .thenReturn(ResponseEntity.ok(null));
+        when(asyncBackboneClient.getProfileImageRef(anyString(), any(UUID.class)))
+                .thenReturn(CompletableFuture.completedFuture(ResponseEntity.ok(null)));
         when(businessRepository.findIdCollectionByUserId(userId)).thenReturn(Set.of());
         when(getUserMapper.fromBackbone(backboneUser, "", Set.of())).thenReturn(expected);
 
@@ -193,6 +198,63 @@ class UserServiceImplExtendedTest {
         assertEquals(HttpStatus.OK, result.getStatusCode());
     }
 
+    @Test
+    @DisplayName("findUser - profile image failure uses empty string")
+    void findUser_profileImageFailure() {
+        UUID userId = UUID.randomUUID();
+        String token = "valid-token";
+        BackboneUserGetResponse backboneUser = mock(BackboneUserGetResponse.class);
+        GetUserResponse expected = mock(GetUserResponse.class);
+
+        when(backboneClient.findUserById(userId)).thenReturn(backboneUser);
+        when(asyncBackboneClient.getProfileImageRef(anyString(), any(UUID.class)))
+                .thenReturn(CompletableFuture.failedFuture(feignException(500, "Server Error")));
+        when(businessRepository.findIdCollectionByUserId(userId)).thenReturn(Set.of());
+        when(getUserMapper.fromBackbone(backboneUser, "", Set.of())).thenReturn(expected);
+
+        ResponseEntity<GetUserResponse> result = service.findUser(token, userId);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expected, result.getBody());
+    }
+
+    @Test
+    @DisplayName("findUser - profile image lookup that never answers times out to an empty string")
+    void findUser_profileImageTimeout() {
+        UUID userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(service, "lookupTimeout", Duration.ofMillis(50));
+        BackboneUserGetResponse backboneUser = mock(BackboneUserGetResponse.class);
+        GetUserResponse expected = mock(GetUserResponse.class);
+
+        when(backboneClient.findUserById(userId)).thenReturn(backboneUser);
+        when(asyncBackboneClient.getProfileImageRef(anyString(), any(UUID.class))).thenReturn(new CompletableFuture<>());
+        when(businessRepository.findIdCollectionByUserId(userId)).thenReturn(Set.of());
+        when(getUserMapper.fromBackbone(backboneUser, "", Set.of())).thenReturn(expected);
+
+        ResponseEntity<GetUserResponse> result = service.findUser("valid-token", userId);
+
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expected, result.getBody());
+        verify(backboneClient, never()).getProfileImageRef(anyString(), any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("findUser - slow user lookup returns GATEWAY_TIMEOUT")
+    void findUser_timeout() {
+        UUID userId = UUID.randomUUID();
+        ReflectionTestUtils.setField(service, "lookupTimeout", Duration.ofMillis(50));
+
+        when(backboneClient.findUserById(userId)).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return mock(BackboneUserGetResponse.class);
+        });
+
+        ResponseEntity<GetUserResponse> result = service.findUser("valid-token", userId);
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, result.getStatusCode());
+        verifyNoInteractions(getUserMapper);
+    }
+
     @Test
     @DisplayName("update - success case")
     void update_success() {
@@ -7,6 +7,7 @@ import com.prx.directory.api.v1.to.GetUserResponse;
 import com.prx.directory.api.v1.to.UserCreateRequest;
 import com.prx.directory.api.v1.to.UserCreateResponse;
 import com.prx.directory.api.v1.to.PutUserRequest;
+import com.prx.directory.client.backbone.AsyncBackboneClient;
 import com.prx.directory.client.backbone.BackboneClient;
 import com.prx.directory.client.backbone.to.BackboneProfileImageRefResponse;
 import com.prx.directory.client.backbone.to.BackboneUserCreateRequest;
@@ -37,6 +38,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.prx.directory.constant.DirectoryAppConstants.MESSAGE_ERROR_HEADER;
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,6 +51,8 @@ class UserServiceImplTest {
     @Mock
     BackboneClient backboneClient;
     @Mock
+    AsyncBackboneClient asyncBackboneClient;
+    @Mock
     UserCreateMapper userCreateMapper;
     @Mock
     GetUserMapper getUserMapper;
@@ -394,7 +398,8 @@ class UserServiceImplTest {
 
         when(backboneClient.findUserById(userId)).thenReturn(backboneResponse);
         when(businessRepository.findIdCollectionByUserId(any(UUID.class))).thenReturn(Collections.emptySet());
-        when(backboneClient.getProfileImageRef(anyString(), any(UUID.class))).thenReturn(expectedReference);
+        when(asyncBackboneClient.getProfileImageRef(anyString(), any(UUID.class)))
+                .thenReturn(CompletableFuture.completedFuture(expectedReference));
         when(getUserMapper.fromBackbone(backboneResponse, profileImageRef, Collections.emptySet())).thenReturn(expectedResponse);
 
         ResponseEntity<GetUserResponse> response = userService.findUser("token", userId);
@@ -0,0 +1,184 @@
+package com.prx.directory.client.backbone;
+
+import com.prx.directory.client.backbone.to.BackboneUserGetResponse;
+import com.prx.directory.client.backbone.to.BackboneUserUpdateRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingBackboneClientTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private final UUID userId = UUID.randomUUID();
+    private BackboneClient delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingBackboneClient client;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(BackboneClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        client = new CachingBackboneClient(delegate, meterRegistry, Duration.ofSeconds(30), 2, clock);
+    }
+
+    @Test
+    @DisplayName("findUserById: repeated lookups within the TTL hit Backbone once")
+    void findUserByIdIsCached() {
+        BackboneUserGetResponse user = user(userId);
+        when(delegate.findUserById(userId)).thenReturn(user);
+
+        assertSame(user, client.findUserById(userId));
+        assertSame(user, client.findUserById(userId));
+
+        verify(delegate, times(1)).findUserById(userId);
+        assertEquals(1.0, meterRegistry.get(CachingBackboneClient.CACHE_METRIC).tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("findUserById: expired entries are fetched again")
+    void findUserByIdExpires() {
+        when(delegate.findUserById(userId)).thenReturn(user(userId));
+
+        client.findUserById(userId);
+        clock.advance(Duration.ofSeconds(30));
+        client.findUserById(userId);
+
+        verify(delegate, times(2)).findUserById(userId);
+    }
+
+    @Test
+    @DisplayName("userPartialUpdate: drops the cached user")
+    void userPartialUpdateInvalidates() {
+        when(delegate.findUserById(userId)).thenReturn(user(userId));
+        when(delegate.userPartialUpdate(any(), any())).thenReturn(ResponseEntity.ok().build());
+
+        client.findUserById(userId);
+        client.userPartialUpdate(userId, mock(BackboneUserUpdateRequest.class));
+        client.findUserById(userId);
+
+        verify(delegate, times(2)).findUserById(userId);
+    }
+
+    @Test
+    @DisplayName("deleteUserByUserIdAndApplicationId: drops the cached user even when the call fails")
+    void deleteInvalidatesOnFailure() {
+        when(delegate.findUserById(userId)).thenReturn(user(userId));
+        when(delegate.deleteUserByUserIdAndApplicationId(any(), any())).thenThrow(new IllegalStateException("down"));
+
+        client.findUserById(userId);
+        UUID applicationId = UUID.randomUUID();
+        assertThrows(IllegalStateException.class, () -> client.deleteUserByUserIdAndApplicationId(applicationId, userId));
+        client.findUserById(userId);
+
+        verify(delegate, times(2)).findUserById(userId);
+    }
+
+    @Test
+    @DisplayName("findUserById: failures are propagated and not cached")
+    void findUserByIdFailureNotCached() {
+        when(delegate.findUserById(userId)).thenThrow(new IllegalStateException("down")).thenReturn(user(userId));
+
+        assertThrows(IllegalStateException.class, () -> client.findUserById(userId));
+        client.findUserById(userId);
+
+        verify(delegate, times(2)).findUserById(userId);
+    }
+
+    @Test
+    @DisplayName("findUserById: concurrent misses share one remote call")
+    void findUserByIdCoalescesMisses() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        BackboneUserGetResponse user = user(userId);
+        when(delegate.findUserById(userId)).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return user;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BackboneUserGetResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> client.findUserById(userId)));
+            }
+            release.countDown();
+            for (Future<BackboneUserGetResponse> result : results) {
+                assertSame(user, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("cache never grows beyond its maximum size")
+    void cacheIsBounded() {
+        when(delegate.findUserById(any())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+
+        client.findUserById(UUID.randomUUID());
+        client.findUserById(UUID.randomUUID());
+        client.findUserById(UUID.randomUUID());
+
+        assertEquals(1, client.size());
+    }
+
+    private static BackboneUserGetResponse user(UUID id) {
+        return new BackboneUserGetResponse(id, "alias", null, "user@email.com", "User", null, null,
+                true, false, false, false, null, List.of(), List.of());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
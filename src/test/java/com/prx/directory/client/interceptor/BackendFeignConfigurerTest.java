@@ -0,0 +1,72 @@
+package com.prx.directory.client.interceptor;
+
+import com.prx.security.properties.ClientProperties;
+import feign.FeignException;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BackendFeignConfigurer - error decoder")
+class BackendFeignConfigurerTest {
+
+    private static final String METHOD_KEY = "BackboneClient#validate(String)";
+
+    private ClientTokenManager clientTokenManager;
+    private ErrorDecoder errorDecoder;
+
+    @BeforeEach
+    void setUp() {
+        ClientProperties clientProperties = mock(ClientProperties.class);
+        when(clientProperties.getId()).thenReturn("backbone");
+        clientTokenManager = mock(ClientTokenManager.class);
+        errorDecoder = new BackendFeignConfigurer(clientProperties, clientTokenManager) {
+            @Override
+            RequestInterceptor requestInterceptor() {
+                return createInterceptor();
+            }
+
+            @Override
+            ErrorDecoder errorDecoder() {
+                return createErrorDecoder();
+            }
+        }.errorDecoder();
+    }
+
+    @Test
+    @DisplayName("decode: 401 evicts the cached client token and decodes as Unauthorized")
+    void unauthorizedEvictsToken() {
+        Exception error = errorDecoder.decode(METHOD_KEY, response(401));
+
+        assertInstanceOf(FeignException.Unauthorized.class, error);
+        verify(clientTokenManager).evict("backbone");
+    }
+
+    @Test
+    @DisplayName("decode: other errors keep the cached client token")
+    void otherErrorsKeepToken() {
+        assertInstanceOf(FeignException.Forbidden.class, errorDecoder.decode(METHOD_KEY, response(403)));
+        assertInstanceOf(FeignException.InternalServerError.class, errorDecoder.decode(METHOD_KEY, response(500)));
+
+        verify(clientTokenManager, never()).evict(anyString());
+    }
+
+    private static Response response(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "https://backbone.test/api/v1/session/validate",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder().status(status).request(request).headers(Map.of()).build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.prx.directory.client.interceptor;
+
+import com.prx.security.properties.ClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientTokenManagerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduledExecutorService scheduler;
+    private ClientProperties clientProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = mock(ScheduledExecutorService.class);
+        clientProperties = mock(ClientProperties.class);
+        when(clientProperties.getId()).thenReturn("backbone");
+    }
+
+    @Test
+    @DisplayName("getToken: cached token is reused until it is about to expire")
+    void getTokenReusesCachedToken() {
+        AtomicInteger calls = new AtomicInteger();
+        ClientTokenManager manager = manager(props -> new ClientTokenResponse("token-" + calls.incrementAndGet(), 300L));
+
+        assertEquals("token-1", manager.getToken(clientProperties));
+        clock.advance(Duration.ofSeconds(200));
+        assertEquals("token-1", manager.getToken(clientProperties));
+        clock.advance(Duration.ofSeconds(96));
+        assertEquals("token-2", manager.getToken(clientProperties));
+
+        assertEquals(2, calls.get());
+        assertEquals(1.0, meterRegistry.get(ClientTokenManager.CACHE_METRIC).tag("result", "hit").counter().count());
+        assertEquals(2.0, meterRegistry.get(ClientTokenManager.CACHE_METRIC).tag("result", "miss").counter().count());
+        assertEquals(2, meterRegistry.get(ClientTokenManager.REFRESH_METRIC).timer().count());
+    }
+
+    @Test
+    @DisplayName("getToken: schedules a background refresh ahead of expiry")
+    void getTokenSchedulesRefresh() {
+        ClientTokenManager manager = manager(props -> new ClientTokenResponse("token", 300L));
+
+        manager.getToken(clientProperties);
+
+        verify(scheduler).schedule(any(Runnable.class), eq(Duration.ofSeconds(270).toMillis()), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("getToken: missing expires_in falls back to the default lifetime")
+    void getTokenUsesDefaultLifetime() {
+        AtomicInteger calls = new AtomicInteger();
+        ClientTokenManager manager = manager(props -> new ClientTokenResponse("token-" + calls.incrementAndGet(), null));
+
+        manager.getToken(clientProperties);
+        clock.advance(ClientTokenManager.DEFAULT_LIFETIME.minus(ClientTokenManager.EXPIRY_MARGIN));
+        manager.getToken(clientProperties);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("getToken: empty response from the authorization server fails")
+    void getTokenFailsOnEmptyResponse() {
+        ClientTokenManager manager = manager(props -> null);
+
+        assertThrows(IllegalStateException.class, () -> manager.getToken(clientProperties));
+        assertEquals(1, meterRegistry.get(ClientTokenManager.REFRESH_METRIC).tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    @DisplayName("getToken: concurrent misses trigger a single token request")
+    void getTokenCoalescesConcurrentMisses() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ClientTokenManager manager = manager(props -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ClientTokenResponse("shared", 300L);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> manager.getToken(clientProperties)));
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("shared", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("evict: next call requests a new token")
+    void evictDropsCachedToken() {
+        AtomicInteger calls = new AtomicInteger();
+        ClientTokenManager manager = manager(props -> new ClientTokenResponse("token-" + calls.incrementAndGet(), 300L));
+
+        manager.getToken(clientProperties);
+        manager.evict("backbone");
+
+        assertEquals("token-2", manager.getToken(clientProperties));
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    private ClientTokenManager manager(Function<ClientProperties, ClientTokenResponse> fetcher) {
+        return new ClientTokenManager(fetcher, meterRegistry, Duration.ofSeconds(30), clock, scheduler);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.prx.directory.client.interceptor;
+
+import com.prx.directory.client.mercury.MercuryClient;
+import feign.AsyncClient;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("FeignMetricsCapability - per-method Feign timers")
+class FeignMetricsCapabilityTest {
+
+    private static final String CONFIG_KEY = "MercuryClient#token(String,AuthRequest)";
+
+    private SimpleMeterRegistry meterRegistry;
+    private Client delegate;
+    private Client client;
+    private Request request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = mock(Client.class);
+        client = new FeignMetricsCapability(meterRegistry).enrich(delegate);
+        MethodMetadata metadata = mock(MethodMetadata.class);
+        when(metadata.configKey()).thenReturn(CONFIG_KEY);
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(MercuryClient.class, "mercuryClient", "http://localhost"));
+        template.methodMetadata(metadata);
+        request = Request.create(Request.HttpMethod.POST, "http://localhost/api/v1/auth/token", Map.of(), null,
+                StandardCharsets.UTF_8, template);
+    }
+
+    @Test
+    @DisplayName("execute: calls are timed per client method and response status")
+    void timesByStatus() throws IOException {
+        Response ok = response(200);
+        when(delegate.execute(any(), any())).thenReturn(ok).thenReturn(response(503));
+
+        assertSame(ok, client.execute(request, new Request.Options()));
+        client.execute(request, new Request.Options());
+
+        assertEquals(1, meterRegistry.get(FeignMetricsCapability.METRIC).tag("client", "mercuryClient")
+                .tag("method", CONFIG_KEY).tag("status", "200").timer().count());
+        assertEquals(1, meterRegistry.get(FeignMetricsCapability.METRIC).tag("status", "503").timer().count());
+    }
+
+    @Test
+    @DisplayName("execute: calls failing without a response are timed as I/O errors and still throw")
+    void timesIoErrors() throws IOException {
+        when(delegate.execute(any(), any())).thenThrow(new IOException("connection reset"));
+
+        assertThrows(IOException.class, () -> client.execute(request, new Request.Options()));
+
+        assertEquals(1, meterRegistry.get(FeignMetricsCapability.METRIC)
+                .tag("status", FeignMetricsCapability.IO_ERROR_STATUS).timer().count());
+    }
+
+    @Test
+    @DisplayName("enrich(AsyncClient): calls are timed when their future completes")
+    void timesAsyncCalls() {
+        CompletableFuture<Response> pending = new CompletableFuture<>();
+        AsyncClient<Object> asyncClient = new FeignMetricsCapability(meterRegistry)
+                .enrich((AsyncClient<Object>) (req, options, context) -> pending);
+
+        CompletableFuture<Response> result = asyncClient.execute(request, new Request.Options(), Optional.empty());
+        assertTrue(meterRegistry.find(FeignMetricsCapability.METRIC).timers().isEmpty());
+        pending.complete(response(404));
+
+        assertEquals(404, result.join().status());
+        assertEquals(1, meterRegistry.get(FeignMetricsCapability.METRIC).tag("client", "mercuryClient")
+                .tag("status", "404").timer().count());
+    }
+
+    private Response response(int status) {
+        return Response.builder().status(status).request(request).headers(Map.of()).build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.prx.directory.client.interceptor;
+
+import feign.AsyncClient;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PerHostLimitAsyncClient - calls in flight per host")
+class PerHostLimitAsyncClientTest {
+
+    private static final String BACKBONE = "https://backbone.test/api/v1/users";
+    private static final String MERCURY = "https://mercury.test/api/v1/auth/token";
+
+    private final List<Request> sent = new ArrayList<>();
+    private final List<CompletableFuture<Response>> pending = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PerHostLimitAsyncClient<Object> client;
+    // When set, the delegate fails every call before returning, like a host refusing connections
+    private boolean failFast;
+
+    @BeforeEach
+    void setUp() {
+        AsyncClient<Object> delegate = (request, options, context) -> {
+            CompletableFuture<Response> call = failFast
+                    ? CompletableFuture.failedFuture(new IllegalStateException("connection refused"))
+                    : new CompletableFuture<>();
+            sent.add(request);
+            pending.add(call);
+            return call;
+        };
+        client = new PerHostLimitAsyncClient<>(delegate, 2, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("execute: calls over the limit are queued and sent in order as earlier calls complete")
+    void queuesOverLimit() {
+        List<CompletableFuture<Response>> results = List.of(call(BACKBONE), call(BACKBONE), call(BACKBONE + "/3"));
+
+        assertEquals(2, sent.size());
+        assertEquals(1, client.queued(BACKBONE));
+
+        Response response = response(sent.getFirst());
+        pending.getFirst().complete(response);
+
+        assertSame(response, results.getFirst().join());
+        assertEquals(3, sent.size());
+        assertEquals(BACKBONE + "/3", sent.get(2).url());
+        assertEquals(0, client.queued(BACKBONE));
+        assertFalse(results.get(2).isDone());
+    }
+
+    @Test
+    @DisplayName("execute: each host has its own limit")
+    void limitsPerHost() {
+        call(BACKBONE);
+        call(BACKBONE);
+        call(MERCURY);
+
+        assertEquals(3, sent.size());
+        assertEquals(MERCURY, sent.get(2).url());
+    }
+
+    @Test
+    @DisplayName("execute: failed calls free their slot and fail the caller")
+    void failuresReleaseSlot() {
+        CompletableFuture<Response> first = call(BACKBONE);
+        call(BACKBONE);
+        call(BACKBONE);
+
+        pending.getFirst().completeExceptionally(new IllegalStateException("connection reset"));
+
+        assertThrows(Exception.class, first::join);
+        assertEquals(3, sent.size());
+    }
+
+    @Test
+    @DisplayName("execute: calls cancelled while queued are never sent")
+    void cancelledCallsAreDropped() {
+        call(BACKBONE);
+        call(BACKBONE);
+        CompletableFuture<Response> queued = call(BACKBONE);
+        CompletableFuture<Response> next = call(BACKBONE);
+
+        assertTrue(queued.cancel(false));
+        pending.getFirst().complete(response(sent.getFirst()));
+
+        assertEquals(3, sent.size());
+        assertFalse(next.isDone());
+        assertEquals(0, client.queued(BACKBONE));
+    }
+
+    @Test
+    @DisplayName("execute: a long queue of calls failing at once is drained without growing the stack")
+    void drainsFastFailuresIteratively() {
+        call(BACKBONE);
+        call(BACKBONE);
+        List<CompletableFuture<Response>> queued = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            queued.add(call(BACKBONE));
+        }
+        failFast = true;
+
+        pending.getFirst().complete(response(sent.getFirst()));
+
+        assertEquals(50_002, sent.size());
+        assertEquals(0, client.queued(BACKBONE));
+        assertTrue(queued.stream().allMatch(CompletableFuture::isCompletedExceptionally));
+    }
+
+    @Test
+    @DisplayName("execute: cancelling a call in flight cancels the delegate's call and frees its slot")
+    void cancellationIsForwarded() {
+        CompletableFuture<Response> first = call(BACKBONE);
+        call(BACKBONE);
+        CompletableFuture<Response> queued = call(BACKBONE);
+
+        assertTrue(first.cancel(true));
+
+        assertTrue(pending.getFirst().isCancelled());
+        assertEquals(3, sent.size());
+        assertFalse(queued.isDone());
+    }
+
+    @Test
+    @DisplayName("execute: the wait for a slot is recorded per host")
+    void recordsQueueWait() {
+        call(BACKBONE);
+        call(BACKBONE);
+        call(BACKBONE);
+        call(MERCURY);
+
+        pending.getFirst().complete(response(sent.getFirst()));
+
+        assertEquals(3, meterRegistry.get(PerHostLimitAsyncClient.QUEUE_WAIT_METRIC)
+                .tag("host", "https://backbone.test").timer().count());
+        assertEquals(1, meterRegistry.get(PerHostLimitAsyncClient.QUEUE_WAIT_METRIC)
+                .tag("host", "https://mercury.test").timer().count());
+    }
+
+    private CompletableFuture<Response> call(String url) {
+        Request request = Request.create(Request.HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+        return client.execute(request, new Request.Options(), Optional.empty());
+    }
+
+    private static Response response(Request request) {
+        return Response.builder().status(200).request(request).headers(Map.of()).build();
+    }
+}
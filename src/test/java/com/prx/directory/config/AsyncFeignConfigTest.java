@@ -0,0 +1,217 @@
+package com.prx.directory.config;
+
+import com.prx.directory.client.interceptor.PerHostLimitAsyncClient;
+import com.prx.directory.client.mercury.AsyncMercuryClient;
+import com.prx.security.to.AuthRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Contract;
+import feign.FeignException;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import feign.form.spring.SpringFormEncoder;
+import feign.http2client.Http2Client;
+import feign.optionals.OptionalDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.FeignClientFactory;
+import org.springframework.cloud.openfeign.support.FeignEncoderProperties;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.prx.security.constant.ConstantApp.SESSION_TOKEN_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+// Exercises the async Mercury client against a local HTTP stub, with the encoder and decoder FeignClientsConfiguration
+// gives every Feign client context
+@DisplayName("AsyncFeignConfig - async clients against a local stub")
+class AsyncFeignConfigTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final Queue<Map<String, String>> received = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile CountDownLatch statusGate = new CountDownLatch(0);
+    private HttpServer server;
+    private HttpClient httpClient;
+    private PerHostLimitAsyncClient<Object> limiter;
+    private String url;
+    private AsyncMercuryClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/mercury/api/v1/auth/token", exchange -> {
+            record(exchange);
+            respond(exchange, 200, "{\"token\":\"mercury-token\"}");
+        });
+        server.createContext("/mercury/api/v1/verification-code/latest-status", exchange -> {
+            record(exchange);
+            track(() -> statusGate.await(5, TimeUnit.SECONDS));
+            boolean known = exchange.getRequestURI().getQuery().equals("userId=" + USER_ID);
+            respond(exchange, known ? 200 : 404, known ? "true" : "");
+        });
+        server.start();
+
+        Duration timeout = Duration.ofSeconds(5);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).connectTimeout(timeout).build();
+        limiter = new PerHostLimitAsyncClient<>(new Http2Client(httpClient), 2, new SimpleMeterRegistry());
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/mercury";
+        client = AsyncFeignConfig.asyncClient(feignClientFactory(), AsyncFeignConfig.MERCURY_CLIENT,
+                AsyncMercuryClient.class, url, limiter, AsyncFeignConfig.options(timeout, timeout));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    @Test
+    @DisplayName("token and status calls compose and carry the interceptor and session headers")
+    void composesCalls() {
+        Boolean done = client.token("backend-session", new AuthRequest("alias", ""))
+                .thenCompose(token -> client.isVerificationCodeDone(token.token(), USER_ID))
+                .join();
+
+        assertTrue(done);
+        List<Map<String, String>> requests = List.copyOf(received);
+        assertEquals("Bearer client-token", requests.get(0).get(AUTHORIZATION));
+        assertEquals("backend-session", requests.get(0).get("session-token-bkd"));
+        assertTrue(requests.get(0).get("body").contains("\"alias\""));
+        assertEquals("mercury-token", requests.get(1).get(SESSION_TOKEN_KEY));
+    }
+
+    @Test
+    @DisplayName("error responses complete the future with the matching FeignException")
+    void errorsCompleteExceptionally() {
+        CompletableFuture<Boolean> status = client.isVerificationCodeDone("mercury-token", UUID.randomUUID());
+
+        CompletionException error = assertThrows(CompletionException.class, status::join);
+        assertInstanceOf(FeignException.NotFound.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("calls over the per-host limit wait for a free slot")
+    void limitsCallsPerHost() throws InterruptedException {
+        statusGate = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> calls = List.of(
+                client.isVerificationCodeDone("t", USER_ID), client.isVerificationCodeDone("t", USER_ID),
+                client.isVerificationCodeDone("t", USER_ID), client.isVerificationCodeDone("t", USER_ID));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inFlight.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, limiter.queued(url));
+        statusGate.countDown();
+        calls.forEach(call -> assertTrue(call.join()));
+        assertEquals(2, maxInFlight.get());
+    }
+
+    private FeignClientFactory feignClientFactory() {
+        FeignClientFactory factory = mock(FeignClientFactory.class);
+        String name = AsyncFeignConfig.MERCURY_CLIENT;
+        RequestInterceptor authorization = template -> template.header(AUTHORIZATION, "Bearer client-token");
+        when(factory.getInstance(name, Contract.class)).thenReturn(new SpringMvcContract());
+        when(factory.getInstance(name, Encoder.class)).thenReturn(springEncoder());
+        when(factory.getInstance(name, Decoder.class)).thenReturn(springDecoder());
+        when(factory.getInstances(name, RequestInterceptor.class)).thenReturn(Map.of("authorization", authorization));
+        return factory;
+    }
+
+    // FeignClientsConfiguration.feignEncoder
+    private static Encoder springEncoder() {
+        return new SpringEncoder(new SpringFormEncoder(), messageConverters(), new FeignEncoderProperties(), customizers());
+    }
+
+    // FeignClientsConfiguration.feignDecoder
+    private static Decoder springDecoder() {
+        return new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters(), customizers())));
+    }
+
+    private static ObjectFactory<HttpMessageConverters> messageConverters() {
+        HttpMessageConverters converters = new HttpMessageConverters(
+                new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()));
+        return () -> converters;
+    }
+
+    private static ObjectProvider<HttpMessageConverterCustomizer> customizers() {
+        return new StaticListableBeanFactory().getBeanProvider(HttpMessageConverterCustomizer.class);
+    }
+
+    private void record(HttpExchange exchange) throws IOException {
+        Map<String, String> request = new HashMap<>();
+        request.put(AUTHORIZATION, exchange.getRequestHeaders().getFirst(AUTHORIZATION));
+        request.put(SESSION_TOKEN_KEY, exchange.getRequestHeaders().getFirst(SESSION_TOKEN_KEY));
+        request.put("session-token-bkd", exchange.getRequestHeaders().getFirst("session-token-bkd"));
+        request.put("body", new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        received.add(request);
+    }
+
+    private void track(Waiter waiter) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            waiter.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Waiter {
+        void await() throws InterruptedException;
+    }
+}
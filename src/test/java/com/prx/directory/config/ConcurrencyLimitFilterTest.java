@@ -0,0 +1,139 @@
+package com.prx.directory.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitFilterTest {
+
+    private static final String ACTUATOR = "/actuator";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("doFilter: request within the limit is processed and releases its permit")
+    void requestWithinLimitPasses() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10), ACTUATOR, meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories"), response,
+                (req, res) -> ((HttpServletResponse) res).setStatus(200));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    @DisplayName("doFilter: request over the limit is rejected with 503 after the acquire timeout")
+    void requestOverLimitIsRejected() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), ACTUATOR, meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blocking = (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> {
+                filter.doFilter(new MockHttpServletRequest("GET", "/slow"), new MockHttpServletResponse(), blocking);
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            assertEquals(1.0, meterRegistry.get(ConcurrencyLimitFilter.IN_FLIGHT_METRIC).gauge().value());
+
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/other"), rejected, (req, res) -> {
+            });
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), rejected.getStatus());
+            assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+
+            release.countDown();
+            first.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    @DisplayName("doFilter: async request keeps its permit until the async processing completes")
+    void asyncRequestReleasesOnCompletion() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10), ACTUATOR, meterRegistry);
+        MockHttpServletRequest request = asyncRequest("/api/v1/businesses/export");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertEquals(1, filter.inFlight());
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/categories"), rejected, (req, res) -> {
+        });
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), rejected.getStatus());
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    @DisplayName("doFilter: async request that times out releases its permit once")
+    void asyncRequestReleasesOnTimeout() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(2, Duration.ofMillis(10), ACTUATOR, meterRegistry);
+        MockHttpServletRequest request = asyncRequest("/api/v1/businesses/export");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        asyncContext.complete();
+
+        assertEquals(0, filter.inFlight());
+    }
+
+    @Test
+    @DisplayName("doFilter: management endpoints are not limited")
+    void actuatorIsNotLimited() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(10), ACTUATOR, meterRegistry);
+        filter.doFilter(asyncRequest("/api/v1/businesses/export"), new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        for (String path : new String[]{"/actuator/health", "/actuator/prometheus"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", path), response,
+                    (req, res) -> ((HttpServletResponse) res).setStatus(200));
+            assertEquals(200, response.getStatus(), path);
+        }
+        assertEquals(1, filter.inFlight());
+    }
+
+    private static MockHttpServletRequest asyncRequest(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package com.prx.directory.config;
+
+import com.prx.directory.jpa.statistics.QueryCountingStatementInspector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("QueryBudgetFilter - per-request SQL statement budget")
+class QueryBudgetFilterTest {
+
+    private static final String PATTERN = "/api/v1/favorites";
+
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+    private SimpleMeterRegistry meterRegistry;
+    private QueryBudgetFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new QueryBudgetFilter(3, 3, meterRegistry);
+        request = new MockHttpServletRequest("GET", PATTERN);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+    }
+
+    @Test
+    @DisplayName("Requests within budget are only measured")
+    void withinBudget() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), statements("select 1", "select 2"));
+
+        assertEquals(2, meterRegistry.get(QueryBudgetFilter.QUERIES_METRIC).tag("uri", PATTERN).summary().totalAmount());
+        assertNull(meterRegistry.find(QueryBudgetFilter.EXCEEDED_METRIC).counter());
+    }
+
+    @Test
+    @DisplayName("Requests over budget and repeated statements are counted by reason")
+    void overBudgetAndRepeated() throws Exception {
+        String select = "select p1_0.id from directory_site.product p1_0 where p1_0.business_id=?";
+        filter.doFilter(request, new MockHttpServletResponse(), statements(select, select, select, "select 1"));
+
+        assertEquals(1, meterRegistry.get(QueryBudgetFilter.EXCEEDED_METRIC).tag("reason", "budget").counter().count());
+        assertEquals(1, meterRegistry.get(QueryBudgetFilter.EXCEEDED_METRIC).tag("reason", "repeated").counter().count());
+    }
+
+    @Test
+    @DisplayName("Statements of a failing request are still reported")
+    void failingRequest() {
+        FilterChain failing = (req, res) -> {
+            inspector.inspect("select 1");
+            throw new IllegalStateException("boom");
+        };
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), failing));
+        assertEquals(1, meterRegistry.get(QueryBudgetFilter.QUERIES_METRIC).summary().count());
+    }
+
+    private FilterChain statements(String... sql) {
+        return (req, res) -> {
+            for (String statement : sql) {
+                inspector.inspect(statement);
+            }
+        };
+    }
+}
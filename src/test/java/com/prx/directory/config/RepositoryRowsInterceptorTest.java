@@ -0,0 +1,82 @@
+package com.prx.directory.config;
+
+import com.prx.directory.jpa.entity.TimezoneEntity;
+import com.prx.directory.jpa.repository.TimezoneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RepositoryRowsInterceptor - rows returned per repository method")
+class RepositoryRowsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RepositoryRowsInterceptor interceptor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(meterRegistry);
+        interceptor = new RepositoryRowsInterceptor(provider, TimezoneRepository.class, TimezoneEntity.class);
+    }
+
+    @Test
+    @DisplayName("invoke: list results are recorded with their size and returned unchanged")
+    void recordsListSize() throws Throwable {
+        List<TimezoneEntity> rows = List.of(new TimezoneEntity(), new TimezoneEntity(), new TimezoneEntity());
+        MethodInvocation invocation = invocation(TimezoneRepository.class.getMethod("findAll"), rows);
+
+        assertSame(rows, interceptor.invoke(invocation));
+        interceptor.invoke(invocation);
+
+        var summary = meterRegistry.get(RepositoryRowsInterceptor.METRIC)
+                .tag("repository", "TimezoneRepository").tag("method", "findAll").summary();
+        assertEquals(2, summary.count());
+        assertEquals(6, summary.totalAmount());
+    }
+
+    @Test
+    @DisplayName("invoke: methods that do not return rows are not recorded")
+    void skipsNonRowResults() throws Throwable {
+        interceptor.invoke(invocation(TimezoneRepository.class.getMethod("count"), 42L));
+
+        assertTrue(meterRegistry.find(RepositoryRowsInterceptor.METRIC).meters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("rows: pages, optionals and single entities are counted, other results are not")
+    void countsByReturnType() {
+        assertEquals(2, interceptor.rows(PageImpl.class, new PageImpl<>(List.of(1, 2), Pageable.ofSize(10), 30)));
+        assertEquals(1, interceptor.rows(Optional.class, Optional.of(new TimezoneEntity())));
+        assertEquals(0, interceptor.rows(Optional.class, Optional.empty()));
+        assertEquals(1, interceptor.rows(TimezoneEntity.class, new TimezoneEntity()));
+        assertEquals(0, interceptor.rows(TimezoneEntity.class, null));
+        assertEquals(0, interceptor.rows(List.class, null));
+        assertEquals(-1, interceptor.rows(boolean.class, true));
+        assertEquals(-1, interceptor.rows(void.class, null));
+    }
+
+    private static MethodInvocation invocation(Method method, Object result) throws Throwable {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(method);
+        when(invocation.proceed()).thenReturn(result);
+        return invocation;
+    }
+}
@@ -284,4 +284,62 @@ class CampaignSpecificationsTest {
         assertNotNull(p);
         verify(cb, times(1)).lessThanOrEqualTo(any(), eq(endTo));
     }
+
+    @Test
+    @DisplayName("byFilters: trailing '*' runs an escaped prefix match")
+    void byFilters_prefixName_invokesPrefixLike() {
+        Specification<CampaignEntity> spec = CampaignSpecifications.byFilters("  50%_Off* ", null, null, null);
+
+        CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+        Root<CampaignEntity> root = Mockito.mock(Root.class);
+        CriteriaQuery<?> query = Mockito.mock(CriteriaQuery.class);
+
+        when(root.get("title")).thenReturn((Path) Mockito.mock(Path.class));
+        when(cb.lower(any(Expression.class))).thenReturn(Mockito.mock(Expression.class));
+        when(cb.like(any(Expression.class), anyString())).thenReturn(Mockito.mock(Predicate.class));
+        when(cb.and(any(Predicate[].class))).thenReturn(Mockito.mock(Predicate.class));
+
+        assertNotNull(spec.toPredicate(root, query, cb));
+        verify(cb, times(1)).like(any(Expression.class), eq("50\\%\\_off%"));
+    }
+
+    @Test
+    @DisplayName("rankByTitle: entity query is ordered by match tier, position, length and tie-breakers")
+    void rankByTitle_entityQuery_setsOrder() {
+        Specification<CampaignEntity> spec = CampaignSpecifications.rankByTitle(CampaignTitleSearch.of("Summer"));
+
+        CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+        Root<CampaignEntity> root = Mockito.mock(Root.class);
+        CriteriaQuery<CampaignEntity> query = Mockito.mock(CriteriaQuery.class);
+        CriteriaBuilder.Case<Integer> tier = Mockito.mock(CriteriaBuilder.Case.class, RETURNS_SELF);
+        Expression<String> lowered = Mockito.mock(Expression.class);
+
+        when(query.getResultType()).thenReturn(CampaignEntity.class);
+        when(root.get(anyString())).thenReturn((Path) Mockito.mock(Path.class));
+        when(cb.lower(any(Expression.class))).thenReturn(lowered);
+        when(cb.<Integer>selectCase()).thenReturn(tier);
+
+        assertNull(spec.toPredicate(root, query, cb));
+        verify(cb).equal(lowered, "summer");
+        verify(cb).like(lowered, "summer%");
+        verify(cb).locate(lowered, "summer");
+        verify(cb).length(lowered);
+        verify(cb, times(4)).asc(any());
+        verify(cb, times(1)).desc(any());
+        verify(query).orderBy(any(jakarta.persistence.criteria.Order[].class));
+    }
+
+    @Test
+    @DisplayName("rankByTitle: count and aggregate queries are left unordered")
+    void rankByTitle_countQuery_noOrder() {
+        Specification<CampaignEntity> spec = CampaignSpecifications.rankByTitle(CampaignTitleSearch.of("summer"));
+
+        CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+        Root<CampaignEntity> root = Mockito.mock(Root.class);
+        CriteriaQuery<Long> query = Mockito.mock(CriteriaQuery.class);
+        when(query.getResultType()).thenReturn(Long.class);
+
+        assertNull(spec.toPredicate(root, query, cb));
+        verifyNoInteractions(cb, root);
+    }
 }
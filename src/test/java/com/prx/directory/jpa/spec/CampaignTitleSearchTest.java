@@ -0,0 +1,46 @@
+package com.prx.directory.jpa.spec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CampaignTitleSearchTest {
+
+    @Test
+    @DisplayName("of: null, blank and marker-only values yield no search")
+    void of_emptyValues_returnNull() {
+        assertNull(CampaignTitleSearch.of(null));
+        assertNull(CampaignTitleSearch.of("   "));
+        assertNull(CampaignTitleSearch.of(" ** "));
+    }
+
+    @Test
+    @DisplayName("of: term is trimmed, lower-cased and its whitespace collapsed")
+    void of_normalizesTerm() {
+        CampaignTitleSearch search = CampaignTitleSearch.of("  Summer \t  SALE ");
+
+        assertEquals("summer sale", search.term());
+        assertFalse(search.prefix());
+        assertEquals("%summer sale%", search.pattern());
+    }
+
+    @Test
+    @DisplayName("of: trailing '*' selects a prefix search")
+    void of_trailingMarker_isPrefix() {
+        CampaignTitleSearch search = CampaignTitleSearch.of("Summ *");
+
+        assertEquals("summ", search.term());
+        assertTrue(search.prefix());
+        assertEquals("summ%", search.pattern());
+    }
+
+    @Test
+    @DisplayName("pattern: LIKE wildcards and the escape character match literally")
+    void pattern_escapesWildcards() {
+        CampaignTitleSearch search = CampaignTitleSearch.of("100%_off\\");
+
+        assertEquals("%100\\%\\_off\\\\%", search.pattern());
+        assertEquals("100\\%\\_off\\\\%", search.prefixPattern());
+    }
+}
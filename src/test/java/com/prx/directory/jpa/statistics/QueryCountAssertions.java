@@ -0,0 +1,66 @@
+package com.prx.directory.jpa.statistics;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Pins the number of SQL statements a piece of code may run, for tests running against a real persistence
+ * context (Hibernate configured with {@link QueryCountingStatementInspector}).
+ * <pre>
+ * FavoritesResponse favorites = QueryCountAssertions.assertMaxQueries(3,
+ *         () -&gt; favoriteService.getFavorites(token, null, 0, 20, null).getBody());
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * Runs the work and fails when it ran more than {@code maxQueries} statements.
+     *
+     * @param maxQueries the highest number of statements allowed
+     * @param work       the code under test
+     * @param <T>        the result type
+     * @return the result of the work
+     */
+    public static <T> T assertMaxQueries(int maxQueries, ThrowingSupplier<T> work) throws Throwable {
+        try (QueryCounter.Recording recording = QueryCounter.start()) {
+            T result = work.get();
+            if (recording.count() > maxQueries) {
+                fail("Expected at most " + maxQueries + " SQL statements but " + recording.count() + " ran:\n"
+                        + describe(recording.statements()));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Runs the work and fails when it ran any statement {@code threshold} times or more.
+     *
+     * @param threshold the number of executions of one statement that counts as an N+1 pattern
+     * @param work      the code under test
+     * @param <T>       the result type
+     * @return the result of the work
+     */
+    public static <T> T assertNoRepeatedQueries(int threshold, ThrowingSupplier<T> work) throws Throwable {
+        try (QueryCounter.Recording recording = QueryCounter.start()) {
+            T result = work.get();
+            Map<String, Integer> repeated = recording.repeated(threshold);
+            if (!repeated.isEmpty()) {
+                fail("Expected no statement to run " + threshold + " times or more, but:\n" + describe(repeated));
+            }
+            return result;
+        }
+    }
+
+    private static String describe(Map<String, Integer> statements) {
+        return statements.entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.prx.directory.jpa.statistics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("QueryCounter - per-thread SQL statement counting")
+class QueryCounterTest {
+
+    private static final String FIND_BUSINESS = "select b1_0.id,b1_0.name from directory_site.business b1_0 where b1_0.id=?";
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    @Test
+    @DisplayName("Statements are counted only while a recording is open, and returned unchanged")
+    void countsWithinRecording() {
+        inspector.inspect(FIND_BUSINESS);
+        try (QueryCounter.Recording recording = QueryCounter.start()) {
+            assertEquals(FIND_BUSINESS, inspector.inspect(FIND_BUSINESS));
+            inspector.inspect("select 1");
+            recording.close();
+            inspector.inspect(FIND_BUSINESS);
+
+            assertEquals(2, recording.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Nested recordings count towards every open recording")
+    void nestedRecordings() {
+        try (QueryCounter.Recording outer = QueryCounter.start()) {
+            inspector.inspect(FIND_BUSINESS);
+            try (QueryCounter.Recording inner = QueryCounter.start()) {
+                inspector.inspect(FIND_BUSINESS);
+                assertEquals(1, inner.count());
+            }
+            inspector.inspect(FIND_BUSINESS);
+            assertEquals(3, outer.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Tasks run through a propagating executor count towards the recordings of the submitting thread")
+    void propagatesToTasks() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             QueryCounter.Recording recording = QueryCounter.start()) {
+            var propagating = QueryCounter.propagating(executor);
+            inspector.inspect(FIND_BUSINESS);
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> inspector.inspect(FIND_BUSINESS), propagating),
+                    CompletableFuture.runAsync(() -> inspector.inspect("select 1"), propagating),
+                    CompletableFuture.runAsync(() -> inspector.inspect("select 2"), executor)).join();
+
+            assertEquals(3, recording.count());
+            assertEquals(2, recording.statements().get(FIND_BUSINESS));
+        }
+    }
+
+    @Test
+    @DisplayName("Executions differing only in literals and IN list sizes group as one statement")
+    void repeatedStatements() {
+        try (QueryCounter.Recording recording = QueryCounter.start()) {
+            for (int i = 0; i < 6; i++) {
+                inspector.inspect("select p1_0.id from directory_site.product p1_0 where p1_0.business_id='" + i
+                        + "' and p1_0.price > " + i + ".5");
+            }
+            inspector.inspect("select c1_0.id from directory_site.category c1_0 where c1_0.id in (?,?)");
+            inspector.inspect("select c1_0.id from directory_site.category c1_0 where c1_0.id in ( ? , ? , ? )");
+
+            Map<String, Integer> repeated = recording.repeated(5);
+            assertEquals(Map.of("select p1_0.id from directory_site.product p1_0 where p1_0.business_id=? and p1_0.price > ?", 6),
+                    repeated);
+            assertEquals(2, recording.statements()
+                    .get("select c1_0.id from directory_site.category c1_0 where c1_0.id in (?)"));
+        }
+    }
+
+    @Test
+    @DisplayName("QueryCountAssertions: fails with the statements when over the maximum")
+    void assertions() throws Throwable {
+        assertEquals("ok", QueryCountAssertions.assertMaxQueries(2, () -> {
+            inspector.inspect(FIND_BUSINESS);
+            return "ok";
+        }));
+
+        AssertionFailedError overBudget = assertThrows(AssertionFailedError.class,
+                () -> QueryCountAssertions.assertMaxQueries(1, () -> {
+                    inspector.inspect(FIND_BUSINESS);
+                    inspector.inspect(FIND_BUSINESS);
+                    return null;
+                }));
+        assertTrue(overBudget.getMessage().contains("2x " + FIND_BUSINESS));
+
+        assertThrows(AssertionFailedError.class, () -> QueryCountAssertions.assertNoRepeatedQueries(3, () -> {
+            for (int i = 0; i < 3; i++) {
+                inspector.inspect(FIND_BUSINESS);
+            }
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,111 @@
+package com.prx.directory.kafka.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.kafka.to.EmailMessageTO;
+import com.prx.directory.kafka.to.Recipient;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Measures how many EmailMessageTO messages per second each producer profile delivers to an embedded broker.
+// Skipped unless enabled, since it starts a broker and sends a few hundred thousand records:
+//   mvn test -Dtest=KafkaProducerBenchmarkTest -Dkafka.benchmark=true
+// Absolute numbers depend on the machine and a single local broker; compare the profiles with each other.
+@EnabledIfSystemProperty(named = "kafka.benchmark", matches = "true")
+@DisplayName("Kafka producer profiles - embedded broker throughput")
+class KafkaProducerBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaProducerBenchmarkTest.class);
+    private static final String TOPIC = "benchmark-email";
+    private static final int PARTITIONS = 6;
+    private static final int WARMUP_MESSAGES = 20_000;
+    private static final int MESSAGES = 100_000;
+    private static final int USERS = 1_000;
+
+    private static EmbeddedKafkaKraftBroker broker;
+    private static byte[] payload;
+    private static List<String> keys;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+        // A welcome email as UserServiceImpl queues it, with a body of realistic size
+        EmailMessageTO message = new EmailMessageTO(UUID.randomUUID(), UUID.randomUUID(), "noreply@example.com",
+                List.of(new Recipient("Alice Example", "alice@example.com", "alice")), List.of(), "Welcome",
+                "Welcome to the directory. ".repeat(40), LocalDateTime.now(),
+                Map.of("name", "Alice", "alias", "alice", "verificationCode", "493201"));
+        payload = new ObjectMapper().findAndRegisterModules().writeValueAsBytes(message);
+        keys = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            keys.add(UUID.randomUUID().toString());
+        }
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @ParameterizedTest
+    @EnumSource(KafkaProducerProfile.class)
+    @DisplayName("profile throughput")
+    void measure(KafkaProducerProfile profile) throws Exception {
+        DefaultKafkaProducerFactory<String, byte[]> factory = new DefaultKafkaProducerFactory<>(
+                KafkaProducerConfig.producerProperties(broker.getBrokersAsString(), profile, Duration.ofSeconds(30)));
+        try {
+            KafkaTemplate<String, byte[]> template = new KafkaTemplate<>(factory);
+            sendAll(template, WARMUP_MESSAGES);
+            long start = System.nanoTime();
+            sendAll(template, MESSAGES);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            double perSecond = MESSAGES / seconds;
+            logger.info("{}: {} messages of {} bytes in {} s, {} msg/s, {} MB/s, batch-size-avg {}, compression-rate-avg {}",
+                    profile, MESSAGES, payload.length, String.format("%.2f", seconds), String.format("%.0f", perSecond),
+                    String.format("%.1f", perSecond * payload.length / 1_048_576),
+                    metric(template, "batch-size-avg"), metric(template, "compression-rate-avg"));
+            assertTrue(perSecond > 0);
+        } finally {
+            factory.destroy();
+        }
+    }
+
+    private static void sendAll(KafkaTemplate<String, byte[]> template, int count) throws Exception {
+        List<CompletableFuture<?>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            results.add(template.send(new ProducerRecord<>(TOPIC, keys.get(i % USERS), payload)));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+    }
+
+    private static Object metric(KafkaTemplate<String, byte[]> template, String name) {
+        for (Map.Entry<MetricName, ? extends Metric> entry : template.metrics().entrySet()) {
+            if (entry.getKey().name().equals(name) && "producer-metrics".equals(entry.getKey().group())) {
+                return entry.getValue().metricValue();
+            }
+        }
+        return "n/a";
+    }
+}
@@ -0,0 +1,59 @@
+package com.prx.directory.kafka.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KafkaProducerConfig - producer profiles")
+class KafkaProducerConfigTest {
+
+    private KafkaProducerConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new KafkaProducerConfig();
+        ReflectionTestUtils.setField(config, "bootstrapServers", "kafka.local");
+        ReflectionTestUtils.setField(config, "bootstrapServerPort", "9092");
+        ReflectionTestUtils.setField(config, "profile", KafkaProducerProfile.THROUGHPUT);
+        ReflectionTestUtils.setField(config, "maxBlock", Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("producerProperties: profile settings with idempotence and a bounded max.block.ms")
+    void producerPropertiesFromProfile() {
+        Map<String, Object> properties = KafkaProducerConfig.producerProperties("kafka.local:9092",
+                KafkaProducerProfile.LATENCY, Duration.ofSeconds(3));
+
+        assertEquals(0, properties.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(16_384, properties.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals("lz4", properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals(3_000L, properties.get(ProducerConfig.MAX_BLOCK_MS_CONFIG));
+        assertEquals(true, properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals("all", properties.get(ProducerConfig.ACKS_CONFIG));
+    }
+
+    @Test
+    @DisplayName("producerFactory: explicit settings override the profile and client metrics are bridged")
+    void producerFactoryAppliesOverrides() {
+        ReflectionTestUtils.setField(config, "compressionType", "gzip");
+
+        DefaultKafkaProducerFactory<String, byte[]> factory =
+                (DefaultKafkaProducerFactory<String, byte[]>) config.producerFactory(new SimpleMeterRegistry());
+
+        Map<String, Object> properties = factory.getConfigurationProperties();
+        assertEquals("kafka.local:9092", properties.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+        assertEquals("gzip", properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+        assertEquals(KafkaProducerProfile.THROUGHPUT.lingerMs(), properties.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertTrue(factory.getListeners().stream().anyMatch(MicrometerProducerListener.class::isInstance));
+    }
+}
@@ -0,0 +1,89 @@
+package com.prx.directory.kafka.producer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.jpa.entity.EmailOutboxEntity;
+import com.prx.directory.jpa.repository.EmailOutboxRepository;
+import com.prx.directory.kafka.serialization.BinaryEmailMessageCodec;
+import com.prx.directory.kafka.serialization.EmailMessageFormat;
+import com.prx.directory.kafka.to.EmailMessageTO;
+import com.prx.directory.kafka.to.Recipient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EmailMessageProducerServiceImpl - email outbox")
+class EmailMessageProducerServiceImplTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private EmailOutboxRepository emailOutboxRepository;
+    private EmailMessageProducerServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        when(emailOutboxRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        service = new EmailMessageProducerServiceImpl(emailOutboxRepository, objectMapper, "mercury-email",
+                EmailMessageFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("sendMessage: the message is queued in the outbox, keyed by user and due immediately")
+    void sendMessageQueuesInOutbox() throws IOException {
+        UUID userId = UUID.randomUUID();
+        EmailMessageTO message = new EmailMessageTO(UUID.randomUUID(), userId, "noreply@example.com",
+                List.of(new Recipient("Alice", "alice@example.com", "alice")), List.of(), "Welcome", "Hello",
+                LocalDateTime.now(), Map.of("name", "Alice"));
+
+        service.sendMessage(message);
+
+        ArgumentCaptor<EmailOutboxEntity> queued = ArgumentCaptor.forClass(EmailOutboxEntity.class);
+        verify(emailOutboxRepository).save(queued.capture());
+        EmailOutboxEntity entity = queued.getValue();
+        assertEquals("mercury-email", entity.getTopic());
+        assertEquals(EmailMessageFormat.JSON.contentType(), entity.getContentType());
+        assertEquals(userId.toString(), entity.getMessageKey());
+        assertEquals(0, entity.getAttempts());
+        assertFalse(entity.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        JsonNode payload = objectMapper.readTree(entity.getPayload());
+        assertEquals(userId.toString(), payload.get("user_id").asText());
+        assertEquals("Welcome", payload.get("subject").asText());
+    }
+
+    @Test
+    @DisplayName("sendMessage: the binary format is used when configured for the topic")
+    void sendMessageBinary() throws IOException {
+        service = new EmailMessageProducerServiceImpl(emailOutboxRepository, objectMapper, "mercury-email",
+                EmailMessageFormat.BINARY);
+        EmailMessageTO message = new EmailMessageTO(null, UUID.randomUUID(), "noreply@example.com", List.of(),
+                List.of(), "Welcome", "Hello", null, Map.of());
+
+        service.sendMessage(message);
+
+        ArgumentCaptor<EmailOutboxEntity> queued = ArgumentCaptor.forClass(EmailOutboxEntity.class);
+        verify(emailOutboxRepository).save(queued.capture());
+        assertEquals(EmailMessageFormat.BINARY.contentType(), queued.getValue().getContentType());
+        assertEquals(message, new BinaryEmailMessageCodec().decode(queued.getValue().getPayload()));
+    }
+
+    @Test
+    @DisplayName("sendMessage: messages without a user are queued without a key")
+    void sendMessageWithoutUser() {
+        service.sendMessage(new EmailMessageTO(null, null, null, null, null, "Subject", "Body", null, null));
+
+        ArgumentCaptor<EmailOutboxEntity> queued = ArgumentCaptor.forClass(EmailOutboxEntity.class);
+        verify(emailOutboxRepository).save(queued.capture());
+        assertNull(queued.getValue().getMessageKey());
+    }
+}
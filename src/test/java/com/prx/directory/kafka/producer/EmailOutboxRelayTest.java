@@ -0,0 +1,222 @@
+package com.prx.directory.kafka.producer;
+
+import com.prx.directory.jpa.entity.EmailOutboxEntity;
+import com.prx.directory.jpa.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EmailOutboxRelay - batched delivery of the email outbox")
+class EmailOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration MAX_BLOCK = Duration.ofSeconds(4);
+
+    private EmailOutboxRepository emailOutboxRepository;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        emailOutboxRepository = mock(EmailOutboxRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(emailOutboxRepository.lockDue(any(), any())).thenReturn(List.of());
+        relay = new EmailOutboxRelay(emailOutboxRepository, kafkaTemplate, transactionManager, meterRegistry,
+                BATCH_SIZE, SEND_TIMEOUT, MAX_ATTEMPTS, MAX_BLOCK);
+    }
+
+    @Test
+    @DisplayName("relayBatch: acknowledged messages are deleted and carry their outbox id")
+    void relayBatchDeletesDelivered() {
+        EmailOutboxEntity first = message("user-1");
+        EmailOutboxEntity second = message("user-2");
+        when(emailOutboxRepository.lockDue(any(), any())).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+
+        assertEquals(2, relay.relayBatch());
+
+        verify(emailOutboxRepository).claim(eq(List.of(first.getId(), second.getId())), notNull());
+        verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<ProducerRecord<String, byte[]>> records = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(records.capture());
+        ProducerRecord<String, byte[]> record = records.getAllValues().getFirst();
+        assertEquals("user-1", record.key());
+        assertArrayEquals(first.getPayload(), record.value());
+        assertEquals("application/json", new String(
+                record.headers().lastHeader(EmailOutboxRelay.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8));
+        assertEquals(first.getId().toString(), new String(
+                record.headers().lastHeader(EmailOutboxRelay.OUTBOX_ID_HEADER).value(), StandardCharsets.UTF_8));
+        assertEquals(2, meterRegistry.get(EmailOutboxRelay.MESSAGES_METRIC).tag("outcome", "sent").counter().count());
+    }
+
+    @Test
+    @DisplayName("relayBatch: failed messages stay queued with a backoff")
+    void relayBatchKeepsFailed() {
+        EmailOutboxEntity delivered = message("user-1");
+        EmailOutboxEntity rejected = message("user-2");
+        EmailOutboxEntity unsent = message("user-3");
+        when(emailOutboxRepository.lockDue(any(), any())).thenReturn(List.of(delivered, rejected, unsent));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(acknowledged())
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")))
+                .thenThrow(new KafkaException("metadata timeout"));
+        LocalDateTime before = LocalDateTime.now();
+
+        relay.relayBatch();
+
+        verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(delivered.getId()));
+        assertEquals(1, rejected.getAttempts());
+        assertTrue(rejected.getNextAttemptAt().isAfter(before));
+        assertTrue(rejected.getLastError().contains("broker down"));
+        assertNull(rejected.getFailedAt());
+        verify(emailOutboxRepository).recordFailure(rejected.getId(), 1, rejected.getNextAttemptAt(), null,
+                rejected.getLastError());
+        assertEquals(1, unsent.getAttempts());
+        assertTrue(unsent.getLastError().contains("metadata timeout"));
+        verify(emailOutboxRepository).recordFailure(eq(unsent.getId()), eq(1), any(), isNull(), any());
+        assertEquals(2, meterRegistry.get(EmailOutboxRelay.MESSAGES_METRIC).tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("relayBatch: a message failing its last attempt is parked")
+    void relayBatchParksAfterMaxAttempts() {
+        EmailOutboxEntity retried = message("user-1");
+        EmailOutboxEntity exhausted = message("user-2");
+        exhausted.setAttempts(MAX_ATTEMPTS - 1);
+        when(emailOutboxRepository.lockDue(any(), any())).thenReturn(List.of(retried, exhausted));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")));
+
+        relay.relayBatch();
+
+        assertNull(retried.getFailedAt());
+        assertEquals(MAX_ATTEMPTS, exhausted.getAttempts());
+        assertNotNull(exhausted.getFailedAt());
+        verify(emailOutboxRepository).recordFailure(eq(retried.getId()), eq(1), any(), isNull(), any());
+        verify(emailOutboxRepository).recordFailure(eq(exhausted.getId()), eq(MAX_ATTEMPTS), any(),
+                eq(exhausted.getFailedAt()), any());
+        verify(emailOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("relayBatch: the claim commits before the sends, the outcome is written in a second transaction")
+    void relayBatchSendsOutsideTransactions() {
+        EmailOutboxEntity message = message("user-1");
+        when(emailOutboxRepository.lockDue(any(), any())).thenReturn(List.of(message));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class))).thenReturn(status);
+
+        relay.relayBatch();
+
+        InOrder order = inOrder(transactionManager, emailOutboxRepository, kafkaTemplate);
+        order.verify(transactionManager).getTransaction(any(TransactionDefinition.class));
+        order.verify(emailOutboxRepository).lockDue(any(), any());
+        order.verify(emailOutboxRepository).claim(any(), any());
+        order.verify(transactionManager).commit(status);
+        order.verify(kafkaTemplate).send(any(ProducerRecord.class));
+        order.verify(transactionManager).getTransaction(any(TransactionDefinition.class));
+        order.verify(emailOutboxRepository).deleteAllByIdInBatch(List.of(message.getId()));
+        order.verify(transactionManager).commit(status);
+        verify(emailOutboxRepository, never()).recordFailure(any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("relay: drains full batches until the outbox is empty and updates the lag gauges")
+    void relayDrainsAndUpdatesGauges() {
+        when(emailOutboxRepository.lockDue(any(), any()))
+                .thenReturn(List.of(message("user-1"), message("user-2")))
+                .thenReturn(List.of());
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+        when(emailOutboxRepository.countByFailedAtIsNull()).thenReturn(3L);
+        when(emailOutboxRepository.countByFailedAtIsNotNull()).thenReturn(1L);
+        when(emailOutboxRepository.findOldestCreatedAt()).thenReturn(LocalDateTime.now().minusMinutes(2));
+
+        relay.relay();
+
+        verify(emailOutboxRepository, times(2)).lockDue(any(), any());
+        assertEquals(3, meterRegistry.get(EmailOutboxRelay.PENDING_METRIC).gauge().value());
+        assertEquals(1, meterRegistry.get(EmailOutboxRelay.FAILED_METRIC).gauge().value());
+        assertTrue(meterRegistry.get(EmailOutboxRelay.LAG_METRIC).gauge().value() >= 120);
+    }
+
+    @Test
+    @DisplayName("relay: a database failure is logged and the gauges are left untouched")
+    void relaySurvivesFailures() {
+        when(emailOutboxRepository.lockDue(any(), any())).thenThrow(new IllegalStateException("connection refused"));
+
+        assertDoesNotThrow(() -> relay.relay());
+        verifyNoInteractions(kafkaTemplate);
+        verify(emailOutboxRepository, never()).countByFailedAtIsNull();
+    }
+
+    @Test
+    @DisplayName("relayBatch: the claim outlasts a blocking hand-off of every message plus the acknowledgement wait")
+    void relayBatchClaimsForTheWholeBatch() {
+        EmailOutboxEntity message = message("user-1");
+        when(emailOutboxRepository.lockDue(any(), any())).thenReturn(List.of(message));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+        LocalDateTime before = LocalDateTime.now();
+
+        relay.relayBatch();
+
+        ArgumentCaptor<LocalDateTime> claimedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(emailOutboxRepository).claim(any(), claimedUntil.capture());
+        Duration lease = Duration.ofSeconds(4 * BATCH_SIZE + 5 * 2);
+        assertFalse(claimedUntil.getValue().isBefore(before.plus(lease)));
+        assertFalse(claimedUntil.getValue().isAfter(LocalDateTime.now().plus(lease)));
+        assertEquals(Duration.ofSeconds(560), EmailOutboxRelay.claimLease(100, Duration.ofSeconds(30), Duration.ofSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("backoff: doubles per attempt up to the maximum")
+    void backoffDoubles() {
+        assertEquals(Duration.ofSeconds(1), EmailOutboxRelay.backoff(1));
+        assertEquals(Duration.ofSeconds(8), EmailOutboxRelay.backoff(4));
+        assertEquals(EmailOutboxRelay.MAX_BACKOFF, EmailOutboxRelay.backoff(20));
+    }
+
+    private static EmailOutboxEntity message(String key) {
+        EmailOutboxEntity message = new EmailOutboxEntity("mercury-email", key, "application/json",
+                ("{\"user_id\":\"" + key + "\"}").getBytes(StandardCharsets.UTF_8));
+        message.setId(UUID.randomUUID());
+        return message;
+    }
+
+    private static CompletableFuture<SendResult<String, byte[]>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
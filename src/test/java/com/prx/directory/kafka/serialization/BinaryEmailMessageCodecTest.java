@@ -0,0 +1,138 @@
+package com.prx.directory.kafka.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.kafka.to.EmailMessageTO;
+import com.prx.directory.kafka.to.Recipient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinaryEmailMessageCodec - versioned binary EmailMessageTO encoding")
+class BinaryEmailMessageCodecTest {
+
+    private final BinaryEmailMessageCodec codec = new BinaryEmailMessageCodec();
+
+    @Test
+    @DisplayName("encode/decode: every component round trips, including non-ASCII text")
+    void roundTrip() throws IOException {
+        EmailMessageTO message = new EmailMessageTO(UUID.randomUUID(), UUID.randomUUID(), "soporte@latinhub.info",
+                List.of(new Recipient("José Núñez", "jose@example.com", "josé"),
+                        new Recipient("Zoë", "zoe@example.com", null)),
+                List.of(new Recipient(null, "cc@example.com", "cc")), "Código de verificación 🎉",
+                "Your verification code format is: ####-####", LocalDateTime.of(2025, 3, 9, 14, 5, 7, 123_456_789),
+                Map.of("vc", "1234-5678", "user_name", "José Núñez"));
+
+        assertEquals(message, codec.decode(codec.encode(message)));
+    }
+
+    @Test
+    @DisplayName("encode/decode: null components and null params stay null")
+    void roundTripNulls() throws IOException {
+        EmailMessageTO message = new EmailMessageTO(null, null, null, null, null, null, null, null, null);
+
+        assertEquals(message, codec.decode(codec.encode(message)));
+    }
+
+    @Test
+    @DisplayName("encode/decode: param values keep their kind, integral numbers widen to Long")
+    void paramTypes() throws IOException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("text", "value");
+        params.put("flag", true);
+        params.put("off", false);
+        params.put("count", 42);
+        params.put("negative", -7L);
+        params.put("ratio", 0.25);
+        params.put("missing", null);
+
+        Map<String, Object> decoded = codec.decode(codec.encode(message(params))).params();
+
+        assertEquals("value", decoded.get("text"));
+        assertEquals(Boolean.TRUE, decoded.get("flag"));
+        assertEquals(Boolean.FALSE, decoded.get("off"));
+        assertEquals(42L, decoded.get("count"));
+        assertEquals(-7L, decoded.get("negative"));
+        assertEquals(0.25, decoded.get("ratio"));
+        assertTrue(decoded.containsKey("missing"));
+        assertNull(decoded.get("missing"));
+    }
+
+    @Test
+    @DisplayName("encode: unsupported param types are rejected")
+    void rejectsUnsupportedParams() {
+        EmailMessageTO message = message(Map.of("amount", BigDecimal.TEN));
+
+        IOException e = assertThrows(IOException.class, () -> codec.encode(message));
+        assertTrue(e.getMessage().contains("amount"));
+    }
+
+    @Test
+    @DisplayName("decode: truncated values, foreign values and unknown versions fail cleanly")
+    void rejectsBadValues() throws IOException {
+        byte[] value = codec.encode(message(Map.of("vc", "1234-5678")));
+
+        for (int length = 0; length < value.length; length++) {
+            byte[] truncated = Arrays.copyOf(value, length);
+            assertThrows(EOFException.class, () -> codec.decode(truncated), "length " + length);
+        }
+        assertThrows(IOException.class, () -> codec.decode("{\"subject\":\"Welcome\"}".getBytes()));
+        byte[] future = value.clone();
+        future[1] = BinaryEmailMessageCodec.VERSION + 1;
+        IOException e = assertThrows(IOException.class, () -> codec.decode(future));
+        assertTrue(e.getMessage().contains("version"));
+    }
+
+    @Test
+    @DisplayName("decode: negative and oversized counts fail before anything is allocated")
+    void rejectsCorruptCounts() throws IOException {
+        byte[] header = {BinaryEmailMessageCodec.MAGIC, BinaryEmailMessageCodec.VERSION, 0, 0, 0};
+        byte[] negative = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+        byte[] huge = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0, 0, 0};
+        byte[] withoutParams = codec.encode(message(null));
+        byte[] beforeParams = Arrays.copyOf(withoutParams, withoutParams.length - 1);
+
+        IOException e = assertThrows(IOException.class, () -> codec.decode(concat(header, negative)));
+        assertTrue(e.getMessage().contains("Negative"));
+        assertThrows(EOFException.class, () -> codec.decode(concat(header, huge)));
+        e = assertThrows(IOException.class, () -> codec.decode(concat(beforeParams, negative)));
+        assertTrue(e.getMessage().contains("Negative"));
+        assertThrows(EOFException.class, () -> codec.decode(concat(beforeParams, huge)));
+        // Three recipients need at least nine bytes, so six bytes left are not enough
+        assertThrows(EOFException.class, () -> codec.decode(concat(header, new byte[]{4, 0, 0, 0, 0, 0, 0})));
+    }
+
+    @Test
+    @DisplayName("encode: the binary value is smaller than the JSON value")
+    void smallerThanJson() throws IOException {
+        EmailMessageTO message = new EmailMessageTO(UUID.randomUUID(), UUID.randomUUID(), "support@latinhub.info",
+                List.of(new Recipient("Alice Example", "alice@example.com", "Alice")), List.of(),
+                "Verification Code subscription", "Your verification code format is: ####-####",
+                LocalDateTime.now(), Map.of("vc", "1234-5678", "user_name", "Alice Example"));
+        EmailMessageCodec json = EmailMessageFormat.JSON.codec(new ObjectMapper().findAndRegisterModules());
+
+        assertTrue(codec.encode(message).length < json.encode(message).length);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] value = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, value, first.length, second.length);
+        return value;
+    }
+
+    private static EmailMessageTO message(Map<String, Object> params) {
+        return new EmailMessageTO(UUID.randomUUID(), UUID.randomUUID(), "noreply@example.com", List.of(), List.of(),
+                "Subject", "Body", LocalDateTime.now(), params);
+    }
+}
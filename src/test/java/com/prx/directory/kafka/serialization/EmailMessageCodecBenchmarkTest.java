@@ -0,0 +1,75 @@
+package com.prx.directory.kafka.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prx.directory.kafka.to.EmailMessageTO;
+import com.prx.directory.kafka.to.Recipient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Compares the EmailMessageTO formats: bytes per message, and encode and decode time per message.
+// Skipped unless enabled, since it runs a few million iterations:
+//   mvn test -Dtest=EmailMessageCodecBenchmarkTest -Dkafka.benchmark=true
+// The timings are a single-threaded average after a warm-up, good for comparing the formats with each other.
+@EnabledIfSystemProperty(named = "kafka.benchmark", matches = "true")
+@DisplayName("EmailMessageTO formats - size and serialization cost")
+class EmailMessageCodecBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailMessageCodecBenchmarkTest.class);
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    // The verification email UserServiceImpl queues for every new user
+    private static final EmailMessageTO MESSAGE = new EmailMessageTO(UUID.randomUUID(), UUID.randomUUID(),
+            "support@latinhub.info", List.of(new Recipient("Alice Example", "alice@example.com", "Alice")), List.of(),
+            "Verification Code subscription", "Your verification code format is: ####-####", LocalDateTime.now(),
+            Map.of("vc", "1234-5678", "user_name", "Alice Example"));
+
+    // Defeats dead code elimination of the measured calls
+    private long sink;
+
+    @ParameterizedTest
+    @EnumSource(EmailMessageFormat.class)
+    @DisplayName("format cost")
+    void measure(EmailMessageFormat format) throws IOException {
+        EmailMessageCodec codec = format.codec(new ObjectMapper().findAndRegisterModules());
+        byte[] value = codec.encode(MESSAGE);
+        assertEquals(MESSAGE.subject(), codec.decode(value).subject());
+
+        encodeLoop(codec, WARMUP_ITERATIONS);
+        long start = System.nanoTime();
+        encodeLoop(codec, ITERATIONS);
+        double encodeNanos = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        decodeLoop(codec, value, WARMUP_ITERATIONS);
+        start = System.nanoTime();
+        decodeLoop(codec, value, ITERATIONS);
+        double decodeNanos = (System.nanoTime() - start) / (double) ITERATIONS;
+
+        logger.info("{}: {} bytes/message, encode {} ns/message, decode {} ns/message ({})", format, value.length,
+                String.format("%.0f", encodeNanos), String.format("%.0f", decodeNanos), sink);
+    }
+
+    private void encodeLoop(EmailMessageCodec codec, int iterations) throws IOException {
+        for (int i = 0; i < iterations; i++) {
+            sink += codec.encode(MESSAGE).length;
+        }
+    }
+
+    private void decodeLoop(EmailMessageCodec codec, byte[] value, int iterations) throws IOException {
+        for (int i = 0; i < iterations; i++) {
+            sink += codec.decode(value).subject().length();
+        }
+    }
+}
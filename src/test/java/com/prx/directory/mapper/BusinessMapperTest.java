@@ -0,0 +1,72 @@
+package com.prx.directory.mapper;
+
+import com.prx.directory.api.v1.to.BusinessTO;
+import com.prx.directory.constant.ContactTypeKey;
+import com.prx.directory.jpa.entity.BusinessEntity;
+import com.prx.directory.jpa.entity.ContactTypeEntity;
+import com.prx.directory.jpa.entity.DigitalContactEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BusinessMapper - digital contact indexing")
+class BusinessMapperTest {
+
+    private final BusinessMapper mapper = mock(BusinessMapper.class, CALLS_REAL_METHODS);
+
+    @Test
+    @DisplayName("contactsByType: contacts are keyed by type, first contact of a type wins")
+    void contactsByTypeIndexesContacts() {
+        BusinessEntity business = business(List.of(
+                contact("EML", "first@example.com"),
+                contact("WBH", "https://example.com"),
+                contact("EML", "second@example.com"),
+                contact("FAX", "ignored")));
+
+        Map<ContactTypeKey, String> contacts = mapper.contactsByType(business);
+
+        assertEquals(Map.of(ContactTypeKey.EML, "first@example.com", ContactTypeKey.WBH, "https://example.com"), contacts);
+    }
+
+    @Test
+    @DisplayName("contactsByType: a business without contacts yields an empty index")
+    void contactsByTypeWithoutContacts() {
+        assertTrue(mapper.contactsByType(new BusinessEntity()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("toBusinessTO: the contact index is built once and passed to the mapping")
+    void toBusinessTOBuildsIndexOnce() {
+        BusinessEntity business = business(List.of(contact("SCE", "support@example.com")));
+        BusinessTO expected = mock(BusinessTO.class);
+        doReturn(expected).when(mapper).toBusinessTO(eq(business), any());
+
+        assertSame(expected, mapper.toBusinessTO(business));
+        verify(mapper, times(1)).contactsByType(business);
+        verify(mapper).toBusinessTO(business, Map.of(ContactTypeKey.SCE, "support@example.com"));
+        assertNull(mapper.toBusinessTO(null));
+    }
+
+    private static BusinessEntity business(List<DigitalContactEntity> contacts) {
+        BusinessEntity business = new BusinessEntity();
+        business.setDigitalContacts(new LinkedHashSet<>(contacts));
+        return business;
+    }
+
+    private static DigitalContactEntity contact(String type, String content) {
+        ContactTypeEntity contactType = new ContactTypeEntity();
+        contactType.setName(type);
+        DigitalContactEntity contact = new DigitalContactEntity();
+        contact.setContactType(contactType);
+        contact.setContent(content);
+        return contact;
+    }
+}
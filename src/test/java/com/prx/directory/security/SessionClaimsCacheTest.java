@@ -0,0 +1,166 @@
+package com.prx.directory.security;
+
+import com.prx.security.exception.CertificateSecurityException;
+import com.prx.security.service.SessionJwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionClaimsCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private SessionJwtService sessionJwtService;
+    private SessionClaimsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        sessionJwtService = mock(SessionJwtService.class);
+        cache = new SessionClaimsCache(sessionJwtService, 2, clock);
+    }
+
+    @Test
+    @DisplayName("getUid: repeated lookups verify the token once")
+    void getUidVerifiesOnce() throws Exception {
+        UUID uid = UUID.randomUUID();
+        when(sessionJwtService.getTokenClaims("token")).thenReturn(claims(uid.toString(), Duration.ofMinutes(30)));
+
+        assertEquals(uid, cache.getUid("token"));
+        assertEquals(uid, cache.getUid("token"));
+
+        verify(sessionJwtService, times(1)).getTokenClaims("token");
+    }
+
+    @Test
+    @DisplayName("getUid: token is verified again once its expiration has passed")
+    void getUidReverifiesAfterExpiry() throws Exception {
+        UUID uid = UUID.randomUUID();
+        when(sessionJwtService.getTokenClaims("token")).thenReturn(claims(uid.toString(), Duration.ofMinutes(2)));
+
+        cache.getUid("token");
+        clock.advance(Duration.ofMinutes(2));
+        cache.getUid("token");
+
+        verify(sessionJwtService, times(2)).getTokenClaims("token");
+    }
+
+    @Test
+    @DisplayName("getUid: long-lived tokens are re-verified after the maximum TTL")
+    void getUidCapsTtl() throws Exception {
+        when(sessionJwtService.getTokenClaims("token")).thenReturn(claims(UUID.randomUUID().toString(), Duration.ofDays(1)));
+
+        cache.getUid("token");
+        clock.advance(SessionClaimsCache.MAX_TTL);
+        cache.getUid("token");
+
+        verify(sessionJwtService, times(2)).getTokenClaims("token");
+    }
+
+    @Test
+    @DisplayName("getUid: invalid signature returns null and is not cached")
+    void getUidRejectsInvalidToken() throws Exception {
+        when(sessionJwtService.getTokenClaims("forged")).thenThrow(CertificateSecurityException.class);
+
+        assertNull(cache.getUid("forged"));
+        assertNull(cache.getUid("forged"));
+
+        verify(sessionJwtService, times(2)).getTokenClaims("forged");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("getUid: blank token is rejected without verification")
+    void getUidBlankToken() throws Exception {
+        assertNull(cache.getUid(null));
+        assertNull(cache.getUid("  "));
+
+        verify(sessionJwtService, never()).getTokenClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("getUid: missing or malformed uid claim returns null")
+    void getUidMalformedUid() throws Exception {
+        when(sessionJwtService.getTokenClaims("no-uid")).thenReturn(claims(null, Duration.ofMinutes(30)));
+        when(sessionJwtService.getTokenClaims("bad-uid")).thenReturn(claims("not-a-uuid", Duration.ofMinutes(30)));
+
+        assertNull(cache.getUid("no-uid"));
+        assertNull(cache.getUid("bad-uid"));
+    }
+
+    @Test
+    @DisplayName("cache never grows beyond its maximum size")
+    void cacheIsBounded() throws Exception {
+        when(sessionJwtService.getTokenClaims(anyString())).thenReturn(claims(UUID.randomUUID().toString(), Duration.ofMinutes(30)));
+
+        cache.getUid("a");
+        cache.getUid("b");
+        cache.getUid("c");
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("evict: next lookup verifies the token again")
+    void evictForcesVerification() throws Exception {
+        when(sessionJwtService.getTokenClaims("token")).thenReturn(claims(UUID.randomUUID().toString(), Duration.ofMinutes(30)));
+
+        cache.getUid("token");
+        cache.evict("token");
+        cache.getUid("token");
+
+        verify(sessionJwtService, times(2)).getTokenClaims("token");
+    }
+
+    private Claims claims(String uid, Duration lifetime) {
+        var builder = Jwts.claims().subject("user").expiration(Date.from(clock.instant().plus(lifetime)));
+        if (uid != null) {
+            builder.add(SessionClaimsCache.UID_CLAIM, uid);
+        }
+        return builder.build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.prx.directory.security;
+
+import com.prx.commons.constants.keys.AuthKey;
+import com.prx.security.exception.CertificateSecurityException;
+import com.prx.security.jwt.JwtConfigProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SessionJwtServiceImplTest {
+
+    private static final String SECRET = secret("session-secret-session-secret-0123456789");
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private final SessionJwtServiceImpl service = new SessionJwtServiceImpl(properties(SECRET, EXPIRATION_MS));
+
+    @Test
+    @DisplayName("generateSessionToken/getTokenClaims: issued tokens verify and carry the subject and parameters")
+    void roundTrip() throws CertificateSecurityException {
+        String uid = UUID.randomUUID().toString();
+        String token = service.generateSessionToken("jconnor", Map.of(SessionClaimsCache.UID_CLAIM, uid, "alias", "jc"));
+
+        Claims claims = service.getTokenClaims(token);
+
+        assertEquals("jconnor", claims.getSubject());
+        assertEquals(uid, claims.get(SessionClaimsCache.UID_CLAIM, String.class));
+        assertEquals("jc", claims.get("alias", String.class));
+        assertTrue(claims.getExpiration().after(claims.getIssuedAt()));
+        assertEquals("jconnor", service.getUsernameFromToken(token));
+    }
+
+    @Test
+    @DisplayName("generateSessionToken: every token gets its own id")
+    void uniqueTokenIds() throws CertificateSecurityException {
+        Claims first = service.getTokenClaims(service.generateSessionToken("jconnor", Map.of()));
+        Claims second = service.getTokenClaims(service.generateSessionToken("jconnor", Map.of()));
+
+        assertNotEquals(first.get(AuthKey.JTI.value), second.get(AuthKey.JTI.value));
+    }
+
+    @Test
+    @DisplayName("getTokenClaims: expired token is rejected")
+    void rejectsExpiredToken() {
+        String token = new SessionJwtServiceImpl(properties(SECRET, -60_000L)).generateSessionToken("jconnor", Map.of());
+
+        CertificateSecurityException error = assertThrows(CertificateSecurityException.class, () -> service.getTokenClaims(token));
+
+        assertInstanceOf(ExpiredJwtException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("getTokenClaims: token with an altered signature is rejected")
+    void rejectsTamperedSignature() {
+        String token = service.generateSessionToken("jconnor", Map.of());
+        int signature = token.lastIndexOf('.') + 1;
+        // The first character of the signature carries its six high bits, so changing it always changes the bytes
+        char replaced = token.charAt(signature) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signature) + replaced + token.substring(signature + 1);
+
+        CertificateSecurityException error = assertThrows(CertificateSecurityException.class, () -> service.getTokenClaims(tampered));
+
+        assertInstanceOf(SignatureException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("getTokenClaims: token signed with another key is rejected")
+    void rejectsWrongKey() {
+        String token = new SessionJwtServiceImpl(properties(secret("another-secret-another-secret-0123456789"), EXPIRATION_MS))
+                .generateSessionToken("jconnor", Map.of());
+
+        CertificateSecurityException error = assertThrows(CertificateSecurityException.class, () -> service.getTokenClaims(token));
+
+        assertInstanceOf(SignatureException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("getTokenClaims: the shared parser verifies tokens from many threads at once")
+    void sharedParserIsThreadSafe() throws Exception {
+        int threads = 8;
+        int tokensPerThread = 200;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Integer>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            workers.add(() -> {
+                start.await(5, TimeUnit.SECONDS);
+                int verified = 0;
+                for (int i = 0; i < tokensPerThread; i++) {
+                    String subject = "user-" + thread + "-" + i;
+                    String uid = UUID.randomUUID().toString();
+                    String token = service.generateSessionToken(subject, Map.of(SessionClaimsCache.UID_CLAIM, uid));
+                    Claims claims = service.getTokenClaims(token);
+                    if (subject.equals(claims.getSubject()) && uid.equals(claims.get(SessionClaimsCache.UID_CLAIM, String.class))) {
+                        verified++;
+                    }
+                }
+                return verified;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (Callable<Integer> worker : workers) {
+                results.add(executor.submit(worker));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(tokensPerThread, result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String secret(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Answers by name, as in SessionTokenBenchmark, so the test does not depend on the property types of the
+    // external class
+    private static JwtConfigProperties properties(String secret, long expirationMs) {
+        return mock(JwtConfigProperties.class, invocation -> switch (invocation.getMethod().getName()) {
+            case "getSecret" -> secret;
+            case "getExpirationMs" -> expiration(invocation.getMethod().getReturnType(), expirationMs);
+            default -> null;
+        });
+    }
+
+    private static Object expiration(Class<?> type, long expirationMs) {
+        if (type == int.class || type == Integer.class) {
+            return (int) expirationMs;
+        }
+        return expirationMs;
+    }
+}
@@ -1,15 +1,25 @@
 package com.prx.directory.services;
 
+import com.prx.directory.api.v1.to.PrxTokenString;
 import com.prx.directory.client.backbone.BackboneClient;
-import com.prx.directory.client.mercury.MercuryClient;
+import com.prx.directory.client.mercury.AsyncMercuryClient;
 import com.prx.security.service.SessionJwtService;
 import com.prx.security.to.AuthRequest;
 import com.prx.security.to.AuthResponse;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -17,7 +27,7 @@ class AuthServiceImplTest {
 
     private final SessionJwtService sessionJwtService = mock(SessionJwtService.class);
     private final BackboneClient backboneClient = mock(BackboneClient.class);
-    private final MercuryClient mercuryClient = mock(MercuryClient.class);
+    private final AsyncMercuryClient mercuryClient = mock(AsyncMercuryClient.class);
     private final AuthServiceImpl authService = new AuthServiceImpl(sessionJwtService, backboneClient, mercuryClient);
 
     @Test
@@ -85,4 +95,67 @@ class AuthServiceImplTest {
 
         assertFalse(isValid);
     }
+
+    @Test
+    @DisplayName("token with backend session should chain the Mercury token and verification status calls")
+    void tokenWithBackendSessionShouldComposeMercuryCalls() {
+        UUID userId = UUID.randomUUID();
+        String sessionTokenBkd = backendToken(userId);
+        AuthRequest authRequest = new AuthRequest("validAlias", "");
+        when(mercuryClient.token(sessionTokenBkd, authRequest))
+                .thenReturn(CompletableFuture.completedFuture(new PrxTokenString("mercuryToken")));
+        when(mercuryClient.isVerificationCodeDone("mercuryToken", userId))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(sessionJwtService.generateSessionToken(anyString(), anyMap())).thenReturn("validToken");
+
+        ResponseEntity<AuthResponse> response = authService.token(authRequest, sessionTokenBkd);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(sessionJwtService).generateSessionToken("validAlias",
+                Map.of("vcCompleted", "true", "uid", userId.toString()));
+    }
+
+    @Test
+    @DisplayName("token with backend session should treat a missing verification code as not completed")
+    void tokenWithBackendSessionShouldHandleMissingVerificationCode() {
+        UUID userId = UUID.randomUUID();
+        String sessionTokenBkd = backendToken(userId);
+        AuthRequest authRequest = new AuthRequest("validAlias", "");
+        when(mercuryClient.token(sessionTokenBkd, authRequest))
+                .thenReturn(CompletableFuture.completedFuture(new PrxTokenString("mercuryToken")));
+        when(mercuryClient.isVerificationCodeDone("mercuryToken", userId))
+                .thenReturn(CompletableFuture.failedFuture(feignException(404)));
+        when(sessionJwtService.generateSessionToken(anyString(), anyMap())).thenReturn("validToken");
+
+        ResponseEntity<AuthResponse> response = authService.token(authRequest, sessionTokenBkd);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(sessionJwtService).generateSessionToken("validAlias", Map.of("vcCompleted", "false"));
+    }
+
+    @Test
+    @DisplayName("token with backend session should rethrow Mercury failures unwrapped")
+    void tokenWithBackendSessionShouldRethrowMercuryFailures() {
+        String sessionTokenBkd = backendToken(UUID.randomUUID());
+        AuthRequest authRequest = new AuthRequest("validAlias", "");
+        when(mercuryClient.token(sessionTokenBkd, authRequest))
+                .thenReturn(CompletableFuture.failedFuture(feignException(503)));
+
+        assertThrows(FeignException.ServiceUnavailable.class, () -> authService.token(authRequest, sessionTokenBkd));
+        verify(mercuryClient, never()).isVerificationCodeDone(any(), any());
+    }
+
+    private static String backendToken(UUID userId) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"uid\":\"" + userId + "\"}").getBytes(StandardCharsets.UTF_8)) + ".sig";
+    }
+
+    private static FeignException feignException(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://unit.test", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        Response response = Response.builder().status(status).reason("error").request(request).headers(Map.of())
+                .body(new byte[0]).build();
+        return FeignException.errorStatus("mercury", response);
+    }
 }
@@ -0,0 +1,98 @@
+package com.prx.directory.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UrlValidatorTest {
+
+    // The pattern UrlValidator replaced, only safe to evaluate on short inputs
+    private static final Pattern LEGACY = Pattern.compile("^(https?://)?([\\da-z.-]+)\\.([a-z.]{2,6})([/\\w .-]*)*/?$");
+    private static final String ALPHABET = "abz09AZ_./-: htps?#%";
+    private static final int LONG_INPUT = 1_000_000;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"example.com", "http://example.com", "https://www.example.com/", "https://sub.example.co.uk",
+            "https://example.com/path/to/page.html", "example.com/a b", "my-shop.store/Menu_2024", "1.io"})
+    @DisplayName("isValid: accepts websites")
+    void isValid_validUrls_true(String url) {
+        assertTrue(UrlValidator.isValid(url));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not-a-url", ".com", "example.c", "https://", "ftp://example.com",
+            "https://Example.com", "https://example.com:8080", "https://example.com/?q=1", "example.com#top",
+            "http://-", "exa mple.com"})
+    @DisplayName("isValid: rejects malformed websites")
+    void isValid_invalidUrls_false(String url) {
+        assertFalse(UrlValidator.isValid(url));
+    }
+
+    @Test
+    @DisplayName("isValid: null returns false")
+    void isValid_null_false() {
+        assertFalse(UrlValidator.isValid(null));
+    }
+
+    @Test
+    @DisplayName("isValid: agrees with the replaced pattern on random short inputs")
+    void isValid_randomInputs_matchLegacyPattern() {
+        Random random = new Random(20_240_601L);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder url = new StringBuilder(random.nextInt(4) == 0 ? "https://" : "");
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                url.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            String input = url.toString();
+            assertEquals(LEGACY.matcher(input).matches(), UrlValidator.isValid(input), () -> "Input: '" + input + "'");
+        }
+    }
+
+    @Test
+    @DisplayName("isValid: inputs that backtrack the replaced pattern are checked in linear time")
+    void isValid_adversarialInputs_boundedTime() {
+        List<String> inputs = List.of(
+                "http://example.com/" + "a".repeat(LONG_INPUT) + "!",
+                "http://example.com" + "/.-_ ".repeat(LONG_INPUT / 5) + "?",
+                "a".repeat(LONG_INPUT) + "!",
+                "-.".repeat(LONG_INPUT / 2) + "!",
+                "a.".repeat(LONG_INPUT / 2) + "bc",
+                "https://" + "1".repeat(LONG_INPUT) + ".com");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            assertFalse(UrlValidator.isValid(inputs.get(0)));
+            assertFalse(UrlValidator.isValid(inputs.get(1)));
+            assertFalse(UrlValidator.isValid(inputs.get(2)));
+            assertFalse(UrlValidator.isValid(inputs.get(3)));
+            assertTrue(UrlValidator.isValid(inputs.get(4)));
+            assertTrue(UrlValidator.isValid(inputs.get(5)));
+        });
+    }
+
+    @Test
+    @DisplayName("isValid: random long inputs are checked in bounded time")
+    void isValid_randomLongInputs_boundedTime() {
+        Random random = new Random(7L);
+        char[] chars = new char[LONG_INPUT];
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 20; i++) {
+                for (int j = 0; j < chars.length; j++) {
+                    chars[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+                }
+                UrlValidator.isValid(new String(chars));
+            }
+        });
+    }
+}
@@ -0,0 +1,6 @@
+-- Schemas and the uuid_generate_v4() functions the entities reference in their column defaults, so Hibernate can
+-- create the tables on H2. Runs before the schema generation.
+CREATE SCHEMA IF NOT EXISTS general;
+CREATE SCHEMA IF NOT EXISTS directory_site;
+CREATE ALIAS IF NOT EXISTS general.uuid_generate_v4 FOR 'java.util.UUID.randomUUID';
+CREATE ALIAS IF NOT EXISTS directory_site.uuid_generate_v4 FOR 'java.util.UUID.randomUUID';